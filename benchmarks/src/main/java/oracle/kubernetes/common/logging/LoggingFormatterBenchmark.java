@@ -0,0 +1,110 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import oracle.kubernetes.operator.logging.OperatorLoggingFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of formatting log records as JSON, comparing the operator and common formatters, which
+ * stream each record to a JSON generator, with collecting the same fields in a map and serializing it with a new
+ * object mapper, as the formatters did before. Records are a simple message, a message with parameters, and a
+ * message with an exception. Run with {@code -prof gc} to compare the bytes allocated per record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingFormatterBenchmark {
+
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+  @Param({"simple", "parameters", "exception"})
+  public String recordType;
+
+  private final Formatter operatorFormatter = new OperatorLoggingFormatter();
+  private final Formatter commonFormatter = new CommonLoggingFormatter();
+  private LogRecord logRecord;
+
+  @Setup
+  public void createRecord() {
+    logRecord = new LogRecord(Level.FINE, "Pod {0} in namespace {1} is ready: {2}");
+    logRecord.setSourceClassName("oracle.kubernetes.operator.helpers.PodHelper");
+    logRecord.setSourceMethodName("onSuccess");
+    switch (recordType) {
+      case "simple" -> logRecord.setMessage("Starting make-right for the domain");
+      case "parameters" -> logRecord.setParameters(new Object[] {"domain1-managed-server1", "ns1", Boolean.TRUE});
+      default -> {
+        logRecord.setParameters(new Object[] {"domain1-managed-server1", "ns1", Boolean.FALSE});
+        logRecord.setThrown(new IllegalStateException("Readiness probe failed"));
+      }
+    }
+  }
+
+  @Benchmark
+  public String operatorFormatter() {
+    return operatorFormatter.format(logRecord);
+  }
+
+  @Benchmark
+  public String commonFormatter() {
+    return commonFormatter.format(logRecord);
+  }
+
+  @Benchmark
+  public String serializeMap() throws JsonProcessingException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("timestamp", DATE_FORMAT.format(OffsetDateTime.ofInstant(logRecord.getInstant(), ZoneId.systemDefault())));
+    map.put("thread", Thread.currentThread().getId());
+    map.put("fiber", "");
+    map.put("level", logRecord.getLevel().getLocalizedName());
+    map.put("class", logRecord.getSourceClassName());
+    map.put("method", logRecord.getSourceMethodName());
+    map.put("timeInMillis", logRecord.getMillis());
+    map.put("message", commonFormatter.formatMessage(logRecord).replace("\n", "\\\n"));
+    map.put("exception", getStackTrace(logRecord.getThrown()).replace("\n", "\\\n"));
+    map.put("code", "");
+    map.put("headers", Map.of());
+    map.put("body", "");
+    return new ObjectMapper().writeValueAsString(map) + "\n";
+  }
+
+  private static String getStackTrace(Throwable thrown) {
+    if (thrown == null) {
+      return "";
+    }
+    StringWriter sw = new StringWriter();
+    PrintWriter pw = new PrintWriter(sw);
+    pw.println();
+    thrown.printStackTrace(pw);
+    pw.close();
+    return sw.toString();
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V8;
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V9;
+
+/**
+ * Measures the cost of converting domain resources between the v8 and v9 schemas, as done by the conversion webhook
+ * and the domain upgrader. The corpus is the set of domain resources used by the conversion unit tests: v8 domains
+ * with legacy auxiliary images, and v9 domains with cluster resources and preserved v8 values. Each domain is
+ * converted to the other version, and also converted back, which restores the values preserved by the first
+ * conversion. Because conversion updates the domain in place, each operation first copies it; {@code copyDomain}
+ * measures that copy alone. Run with {@code -prof gc} to measure the memory allocated per domain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaConversionBenchmark {
+
+  @Param({"aux-image-30-sample.yaml", "aux-image-30-sample-2.yaml",
+      "converted-domain-sample.yaml", "converted-domain-sample-2.yaml"})
+  public String domainYaml;
+
+  private Map<String, Object> domain;
+  private final List<Map<String, Object>> clusters = new ArrayList<>();
+  private String sourceApiVersion;
+  private String targetApiVersion;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void loadDomain() {
+    try (InputStream yamlStream = SchemaConversionBenchmark.class.getResourceAsStream(domainYaml)) {
+      List<Object> documents = new ArrayList<>();
+      new Yaml().loadAll(yamlStream).forEach(documents::add);
+      domain = (Map<String, Object>) documents.get(0);
+      documents.subList(1, documents.size()).forEach(c -> clusters.add((Map<String, Object>) c));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    sourceApiVersion = (String) domain.get("apiVersion");
+    targetApiVersion = API_VERSION_V9.equals(sourceApiVersion) ? API_VERSION_V8 : API_VERSION_V9;
+  }
+
+  @Benchmark
+  public Map<String, Object> copyDomain() {
+    return copy(domain);
+  }
+
+  @Benchmark
+  public SchemaConversionUtils.Resources convert() {
+    return SchemaConversionUtils.create(targetApiVersion).convertDomainSchema(copy(domain), () -> clusters);
+  }
+
+  @Benchmark
+  public SchemaConversionUtils.Resources roundTrip() {
+    SchemaConversionUtils.Resources converted
+        = SchemaConversionUtils.create(targetApiVersion).convertDomainSchema(copy(domain), () -> clusters);
+    List<Map<String, Object>> convertedClusters = converted.clusters;
+    return SchemaConversionUtils.create(sourceApiVersion)
+        .convertDomainSchema(converted.domain, () -> convertedClusters);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copy(T value) {
+    if (value instanceof Map) {
+      Map<String, Object> copy = new LinkedHashMap<>();
+      ((Map<String, Object>) value).forEach((k, v) -> copy.put(k, copy(v)));
+      return (T) copy;
+    } else if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<Object>) value).forEach(v -> copy.add(copy(v)));
+      return (T) copy;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.http.client.HttpAsyncTestSupport;
+import oracle.kubernetes.operator.http.rest.Scan;
+import oracle.kubernetes.operator.http.rest.ScanCache;
+import oracle.kubernetes.operator.http.rest.ScanCacheStub;
+import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+
+/**
+ * Measures a complete make-right pass for a newly-created domain whose cluster has 10, 100 or 1000 servers, from
+ * introspection through the creation of the server pods and services and the final status update. Kubernetes is
+ * simulated by the in-memory test support, so the results reflect the cost of the operator's own processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MakeRightBenchmark {
+
+  private static final String DOMAIN_NAME = "base_domain";
+  private static final String ADMIN_NAME = "admin";
+  private static final String CLUSTER_NAME = "cluster-1";
+
+  @Param({"10", "100", "1000"})
+  public int numServers;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private DomainProcessorImpl processor;
+  private DomainPresenceInfo info;
+
+  // Each pass starts from an empty simulated Kubernetes, so that it creates every resource anew.
+  @Setup(Level.Invocation)
+  public void defineDomain() throws Exception {
+    final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(new HttpAsyncTestSupport().install());
+    mementos.add(new KubernetesExecFactoryFake().install());
+    mementos.add(new DomainProcessorTestSupport().install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(NoopWatcherStarter.install());
+
+    final DomainResource domain = DomainProcessorTestSetup.createTestDomain(2L);
+    info = new DomainPresenceInfo(domain);
+    DomainConfiguratorFactory.forDomain(domain).configureCluster(info, CLUSTER_NAME).withReplicas(numServers);
+    testSupport.defineResources(domain);
+    info.getReferencedClusters().forEach(testSupport::defineResources);
+
+    final WlsDomainConfig domainConfig = createDomainConfig();
+    IntrospectionTestUtils.defineIntrospectionTopology(testSupport, domainConfig);
+    DomainProcessorTestSetup.defineRequiredResources(testSupport);
+    ScanCache.INSTANCE.registerScan(NS, UID, new Scan(domainConfig, SystemClock.now()));
+
+    processor = new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+  }
+
+  private WlsDomainConfig createDomainConfig() {
+    final WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER_NAME);
+    for (int i = 1; i <= numServers; i++) {
+      clusterConfig.addServerConfig(new WlsServerConfig("managed-server" + i, UID + "-managed-server" + i, 8001));
+    }
+    return new WlsDomainConfig(DOMAIN_NAME)
+        .withAdminServer(ADMIN_NAME, UID + "-admin-server", 7001)
+        .withCluster(clusterConfig);
+  }
+
+  @TearDown(Level.Invocation)
+  public void restoreEnvironment() {
+    mementos.forEach(Memento::revert);
+    mementos.clear();
+  }
+
+  @Benchmark
+  public void makeRight() {
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+  }
+}
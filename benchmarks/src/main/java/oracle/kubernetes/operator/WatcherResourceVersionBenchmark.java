@@ -0,0 +1,115 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-event cost of extracting the resource version from a recorded stream of pod and event
+ * watch responses, comparing the reflective lookup formerly done by {@link Watcher} with its current accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(WatcherResourceVersionBenchmark.STREAM_SIZE)
+public class WatcherResourceVersionBenchmark {
+
+  static final int STREAM_SIZE = 1000;
+
+  private final List<Watch.Response<Object>> kubernetesObjectStream = new ArrayList<>();
+  private final List<Watch.Response<Object>> otherObjectStream = new ArrayList<>();
+
+  @Setup
+  public void recordStreams() {
+    for (int i = 0; i < STREAM_SIZE; i++) {
+      kubernetesObjectStream.add(new Watch.Response<>("MODIFIED", createObject(i)));
+      otherObjectStream.add(new Watch.Response<>("MODIFIED", new CustomResource(createMetadata(i))));
+    }
+  }
+
+  // Alternates pods and events, the two highest-volume watch streams.
+  private Object createObject(int i) {
+    return i % 2 == 0 ? new V1Pod().metadata(createMetadata(i)) : new CoreV1Event().metadata(createMetadata(i));
+  }
+
+  private V1ObjectMeta createMetadata(int i) {
+    return new V1ObjectMeta().name("object" + i).namespace("ns").resourceVersion(Integer.toString(1000 + i));
+  }
+
+  @Benchmark
+  public void reflectiveLookup(Blackhole blackhole) {
+    for (Watch.Response<Object> response : kubernetesObjectStream) {
+      blackhole.consume(getResourceVersionByReflection(response.object));
+    }
+  }
+
+  @Benchmark
+  public void kubernetesObjectAccessor(Blackhole blackhole) {
+    for (Watch.Response<Object> response : kubernetesObjectStream) {
+      blackhole.consume(Watcher.getResourceVersionFromMetadata(response.object));
+    }
+  }
+
+  @Benchmark
+  public void reflectiveLookupForOtherObjects(Blackhole blackhole) {
+    for (Watch.Response<Object> response : otherObjectStream) {
+      blackhole.consume(getResourceVersionByReflection(response.object));
+    }
+  }
+
+  @Benchmark
+  public void cachedMethodHandleForOtherObjects(Blackhole blackhole) {
+    for (Watch.Response<Object> response : otherObjectStream) {
+      blackhole.consume(Watcher.getResourceVersionFromMetadata(response.object));
+    }
+  }
+
+  // The per-event lookup previously performed by Watcher.
+  private String getResourceVersionByReflection(Object object) {
+    try {
+      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
+      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
+          .map(V1ObjectMeta::getResourceVersion).orElse("0");
+    } catch (Exception e) {
+      return "0";
+    }
+  }
+
+  /** A watched type which does not implement KubernetesObject. */
+  public static class CustomResource {
+    private final V1ObjectMeta metadata;
+
+    CustomResource(V1ObjectMeta metadata) {
+      this.metadata = metadata;
+    }
+
+    public V1ObjectMeta getMetadata() {
+      return metadata;
+    }
+  }
+}
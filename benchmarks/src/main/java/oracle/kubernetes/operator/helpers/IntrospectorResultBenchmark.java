@@ -0,0 +1,119 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.gson.Gson;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Measures the cost of processing an introspector result: extracting its file sections and deriving both the JSON
+ * form of the topology and the domain configuration. The result resembles that of a model-in-image domain with
+ * a single cluster of the specified number of servers, and a merged model which grows with it. The topology is
+ * processed both as the operator now does, parsing it once, and as it did before, parsing it twice; run with
+ * {@code -prof gc} to compare the memory allocated by each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntrospectorResultBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int numServers;
+
+  private String introspectorResult;
+  private String topologyYaml;
+
+  @Setup
+  public void createIntrospectorResult() {
+    topologyYaml = createTopologyYaml(numServers);
+    introspectorResult = String.join("\n",
+        "@[2023-01-01T00:00:00.000000Z][introspectDomain.py:100][INFO] Introspecting domain 'domain1'",
+        ">>>  /u01/introspect/domain1/topology.yaml",
+        topologyYaml,
+        ">>> EOF",
+        ">>>  /u01/introspect/domain1/merged_model.json",
+        createMergedModel(numServers),
+        ">>> EOF",
+        ">>>  /u01/introspect/domain1/secrets.md5",
+        "d41d8cd98f00b204e9800998ecf8427e",
+        ">>> EOF",
+        "@[2023-01-01T00:00:01.000000Z][introspectDomain.py:200][INFO] Domain introspection complete");
+  }
+
+  @Benchmark
+  public Map<String, String> extractFileSections() {
+    return ConfigMapHelper.parseIntrospectorResult(introspectorResult);
+  }
+
+  @Benchmark
+  public WlsDomainConfig parseTopologyOnce() {
+    final JsonNode tree = DomainTopology.readTopologyTree(topologyYaml);
+    DomainTopology.toJson(tree);
+    return DomainTopology.parseDomainTopology(tree, errors -> { }).getDomain();
+  }
+
+  @Benchmark
+  public WlsDomainConfig parseTopologyTwice() {
+    new Gson().toJson(new Yaml().load(topologyYaml), LinkedHashMap.class);
+    return DomainTopology.parseDomainTopologyYaml(topologyYaml).getDomain();
+  }
+
+  private static String createTopologyYaml(int numServers) {
+    final StringBuilder sb = new StringBuilder()
+        .append("domainValid: true\n")
+        .append("domain:\n")
+        .append("  name: \"base_domain\"\n")
+        .append("  adminServerName: \"admin-server\"\n")
+        .append("  configuredClusters:\n")
+        .append("  - name: \"cluster-1\"\n")
+        .append("    servers:\n");
+    for (int i = 1; i <= numServers; i++) {
+      sb.append("      - name: \"managed-server").append(i).append("\"\n")
+          .append("        listenPort: 8001\n")
+          .append("        listenAddress: \"domain1-managed-server").append(i).append("\"\n")
+          .append("        sslListenPort: 8100\n")
+          .append("        networkAccessPoints:\n")
+          .append("          - name: \"nap1\"\n")
+          .append("            protocol: \"t3\"\n")
+          .append("            listenPort: 7100\n")
+          .append("            publicPort: 7100\n");
+    }
+    return sb.append("  servers:\n")
+        .append("    - name: \"admin-server\"\n")
+        .append("      listenPort: 7001\n")
+        .append("      listenAddress: \"domain1-admin-server\"\n")
+        .append("      adminPort: 7099\n")
+        .toString();
+  }
+
+  private static String createMergedModel(int numServers) {
+    final StringBuilder sb = new StringBuilder("{\"topology\": {\"Server\": {");
+    for (int i = 1; i <= numServers; i++) {
+      sb.append(i > 1 ? "," : "")
+          .append("\"managed-server").append(i).append("\": {\"ListenPort\": 8001, \"Cluster\": \"cluster-1\",")
+          .append(" \"ServerStart\": {\"Arguments\": \"-Dweblogic.StdoutDebugEnabled=false -Xms512m -Xmx1g\"}}");
+    }
+    return sb.append("}}}").toString();
+  }
+}
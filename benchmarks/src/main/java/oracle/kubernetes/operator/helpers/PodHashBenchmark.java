@@ -0,0 +1,127 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Affinity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodAffinityTerm;
+import io.kubernetes.client.openapi.models.V1PodAntiAffinity;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of computing the hash recorded in the {@code weblogic.sha256} annotation of a server pod,
+ * comparing hashing of the full YAML string with streaming the YAML directly into the digest. Pods are built
+ * to resemble those generated for domains with minimal, typical and heavily customized serverPod settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PodHashBenchmark {
+
+  @Param({"minimal", "typical", "customized"})
+  public String serverPodSettings;
+
+  private V1Pod pod;
+
+  @Setup
+  public void createPod() {
+    pod = switch (serverPodSettings) {
+      case "minimal" -> createPod(2, 1, false);
+      case "typical" -> createPod(10, 4, true);
+      default -> createPod(40, 16, true);
+    };
+  }
+
+  @Benchmark
+  public String hashYamlString() {
+    return DigestUtils.sha256Hex(Yaml.dump(pod));
+  }
+
+  @Benchmark
+  public String streamYamlToDigest() {
+    return AnnotationHelper.sha256Hex(pod);
+  }
+
+  private static V1Pod createPod(int numEnvVars, int numVolumes, boolean withScheduling) {
+    V1Container container = new V1Container()
+        .name("weblogic-server")
+        .image("container-registry.oracle.com/middleware/weblogic:14.1.1.0-11")
+        .imagePullPolicy("IfNotPresent")
+        .command(List.of("/weblogic-operator/scripts/startServer.sh"))
+        .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+        .resources(new V1ResourceRequirements()
+            .putLimitsItem("memory", Quantity.fromString("2Gi"))
+            .putLimitsItem("cpu", Quantity.fromString("2"))
+            .putRequestsItem("memory", Quantity.fromString("768Mi"))
+            .putRequestsItem("cpu", Quantity.fromString("250m")))
+        .readinessProbe(new V1Probe().initialDelaySeconds(30).periodSeconds(5).timeoutSeconds(5)
+            .httpGet(new V1HTTPGetAction().path("/weblogic/ready").port(new IntOrString(8001))))
+        .livenessProbe(new V1Probe().initialDelaySeconds(30).periodSeconds(45).timeoutSeconds(5).failureThreshold(1));
+    for (int i = 0; i < numEnvVars; i++) {
+      container.addEnvItem(new V1EnvVar().name("CUSTOM_ENV_" + i).value("-Dcustom.property" + i + "=value" + i));
+    }
+
+    V1PodSpec spec = new V1PodSpec().addContainersItem(container);
+    for (int i = 0; i < numVolumes; i++) {
+      spec.addVolumesItem(new V1Volume().name("volume-" + i));
+      container.addVolumeMountsItem(new V1VolumeMount().name("volume-" + i).mountPath("/shared/volume-" + i));
+    }
+    if (withScheduling) {
+      spec.nodeSelector(Map.of("topology.kubernetes.io/zone", "zone-a"))
+          .addTolerationsItem(new V1Toleration().key("dedicated").operator("Equal").value("wls").effect("NoSchedule"))
+          .affinity(new V1Affinity().podAntiAffinity(new V1PodAntiAffinity()
+              .addPreferredDuringSchedulingIgnoredDuringExecutionItem(new V1WeightedPodAffinityTerm()
+                  .weight(100)
+                  .podAffinityTerm(new V1PodAffinityTerm()
+                      .topologyKey("kubernetes.io/hostname")
+                      .labelSelector(new V1LabelSelector().putMatchLabelsItem("weblogic.clusterName", "cluster-1"))))));
+    }
+
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .name("domain1-managed-server1")
+            .namespace("domain1-ns")
+            .putLabelsItem("weblogic.domainUID", "domain1")
+            .putLabelsItem("weblogic.serverName", "managed-server1")
+            .putLabelsItem("weblogic.clusterName", "cluster-1")
+            .putAnnotationsItem("prometheus.io/port", "8001")
+            .putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics")
+            .putAnnotationsItem("prometheus.io/scrape", "true"))
+        .spec(spec);
+  }
+}
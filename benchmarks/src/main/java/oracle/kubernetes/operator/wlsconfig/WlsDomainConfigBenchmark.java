@@ -0,0 +1,130 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.helpers.DomainTopology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the per-server cost of the topology lookups made during make-right, against a domain with a dynamic
+ * cluster of the specified size and a configured cluster of 10 servers. The lookups are made as the operator now
+ * does, using the index built when the dynamic clusters are processed, and by searching the clusters, as the
+ * operator did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(WlsDomainConfigBenchmark.NUM_LOOKUPS)
+public class WlsDomainConfigBenchmark {
+
+  static final int NUM_LOOKUPS = 100;
+
+  @Param({"100", "1000"})
+  public int dynamicClusterSize;
+
+  private DomainTopology domainTopology;
+  private WlsDomainConfig domainConfig;
+  private final List<String> serverNames = new ArrayList<>();
+
+  @Setup
+  public void createDomainConfig() {
+    domainTopology = DomainTopology.parseDomainTopologyYaml(createTopologyYaml(dynamicClusterSize));
+    domainConfig = domainTopology.getDomain();
+    for (int i = 0; i < NUM_LOOKUPS; i++) {
+      serverNames.add("dynamic-server" + (1 + i * dynamicClusterSize / NUM_LOOKUPS));
+    }
+  }
+
+  @Benchmark
+  public void indexedLookups(Blackhole blackhole) {
+    for (String serverName : serverNames) {
+      final String clusterName = domainConfig.getClusterName(serverName);
+      blackhole.consume(domainConfig.getClusterConfig(clusterName).hasNamedServer(serverName));
+      blackhole.consume(domainConfig.containsServer(serverName));
+    }
+  }
+
+  @Benchmark
+  public void searchedLookups(Blackhole blackhole) {
+    for (String serverName : serverNames) {
+      final String clusterName = searchForClusterName(serverName);
+      blackhole.consume(searchForCluster(clusterName).getServerConfigs().stream()
+          .anyMatch(s -> serverName.equals(s.getName())));
+      blackhole.consume(searchForClusterName(serverName) != null);
+    }
+  }
+
+  @Benchmark
+  public WlsDomainConfig getDomain() {
+    return domainTopology.getDomain();
+  }
+
+  private String searchForClusterName(String serverName) {
+    return domainConfig.getConfiguredClusters().stream()
+        .filter(c -> c.getServerConfigs().stream().anyMatch(s -> serverName.equals(s.getName())))
+        .findFirst()
+        .map(WlsClusterConfig::getClusterName)
+        .orElse(null);
+  }
+
+  private WlsClusterConfig searchForCluster(String clusterName) {
+    return domainConfig.getConfiguredClusters().stream()
+        .filter(c -> c.getClusterName().equals(clusterName))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static String createTopologyYaml(int dynamicClusterSize) {
+    final StringBuilder sb = new StringBuilder()
+        .append("domainValid: true\n")
+        .append("domain:\n")
+        .append("  name: \"base_domain\"\n")
+        .append("  adminServerName: \"admin-server\"\n")
+        .append("  configuredClusters:\n")
+        .append("  - name: \"configured-cluster\"\n")
+        .append("    servers:\n");
+    for (int i = 1; i <= 10; i++) {
+      sb.append("      - name: \"configured-server").append(i).append("\"\n")
+          .append("        listenPort: 8001\n")
+          .append("        listenAddress: \"domain1-configured-server").append(i).append("\"\n");
+    }
+    return sb.append("  - name: \"dynamic-cluster\"\n")
+        .append("    dynamicServersConfig:\n")
+        .append("        name: \"dynamic-cluster\"\n")
+        .append("        serverTemplateName: \"dynamic-cluster-template\"\n")
+        .append("        calculatedListenPorts: false\n")
+        .append("        serverNamePrefix: \"dynamic-server\"\n")
+        .append("        dynamicClusterSize: ").append(dynamicClusterSize).append("\n")
+        .append("        maxDynamicClusterSize: ").append(dynamicClusterSize).append("\n")
+        .append("  serverTemplates:\n")
+        .append("    - name: \"dynamic-cluster-template\"\n")
+        .append("      listenPort: 8001\n")
+        .append("      clusterName: \"dynamic-cluster\"\n")
+        .append("      listenAddress: \"domain1-dynamic-server${id}\"\n")
+        .append("  servers:\n")
+        .append("    - name: \"admin-server\"\n")
+        .append("      listenPort: 7001\n")
+        .append("      listenAddress: \"domain1-admin-server\"\n")
+        .toString();
+  }
+}
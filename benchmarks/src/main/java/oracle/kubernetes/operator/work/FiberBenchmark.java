@@ -0,0 +1,107 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the fiber engine: starting a fiber and running its steps to completion, and running a
+ * fiber whose steps each suspend it and are resumed from another thread, as asynchronous Kubernetes calls do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiberBenchmark {
+
+  @Param({"platform", "virtual"})
+  public String engineMode;
+
+  @Param({"1", "10"})
+  public int numSteps;
+
+  private Engine engine;
+  private Step steps;
+  private Step suspendingSteps;
+
+  @Setup
+  public void createEngine() {
+    engine = new Engine(Engine.wrappedExecutorService("benchmark", null), EngineMode.fromValue(engineMode));
+    steps = createSteps(NoopStep::new);
+    suspendingSteps = createSteps(SuspendingStep::new);
+  }
+
+  @TearDown
+  public void shutDownEngine() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  private Step createSteps(Supplier<Step> stepFactory) {
+    final List<Step> result = new ArrayList<>();
+    for (int i = 0; i < numSteps; i++) {
+      result.add(stepFactory.get());
+    }
+    return Step.chain(result);
+  }
+
+  @Benchmark
+  public Packet runFiber() throws InterruptedException, ExecutionException {
+    return runToCompletion(steps);
+  }
+
+  @Benchmark
+  public Packet suspendAndResumeFiber() throws InterruptedException, ExecutionException {
+    return runToCompletion(suspendingSteps);
+  }
+
+  private Packet runToCompletion(Step step) throws InterruptedException, ExecutionException {
+    final CompletableFuture<Packet> result = new CompletableFuture<>();
+    engine.createFiber().start(step, new Packet(), new Fiber.CompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        result.complete(packet);
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        result.completeExceptionally(throwable);
+      }
+    });
+    return result.get();
+  }
+
+  private static class NoopStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> engine.getExecutor().execute(() -> fiber.resume(packet)));
+    }
+  }
+}
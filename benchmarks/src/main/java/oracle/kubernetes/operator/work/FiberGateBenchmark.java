@@ -0,0 +1,91 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of requests to start fibers through a fiber gate when several threads compete, as watch
+ * events and periodic rechecks do. With few domains, most requests find a fiber already running and are either
+ * rejected or coalesced into the request held for that domain; with many, most start a new fiber.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class FiberGateBenchmark {
+
+  @Param({"1", "100"})
+  public int numDomains;
+
+  private Engine engine;
+  private FiberGate gate;
+  private String[] domainUids;
+  private final Step step = new NoopStep();
+  private final Fiber.CompletionCallback callback = new NoopCompletionCallback();
+
+  @Setup
+  public void createGate() {
+    engine = new Engine(Engine.wrappedExecutorService("benchmark", null));
+    gate = new FiberGate(engine);
+    domainUids = new String[numDomains];
+    for (int i = 0; i < numDomains; i++) {
+      domainUids[i] = "domain" + i;
+    }
+  }
+
+  @TearDown
+  public void shutDownEngine() {
+    engine.getExecutor().shutdownNow();
+  }
+
+  @Benchmark
+  public void startFiberIfNoCurrentFiber() {
+    final String domainUid = domainUids[ThreadLocalRandom.current().nextInt(numDomains)];
+    gate.startFiberIfNoCurrentFiber(domainUid, step, new Packet(), callback);
+  }
+
+  @Benchmark
+  public void startFiberOrCoalesce() {
+    final String domainUid = domainUids[ThreadLocalRandom.current().nextInt(numDomains)];
+    gate.startFiberOrCoalesce(domainUid, step, new Packet(), callback);
+  }
+
+  private static class NoopStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class NoopCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of copying a packet, as is done for each server in a domain when steps run in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketBenchmark {
+
+  private static final int NUM_COMPONENTS = 4;
+
+  @Param({"10", "50", "200"})
+  public int numEntries;
+
+  private final Packet packet = new Packet();
+
+  @Setup
+  public void populatePacket() {
+    for (int i = 0; i < numEntries; i++) {
+      packet.put("entry" + i, "value" + i);
+    }
+    for (int i = 0; i < NUM_COMPONENTS; i++) {
+      packet.getComponents().put("component" + i, Component.createFor(new Object()));
+    }
+  }
+
+  @Benchmark
+  public Packet copyPacket() {
+    return packet.copy();
+  }
+}
@@ -0,0 +1,381 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A console handler which writes records on a dedicated thread, so that threads which log never wait for the console
+ * to accept output. Records are formatted as they are published, so that the formatter sees the context of the
+ * logging thread, and wait in a bounded buffer for the writer thread. When the buffer is full, the overflow policy
+ * determines whether records are discarded, lowest level first, or the logging thread waits for space. Records at
+ * level WARNING or above are never discarded.
+ *
+ * <p>The capacity and overflow policy are read from the logging configuration as
+ * {@code oracle.kubernetes.common.logging.AsyncConsoleHandler.capacity} and
+ * {@code oracle.kubernetes.common.logging.AsyncConsoleHandler.overflowPolicy}; a capacity of zero writes each record
+ * as it is published. Unless configured for this class, the level is that configured for {@link ConsoleHandler}.
+ * Records are written in the default encoding.
+ */
+public final class AsyncConsoleHandler extends ConsoleHandler {
+
+  /** The action to take when a record is published while the buffer is full. */
+  public enum OverflowPolicy {
+    /** Discard the lowest-level record, queued or published, below WARNING; otherwise, wait for space. */
+    DISCARD_LOWEST_LEVEL,
+    /** Wait for space in the buffer. */
+    BLOCK
+  }
+
+  static final int DEFAULT_CAPACITY = 10_000;
+  private static final long DRAIN_TIMEOUT_MILLIS = 5_000;
+  private static final String CAPACITY_PROPERTY = AsyncConsoleHandler.class.getName() + ".capacity";
+  private static final String OVERFLOW_POLICY_PROPERTY = AsyncConsoleHandler.class.getName() + ".overflowPolicy";
+
+  private static final AtomicInteger queuedRecords = new AtomicInteger();
+  private static final Map<String, LongAdder> discardedRecords = new ConcurrentHashMap<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition recordQueued = lock.newCondition();
+  private final Condition spaceAvailable = lock.newCondition();
+  private final Condition drained = lock.newCondition();
+  // The queued records, by level; each record's sequence number gives its position in the order of publication.
+  private final TreeMap<Integer, ArrayDeque<QueuedRecord>> buffer = new TreeMap<>();
+  private int bufferSize;
+  private long nextSequence;
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final Writer out;
+  private Thread writerThread;
+  private boolean writing;
+  private boolean closed;
+
+  /**
+   * Creates a handler which writes to {@link System#err}, configured from the logging configuration.
+   */
+  public AsyncConsoleHandler() {
+    this(System.err, getConfiguredCapacity(), getConfiguredOverflowPolicy());
+  }
+
+  AsyncConsoleHandler(OutputStream stream, int capacity, OverflowPolicy overflowPolicy) {
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.out = new OutputStreamWriter(stream);
+    if (getLogManagerProperty(AsyncConsoleHandler.class.getName() + ".level") == null) {
+      getConsoleHandlerLevel().ifPresent(this::setLevel);
+    }
+  }
+
+  private static String getLogManagerProperty(String name) {
+    return LogManager.getLogManager().getProperty(name);
+  }
+
+  private static Optional<Level> getConsoleHandlerLevel() {
+    return Optional.ofNullable(getLogManagerProperty(ConsoleHandler.class.getName() + ".level"))
+          .map(AsyncConsoleHandler::parseLevel);
+  }
+
+  private static Level parseLevel(String name) {
+    try {
+      return Level.parse(name.trim());
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static int getConfiguredCapacity() {
+    try {
+      return Optional.ofNullable(getLogManagerProperty(CAPACITY_PROPERTY))
+            .map(String::trim).map(Integer::parseInt).filter(c -> c >= 0).orElse(DEFAULT_CAPACITY);
+    } catch (NumberFormatException e) {
+      return DEFAULT_CAPACITY;
+    }
+  }
+
+  private static OverflowPolicy getConfiguredOverflowPolicy() {
+    try {
+      return Optional.ofNullable(getLogManagerProperty(OVERFLOW_POLICY_PROPERTY))
+            .map(String::trim).map(OverflowPolicy::valueOf).orElse(OverflowPolicy.DISCARD_LOWEST_LEVEL);
+    } catch (IllegalArgumentException e) {
+      return OverflowPolicy.DISCARD_LOWEST_LEVEL;
+    }
+  }
+
+  /**
+   * Returns the number of records waiting to be written by all handlers of this class.
+   */
+  public static int getQueuedRecordCount() {
+    return queuedRecords.get();
+  }
+
+  /**
+   * Returns the number of records discarded by all handlers of this class, by level name.
+   */
+  public static Map<String, Long> getDiscardedRecordCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    discardedRecords.forEach((level, count) -> counts.put(level, count.sum()));
+    return Collections.unmodifiableMap(counts);
+  }
+
+  @Override
+  public void publish(LogRecord logRecord) {
+    if (!isLoggable(logRecord)) {
+      return;
+    }
+
+    final String text = formatRecord(logRecord);
+    if (text == null) {
+      return;
+    }
+    if (capacity == 0 || Thread.currentThread() == writerThread || !queue(new QueuedRecord(logRecord, text))) {
+      writeNow(text);
+    }
+  }
+
+  private String formatRecord(LogRecord logRecord) {
+    try {
+      return getFormatter().format(logRecord);
+    } catch (Exception e) {
+      reportError(null, e, ErrorManager.FORMAT_FAILURE);
+      return null;
+    }
+  }
+
+  // Adds the record to the buffer, returning false if the handler is closed and the record should be written now.
+  private boolean queue(QueuedRecord queuedRecord) {
+    lock.lock();
+    try {
+      while (!closed && bufferSize >= capacity) {
+        if (!makeRoomFor(queuedRecord)) {
+          return true;
+        }
+      }
+      if (closed) {
+        return false;
+      }
+      addToBuffer(queuedRecord);
+      queuedRecords.incrementAndGet();
+      startWriterIfNeeded();
+      recordQueued.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Discards a record or waits for space, returning false if the published record was discarded.
+  private boolean makeRoomFor(QueuedRecord published) {
+    if (overflowPolicy == OverflowPolicy.DISCARD_LOWEST_LEVEL) {
+      final QueuedRecord lowest = getLowestLevelRecord();
+      if (lowest != null && lowest.level < published.level) {
+        buffer.get(lowest.level).removeFirst();
+        bufferSize--;
+        queuedRecords.decrementAndGet();
+        recordDiscard(lowest);
+        return true;
+      } else if (published.isDiscardable()) {
+        recordDiscard(published);
+        return false;
+      }
+    }
+
+    spaceAvailable.awaitUninterruptibly();
+    return true;
+  }
+
+  private void addToBuffer(QueuedRecord queuedRecord) {
+    queuedRecord.sequence = nextSequence++;
+    buffer.computeIfAbsent(queuedRecord.level, l -> new ArrayDeque<>()).addLast(queuedRecord);
+    bufferSize++;
+  }
+
+  // Returns the oldest of the queued records with the lowest level, if any may be discarded.
+  private QueuedRecord getLowestLevelRecord() {
+    for (ArrayDeque<QueuedRecord> records : buffer.values()) {
+      final QueuedRecord oldest = records.peekFirst();
+      if (oldest != null) {
+        return oldest.isDiscardable() ? oldest : null;
+      }
+    }
+    return null;
+  }
+
+  // Removes and returns the first queued record in the order of publication, if any.
+  private QueuedRecord pollBuffer() {
+    ArrayDeque<QueuedRecord> next = null;
+    for (ArrayDeque<QueuedRecord> records : buffer.values()) {
+      if (!records.isEmpty() && (next == null || records.getFirst().sequence < next.getFirst().sequence)) {
+        next = records;
+      }
+    }
+    if (next == null) {
+      return null;
+    }
+    bufferSize--;
+    return next.removeFirst();
+  }
+
+  private void recordDiscard(QueuedRecord queuedRecord) {
+    discardedRecords.computeIfAbsent(queuedRecord.levelName, l -> new LongAdder()).increment();
+  }
+
+  private void startWriterIfNeeded() {
+    if (writerThread == null) {
+      writerThread = new Thread(this::writeQueuedRecords, "log-writer");
+      writerThread.setDaemon(true);
+      writerThread.start();
+    }
+  }
+
+  private void writeQueuedRecords() {
+    QueuedRecord next;
+    while ((next = takeRecord()) != null) {
+      write(next.text);
+      if (isBufferEmpty()) {
+        flushOutput();
+      }
+      finishWrite();
+    }
+  }
+
+  private QueuedRecord takeRecord() {
+    lock.lock();
+    try {
+      while (bufferSize == 0 && !closed) {
+        recordQueued.awaitUninterruptibly();
+      }
+      final QueuedRecord queuedRecord = pollBuffer();
+      if (queuedRecord != null) {
+        queuedRecords.decrementAndGet();
+        writing = true;
+        spaceAvailable.signal();
+      }
+      return queuedRecord;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isBufferEmpty() {
+    lock.lock();
+    try {
+      return bufferSize == 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void finishWrite() {
+    lock.lock();
+    try {
+      writing = false;
+      if (bufferSize == 0) {
+        drained.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void writeNow(String text) {
+    write(text);
+    flushOutput();
+  }
+
+  private void write(String text) {
+    try {
+      synchronized (out) {
+        out.write(text);
+      }
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.WRITE_FAILURE);
+    }
+  }
+
+  private void flushOutput() {
+    try {
+      synchronized (out) {
+        out.flush();
+      }
+    } catch (IOException e) {
+      reportError(null, e, ErrorManager.FLUSH_FAILURE);
+    }
+  }
+
+  /**
+   * Waits, for a limited time, for the queued records to be written, and flushes the console.
+   */
+  @Override
+  public void flush() {
+    awaitDrained();
+    flushOutput();
+  }
+
+  /**
+   * Writes any queued records, waiting for a limited time, and stops the writer thread. Records published after the
+   * handler is closed are written as they are published.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      recordQueued.signalAll();
+      spaceAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    flush();
+  }
+
+  private void awaitDrained() {
+    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS);
+    lock.lock();
+    try {
+      while ((writing || bufferSize > 0) && remainingNanos > 0 && Thread.currentThread() != writerThread) {
+        remainingNanos = drained.awaitNanos(remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static class QueuedRecord {
+    private final int level;
+    private final String levelName;
+    private final String text;
+    private long sequence;
+
+    QueuedRecord(LogRecord logRecord, String text) {
+      this.level = logRecord.getLevel().intValue();
+      this.levelName = logRecord.getLevel().getName();
+      this.text = text;
+    }
+
+    boolean isDiscardable() {
+      return level < Level.WARNING.intValue();
+    }
+  }
+}
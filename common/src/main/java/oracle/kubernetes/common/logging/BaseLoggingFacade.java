@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
@@ -33,7 +33,7 @@ public abstract class BaseLoggingFacade {
       }
     }
 
-    ConsoleHandler handler = new ConsoleHandler();
+    ConsoleHandler handler = new AsyncConsoleHandler();
     handler.setFormatter(getLoggingFormatter());
     logger.addHandler(handler);
   }
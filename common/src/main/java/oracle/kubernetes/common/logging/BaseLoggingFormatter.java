@@ -3,21 +3,27 @@
 
 package oracle.kubernetes.common.logging;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerationException;
+import com.fasterxml.jackson.core.JsonGenerator;
 
-/** Custom log formatter to format log messages in JSON format. */
+/**
+ * Custom log formatter to format log messages in JSON format. Each record is streamed directly to a JSON generator
+ * writing to a buffer reused by the formatting thread, rather than collected in a map and serialized.
+ */
 public abstract class BaseLoggingFormatter<T> extends Formatter {
   private static final Map<String, List<String>> PLACEHOLDER = new HashMap<>();
 
@@ -40,6 +46,11 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+  // JSON factories are thread-safe, and create the generator which writes each record.
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final ThreadLocal<RecordBuffers> RECORD_BUFFERS = ThreadLocal.withInitial(RecordBuffers::new);
+
   @Override
   public String format(LogRecord logRecord) {
     String sourceClassName = "";
@@ -67,35 +78,32 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
     body = throwableProcessing.getBody();
     throwable = throwableProcessing.getThrowable();
     String level = logRecord.getLevel().getLocalizedName();
-    Map<String, Object> map = new LinkedHashMap<>();
     long rawTime = logRecord.getMillis();
-    final String dateString = DATE_FORMAT.format(OffsetDateTime.ofInstant(logRecord.getInstant(),
-            ZoneId.systemDefault()));
+    final RecordBuffers buffers = getRecordBuffers();
+    final String dateString = buffers.formatTimestamp(logRecord.getInstant());
     long thread = Thread.currentThread().getId();
     T fiberObject = getCurrentFiberIfSet();
 
-    map.put(TIMESTAMP, dateString);
-    map.put(THREAD, thread);
-    map.put(FIBER, Optional.ofNullable(fiberObject).map(Object::toString).orElse(""));
-    Optional.ofNullable(getNamespace(fiberObject)).ifPresent(namespace -> map.put(DOMAIN_NAMESPACE, namespace));
-    Optional.ofNullable(getDomainUid(fiberObject)).ifPresent(uid -> map.put(DOMAIN_UID, uid));
-    map.put(LOG_LEVEL, level);
-    map.put(SOURCE_CLASS, sourceClassName);
-    map.put(SOURCE_METHOD, sourceMethodName);
-    map.put(TIME_IN_MILLIS, rawTime);
-    // if message or throwable have new lines in them, we need to replace with JSON newline control
-    // character \n
-    map.put(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
-    map.put(EXCEPTION, throwable.replace("\n", "\\\n"));
-    map.put(RESPONSE_CODE, code);
-    map.put(RESPONSE_HEADERS, headers);
-    map.put(RESPONSE_BODY, body.replace("\n", "\\\n"));
-    String json = "";
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      json = mapper.writeValueAsString(map);
-
-    } catch (JsonProcessingException e) {
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffers.startRecord())) {
+      generator.writeStartObject();
+      generator.writeStringField(TIMESTAMP, dateString);
+      generator.writeNumberField(THREAD, thread);
+      generator.writeStringField(FIBER, Optional.ofNullable(fiberObject).map(Object::toString).orElse(""));
+      writeFieldIfNotNull(generator, DOMAIN_NAMESPACE, getNamespace(fiberObject));
+      writeFieldIfNotNull(generator, DOMAIN_UID, getDomainUid(fiberObject));
+      generator.writeStringField(LOG_LEVEL, level);
+      generator.writeStringField(SOURCE_CLASS, sourceClassName);
+      generator.writeStringField(SOURCE_METHOD, sourceMethodName);
+      generator.writeNumberField(TIME_IN_MILLIS, rawTime);
+      // if message or throwable have new lines in them, we need to replace with JSON newline control
+      // character \n
+      generator.writeStringField(MESSAGE, message != null ? message.replace("\n", "\\\n") : "");
+      generator.writeStringField(EXCEPTION, throwable.replace("\n", "\\\n"));
+      generator.writeStringField(RESPONSE_CODE, code);
+      writeHeaders(generator, headers);
+      generator.writeStringField(RESPONSE_BODY, body.replace("\n", "\\\n"));
+      generator.writeEndObject();
+    } catch (IOException e) {
       String tmp =
           "{\"@timestamp\":%1$s,\"level\":%2$s, \"class\":%3$s, \"method\":\"format\", \"timeInMillis\":%4$d, "
               + "\"@message\":\"Exception while preparing json object\",\"exception\":%5$s}\n";
@@ -107,7 +115,112 @@ public abstract class BaseLoggingFormatter<T> extends Formatter {
           rawTime,
           e.getLocalizedMessage());
     }
-    return json + "\n";
+    return buffers.finishRecord();
+  }
+
+  // Virtual threads are created for each task, so buffers kept for them would rarely be reused.
+  private static RecordBuffers getRecordBuffers() {
+    return Thread.currentThread().isVirtual() ? new RecordBuffers() : RECORD_BUFFERS.get();
+  }
+
+  private static void writeFieldIfNotNull(JsonGenerator generator, String name, String value) throws IOException {
+    if (value != null) {
+      generator.writeStringField(name, value);
+    }
+  }
+
+  private static void writeHeaders(JsonGenerator generator, Map<String, List<String>> headers) throws IOException {
+    generator.writeObjectFieldStart(RESPONSE_HEADERS);
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      if (header.getKey() == null) {
+        throw new JsonGenerationException("Null key for a Map not allowed in JSON", generator);
+      }
+      generator.writeFieldName(header.getKey());
+      if (header.getValue() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeStartArray();
+        for (String value : header.getValue()) {
+          generator.writeString(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  /**
+   * Buffers reused to format successive records on a thread. The date and time of the most recent second formatted
+   * are retained, so that timestamps in the same second only need their fraction and offset appended.
+   */
+  private static class RecordBuffers {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private StringWriter writer = new StringWriter(INITIAL_CAPACITY);
+    private final StringBuilder timestamp = new StringBuilder(40);
+    private long cachedSecond = Long.MIN_VALUE;
+    private ZoneId cachedZone;
+    private String cachedDateTime;
+    private String cachedOffset;
+
+    // Returns the timestamp formatted as by DateTimeFormatter.ISO_OFFSET_DATE_TIME in the system default zone
+    String formatTimestamp(Instant instant) {
+      final ZoneId zone = ZoneId.systemDefault();
+      if (instant.getEpochSecond() != cachedSecond || !zone.equals(cachedZone)) {
+        cacheSecond(instant, zone);
+      }
+
+      timestamp.setLength(0);
+      timestamp.append(cachedDateTime);
+      appendFraction(instant.getNano());
+      timestamp.append(cachedOffset);
+      return timestamp.toString();
+    }
+
+    private void cacheSecond(Instant instant, ZoneId zone) {
+      final OffsetDateTime time = OffsetDateTime.ofInstant(instant, zone).withNano(0);
+      final String formatted = DATE_FORMAT.format(time);
+      cachedOffset = time.getOffset().getId();
+      cachedDateTime = formatted.substring(0, formatted.length() - cachedOffset.length());
+      cachedSecond = instant.getEpochSecond();
+      cachedZone = zone;
+    }
+
+    // Appends the nanoseconds as a fraction of a second, without trailing zeros
+    private void appendFraction(int nanos) {
+      if (nanos != 0) {
+        int digits = 9;
+        int value = nanos;
+        while (value % 10 == 0) {
+          value /= 10;
+          digits--;
+        }
+        timestamp.append('.');
+        final int start = timestamp.length();
+        for (int i = 0; i < digits; i++) {
+          timestamp.append('0');
+        }
+        for (int i = start + digits - 1; value > 0; i--) {
+          timestamp.setCharAt(i, (char) ('0' + value % 10));
+          value /= 10;
+        }
+      }
+    }
+
+    StringWriter startRecord() {
+      writer.getBuffer().setLength(0);
+      return writer;
+    }
+
+    String finishRecord() {
+      writer.write('\n');
+      final String result = writer.toString();
+      if (writer.getBuffer().capacity() > MAX_RETAINED_CAPACITY) {
+        writer = new StringWriter(INITIAL_CAPACITY);
+      }
+      return result;
+    }
   }
 
   protected abstract void serializeModelObjectsWithJSON(LogRecord logRecord);
@@ -99,8 +99,6 @@ public class MessageKeys {
   public static final String JOB_CREATED = "WLSKO-0139";
   public static final String JOB_IS_COMPLETE = "WLSKO-0140";
   public static final String CANNOT_PARSE_TOPOLOGY = "WLSKO-0141";
-  public static final String CANNOT_PARSE_INTROSPECTOR_RESULT = "WLSKO-0142";
-  public static final String CANNOT_PARSE_INTROSPECTOR_FILE = "WLSKO-0143";
   public static final String CANNOT_START_DOMAIN_AFTER_MAX_RETRIES = "WLSKO-0144";
   public static final String CYCLING_POD = "WLSKO-0145";
   public static final String REPLICAS_EXCEEDS_TOTAL_CLUSTER_SERVER_COUNT = "WLSKO-0146";
@@ -175,6 +173,7 @@ public class MessageKeys {
   public static final String PVC_IS_BOUND = "WLSKO-0237";
   public static final String WAITING_FOR_PVC_TO_BIND = "WLSKO-0238";
   public static final String PVC_NOT_BOUND_ERROR = "WLSKO-0239";
+  public static final String WATCH_MULTIPLEXING_NOT_PERMITTED = "WLSKO-0240";
 
   // domain status messages
   public static final String MAKE_RIGHT_WILL_RETRY = "WLSDO-0000";
@@ -303,6 +302,7 @@ public class MessageKeys {
   public static final String DOMAIN_REPLICAS_TOO_HIGH_MULTIPLE_CLUSTERS = "WLSWH-0021";
   public static final String CLUSTER_SCALE_REPLICAS_TOO_HIGH = "WLSWH-0022";
   public static final String UNSUPPORTED_INTRO_ENV_VARIABLES = "WLSWH-0023";
+  public static final String CONVERTED_CLUSTER_WRITE_FAILED = "WLSWH-0024";
 
   private MessageKeys() {
   }
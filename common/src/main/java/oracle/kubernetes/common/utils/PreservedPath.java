@@ -0,0 +1,137 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled path to the maps in a domain resource into which preserved values are restored. Supports the paths
+ * written to the preservation annotations by {@link SchemaConversionUtils}: a sequence of property names, each
+ * optionally followed by a filter which selects the list elements with a specified property value, such as
+ * {@code $.spec.clusters[?(@.clusterName=='cluster-1')].serverPod}. Selecting with a compiled path walks the maps
+ * directly, rather than evaluating a JSON path over the resource.
+ */
+final class PreservedPath {
+
+  private static final String ROOT = "$";
+  private static final String FILTER_PREFIX = "[?(@.";
+  private static final String FILTER_OPERATOR = "=='";
+  private static final String FILTER_SUFFIX = "')]";
+
+  private final String path;
+  private final List<Segment> segments;
+
+  private PreservedPath(String path, List<Segment> segments) {
+    this.path = path;
+    this.segments = segments;
+  }
+
+  /**
+   * Compiles the specified path.
+   * @param path a path written to a preservation annotation
+   * @return the compiled path, or null if the path does not have a supported form
+   */
+  static PreservedPath compile(String path) {
+    if (!path.startsWith(ROOT)) {
+      return null;
+    }
+
+    List<Segment> segments = new ArrayList<>();
+    int i = ROOT.length();
+    while (i < path.length()) {
+      if (path.charAt(i) != '.') {
+        return null;
+      }
+      int end = endOfName(path, i + 1);
+      String name = path.substring(i + 1, end);
+      if (name.isEmpty()) {
+        return null;
+      }
+
+      i = end;
+      if (!path.startsWith("[", i)) {
+        segments.add(new Segment(name, null, null));
+      } else {
+        int operator = path.indexOf(FILTER_OPERATOR, i);
+        int close = operator < 0 ? -1 : path.indexOf(FILTER_SUFFIX, operator);
+        if (!path.startsWith(FILTER_PREFIX, i) || close < 0) {
+          return null;
+        }
+        String filterName = path.substring(i + FILTER_PREFIX.length(), operator);
+        if (filterName.isEmpty() || endOfName(filterName, 0) != filterName.length()) {
+          return null;
+        }
+        segments.add(new Segment(name, filterName, path.substring(operator + FILTER_OPERATOR.length(), close)));
+        i = close + FILTER_SUFFIX.length();
+      }
+    }
+    return new PreservedPath(path, Collections.unmodifiableList(segments));
+  }
+
+  private static int endOfName(String path, int start) {
+    int i = start;
+    while (i < path.length() && path.charAt(i) != '.' && path.charAt(i) != '[') {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Returns the maps in the specified resource selected by this path. Missing properties, and properties whose
+   * values are not maps, select nothing.
+   * @param resource the root of a resource
+   */
+  @SuppressWarnings("unchecked")
+  List<Map<String, Object>> select(Map<String, Object> resource) {
+    List<Map<String, Object>> selected = List.of(resource);
+    for (Segment segment : segments) {
+      List<Map<String, Object>> next = new ArrayList<>();
+      for (Map<String, Object> node : selected) {
+        Object value = node.get(segment.name);
+        if (!segment.hasFilter()) {
+          addIfMap(next, value);
+        } else if (value instanceof List) {
+          ((List<Object>) value).stream().filter(segment::matches).forEach(element -> addIfMap(next, element));
+        }
+      }
+      selected = next;
+    }
+    return selected;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void addIfMap(List<Map<String, Object>> maps, Object value) {
+    if (value instanceof Map) {
+      maps.add((Map<String, Object>) value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+
+  private static class Segment {
+    private final String name;
+    private final String filterName;
+    private final String filterValue;
+
+    Segment(String name, String filterName, String filterValue) {
+      this.name = name;
+      this.filterName = filterName;
+      this.filterValue = filterValue;
+    }
+
+    boolean hasFilter() {
+      return filterName != null;
+    }
+
+    boolean matches(Object element) {
+      return element instanceof Map && filterValue.equals(((Map<?, ?>) element).get(filterName));
+    }
+  }
+}
@@ -17,9 +17,11 @@ import java.util.StringJoiner;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -60,9 +62,24 @@ public class SchemaConversionUtils {
   private static final String AVAILABLE_REASON = "weblogic.v8.available.reason";
   private static final String DOLLAR_SPEC = "$.spec";
   private static final String DOLLAR_SPEC_SERVERPOD = "$.spec.serverPod";
+  private static final String DOLLAR_SPEC_AS = "$.spec.adminServer";
   private static final String DOLLAR_SPEC_AS_SERVERPOD = "$.spec.adminServer.serverPod";
+  private static final String DOLLAR_SPEC_CONFIGURATION = "$.spec.configuration";
   private static final String DOLLAR_STATUS = "$.status";
 
+  /**
+   * The compiled paths for the scopes of preserved values which do not depend on the domain. Paths which select
+   * clusters or managed servers by name are compiled as they are restored.
+   */
+  private static final Map<String, PreservedPath> SCOPE_PATHS = Stream.of(
+        DOLLAR_SPEC, DOLLAR_SPEC_SERVERPOD, DOLLAR_SPEC_AS, DOLLAR_SPEC_AS_SERVERPOD, DOLLAR_SPEC_CONFIGURATION,
+        DOLLAR_STATUS)
+      .collect(Collectors.toMap(Function.identity(), PreservedPath::compile));
+
+  // Object mappers are thread-safe once configured, and costly to create for each preserved annotation.
+  private static final ObjectMapper PRESERVED_MAPPER = new ObjectMapper();
+  private static final TypeReference<Map<String, Object>> PRESERVED_TYPE = new TypeReference<>() {};
+
   public static final String INTERNAL = "Internal";
 
   /**
@@ -832,7 +849,7 @@ public class SchemaConversionUtils {
     Optional.ofNullable(getConfiguration(spec)).ifPresent(configuration -> {
       Object existing = configuration.remove("istio");
       if (existing != null) {
-        preserve(toBePreserved, "$.spec.configuration", Map.of("istio", existing));
+        preserve(toBePreserved, DOLLAR_SPEC_CONFIGURATION, Map.of("istio", existing));
       }
     });
   }
@@ -871,7 +888,7 @@ public class SchemaConversionUtils {
   private void removeAndPreserveServerStartState(Map<String, Object> spec, Map<String, Object> toBePreserved) {
     removeAndPreserveServerStartState(spec, toBePreserved, DOLLAR_SPEC);
     Optional.ofNullable(getAdminServer(spec)).ifPresent(
-        as -> removeAndPreserveServerStartState(as, toBePreserved, "$.spec.adminServer"));
+        as -> removeAndPreserveServerStartState(as, toBePreserved, DOLLAR_SPEC_AS));
     Optional.ofNullable(getClusters(spec)).ifPresent(cl -> cl.forEach(cluster ->
         removeAndPreserveServerStartStateForCluster((Map<String, Object>) cluster, toBePreserved)));
     Optional.ofNullable(getManagedServers(spec)).ifPresent(ms -> ms.forEach(managedServer ->
@@ -920,7 +937,7 @@ public class SchemaConversionUtils {
       Map<String, Object> meta = getMetadata(domain);
       Map<String, Object> annotations = (Map<String, Object>) meta.computeIfAbsent(
           ANNOTATIONS, k -> new LinkedHashMap<>());
-      annotations.put(annoName, new ObjectMapper().writeValueAsString(toBePreserved));
+      annotations.put(annoName, PRESERVED_MAPPER.writeValueAsString(toBePreserved));
     }
   }
 
@@ -964,7 +981,7 @@ public class SchemaConversionUtils {
   private void restore(String annoName, Map<String, Object> domain, RestoreValidator restoreValidator) {
     withAnnotation(annoName, domain, labelValue -> {
       try {
-        restore(domain, new ObjectMapper().readValue(labelValue, new TypeReference<>(){}), restoreValidator);
+        restore(domain, PRESERVED_MAPPER.readValue(labelValue, PRESERVED_TYPE), restoreValidator);
       } catch (JsonProcessingException e) {
         throw new RuntimeException(e);
       }
@@ -974,22 +991,28 @@ public class SchemaConversionUtils {
   private void restore(Map<String, Object> domain, Map<String, Object> toBeRestored,
                        RestoreValidator restoreValidator) {
     if (toBeRestored != null && !toBeRestored.isEmpty()) {
-      ReadContext context = JsonPath.parse(domain);
       toBeRestored.forEach((key, value) -> {
         if (DOLLAR_STATUS.equals(key) && getStatus(domain) == null) {
           domain.put(STATUS, new HashMap<>());
         }
-        JsonPath path = JsonPath.compile(key);
-        Optional.of(read(context, path)).map(List::stream)
-            .ifPresent(stream -> stream.forEach(item -> {
-              if (restoreValidator.validateRestore(domain, item, (Map<String, Object>) value)) {
-                item.putAll((Map<String, Object>) value);
-              }
-            }));
+        selectScopes(domain, key).forEach(item -> {
+          if (restoreValidator.validateRestore(domain, item, (Map<String, Object>) value)) {
+            item.putAll((Map<String, Object>) value);
+          }
+        });
       });
     }
   }
 
+  // Selects the maps into which the values preserved with the specified key are to be restored. Keys written by this
+  // class are compiled into direct map lookups; any others are evaluated as JSON paths.
+  private List<Map<String, Object>> selectScopes(Map<String, Object> domain, String key) {
+    return Optional.ofNullable(SCOPE_PATHS.get(key))
+        .or(() -> Optional.ofNullable(PreservedPath.compile(key)))
+        .map(path -> path.select(domain))
+        .orElseGet(() -> read(JsonPath.parse(domain), JsonPath.compile(key)));
+  }
+
   private void withAnnotation(String annoName, Map<String, Object> domain, Consumer<String> consumer) {
     Map<String, Object> metadata = getMetadata(domain);
     Optional.ofNullable(metadata)
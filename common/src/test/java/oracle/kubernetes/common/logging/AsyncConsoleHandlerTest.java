@@ -0,0 +1,257 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.logging.AsyncConsoleHandler.OverflowPolicy.BLOCK;
+import static oracle.kubernetes.common.logging.AsyncConsoleHandler.OverflowPolicy.DISCARD_LOWEST_LEVEL;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class AsyncConsoleHandlerTest {
+
+  private final BlockingOutputStream console = new BlockingOutputStream();
+  private AsyncConsoleHandler handler;
+
+  @AfterEach
+  void tearDown() {
+    console.release();
+    handler.close();
+  }
+
+  private AsyncConsoleHandler createHandler(int capacity, AsyncConsoleHandler.OverflowPolicy overflowPolicy) {
+    handler = new AsyncConsoleHandler(console, capacity, overflowPolicy);
+    handler.setLevel(Level.ALL);
+    handler.setFormatter(new MessageFormatter());
+    return handler;
+  }
+
+  private void publish(Level level, String message) {
+    handler.publish(new LogRecord(level, message));
+  }
+
+  // Publishes a record and waits until the writer thread is blocked writing it.
+  private void blockWriter() throws InterruptedException {
+    console.block();
+    publish(Level.INFO, "first");
+    console.awaitBlocked();
+  }
+
+  @Test
+  void whenCapacityZero_writeRecordOnPublish() {
+    createHandler(0, DISCARD_LOWEST_LEVEL);
+
+    publish(Level.INFO, "message");
+
+    assertThat(console.toString(), equalTo("message\n"));
+  }
+
+  @Test
+  void afterFlush_queuedRecordsWritten() {
+    createHandler(10, DISCARD_LOWEST_LEVEL);
+
+    publish(Level.INFO, "one");
+    publish(Level.FINE, "two");
+    handler.flush();
+
+    assertThat(console.toString(), equalTo("one\ntwo\n"));
+  }
+
+  @Test
+  void whenRecordNotLoggable_dontWriteIt() {
+    createHandler(10, DISCARD_LOWEST_LEVEL).setLevel(Level.INFO);
+
+    publish(Level.FINE, "fine");
+    publish(Level.INFO, "info");
+    handler.flush();
+
+    assertThat(console.toString(), equalTo("info\n"));
+  }
+
+  @Test
+  void whileWriterBlocked_countQueuedRecords() throws InterruptedException {
+    createHandler(10, DISCARD_LOWEST_LEVEL);
+    final int initialCount = AsyncConsoleHandler.getQueuedRecordCount();
+    blockWriter();
+
+    publish(Level.INFO, "two");
+    publish(Level.INFO, "three");
+
+    assertThat(AsyncConsoleHandler.getQueuedRecordCount() - initialCount, equalTo(2));
+  }
+
+  @Test
+  void whenBufferFull_discardLowestLevelQueuedRecord() throws InterruptedException {
+    createHandler(3, DISCARD_LOWEST_LEVEL);
+    blockWriter();
+
+    publish(Level.FINE, "fine");
+    publish(Level.FINEST, "finest");
+    publish(Level.FINER, "finer");
+    publish(Level.INFO, "info");
+    console.release();
+    handler.flush();
+
+    assertThat(console.toString(), equalTo("first\nfine\nfiner\ninfo\n"));
+  }
+
+  @Test
+  void whenBufferFull_discardOldestRecordOfLowestLevel() throws InterruptedException {
+    createHandler(3, DISCARD_LOWEST_LEVEL);
+    blockWriter();
+
+    publish(Level.FINE, "fine1");
+    publish(Level.INFO, "info1");
+    publish(Level.FINE, "fine2");
+    publish(Level.INFO, "info2");
+    console.release();
+    handler.flush();
+
+    assertThat(console.toString(), equalTo("first\ninfo1\nfine2\ninfo2\n"));
+  }
+
+  @Test
+  void whenBufferFullOfHigherLevelRecords_discardPublishedRecord() throws InterruptedException {
+    createHandler(2, DISCARD_LOWEST_LEVEL);
+    blockWriter();
+
+    publish(Level.INFO, "two");
+    publish(Level.FINE, "three");
+    publish(Level.FINE, "four");
+    console.release();
+    handler.flush();
+
+    assertThat(console.toString(), equalTo("first\ntwo\nthree\n"));
+  }
+
+  @Test
+  void whenRecordsDiscarded_countThemByLevel() throws InterruptedException {
+    createHandler(1, DISCARD_LOWEST_LEVEL);
+    final long initialCount = getDiscardedCount("FINER");
+    blockWriter();
+
+    publish(Level.FINER, "two");
+    publish(Level.FINE, "three");
+    publish(Level.FINER, "four");
+
+    assertThat(getDiscardedCount("FINER") - initialCount, equalTo(2L));
+  }
+
+  private long getDiscardedCount(String level) {
+    return AsyncConsoleHandler.getDiscardedRecordCounts().getOrDefault(level, 0L);
+  }
+
+  @Test
+  void whenBufferFullOfWarnings_waitToQueueWarning() throws InterruptedException {
+    createHandler(1, DISCARD_LOWEST_LEVEL);
+    blockWriter();
+    publish(Level.WARNING, "two");
+
+    final Thread publisher = new Thread(() -> publish(Level.SEVERE, "three"));
+    publisher.start();
+    publisher.join(100);
+    final boolean waited = publisher.isAlive();
+    console.release();
+    publisher.join();
+    handler.flush();
+
+    assertThat(waited, equalTo(true));
+    assertThat(console.toString(), equalTo("first\ntwo\nthree\n"));
+  }
+
+  @Test
+  void whenBlockPolicyAndBufferFull_waitToQueueRecord() throws InterruptedException {
+    createHandler(1, BLOCK);
+    blockWriter();
+    publish(Level.FINE, "two");
+
+    final Thread publisher = new Thread(() -> publish(Level.FINEST, "three"));
+    publisher.start();
+    publisher.join(100);
+    final boolean waited = publisher.isAlive();
+    console.release();
+    publisher.join();
+    handler.flush();
+
+    assertThat(waited, equalTo(true));
+    assertThat(console.toString(), equalTo("first\ntwo\nthree\n"));
+  }
+
+  @Test
+  void whenClosed_writeQueuedRecords() {
+    createHandler(10, DISCARD_LOWEST_LEVEL);
+
+    publish(Level.INFO, "one");
+    publish(Level.INFO, "two");
+    handler.close();
+
+    assertThat(console.toString(), equalTo("one\ntwo\n"));
+  }
+
+  @Test
+  void afterClosed_writeRecordOnPublish() {
+    createHandler(10, DISCARD_LOWEST_LEVEL);
+    handler.close();
+
+    publish(Level.INFO, "late");
+
+    assertThat(console.toString(), equalTo("late\n"));
+  }
+
+  static class MessageFormatter extends Formatter {
+    @Override
+    public String format(LogRecord logRecord) {
+      return logRecord.getMessage() + "\n";
+    }
+  }
+
+  // A stream which can be made to block writes, as a console does when its reader falls behind.
+  static class BlockingOutputStream extends ByteArrayOutputStream {
+    private volatile CountDownLatch blocked = new CountDownLatch(0);
+    private volatile CountDownLatch released = new CountDownLatch(0);
+
+    void block() {
+      blocked = new CountDownLatch(1);
+      released = new CountDownLatch(1);
+    }
+
+    void awaitBlocked() throws InterruptedException {
+      blocked.await(5, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      blocked.countDown();
+      try {
+        released.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      super.write(b, off, len);
+    }
+
+    @Override
+    public void write(int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void writeBytes(byte[] b) {
+      write(b, 0, b.length);
+    }
+  }
+}
@@ -1,8 +1,15 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.common.logging;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -10,6 +17,8 @@ import java.util.logging.LogRecord;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -58,4 +67,74 @@ class CommonLoggingFormatterTest {
 
     assertThat(getFormattedMessage().get("exception"), containsString("java.lang.RuntimeException: in the test"));
   }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 10, 120_000_000, 123_456_789, 999_999_999})
+  void timestampMatchesIsoOffsetDateTime(int nanos) throws JsonProcessingException {
+    logRecord.setInstant(Instant.ofEpochSecond(1_672_531_200L, nanos));
+
+    assertThat(getFormattedMessage().get("timestamp"), equalTo(getIsoTimestamp(logRecord.getInstant())));
+  }
+
+  @Test
+  void whenRecordsFormattedInSameSecond_eachHasItsOwnTimestamp() throws JsonProcessingException {
+    logRecord.setInstant(Instant.ofEpochSecond(1_672_531_200L, 500_000_000));
+    getFormattedMessage();
+    logRecord.setInstant(Instant.ofEpochSecond(1_672_531_200L, 250_000_000));
+
+    assertThat(getFormattedMessage().get("timestamp"), equalTo(getIsoTimestamp(logRecord.getInstant())));
+  }
+
+  @Test
+  void formattedRecordMatchesSerializedMap() throws JsonProcessingException {
+    logRecord.setMessage(
+        "A \"quoted\"\tmessage\nwith " + (char) 1 + " control characters and " + (char) 0xe9 + " accents");
+    logRecord.setSourceClassName("theClass");
+    logRecord.setSourceMethodName("itsMethod");
+    logRecord.setThrown(new IllegalStateException("in the test"));
+
+    assertThat(formatter.format(logRecord), equalTo(serializeAsMap(logRecord)));
+  }
+
+  @Test
+  void whenSourceClassAbsent_formattedRecordMatchesSerializedMap() throws JsonProcessingException {
+    logRecord.setLoggerName("theLogger");
+
+    assertThat(formatter.format(logRecord), equalTo(serializeAsMap(logRecord)));
+  }
+
+  private static String getIsoTimestamp(Instant instant) {
+    return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(OffsetDateTime.ofInstant(instant, ZoneId.systemDefault()));
+  }
+
+  // Serializes the record in the form in which it was formatted before records were streamed to a JSON generator.
+  private String serializeAsMap(LogRecord logRecord) throws JsonProcessingException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("timestamp", getIsoTimestamp(logRecord.getInstant()));
+    map.put("thread", Thread.currentThread().getId());
+    map.put("fiber", "");
+    map.put("level", logRecord.getLevel().getLocalizedName());
+    map.put("class",
+        logRecord.getSourceClassName() != null ? logRecord.getSourceClassName() : logRecord.getLoggerName());
+    map.put("method", logRecord.getSourceMethodName() != null ? logRecord.getSourceMethodName() : "");
+    map.put("timeInMillis", logRecord.getMillis());
+    map.put("message", formatter.formatMessage(logRecord).replace("\n", "\\\n"));
+    map.put("exception", getStackTrace(logRecord.getThrown()).replace("\n", "\\\n"));
+    map.put("code", "");
+    map.put("headers", Map.of());
+    map.put("body", "");
+    return new ObjectMapper().writeValueAsString(map) + "\n";
+  }
+
+  private static String getStackTrace(Throwable thrown) {
+    if (thrown == null) {
+      return "";
+    }
+    StringWriter sw = new StringWriter();
+    PrintWriter pw = new PrintWriter(sw);
+    pw.println();
+    thrown.printStackTrace(pw);
+    pw.close();
+    return sw.toString();
+  }
 }
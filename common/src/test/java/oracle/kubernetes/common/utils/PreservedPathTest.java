@@ -0,0 +1,78 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.common.utils;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class PreservedPathTest {
+
+  private final Map<String, Object> serverPod1 = Map.of("env", List.of());
+  private final Map<String, Object> cluster1 = Map.of("clusterName", "cluster-1", "serverPod", serverPod1);
+  private final Map<String, Object> cluster2 = Map.of("clusterName", "cluster-2");
+  private final Map<String, Object> adminServer = Map.of("serverStartState", "RUNNING");
+  private final Map<String, Object> spec
+        = Map.of("adminServer", adminServer, "clusters", List.of(cluster1, cluster2), "replicas", 2);
+  private final Map<String, Object> domain = Map.of("spec", spec);
+
+  @Test
+  void rootPath_selectsResource() {
+    assertThat(PreservedPath.compile("$").select(domain), equalTo(List.of(domain)));
+  }
+
+  @Test
+  void propertyPath_selectsNestedMap() {
+    assertThat(PreservedPath.compile("$.spec.adminServer").select(domain), equalTo(List.of(adminServer)));
+  }
+
+  @Test
+  void whenPropertyMissing_selectNothing() {
+    assertThat(PreservedPath.compile("$.spec.serverPod").select(domain), empty());
+  }
+
+  @Test
+  void whenPropertyNotMap_selectNothing() {
+    assertThat(PreservedPath.compile("$.spec.replicas").select(domain), empty());
+  }
+
+  @Test
+  void filterPath_selectsMatchingListElements() {
+    assertThat(PreservedPath.compile("$.spec.clusters[?(@.clusterName=='cluster-2')]").select(domain),
+          equalTo(List.of(cluster2)));
+  }
+
+  @Test
+  void filterPathWithProperty_selectsPropertyOfMatchingListElements() {
+    assertThat(PreservedPath.compile("$.spec.clusters[?(@.clusterName=='cluster-1')].serverPod").select(domain),
+          equalTo(List.of(serverPod1)));
+  }
+
+  @Test
+  void whenFilterMatchesElementWithoutProperty_selectNothing() {
+    assertThat(PreservedPath.compile("$.spec.clusters[?(@.clusterName=='cluster-2')].serverPod").select(domain),
+          empty());
+  }
+
+  @Test
+  void whenFilteredPropertyNotList_selectNothing() {
+    assertThat(PreservedPath.compile("$.spec[?(@.clusterName=='cluster-1')]").select(domain), empty());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "spec", "$spec", "$.", "$.spec..clusters", "$['spec']", "$.metadata.annotations.['weblogic.v8.preserved']",
+      "$.spec.clusters[0]", "$.spec.clusters[?(@.clusterName=='cluster-1'", "$.spec.clusters[?(@.a.b=='c')]"})
+  void whenPathNotSupported_compileReturnsNull(String path) {
+    assertThat(PreservedPath.compile(path), nullValue());
+  }
+}
@@ -667,7 +667,34 @@ class SchemaConversionUtilsTest {
     assertThat(converterv8.getDomain(), hasJsonPath("$.spec.configuration.istio.readinessPort",
         equalTo(9000)));
   }
-  
+
+  @Test
+  void testV9DomainManagedServerFields_restored() throws IOException {
+    Map<String, Object> v9Domain = readAsYaml(DOMAIN_V9_CONVERTED_LEGACY_AUX_IMAGE_YAML);
+    getDomainSpec(v9Domain).put("managedServers",
+        List.of(new HashMap<>(Map.of("serverName", "ms1")), new HashMap<>(Map.of("serverName", "ms2"))));
+    getMapAtPath(v9Domain, "metadata.annotations")
+        .put("weblogic.v8.preserved",
+            "{\"$.spec.managedServers[?(@.serverName=='ms2')]\":{\"serverStartState\":\"ADMIN\"}}");
+
+    converterv8.convert(v9Domain);
+
+    assertThat(converterv8.getDomain(), hasNoJsonPath("$.spec.managedServers[0].serverStartState"));
+    assertThat(converterv8.getDomain(), hasJsonPath("$.spec.managedServers[1].serverStartState",
+        equalTo("ADMIN")));
+  }
+
+  @Test
+  void testV9DomainFieldsPreservedWithOtherJsonPath_restored() throws IOException {
+    Map<String, Object> v9Domain = readAsYaml(DOMAIN_V9_CONVERTED_LEGACY_AUX_IMAGE_YAML);
+    getMapAtPath(v9Domain, "metadata.annotations")
+        .put("weblogic.v8.preserved", "{\"$['spec']['configuration']\":{\"istio\":{\"enabled\":true}}}");
+
+    converterv8.convert(v9Domain);
+
+    assertThat(converterv8.getDomain(), hasJsonPath("$.spec.configuration.istio.enabled", equalTo(true)));
+  }
+
   @SuppressWarnings("unchecked")
   @Test
   void testV8DomainWebLogicCredentialsSecretWithNamespace_remove() {
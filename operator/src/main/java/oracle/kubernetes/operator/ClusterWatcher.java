@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -10,6 +10,7 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 
@@ -18,6 +19,8 @@ import oracle.kubernetes.weblogic.domain.model.ClusterResource;
  * for processing.
  */
 public class ClusterWatcher extends Watcher<ClusterResource> {
+  private static final WatchMultiplexer<ClusterResource> MULTIPLEXER
+      = new WatchMultiplexer<>("cluster", Resource.CLUSTERS, watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private ClusterWatcher(
@@ -55,7 +58,17 @@ public class ClusterWatcher extends Watcher<ClusterResource> {
 
   @Override
   public Watchable<ClusterResource> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.createClusterWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<ClusterResource> createWatch(WatchBuilder watchBuilder, String namespace)
+      throws ApiException {
+    return watchBuilder.createClusterWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<ClusterResource> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
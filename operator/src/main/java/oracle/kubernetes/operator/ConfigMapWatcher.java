@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -12,6 +12,7 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
@@ -20,6 +21,8 @@ import oracle.kubernetes.operator.watcher.WatchListener;
  * the operator for processing.
  */
 public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
+  private static final WatchMultiplexer<V1ConfigMap> MULTIPLEXER
+      = new WatchMultiplexer<>("configmap", Resource.CONFIGMAPS, watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private ConfigMapWatcher(
@@ -57,9 +60,18 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
 
   @Override
   public Watchable<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<V1ConfigMap> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createConfigMapWatch(ns);
+        .createConfigMapWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<V1ConfigMap> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
@@ -15,7 +15,9 @@ import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.EngineMode;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -46,11 +48,17 @@ public class CoreDelegateImpl implements CoreDelegate {
     productVersion = new SemanticVersion(buildVersion);
     kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-    engine = new Engine(scheduledExecutorService);
+    engine = new Engine(scheduledExecutorService, getEngineMode());
 
     PodHelper.setProductVersion(productVersion.toString());
   }
 
+  private static EngineMode getEngineMode() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getEngineMode)
+        .orElse(EngineMode.PLATFORM);
+  }
+
   protected static String getBuildVersion(Properties buildProps) {
     return Optional.ofNullable(buildProps.getProperty(GIT_BUILD_VERSION_KEY)).orElse("1.0");
   }
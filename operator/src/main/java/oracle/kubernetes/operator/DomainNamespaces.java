@@ -26,6 +26,8 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.calls.ListPaging;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -63,13 +65,14 @@ public class DomainNamespaces {
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
         = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> w -> dispatchPodWatch(d, w));
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
         = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
           = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
 
   private final SemanticVersion productVersion;
+  private StuckPodProcessing stuckPodProcessing;
 
   AtomicBoolean isStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, key -> new AtomicBoolean(false));
@@ -95,6 +98,23 @@ public class DomainNamespaces {
     this.productVersion = productVersion;
   }
 
+  /**
+   * Specifies the processing which tracks the pods seen by this object, in order to detect stuck pods.
+   * @param stuckPodProcessing the stuck pod processing
+   */
+  void setStuckPodProcessing(StuckPodProcessing stuckPodProcessing) {
+    this.stuckPodProcessing = stuckPodProcessing;
+  }
+
+  private void dispatchPodWatch(DomainProcessor domainProcessor, Watch.Response<V1Pod> item) {
+    domainProcessor.dispatchPodWatch(item);
+    Optional.ofNullable(stuckPodProcessing).ifPresent(p -> p.onPodWatch(item));
+  }
+
+  private void trackPods(String ns, V1PodList list) {
+    Optional.ofNullable(stuckPodProcessing).ifPresent(p -> p.trackPods(ns, list));
+  }
+
   /**
    * Returns a collection of the names of the namespaces currently being managed by the operator.
    */
@@ -126,6 +146,8 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    Optional.ofNullable(stuckPodProcessing).ifPresent(p -> p.stopNamespace(ns));
+    ListPaging.clearPageLimits(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
@@ -192,6 +214,7 @@ public class DomainNamespaces {
    */
   Step readExistingResources(String ns, DomainProcessor processor) {
     NamespacedResources resources = new NamespacedResources(ns, null, this);
+    resources.useCachedListing();
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
     return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
@@ -241,7 +264,7 @@ public class DomainNamespaces {
     }
 
     void removeWatcher(String ns) {
-      watchers.remove(ns);
+      Optional.ofNullable(watchers.remove(ns)).ifPresent(Watcher::unsubscribe);
     }
   }
 
@@ -280,7 +303,10 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        trackPods(ns, l);
+        podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -12,10 +12,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
@@ -28,6 +29,8 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 import oracle.kubernetes.common.logging.LoggingFilter;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.common.logging.OncePerMessageLoggingFilter;
@@ -49,6 +52,8 @@ import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
+import oracle.kubernetes.operator.makeright.MakeRightTraceHistory;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -94,6 +99,18 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   private static final String DELETED = "DELETED";
   private static final String ERROR = "ERROR";
 
+  private static final Gauge fibersSuspended = Gauge.build()
+      .name("weblogic_operator_fibers_suspended")
+      .help("Number of make-right and status fibers which are suspended, waiting to be resumed.")
+      .labelNames("gate")
+      .register();
+  private static final Histogram makeRightDuration = Histogram.build()
+      .name("weblogic_operator_make_right_seconds")
+      .help("Time from the start of a domain make-right until it completes, by domain and by result.")
+      .labelNames("namespace", "domain", "result")
+      .buckets(0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600, 1800)
+      .register();
+
   @SuppressWarnings({"FieldCanBeLocal", "FieldMayBeFinal"})
   private static String debugPrefix = null;  // Debugging: set this to a non-null value to dump the make-right steps
 
@@ -109,13 +126,25 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
 
-  // map namespace to map of uid to processing.
-  @SuppressWarnings("FieldMayBeFinal")
-  private static Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
+  // Runs the periodic status updates for all domains; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static StatusUpdateScheduler statusUpdateScheduler = new StatusUpdateScheduler();
+
+  // The recent make-right traces of each domain; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static MakeRightTraceHistory makeRightTraces = new MakeRightTraceHistory();
 
   // List of clusters in a namespace.
   private static final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
 
+  // The time at which a domain or cluster was last registered or unregistered; replacements are tracked by each info.
+  private static volatile OffsetDateTime lastResourceUpdateTime = SystemClock.now();
+
+  static {
+    fibersSuspended.setChild(new SuspendedFibersGauge(() -> makeRightFiberGates), "makeRight");
+    fibersSuspended.setChild(new SuspendedFibersGauge(() -> statusFiberGates), "status");
+  }
+
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
 
@@ -190,16 +219,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     domains.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
-  }
-
-  private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
-    if (existing != null) {
-      existing.cancel(false);
-    }
+    statusUpdateScheduler.cancelNamespace(namespace);
   }
 
   public static void updateEventK8SObjects(CoreV1Event event) {
@@ -322,6 +342,40 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  /**
+   * Get all the cluster resources in the given namespace.
+   *
+   * @param ns the namespace
+   * @return list of the cluster resources
+   */
+  public static List<ClusterResource> getClusterResources(String ns) {
+    List<ClusterResource> clusterResources = new ArrayList<>();
+    Optional.ofNullable(clusters.get(ns)).ifPresent(c -> c.values().stream()
+        .map(ClusterPresenceInfo::getCluster).filter(Objects::nonNull).forEach(clusterResources::add));
+    return clusterResources;
+  }
+
+  /**
+   * Returns the time of the most recent change to the resources returned by {@link #getDomains(String)} and
+   * {@link #getClusterResources(String)}: the registration or unregistration of a domain or cluster, or the
+   * replacement of the resource held by a registered presence info.
+   */
+  public static OffsetDateTime getLastResourceUpdateTime() {
+    return Stream.concat(
+          domains.values().stream().flatMap(m -> m.values().stream()),
+          clusters.values().stream().flatMap(m -> m.values().stream()))
+        .map(ResourcePresenceInfo::getLastUpdateTime)
+        .reduce(lastResourceUpdateTime, DomainProcessorImpl::getLater);
+  }
+
+  private static OffsetDateTime getLater(OffsetDateTime first, OffsetDateTime second) {
+    return second.isAfter(first) ? second : first;
+  }
+
+  private static void recordResourceUpdate() {
+    lastResourceUpdateTime = SystemClock.now();
+  }
+
   private void onDeleteEvent(@Nonnull String kind, @Nonnull String name, CoreV1Event event) {
     switch (kind) {
       case EventConstants.EVENT_KIND_DOMAIN:
@@ -460,22 +514,48 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void scheduleDomainStatusUpdates(DomainPresenceInfo info) {
     final int statusUpdateTimeoutSeconds = TuningParameters.getInstance().getStatusUpdateTimeoutSeconds();
-    final int initialShortDelay = TuningParameters.getInstance().getInitialShortDelay();
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    final String namespace = info.getNamespace();
+    final String domainUid = info.getDomainUid();
 
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
-                .withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus(),
-            initialShortDelay,
-            initialShortDelay,
-            TimeUnit.SECONDS));
+    statusUpdateScheduler.schedule(
+        delegate,
+        namespace,
+        domainUid,
+        () -> new ScheduledStatusUpdater(namespace, domainUid, loggingFilter)
+            .withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus(),
+        () -> getRegisteredDomainPresenceInfo(namespace, domainUid));
+  }
+
+  /**
+   * Returns the namespace of the registered domain with the specified UID, or null if no such domain is registered.
+   * The presence maps are keyed by namespace and then by domain UID, so this needs only one lookup per namespace.
+   * @param domainUid the UID of a domain
+   */
+  public static String getDomainNamespace(String domainUid) {
+    return domains.entrySet().stream()
+        .filter(e -> e.getValue().containsKey(domainUid))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Returns the recent completed make-right traces of the specified domain, oldest first.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static List<MakeRightTrace> getMakeRightTraces(String namespace, String domainUid) {
+    return makeRightTraces.get(namespace, domainUid);
+  }
+
+  private static DomainPresenceInfo getRegisteredDomainPresenceInfo(String namespace, String domainUid) {
+    return Optional.ofNullable(domains.get(namespace)).map(m -> m.get(domainUid)).orElse(null);
   }
 
   @Override
   public void registerDomainPresenceInfo(DomainPresenceInfo info) {
+    recordResourceUpdate();
     domains
           .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
           .put(info.getDomainUid(), info);
@@ -483,6 +563,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void registerClusterPresenceInfo(ClusterPresenceInfo info) {
+    recordResourceUpdate();
     clusters
         .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
         .put(info.getResourceName(), info);
@@ -508,22 +589,21 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   }
 
   private static void unregisterPresenceInfo(String ns, String domainUid) {
+    recordResourceUpdate();
     Optional.ofNullable(domains.get(ns)).ifPresent(m -> m.remove(domainUid));
+    makeRightDuration.remove(ns, domainUid, "success");
+    makeRightDuration.remove(ns, domainUid, "failure");
+    makeRightTraces.remove(ns, domainUid);
   }
 
   private static void unregisterPresenceInfoForCluster(String ns, String clusterName) {
+    recordResourceUpdate();
     Optional.ofNullable(clusters.get(ns)).ifPresent(m -> m.remove(clusterName));
   }
 
   @Override
   public void endScheduledDomainStatusUpdates(DomainPresenceInfo info) {
-    Map<String, ScheduledFuture<?>> map = statusUpdaters.get(info.getNamespace());
-    if (map != null) {
-      ScheduledFuture<?> existing = map.remove(info.getDomainUid());
-      if (existing != null) {
-        existing.cancel(true);
-      }
-    }
+    statusUpdateScheduler.cancel(info.getNamespace(), info.getDomainUid());
   }
 
   private static Step bringAdminServerUpSteps(PodAwaiterStepFactory podAwaiterStepFactory) {
@@ -556,6 +636,23 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
   }
 
+  // The suspended fibers are counted when the metric is collected, so that suspending a fiber costs nothing more.
+  private static class SuspendedFibersGauge extends Gauge.Child {
+    private final Supplier<Map<String, FiberGate>> gates;
+
+    SuspendedFibersGauge(Supplier<Map<String, FiberGate>> gates) {
+      this.gates = gates;
+    }
+
+    @Override
+    public double get() {
+      return gates.get().values().stream()
+          .flatMap(gate -> gate.getCurrentFibers().values().stream())
+          .filter(fiber -> fiber.getSuspendedStep() != null)
+          .count();
+    }
+  }
+
   private String getDomainUid(Fiber fiber) {
     return Optional.ofNullable(fiber)
           .map(Fiber::getPacket)
@@ -1020,18 +1117,41 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return new DomainPlanCompletionCallback();
     }
 
+    // A held request would run with the presence info from when it was made, and so would register the domain
+    // again even if the make-right it waited for had deleted it. It therefore runs only while the domain is still
+    // registered and, unless the request is itself a deletion, not marked for deletion.
+    @Override
+    boolean stillApplies() {
+      return Optional.ofNullable(getRegisteredDomainPresenceInfo(presenceInfo.getNamespace(),
+              presenceInfo.getResourceName()))
+          .map(info -> operation.isDeleting() || info.isNotDeleting())
+          .orElse(false);
+    }
+
     class DomainPlanCompletionCallback implements CompletionCallback {
 
       @Override
       public void onCompletion(Packet packet) {
+        recordCompletion(packet, "success");
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        recordCompletion(packet, "failure");
         reportFailure(throwable);
       }
 
+      // A make-right which deleted its domain is not recorded, since the domain's records have been discarded.
+      private void recordCompletion(Packet packet, String result) {
+        final String namespace = presenceInfo.getNamespace();
+        final String domainUid = presenceInfo.getResourceName();
+        if (getRegisteredDomainPresenceInfo(namespace, domainUid) != null) {
+          makeRightDuration.labels(namespace, domainUid, result).observe((System.nanoTime() - startTime) / 1.0E9);
+          MakeRightTrace.fromPacket(packet).map(trace -> trace.complete(result)).ifPresent(makeRightTraces::add);
+        }
+      }
+
       private void reportFailure(Throwable throwable) {
         logThrowable(throwable);
         runFailureSteps(throwable);
@@ -1131,6 +1251,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
     private final Step firstStep;
     final Packet packet;
+    long startTime;
 
     public Plan(T operation, DomainProcessorDelegate delegate) {
       this.operation = operation;
@@ -1146,15 +1267,22 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
     void execute() {
       Optional.ofNullable(debugPrefix).ifPresent(prefix -> packet.put(Fiber.DEBUG_FIBER, prefix));
+      startTime = System.nanoTime();
 
       if (operation.isWillInterrupt()) {
         gate.startFiber(presenceInfo.getResourceName(), firstStep, packet, createCompletionCallback());
       } else {
-        gate.startFiberIfNoCurrentFiber(presenceInfo.getResourceName(), firstStep, packet, createCompletionCallback());
+        gate.startFiberOrCoalesce(presenceInfo.getResourceName(), firstStep, packet, createCompletionCallback(),
+            this::stillApplies);
       }
     }
 
     abstract CompletionCallback createCompletionCallback();
+
+    // Returns true if a request held behind a running make-right should still be run once that make-right completes.
+    boolean stillApplies() {
+      return true;
+    }
   }
 
   private class ScheduledStatusUpdater {
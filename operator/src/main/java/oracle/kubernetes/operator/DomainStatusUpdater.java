@@ -3,12 +3,14 @@
 
 package oracle.kubernetes.operator;
 
+import java.io.StringReader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,15 +22,23 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.prometheus.client.Counter;
 import jakarta.json.Json;
-import jakarta.json.JsonPatchBuilder;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
@@ -68,6 +78,7 @@ import oracle.kubernetes.weblogic.domain.model.OnlineUpdate;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_NOT_READY;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_FATAL_ERROR;
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_ROLL_START;
@@ -78,6 +89,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_READY;
 import static oracle.kubernetes.common.logging.MessageKeys.PODS_NOT_RUNNING;
 import static oracle.kubernetes.operator.ClusterResourceStatusUpdater.createClusterResourceStatusUpdaterStep;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.KubernetesConstants.MINIMUM_CLUSTER_COUNT;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
@@ -121,6 +133,29 @@ public class DomainStatusUpdater {
   public static final int SERVER_DISPLAY_LIMIT = 5;
   public static final int CLUSTER_MESSAGE_LIMIT = 2;
 
+  // Set in the packet, to the number of attempts so far, while a rejected status patch is being recomputed
+  // against a freshly read domain.
+  private static final String STATUS_PATCH_RETRY = "statusPatchRetry";
+
+  // The maximum number of times a status patch rejected as unprocessable is recomputed before the rejection
+  // is treated as a failure.
+  static final int MAX_STATUS_PATCH_RETRIES = 5;
+
+  private static final JSON json = new JSON();
+
+  private static final Counter statusPatchBytes = Counter.build()
+      .name("weblogic_operator_domain_status_patch_bytes_total")
+      .help("Total size of the JSON patches sent to update domain status.")
+      .register();
+  private static final Counter patchesAfterGenerationChange = Counter.build()
+      .name("weblogic_operator_domain_status_patches_after_generation_change_total")
+      .help("Domain status patches applied although the domain generation had changed since the domain was read.")
+      .register();
+  private static final Counter statusPatchRetries = Counter.build()
+      .name("weblogic_operator_domain_status_patch_retries_total")
+      .help("Domain status patches recomputed after being rejected because the domain status had changed.")
+      .register();
+
   private DomainStatusUpdater() {
   }
 
@@ -339,6 +374,75 @@ public class DomainStatusUpdater {
     return new FailureStep(INTROSPECTION, message);
   }
 
+  /**
+   * Creates a JSON patch which converts the old status of a domain to the new one. The patch is computed against
+   * a cached status, and its operations address array elements by index, so it begins with a test of each value
+   * it replaces or removes, and of each array element it changes, against the old status. If the status on the
+   * server no longer matches, the patch is rejected rather than applied to the wrong elements. An insertion into,
+   * or removal from, an array tests the entire array, since the positions of the other elements depend on it.
+   * @param oldStatus the current status; may be null if the domain has none
+   * @param newStatus the desired status
+   * @return the patch, as a JSON string
+   */
+  static String createStatusPatch(@Nullable DomainStatus oldStatus, @Nonnull DomainStatus newStatus) {
+    final JsonObject oldObject = toStatusObject(oldStatus);
+    final JsonArray changes = Json.createDiff(oldObject, toStatusObject(newStatus)).toJsonArray();
+
+    final Set<String> testedPaths = new LinkedHashSet<>();
+    changes.getValuesAs(JsonObject.class).forEach(change -> addTestedPaths(oldObject, change, testedPaths));
+
+    final JsonArrayBuilder patch = Json.createArrayBuilder();
+    testedPaths.forEach(path -> patch.add(createTestOperation(path, Json.createPointer(path).getValue(oldObject))));
+    changes.forEach(patch::add);
+    return patch.build().toString();
+  }
+
+  private static void addTestedPaths(JsonObject oldObject, JsonObject change, Set<String> testedPaths) {
+    addTestedPath(oldObject, change.getString("op"), change.getString("path"), testedPaths);
+    Optional.ofNullable(change.get("from"))
+        .map(from -> ((JsonString) from).getString())
+        .ifPresent(from -> addTestedPath(oldObject, "remove", from, testedPaths));
+  }
+
+  // Selects the outermost array element on the path; failing that, the value which the operation will replace.
+  private static void addTestedPath(JsonObject oldObject, String op, String path, Set<String> testedPaths) {
+    final String[] tokens = path.substring(1).split("/", -1);
+    JsonValue value = oldObject;
+    String prefix = "";
+    for (int i = 0; i < tokens.length; i++) {
+      if (value instanceof JsonArray) {
+        testedPaths.add(i == tokens.length - 1 ? prefix : prefix + "/" + tokens[i]);
+        return;
+      } else if (!(value instanceof JsonObject) || !value.asJsonObject().containsKey(unescape(tokens[i]))) {
+        return;
+      }
+      value = value.asJsonObject().get(unescape(tokens[i]));
+      prefix = prefix + "/" + tokens[i];
+    }
+
+    if (!op.equals("add")) {
+      testedPaths.add(path);
+    }
+  }
+
+  private static String unescape(String token) {
+    return token.replace("~1", "/").replace("~0", "~");
+  }
+
+  private static JsonObject createTestOperation(String path, JsonValue value) {
+    return Json.createObjectBuilder().add("op", "test").add("path", path).add("value", value).build();
+  }
+
+  // Uses the serialization that the Kubernetes client would apply when sending the status.
+  private static JsonObject toStatusObject(@Nullable DomainStatus status) {
+    final JsonObjectBuilder builder = Json.createObjectBuilder();
+    Optional.ofNullable(status)
+        .map(json::serialize)
+        .map(s -> Json.createReader(new StringReader(s)).readObject())
+        .ifPresent(s -> builder.add("status", s));
+    return builder.build();
+  }
+
   abstract static class DomainStatusUpdaterStep extends Step {
 
     DomainStatusUpdaterStep() {
@@ -379,14 +483,33 @@ public class DomainStatusUpdater {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainResource> callResponse) {
+      packet.remove(STATUS_PATCH_RETRY);
       if (callResponse.getResult() != null) {
+        recordGenerationChange(callResponse.getResult());
         packet.getSpi(DomainPresenceInfo.class).setDomain(callResponse.getResult());
       }
       return doNext(createClusterResourceStatusUpdaterStep(getNext()), packet);
     }
 
+    private void recordGenerationChange(DomainResource updatedDomain) {
+      if (!Objects.equals(getGeneration(updatedDomain), context.patchedGeneration)) {
+        patchesAfterGenerationChange.inc();
+      }
+    }
+
+    private Long getGeneration(DomainResource domain) {
+      return Optional.ofNullable(domain.getMetadata()).map(V1ObjectMeta::getGeneration).orElse(null);
+    }
+
     @Override
     public NextAction onFailure(Packet packet, CallResponse<DomainResource> callResponse) {
+      if (isRetryablePatchRejection(packet, callResponse)) {
+        packet.put(STATUS_PATCH_RETRY, getNumPatchRetries(packet) + 1);
+        statusPatchRetries.inc();
+        return doNext(createRetry(context), packet);
+      }
+
+      packet.remove(STATUS_PATCH_RETRY);
       if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
         return super.onFailure(packet, callResponse);
       } else {
@@ -394,6 +517,18 @@ public class DomainStatusUpdater {
       }
     }
 
+    // A patch which no longer applies to the status on the server is rejected as unprocessable. That may also
+    // indicate an invalid status, so the patch is recomputed against the current domain only a limited number
+    // of times.
+    private boolean isRetryablePatchRejection(Packet packet, CallResponse<DomainResource> callResponse) {
+      return callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY
+          && getNumPatchRetries(packet) < MAX_STATUS_PATCH_RETRIES;
+    }
+
+    private int getNumPatchRetries(Packet packet) {
+      return Optional.ofNullable((Integer) packet.get(STATUS_PATCH_RETRY)).orElse(0);
+    }
+
     public Step createRetry(DomainStatusUpdaterContext context) {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
@@ -414,6 +549,7 @@ public class DomainStatusUpdater {
 
     @Override
     public NextAction onFailure(Packet packet, CallResponse<DomainResource> callResponse) {
+      packet.remove(STATUS_PATCH_RETRY);
       return callResponse.getStatusCode() == HTTP_NOT_FOUND
           ? doNext(null, packet)
           : super.onFailure(packet, callResponse);
@@ -426,6 +562,7 @@ public class DomainStatusUpdater {
     final boolean isMakeRight;
     private final DomainStatusUpdaterStep domainStatusUpdaterStep;
     private DomainStatus newStatus;
+    private Long patchedGeneration;
     private final List<EventData> newEvents = new ArrayList<>();
     final boolean endOfProcessing;
 
@@ -493,7 +630,6 @@ public class DomainStatusUpdater {
 
     private Step createDomainStatusReplaceStep() {
       LOGGER.fine(MessageKeys.DOMAIN_STATUS, getDomainUid(), getNewStatus());
-      LOGGER.finer("status change: " + createPatchString());
 
       DomainResource oldDomain = getDomain();
       DomainStatus status = getNewStatus();
@@ -507,10 +643,10 @@ public class DomainStatusUpdater {
 
     Step createDomainStatusObservedGenerationReplaceStep() {
       DomainResource oldDomain = getDomain();
-      DomainStatus status = oldDomain.getStatus();
 
-      if (isGenerationChanged(oldDomain, status)) {
+      if (isGenerationChanged(oldDomain, oldDomain.getStatus())) {
         // Only set observedGeneration during a make-right, but not during a background status update
+        DomainStatus status = new DomainStatus(oldDomain.getStatus());
         status.setObservedGeneration(getDomainGeneration(oldDomain));
 
         return getCallStep(oldDomain, status);
@@ -519,27 +655,20 @@ public class DomainStatusUpdater {
       return null;
     }
 
+    // Sends only the difference between the cached status and the new one, rather than the entire status.
     private Step getCallStep(DomainResource oldDomain, DomainStatus status) {
-      DomainResource newDomain = new DomainResource()
-          .withKind(KubernetesConstants.DOMAIN)
-          .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
-          .withMetadata(oldDomain.getMetadata())
-          .withSpec(null)
-          .withStatus(status);
-
-      return new CallBuilder().replaceDomainStatusAsync(
+      final String patch = createStatusPatch(oldDomain.getStatus(), status);
+      LOGGER.finer("status change: " + patch);
+      statusPatchBytes.inc(patch.getBytes(UTF_8).length);
+      patchedGeneration = oldDomain.getMetadata().getGeneration();
+
+      return new CallBuilder().patchDomainStatusAsync(
           getDomainName(),
           getNamespace(),
-          newDomain,
+          new V1Patch(patch),
           domainStatusUpdaterStep.createResponseStep(this));
     }
 
-    private String createPatchString() {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      getNewStatus().createPatchFrom(builder, getStatus());
-      return builder.build().toString();
-    }
-
     Step createUpdateSteps(Step next) {
       final List<Step> result = new ArrayList<>();
       if (!isStatusUnchanged()) {
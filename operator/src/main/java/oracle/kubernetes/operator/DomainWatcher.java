@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -11,6 +11,7 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
@@ -19,6 +20,8 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
  * for processing.
  */
 public class DomainWatcher extends Watcher<DomainResource> {
+  private static final WatchMultiplexer<DomainResource> MULTIPLEXER
+      = new WatchMultiplexer<>("domain", Resource.DOMAINS, watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private DomainWatcher(
@@ -56,7 +59,17 @@ public class DomainWatcher extends Watcher<DomainResource> {
 
   @Override
   public Watchable<DomainResource> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.createDomainWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<DomainResource> createWatch(WatchBuilder watchBuilder, String namespace)
+      throws ApiException {
+    return watchBuilder.createDomainWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<DomainResource> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
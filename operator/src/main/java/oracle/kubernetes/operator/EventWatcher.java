@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -11,6 +11,7 @@ import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 /**
@@ -18,6 +19,8 @@ import oracle.kubernetes.operator.watcher.WatchListener;
  * for processing.
  */
 public class EventWatcher extends Watcher<CoreV1Event> {
+  private static final WatchMultiplexer<CoreV1Event> MULTIPLEXER
+      = new WatchMultiplexer<>("event", Resource.EVENTS, watchBuilder -> createWatch(watchBuilder, null));
   private static final String FIELD_SELECTOR = ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER;
   
   protected final String ns;
@@ -57,7 +60,16 @@ public class EventWatcher extends Watcher<CoreV1Event> {
 
   @Override
   public Watchable<CoreV1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.withFieldSelector(FIELD_SELECTOR).createEventWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<CoreV1Event> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.withFieldSelector(FIELD_SELECTOR).createEventWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<CoreV1Event> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
@@ -7,10 +7,8 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -33,6 +31,7 @@ import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -47,17 +46,19 @@ import oracle.kubernetes.utils.SystemClock;
 
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER;
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.READY;
 
 /** Watches for Jobs to become Ready or leave Ready state. */
 public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>, JobAwaiterStepFactory {
+  private static final WatchMultiplexer<V1Job> MULTIPLEXER
+      = new WatchMultiplexer<>("job", Resource.JOBS, watchBuilder -> createWatch(watchBuilder, null));
   static final WatchListener<V1Job> NULL_LISTENER = r -> {};
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String namespace;
 
-  // Map of Job name to Runnable
-  private final Map<String,Consumer<V1Job>> completeCallbackRegistrations = new ConcurrentHashMap<>();
+  private final WaiterRegistry<V1Job> waiters = new WaiterRegistry<>();
 
   private JobWatcher(
       String namespace,
@@ -70,7 +71,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
   }
 
   private void dispatchCallback(String jobName, V1Job job) {
-    Optional.ofNullable(completeCallbackRegistrations.get(jobName)).ifPresent(callback -> callback.accept(job));
+    waiters.notifyWaiters(READY, jobName, job);
   }
 
   @Override
@@ -194,11 +195,20 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
 
   @Override
   public Watchable<V1Job> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  private static Watchable<V1Job> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createJobWatch(namespace);
   }
 
+  @Override
+  WatchMultiplexer<V1Job> getMultiplexer() {
+    return MULTIPLEXER;
+  }
+
   /**
    * receive response.
    * @param item item
@@ -273,22 +283,14 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
       return job.getMetadata();
     }
 
-    private void addOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
-      completeCallbackRegistrations.put(jobName, callback);
-    }
-
     @Override
     void addCallback(String name, Consumer<V1Job> callback) {
-      addOnModifiedCallback(name, callback);
-    }
-
-    private void removeOnModifiedCallback(String jobName, Consumer<V1Job> callback) {
-      completeCallbackRegistrations.remove(jobName, callback);
+      waiters.add(READY, name, callback);
     }
 
     @Override
     void removeCallback(String name, Consumer<V1Job> callback) {
-      removeOnModifiedCallback(name, callback);
+      waiters.remove(READY, name, callback);
     }
 
     @Override
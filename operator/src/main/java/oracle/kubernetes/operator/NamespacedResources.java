@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -39,6 +39,7 @@ class NamespacedResources {
   private final String domainUid;
   private final List<Processors> processors = new ArrayList<>();
   private final DomainNamespaces domainNamespaces;
+  private boolean cachedListing;
 
   NamespacedResources(String namespace, String domainUid, DomainNamespaces domainNamespaces) {
     this.namespace = namespace;
@@ -50,6 +51,19 @@ class NamespacedResources {
     processors.add(processor);
   }
 
+  /**
+   * Allows the resources which feed the watchers to be listed from the API server's watch cache, for processing
+   * which can tolerate a slightly stale view of them. Domains and clusters are always read from etcd, since
+   * domain resource validation removes the resources of any domain or cluster missing from those lists.
+   */
+  void useCachedListing() {
+    cachedListing = true;
+  }
+
+  private CallBuilder createCallBuilder() {
+    return cachedListing ? new CallBuilder().withCachedListing() : new CallBuilder();
+  }
+
   Step createListSteps() {
     return Step.chain(
           getConfigMapListSteps(),
@@ -75,7 +89,7 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        new CallBuilder().listConfigMapsAsync(namespace, new ListResponseStep<>(processing)));
+        createCallBuilder().listConfigMapsAsync(namespace, new ListResponseStep<>(processing)));
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
@@ -88,7 +102,7 @@ class NamespacedResources {
 
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getEventWatcher()),
-        new CallBuilder().withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
+        createCallBuilder().withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
             .listEventAsync(namespace, new ListResponseStep<>(processing)));
   }
 
@@ -103,7 +117,7 @@ class NamespacedResources {
 
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
-        new CallBuilder().withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
+        createCallBuilder().withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
             .listEventAsync(namespace, new ListResponseStep<>(processing)));
   }
 
@@ -118,7 +132,7 @@ class NamespacedResources {
 
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
     return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
-        new CallBuilder().withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
+        createCallBuilder().withLabelSelectors(forDomainUidSelector(domainUid), getCreatedByOperatorSelector())
             .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing)));
   }
 
@@ -154,7 +168,7 @@ class NamespacedResources {
   }
 
   private CallBuilder createSubResourceCallBuilder() {
-    return new CallBuilder().withLabelSelectors(LabelConstants.CREATEDBYOPERATOR_LABEL, getDomainUidLabel());
+    return createCallBuilder().withLabelSelectors(LabelConstants.CREATEDBYOPERATOR_LABEL, getDomainUidLabel());
   }
 
   private String getDomainUidLabel() {
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -13,6 +13,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 import static oracle.kubernetes.operator.ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER;
@@ -22,6 +23,8 @@ import static oracle.kubernetes.operator.ProcessingConstants.OPERATOR_EVENT_LABE
  * for processing.
  */
 public class OperatorEventWatcher extends Watcher<CoreV1Event> {
+  private static final WatchMultiplexer<CoreV1Event> MULTIPLEXER
+      = new WatchMultiplexer<>("operatorevent", Resource.EVENTS, watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private OperatorEventWatcher(
@@ -59,7 +62,16 @@ public class OperatorEventWatcher extends Watcher<CoreV1Event> {
 
   @Override
   public Watchable<CoreV1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<CoreV1Event> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<CoreV1Event> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
@@ -219,6 +219,7 @@ public class OperatorMain extends BaseMain {
     super(mainDelegate);
     this.mainDelegate = mainDelegate;
     stuckPodProcessing = new StuckPodProcessing(mainDelegate);
+    Optional.ofNullable(mainDelegate.getDomainNamespaces()).ifPresent(n -> n.setStuckPodProcessing(stuckPodProcessing));
   }
 
   @Override
@@ -302,7 +303,8 @@ public class OperatorMain extends BaseMain {
       int recheckInterval = TuningParameters.getInstance().getDomainNamespaceRecheckIntervalSeconds();
       int stuckPodInterval = TuningParameters.getInstance().getStuckPodRecheckSeconds();
       mainDelegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
-      mainDelegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      mainDelegate.scheduleWithFixedDelay(
+            stuckPodProcessing::forceDeleteStuckPods, stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
 
       markReadyAndStartLivenessThread();
 
@@ -334,10 +336,6 @@ public class OperatorMain extends BaseMain {
     return () -> mainDelegate.runSteps(createDomainRecheckSteps());
   }
 
-  Runnable checkStuckPods() {
-    return () -> getDomainNamespaces().getNamespaces().forEach(stuckPodProcessing::checkStuckPods);
-  }
-
   Step createDomainRecheckSteps() {
     return createDomainRecheckSteps(OffsetDateTime.now());
   }
@@ -1,4 +1,4 @@
-// Copyright (c) 2021, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -12,6 +12,7 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
@@ -20,6 +21,9 @@ import oracle.kubernetes.operator.watcher.WatchListener;
  * into the operator for processing.
  */
 public class PodDisruptionBudgetWatcher extends Watcher<V1PodDisruptionBudget> {
+  private static final WatchMultiplexer<V1PodDisruptionBudget> MULTIPLEXER
+      = new WatchMultiplexer<>("poddisruptionbudget", Resource.PODDISRUPTIONBUDGETS,
+          watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private PodDisruptionBudgetWatcher(
@@ -57,9 +61,19 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1PodDisruptionBudget> {
 
   @Override
   public Watchable<V1PodDisruptionBudget> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<V1PodDisruptionBudget> createWatch(WatchBuilder watchBuilder, String namespace)
+      throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createPodDisruptionBudgetWatch(ns);
+        .createPodDisruptionBudgetWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<V1PodDisruptionBudget> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
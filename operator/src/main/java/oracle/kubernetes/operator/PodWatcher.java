@@ -3,17 +3,11 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -23,6 +17,7 @@ import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
@@ -40,6 +35,8 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import static oracle.kubernetes.common.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DOMAIN;
 import static oracle.kubernetes.common.logging.MessageKeys.LOG_WAITING_COUNT;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.DELETED;
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.READY;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 
@@ -48,24 +45,26 @@ import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
  */
 public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>, PodAwaiterStepFactory {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final WatchMultiplexer<V1Pod> MULTIPLEXER
+      = new WatchMultiplexer<>("pod", Resource.PODS, watchBuilder -> createWatch(watchBuilder, null));
   private final String namespace;
   private final WatchListener<V1Pod> listener;
+  private final WatchMultiplexer<V1Pod> multiplexer;
 
-  // Map of Pod name to callback. Note that since each pod name can be mapped to multiple callback registrations,
-  // a concurrent map will not suffice; we therefore use an ordinary map and synchronous accesses.
-  private final Map<String, Collection<Consumer<V1Pod>>> modifiedCallbackRegistrations = new HashMap<>();
-  private final Map<String, Collection<Consumer<V1Pod>>> deletedCallbackRegistrations = new HashMap<>();
+  private final WaiterRegistry<V1Pod> waiters = new WaiterRegistry<>();
 
   private PodWatcher(
       String namespace,
       String initialResourceVersion,
       WatchTuning tuning,
       WatchListener<V1Pod> listener,
-      AtomicBoolean isStopping) {
+      AtomicBoolean isStopping,
+      WatchMultiplexer<V1Pod> multiplexer) {
     super(initialResourceVersion, tuning, isStopping);
     setListener(this);
     this.namespace = namespace;
     this.listener = listener;
+    this.multiplexer = multiplexer;
   }
 
   /**
@@ -86,35 +85,48 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       WatchTuning tuning,
       WatchListener<V1Pod> listener,
       AtomicBoolean isStopping) {
-    PodWatcher watcher = new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping);
-    watcher.start(factory);
-    return watcher;
+    return createWithMultiplexer(factory, ns, initialResourceVersion, tuning, listener, isStopping, MULTIPLEXER);
   }
 
-  private @Nonnull Collection<Consumer<V1Pod>> getOnModifiedCallbacks(String podName) {
-    synchronized (modifiedCallbackRegistrations) {
-      return Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).orElse(Collections.emptyList());
-    }
-  }
-
-  private @Nonnull Collection<Consumer<V1Pod>> getOnDeleteCallbacks(String podName) {
-    synchronized (deletedCallbackRegistrations) {
-      return Optional.ofNullable(deletedCallbackRegistrations.remove(podName)).orElse(Collections.emptyList());
-    }
+  static PodWatcher createWithMultiplexer(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchTuning tuning,
+      WatchListener<V1Pod> listener,
+      AtomicBoolean isStopping,
+      WatchMultiplexer<V1Pod> multiplexer) {
+    PodWatcher watcher = new PodWatcher(ns, initialResourceVersion, tuning, listener, isStopping, multiplexer);
+    watcher.start(factory);
+    return watcher;
   }
 
   @Override
   public Watchable<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  private static Watchable<V1Pod> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createPodWatch(namespace);
   }
 
+  @Override
+  WatchMultiplexer<V1Pod> getMultiplexer() {
+    return multiplexer;
+  }
+
   @Override
   public String getNamespace() {
     return namespace;
   }
 
+  // for test
+  int getWaiterCount(WaiterRegistry.WaitCondition condition) {
+    return waiters.getWaiterCount(condition);
+  }
+
   @Override
   public String getDomainUid(Watch.Response<V1Pod> item) {
     return KubernetesUtils.getDomainUidLabel(
@@ -132,21 +144,16 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
-        copyOf(getOnModifiedCallbacks(PodHelper.getPodName(pod))).forEach(c -> c.accept(pod));
+        waiters.notifyWaiters(READY, PodHelper.getPodName(pod), pod);
         break;
       case "DELETED":
-        getOnDeleteCallbacks(PodHelper.getPodName(pod)).forEach(c -> c.accept(pod));
+        waiters.notifyAndRemoveWaiters(DELETED, PodHelper.getPodName(pod), pod);
         break;
       case "ERROR":
       default:
     }
   }
 
-  // make a copy to avoid concurrent modification
-  private <T> Collection<T> copyOf(Collection<T> collection) {
-    return new ArrayList<>(collection);
-  }
-
   /**
    * Waits until the Pod is Ready.
    *
@@ -287,26 +294,14 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return isReady(resource);
     }
 
-    private void addOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        modifiedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
-    }
-
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
-      addOnModifiedCallback(podName, callback);
-    }
-
-    private void removeOnModifiedCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (modifiedCallbackRegistrations) {
-        Optional.ofNullable(modifiedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
+      waiters.add(READY, podName, callback);
     }
 
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
-      removeOnModifiedCallback(podName, callback);
+      waiters.remove(READY, podName, callback);
     }
 
     @Override
@@ -338,26 +333,14 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return result == null;
     }
 
-    private void addOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        deletedCallbackRegistrations.computeIfAbsent(podName, k -> new ArrayList<>()).add(callback);
-      }
-    }
-
     @Override
     protected void addCallback(String podName, Consumer<V1Pod> callback) {
-      addOnDeleteCallback(podName, callback);
-    }
-
-    private void removeOnDeleteCallback(String podName, Consumer<V1Pod> callback) {
-      synchronized (deletedCallbackRegistrations) {
-        Optional.ofNullable(deletedCallbackRegistrations.get(podName)).ifPresent(c -> c.remove(callback));
-      }
+      waiters.add(DELETED, podName, callback);
     }
 
     @Override
     protected void removeCallback(String podName, Consumer<V1Pod> callback) {
-      removeOnDeleteCallback(podName, callback);
+      waiters.remove(DELETED, podName, callback);
     }
 
     private class WaitForDeleteResponseStep extends DefaultResponseStep<V1Pod> {
@@ -3,9 +3,7 @@
 
 package oracle.kubernetes.operator;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -24,13 +22,14 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.READY;
+
 /** Watches for pvcs to become Ready or leave Ready state. */
 public class PvcWatcher implements PvcAwaiterStepFactory {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  // Map of Pvc name to Runnable
-  private final Map<String,Consumer<V1PersistentVolumeClaim>> completeCallbackRegistrations = new ConcurrentHashMap<>();
+  private final WaiterRegistry<V1PersistentVolumeClaim> waiters = new WaiterRegistry<>();
   public final DomainProcessor processor;
 
   PvcWatcher(DomainProcessor processor) {
@@ -101,22 +100,14 @@ public class PvcWatcher implements PvcAwaiterStepFactory {
       return resource.getMetadata();
     }
 
-    private void addOnModifiedCallback(String pvcName, Consumer<V1PersistentVolumeClaim> callback) {
-      completeCallbackRegistrations.put(pvcName, callback);
-    }
-
     @Override
     void addCallback(String name, Consumer<V1PersistentVolumeClaim> callback) {
-      addOnModifiedCallback(name, callback);
-    }
-
-    private void removeOnModifiedCallback(String pvcName, Consumer<V1PersistentVolumeClaim> callback) {
-      completeCallbackRegistrations.remove(pvcName, callback);
+      waiters.add(READY, name, callback);
     }
 
     @Override
     void removeCallback(String name, Consumer<V1PersistentVolumeClaim> callback) {
-      removeOnModifiedCallback(name, callback);
+      waiters.remove(READY, name, callback);
     }
 
     @Override
@@ -6,12 +6,18 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -20,6 +26,8 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.prometheus.client.Histogram;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -53,12 +61,74 @@ public class ServerStatusReader {
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static BiFunction<Long, Step, Step> readStateStepFactory = ReadHealthStep::createReadStateStep;
+
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit test
+  private static StateProbeThrottle probeThrottle = new StateProbeThrottle();
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // may be replaced by unit test
+  private static Executor execProbeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private static final String STATE_PROBE_SLOT = "stateProbeSlot";
+  private static final String PROBE_REST = "rest";
+  private static final String PROBE_EXEC = "exec";
+  private static final Histogram probeTime = Histogram.build()
+      .name("weblogic_operator_server_state_probe_seconds")
+      .help("Time taken to read the state of a WebLogic server which is not yet ready.")
+      .labelNames("method", "result")
+      .buckets(0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30)
+      .register();
+
   private ServerStatusReader() {
   }
 
+  private static void recordProbeTime(String method, boolean succeeded, OffsetDateTime startTime) {
+    probeTime.labels(method, succeeded ? "success" : "failure")
+        .observe(Duration.between(startTime, SystemClock.now()).toNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  private static StateProbeThrottle.Slot getProbeSlot(Packet packet) {
+    return (StateProbeThrottle.Slot) packet.get(STATE_PROBE_SLOT);
+  }
+
+  private static void releaseProbeSlot(Packet packet) {
+    Optional.ofNullable(getProbeSlot(packet)).ifPresent(StateProbeThrottle.Slot::release);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ConcurrentMap<String, String> getServerStateMap(Packet packet) {
+    return (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+  }
+
+  /**
+   * Selects the state to report for a server which is not yet ready, given the state read from it, if any, and
+   * records it as the last known status of the server. Used for states read with either REST or exec.
+   */
+  private static String chooseStateOrLastKnownServerStatus(
+      DomainPresenceInfo info, String serverName, LastKnownStatus lastKnownStatus, String state, V1Pod pod) {
+    if (state != null) {
+      state = state.trim();
+      if (!state.isEmpty()) {
+        info.updateLastKnownServerStatus(serverName, state);
+        return state;
+      }
+    }
+
+    if (lastKnownStatus != null) {
+      return lastKnownStatus.getStatus();
+    }
+    state =
+        (PodHelper.isDeleting(pod)
+            ? WebLogicConstants.SHUTTING_DOWN_STATE
+            : WebLogicConstants.STARTING_STATE);
+    info.updateLastKnownServerStatus(serverName, state);
+    return state;
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -136,9 +206,7 @@ public class ServerStatusReader {
 
     @Override
     public NextAction apply(Packet packet) {
-      @SuppressWarnings("unchecked")
-      final ConcurrentMap<String, String> serverStateMap =
-          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      final ConcurrentMap<String, String> serverStateMap = getServerStateMap(packet);
       final long unchangedCountToDelayStatusRecheck
           = TuningParameters.getInstance().getUnchangedCountToDelayStatusRecheck();
       final int eventualLongDelay = TuningParameters.getInstance().getEventualLongDelay();
@@ -161,64 +229,165 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
-      final boolean stdin = false;
-      final boolean tty = false;
+      packet.put(ProcessingConstants.SERVER_NAME, serverName);
+      final Step probe = createProbeStep(info, currentPod, lastKnownStatus);
+      return doSuspend(probe, fiber -> probeThrottle.submit(getNodeName(currentPod), timeoutSeconds, slot -> {
+        packet.put(STATE_PROBE_SLOT, slot);
+        fiber.resume(packet);
+      }));
+    }
 
-      return doSuspend(
-          fiber -> {
-            Process proc = null;
-            String state = null;
-            ClientPool helper = ClientPool.getInstance();
-            ApiClient client = helper.take();
+    // The REST probe and its exec fallback run in a single throttle slot, and together are limited to the timeout.
+    private Step createProbeStep(DomainPresenceInfo info, V1Pod currentPod, LastKnownStatus lastKnownStatus) {
+      final Step execProbe = new ExecStateProbeStep(serverName, currentPod, lastKnownStatus, getNext());
+      if (info.getServerService(serverName) == null) {
+        return execProbe;
+      } else {
+        return readStateStepFactory.apply(timeoutSeconds,
+              new RestStateProbeResultStep(serverName, currentPod, lastKnownStatus, execProbe, getNext()));
+      }
+    }
+
+    private String getNodeName(V1Pod pod) {
+      return Optional.ofNullable(pod).map(V1Pod::getSpec).map(V1PodSpec::getNodeName).orElse(null);
+    }
+  }
+
+  /**
+   * Records the outcome of an attempt to read the server state with a REST request. If a state was obtained, it is
+   * selected just as one read by the script would be, and the probe slot is released; otherwise, continues with
+   * the fallback step, which runs the readState script in the server pod.
+   */
+  private static class RestStateProbeResultStep extends Step {
+    private final String serverName;
+    private final V1Pod currentPod;
+    private final LastKnownStatus lastKnownStatus;
+    private final Step fallback;
+
+    RestStateProbeResultStep(String serverName, V1Pod currentPod, LastKnownStatus lastKnownStatus,
+                             Step fallback, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.currentPod = currentPod;
+      this.lastKnownStatus = lastKnownStatus;
+      this.fallback = fallback;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final ConcurrentMap<String, String> serverStateMap = getServerStateMap(packet);
+      final String state = serverStateMap.get(serverName);
+      recordProbeTime(PROBE_REST, state != null, getProbeSlot(packet).getStartTime());
+      if (state == null) {
+        return doNext(fallback, packet);
+      }
+
+      releaseProbeSlot(packet);
+
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      serverStateMap.put(serverName,
+          chooseStateOrLastKnownServerStatus(info, serverName, lastKnownStatus, state, currentPod));
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Reads the server state by running the readState script in the server pod, within the time left in
+   * the probe slot, and then releases the slot. The script is run on a separate thread, so that the fiber
+   * does not block while it runs.
+   */
+  private static class ExecStateProbeStep extends Step {
+    private final String serverName;
+    private final V1Pod currentPod;
+    private final LastKnownStatus lastKnownStatus;
+
+    ExecStateProbeStep(String serverName, V1Pod currentPod, LastKnownStatus lastKnownStatus, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.currentPod = currentPod;
+      this.lastKnownStatus = lastKnownStatus;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      final DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      final ConcurrentMap<String, String> serverStateMap = getServerStateMap(packet);
+      final StateProbeThrottle.Slot slot = getProbeSlot(packet);
 
+      return doSuspend(
+          fiber -> execProbeExecutor.execute(() -> {
+            String state;
             try {
-              try (ThreadLoggingContext stack =
-                       setThreadContext().namespace(getNamespace(currentPod)).domainUid(getDomainUid(currentPod))) {
-
-                KubernetesExec kubernetesExec = execFactory.create(client, currentPod, WLS_CONTAINER_NAME);
-                kubernetesExec.setStdin(stdin);
-                kubernetesExec.setTty(tty);
-                proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
-
-                try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
-                  state = OperatorUtils.toString(reader);
-                }
-
-                if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
-                  int exitValue = proc.exitValue();
-                  LOGGER.fine("readState exit: " + exitValue + ", readState for " + currentPod.getMetadata().getName());
-                  if (exitValue == 1 || exitValue == 2) {
-                    state =
-                        isPodBeingDeleted(info, currentPod)
-                            ? WebLogicConstants.SHUTDOWN_STATE
-                            : WebLogicConstants.STARTING_STATE;
-                  } else if (exitValue != 0) {
-                    state = WebLogicConstants.UNKNOWN_STATE;
-                  }
-                }
-              }
-            } catch (InterruptedException ignore) {
-              Thread.currentThread().interrupt();
-            } catch (IOException | ApiException e) {
-              try (ThreadLoggingContext stack =
-                       setThreadContext().namespace(getNamespace(currentPod)).domainUid(getDomainUid(currentPod))) {
-                LOGGER.warning(MessageKeys.EXCEPTION, e);
-              }
+              state = readStateWithExec(info, slot.getRemainingTime());
             } finally {
-              helper.recycle(client);
-              if (proc != null) {
-                proc.destroy();
-              }
+              slot.release();
             }
 
             try (ThreadLoggingContext stack =
                      setThreadContext().namespace(getNamespace(currentPod)).domainUid(getDomainUid(currentPod))) {
               LOGGER.fine("readState: " + state + " for " + currentPod.getMetadata().getName());
-              state = chooseStateOrLastKnownServerStatus(info, lastKnownStatus, state, currentPod);
+              state = chooseStateOrLastKnownServerStatus(info, serverName, lastKnownStatus, state, currentPod);
               serverStateMap.put(serverName, state);
             }
             fiber.resume(packet);
-          });
+          }));
+    }
+
+    private String readStateWithExec(DomainPresenceInfo info, Duration timeout) {
+      final OffsetDateTime startTime = SystemClock.now();
+      Process proc = null;
+      String state = null;
+      ClientPool helper = ClientPool.getInstance();
+      ApiClient client = helper.take();
+
+      try {
+        try (ThreadLoggingContext stack =
+                 setThreadContext().namespace(getNamespace(currentPod)).domainUid(getDomainUid(currentPod))) {
+
+          KubernetesExec kubernetesExec = execFactory.create(client, currentPod, WLS_CONTAINER_NAME);
+          kubernetesExec.setStdin(false);
+          kubernetesExec.setTty(false);
+          proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
+          destroyAfter(proc, timeout);
+
+          try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
+            state = OperatorUtils.toString(reader);
+          }
+
+          if (proc.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            int exitValue = proc.exitValue();
+            LOGGER.fine("readState exit: " + exitValue + ", readState for " + currentPod.getMetadata().getName());
+            if (exitValue == 1 || exitValue == 2) {
+              state =
+                  isPodBeingDeleted(info, currentPod)
+                      ? WebLogicConstants.SHUTDOWN_STATE
+                      : WebLogicConstants.STARTING_STATE;
+            } else if (exitValue != 0) {
+              state = WebLogicConstants.UNKNOWN_STATE;
+            }
+          }
+        }
+      } catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | ApiException e) {
+        try (ThreadLoggingContext stack =
+                 setThreadContext().namespace(getNamespace(currentPod)).domainUid(getDomainUid(currentPod))) {
+          LOGGER.warning(MessageKeys.EXCEPTION, e);
+        }
+      } finally {
+        helper.recycle(client);
+        if (proc != null) {
+          proc.destroy();
+        }
+      }
+
+      recordProbeTime(PROBE_EXEC, state != null, startTime);
+      return state;
+    }
+
+    // Ends the script if it is still running when the time runs out, so that reading its output cannot block longer.
+    private void destroyAfter(Process proc, Duration timeout) {
+      CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(proc::destroy);
     }
 
     private boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
@@ -233,27 +402,6 @@ public class ServerStatusReader {
       return KubernetesUtils.getDomainUidLabel(
           Optional.ofNullable(pod).map(V1Pod::getMetadata).orElse(null));
     }
-
-    private String chooseStateOrLastKnownServerStatus(
-        DomainPresenceInfo info, LastKnownStatus lastKnownStatus, String state, V1Pod pod) {
-      if (state != null) {
-        state = state.trim();
-        if (!state.isEmpty()) {
-          info.updateLastKnownServerStatus(serverName, state);
-          return state;
-        }
-      }
-
-      if (lastKnownStatus != null) {
-        return lastKnownStatus.getStatus();
-      }
-      state =
-          (PodHelper.isDeleting(pod)
-              ? WebLogicConstants.SHUTTING_DOWN_STATE
-              : WebLogicConstants.STARTING_STATE);
-      info.updateLastKnownServerStatus(serverName, state);
-      return state;
-    }
   }
 
   private static class ServerHealthStep extends Step {
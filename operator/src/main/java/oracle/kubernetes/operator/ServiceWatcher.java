@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -12,6 +12,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
@@ -20,6 +21,8 @@ import oracle.kubernetes.operator.watcher.WatchListener;
  * operator for processing.
  */
 public class ServiceWatcher extends Watcher<V1Service> {
+  private static final WatchMultiplexer<V1Service> MULTIPLEXER
+      = new WatchMultiplexer<>("service", Resource.SERVICES, watchBuilder -> createWatch(watchBuilder, null));
   private final String ns;
 
   private ServiceWatcher(
@@ -57,9 +60,18 @@ public class ServiceWatcher extends Watcher<V1Service> {
 
   @Override
   public Watchable<V1Service> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  private static Watchable<V1Service> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createServiceWatch(ns);
+        .createServiceWatch(namespace);
+  }
+
+  @Override
+  WatchMultiplexer<V1Service> getMultiplexer() {
+    return MULTIPLEXER;
   }
 
   @Override
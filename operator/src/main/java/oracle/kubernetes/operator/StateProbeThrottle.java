@@ -0,0 +1,180 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import io.prometheus.client.Gauge;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_MAX_STATE_PROBES_PER_NODE;
+
+/**
+ * Limits the number of server state probes which may run at once against the pods on each node. Each probe is
+ * given a {@link Slot}, which it must release when it is done, and which also sets the deadline by which it must
+ * finish. Probes beyond the limit for a node are queued, and are started in order as earlier probes on that node
+ * release their slots. A slot which is not released by its deadline, for example because the fiber running the probe
+ * was cancelled, is reclaimed the next time a probe on the same node is submitted or released.
+ */
+class StateProbeThrottle {
+
+  private static final String UNSCHEDULED = "";
+
+  private static final Gauge runningProbes = Gauge.build()
+      .name("weblogic_operator_server_state_probes_running")
+      .help("Number of server state probes currently running.")
+      .register();
+  private static final Gauge waitingProbes = Gauge.build()
+      .name("weblogic_operator_server_state_probes_waiting")
+      .help("Number of server state probes waiting for a per-node slot.")
+      .register();
+
+  private final Map<String, NodeProbes> nodes = new ConcurrentHashMap<>();
+
+  /**
+   * Starts the specified probe as soon as fewer than the maximum number of probes are running on the specified node.
+   * @param nodeName the name of the node hosting the probed pod; may be null if the pod is not yet scheduled
+   * @param timeoutSeconds the maximum time the probe may take, once started
+   * @param probe the probe to start; it must release the slot it is given when done
+   */
+  void submit(String nodeName, long timeoutSeconds, Consumer<Slot> probe) {
+    nodes.computeIfAbsent(Optional.ofNullable(nodeName).orElse(UNSCHEDULED), n -> new NodeProbes())
+        .submit(new PendingProbe(timeoutSeconds, probe));
+  }
+
+  // for test
+  int getNumWaiting(String nodeName) {
+    return Optional.ofNullable(nodes.get(nodeName)).map(NodeProbes::getNumWaiting).orElse(0);
+  }
+
+  private static int getMaxProbesPerNode() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMaxStateProbesPerNode)
+        .filter(max -> max > 0)
+        .orElse(DEFAULT_MAX_STATE_PROBES_PER_NODE);
+  }
+
+  /** Permission to run a probe on a node, until released or until its deadline passes. */
+  static class Slot {
+    private final NodeProbes node;
+    private final OffsetDateTime startTime;
+    private final OffsetDateTime deadline;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Slot(NodeProbes node, long timeoutSeconds) {
+      this.node = node;
+      this.startTime = SystemClock.now();
+      this.deadline = startTime.plusSeconds(timeoutSeconds);
+    }
+
+    OffsetDateTime getStartTime() {
+      return startTime;
+    }
+
+    /**
+     * Returns the time left before the deadline of this slot, or zero if the deadline has passed.
+     */
+    Duration getRemainingTime() {
+      final Duration remaining = Duration.between(SystemClock.now(), deadline);
+      return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Releases this slot, allowing another probe on the same node to start. Has no effect if the slot
+     * has already been released or reclaimed.
+     */
+    void release() {
+      if (markReleased()) {
+        node.release(this);
+      }
+    }
+
+    private boolean isExpired() {
+      return !SystemClock.now().isBefore(deadline);
+    }
+
+    private boolean markReleased() {
+      return released.compareAndSet(false, true);
+    }
+  }
+
+  private static class PendingProbe {
+    private final long timeoutSeconds;
+    private final Consumer<Slot> probe;
+
+    PendingProbe(long timeoutSeconds, Consumer<Slot> probe) {
+      this.timeoutSeconds = timeoutSeconds;
+      this.probe = probe;
+    }
+  }
+
+  private static class NodeProbes {
+    private final Queue<PendingProbe> waiting = new ArrayDeque<>();
+    private final List<Slot> running = new ArrayList<>();
+
+    void submit(PendingProbe probe) {
+      synchronized (this) {
+        waiting.add(probe);
+        waitingProbes.inc();
+      }
+      startWaitingProbes();
+    }
+
+    void release(Slot slot) {
+      synchronized (this) {
+        if (running.remove(slot)) {
+          runningProbes.dec();
+        }
+      }
+      startWaitingProbes();
+    }
+
+    // Starts waiting probes while there are free slots. Probes are started outside the lock, since
+    // a probe may complete, and release its slot, before returning.
+    private void startWaitingProbes() {
+      PendingProbe probe;
+      Slot slot;
+      while (true) {
+        synchronized (this) {
+          reclaimExpiredSlots();
+          if (waiting.isEmpty() || running.size() >= getMaxProbesPerNode()) {
+            return;
+          }
+          probe = waiting.remove();
+          waitingProbes.dec();
+          slot = new Slot(this, probe.timeoutSeconds);
+          running.add(slot);
+          runningProbes.inc();
+        }
+        probe.probe.accept(slot);
+      }
+    }
+
+    private void reclaimExpiredSlots() {
+      for (Iterator<Slot> it = running.iterator(); it.hasNext(); ) {
+        final Slot slot = it.next();
+        if (slot.isExpired() && slot.markReleased()) {
+          it.remove();
+          runningProbes.dec();
+        }
+      }
+    }
+
+    private synchronized int getNumWaiting() {
+      return waiting.size();
+    }
+  }
+}
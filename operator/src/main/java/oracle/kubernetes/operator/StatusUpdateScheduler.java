@@ -0,0 +1,234 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.LastKnownStatus;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Runs the periodic status updates for all domains from a single timer. Each domain is placed in a bucket
+ * according to its recent activity: a domain whose servers are starting, stopping or rolling is updated after the
+ * initial short delay, while one whose servers have reported unchanged states is backed off, doubling its delay
+ * after each quiet update until it reaches the eventual long delay. Each delay is shortened by a random jitter of up
+ * to {@value #JITTER_PERCENT}% of its length, so that domains registered together do not poll their servers in step.
+ */
+class StatusUpdateScheduler {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int TICK_SECONDS = 1;
+  static final int JITTER_PERCENT = 20;
+
+  private static final Gauge domainsPerBucket = Gauge.build()
+      .name("weblogic_operator_status_update_domains")
+      .help("Number of domains in each status update bucket.")
+      .labelNames("bucket")
+      .register();
+  private static final Histogram tickDuration = Histogram.build()
+      .name("weblogic_operator_status_update_tick_seconds")
+      .help("Time taken by the status update scheduler to start the status updates that are due.")
+      .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5)
+      .register();
+
+  /** The buckets into which domains are sorted by activity. */
+  enum Bucket {
+    /** Servers are changing state; the domain is updated after the initial short delay. */
+    ACTIVE,
+    /** Servers have stopped changing state; the delay is growing toward the eventual long delay. */
+    SETTLING,
+    /** Servers have remained unchanged; the domain is updated after the eventual long delay. */
+    STEADY
+  }
+
+  private final IntUnaryOperator jitterSource;
+  private final Map<String, Map<String, ScheduledDomain>> domains = new ConcurrentHashMap<>();
+  private volatile long currentTick;
+  private CoreDelegate tickingDelegate;
+  private ScheduledFuture<?> ticker;
+
+  StatusUpdateScheduler() {
+    this(StatusUpdateScheduler::randomJitter);
+  }
+
+  /**
+   * Creates a scheduler.
+   * @param jitterSource a function which, given a maximum, returns the number of ticks, between zero and that
+   *                     maximum, by which to shorten a delay
+   */
+  StatusUpdateScheduler(IntUnaryOperator jitterSource) {
+    this.jitterSource = jitterSource;
+  }
+
+  private static int randomJitter(int maxJitter) {
+    return maxJitter <= 0 ? 0 : ThreadLocalRandom.current().nextInt(maxJitter + 1);
+  }
+
+  /**
+   * Schedules periodic status updates for a domain, replacing any already scheduled for it. The domain starts in
+   * the active bucket.
+   * @param delegate the delegate whose executor drives the scheduler timer
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param update the status update to run each time the domain is due
+   * @param infoSupplier supplies the current presence info for the domain, used to assess its activity
+   */
+  void schedule(CoreDelegate delegate, String namespace, String domainUid,
+                Runnable update, Supplier<DomainPresenceInfo> infoSupplier) {
+    final ScheduledDomain domain = new ScheduledDomain(update, infoSupplier);
+    domain.scheduleNext(currentTick);
+    domains.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>()).put(domainUid, domain);
+    ensureTicking(delegate);
+  }
+
+  /**
+   * Stops the status updates for a domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  void cancel(String namespace, String domainUid) {
+    Optional.ofNullable(domains.get(namespace)).ifPresent(m -> m.remove(domainUid));
+  }
+
+  /**
+   * Stops the status updates for all domains in a namespace.
+   * @param namespace the namespace
+   */
+  void cancelNamespace(String namespace) {
+    domains.remove(namespace);
+  }
+
+  // for test
+  Bucket getBucket(String namespace, String domainUid) {
+    return Optional.ofNullable(domains.get(namespace)).map(m -> m.get(domainUid)).map(d -> d.bucket).orElse(null);
+  }
+
+  // The timer runs on the delegate which most recently scheduled a domain; in the operator there is only one.
+  private synchronized void ensureTicking(CoreDelegate delegate) {
+    if (tickingDelegate != delegate) {
+      Optional.ofNullable(ticker).ifPresent(t -> t.cancel(false));
+      tickingDelegate = delegate;
+      ticker = delegate.scheduleWithFixedDelay(this::tick, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Advances the scheduler by one tick, starting the status update for each domain which is now due.
+   */
+  void tick() {
+    final Histogram.Timer timer = tickDuration.startTimer();
+    try {
+      final long tick = ++currentTick;
+      final Map<Bucket, Integer> counts = new EnumMap<>(Bucket.class);
+      for (Map<String, ScheduledDomain> namespaceDomains : domains.values()) {
+        for (ScheduledDomain domain : namespaceDomains.values()) {
+          domain.runIfDue(tick);
+          counts.merge(domain.bucket, 1, Integer::sum);
+        }
+      }
+      for (Bucket bucket : Bucket.values()) {
+        domainsPerBucket.labels(bucket.name()).set(counts.getOrDefault(bucket, 0));
+      }
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  private int getShortDelayTicks() {
+    return toTicks(TuningParameters.getInstance().getInitialShortDelay());
+  }
+
+  private int getLongDelayTicks() {
+    return Math.max(getShortDelayTicks(), toTicks(TuningParameters.getInstance().getEventualLongDelay()));
+  }
+
+  private static int toTicks(int seconds) {
+    return Math.max(1, seconds / TICK_SECONDS);
+  }
+
+  /**
+   * Returns true if the specified domain has servers whose states are still changing.
+   * @param info the presence info for the domain; may be null if the domain is no longer known
+   */
+  static boolean isActive(DomainPresenceInfo info) {
+    return info == null || isRolling(info) || !info.getServerNames().stream().allMatch(n -> isSettled(info, n));
+  }
+
+  private static boolean isRolling(DomainPresenceInfo info) {
+    return !info.getServersToRoll().isEmpty()
+        || Optional.ofNullable(info.getDomain())
+            .map(DomainResource::getStatus)
+            .map(DomainStatus::isRolling)
+            .orElse(false);
+  }
+
+  private static boolean isSettled(DomainPresenceInfo info, String serverName) {
+    final LastKnownStatus status = info.getLastKnownServerStatus(serverName);
+    return status != null
+        && !WebLogicConstants.UNKNOWN_STATE.equals(status.getStatus())
+        && status.getUnchangedCount() >= TuningParameters.getInstance().getUnchangedCountToDelayStatusRecheck();
+  }
+
+  private class ScheduledDomain {
+    private final Runnable update;
+    private final Supplier<DomainPresenceInfo> infoSupplier;
+    private Bucket bucket = Bucket.ACTIVE;
+    private int delayTicks;
+    private long dueTick;
+
+    ScheduledDomain(Runnable update, Supplier<DomainPresenceInfo> infoSupplier) {
+      this.update = update;
+      this.infoSupplier = infoSupplier;
+      this.delayTicks = getShortDelayTicks();
+    }
+
+    void runIfDue(long tick) {
+      if (tick >= dueTick) {
+        runUpdate();
+        reassess();
+        scheduleNext(tick);
+      }
+    }
+
+    private void runUpdate() {
+      try {
+        update.run();
+      } catch (Exception e) {
+        LOGGER.severe(MessageKeys.EXCEPTION, e);
+      }
+    }
+
+    // Updates are asynchronous, so activity is judged by the states recorded by the previous update.
+    private void reassess() {
+      if (isActive(infoSupplier.get())) {
+        bucket = Bucket.ACTIVE;
+        delayTicks = getShortDelayTicks();
+      } else {
+        delayTicks = Math.min(getLongDelayTicks(), 2 * delayTicks);
+        bucket = delayTicks < getLongDelayTicks() ? Bucket.SETTLING : Bucket.STEADY;
+      }
+    }
+
+    void scheduleNext(long tick) {
+      dueTick = tick + delayTicks - jitterSource.applyAsInt(delayTicks * JITTER_PERCENT / 100);
+    }
+  }
+}
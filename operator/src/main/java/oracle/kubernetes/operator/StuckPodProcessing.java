@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -7,13 +7,19 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.PodHelper;
@@ -21,98 +27,160 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.utils.DeadlineWheel;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 
 import static oracle.kubernetes.common.logging.MessageKeys.POD_FORCE_DELETED;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ *
+ * <p>Pods are tracked from the pod watch events, and from the pod lists read when a namespace is started or
+ * rechecked. An operator-created pod which is marked for deletion is held on a timer wheel until its deletion grace
+ * period ends; a pod which is removed before then, or which is missing from the complete list of a namespace's pods,
+ * is simply dropped from the wheel, as are all the pods of a namespace which the operator stops managing. Only the
+ * pods whose grace periods end without their removal are forcibly deleted.
  */
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private static final int NUM_WHEEL_SLOTS = 128;
+  private static final long WHEEL_TICK_MILLIS = 1000;
+
   private final MainDelegate mainDelegate;
+  private final DeadlineWheel<String, V1Pod> deletingPods = new DeadlineWheel<>(NUM_WHEEL_SLOTS, WHEEL_TICK_MILLIS);
+  private final Map<String, Set<String>> listedPods = new ConcurrentHashMap<>();  // keys of pods in lists in progress
 
   public StuckPodProcessing(MainDelegate mainDelegate) {
     this.mainDelegate = mainDelegate;
   }
 
-  void checkStuckPods(String namespace) {
-    Step step = new CallBuilder()
-          .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
-          .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(OperatorMain.createPacketWithLoggingContext(namespace), step, null);
+  /**
+   * Updates the tracked pods from a pod watch event.
+   * @param item the watch event
+   */
+  void onPodWatch(Watch.Response<V1Pod> item) {
+    switch (item.type) {
+      case "ADDED", "MODIFIED" -> trackPod(item.object);
+      case "DELETED" -> deletingPods.cancel(getKey(item.object));
+      default -> {
+        // no change to the tracked pods
+      }
+    }
   }
 
-  @SuppressWarnings("unchecked")
-  private List<V1Pod> getStuckPodList(Packet packet) {
-    return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
+  /**
+   * Updates the tracked pods from a page of a list of pods. Once the last page has been read, drops the tracked pods
+   * of the namespace which were not listed.
+   * @param namespace the namespace from which the pods were read
+   * @param list the pods read from the namespace
+   */
+  void trackPods(String namespace, V1PodList list) {
+    final Set<String> listed = listedPods.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet());
+    for (V1Pod pod : list.getItems()) {
+      listed.add(getKey(pod));
+      trackPod(pod);
+    }
+    if (isLastPage(list)) {
+      listedPods.remove(namespace);
+      deletingPods.cancelIf(key -> isInNamespace(key, namespace) && !listed.contains(key));
+    }
   }
 
-  class PodListProcessing extends DefaultResponseStep<V1PodList> {
+  private boolean isLastPage(V1PodList list) {
+    return Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getContinue).filter(c -> !c.isEmpty()).isEmpty();
+  }
 
-    private final OffsetDateTime now;
+  private boolean isInNamespace(String key, String namespace) {
+    return key.startsWith(namespace + "/");
+  }
 
-    public PodListProcessing(String namespace, OffsetDateTime dateTime) {
-      super(new PodActionsStep(namespace));
-      now = dateTime;
-    }
+  /**
+   * Stops tracking the pods in the specified namespace.
+   * @param namespace a namespace which the operator no longer manages
+   */
+  void stopNamespace(String namespace) {
+    listedPods.remove(namespace);
+    deletingPods.cancelIf(key -> isInNamespace(key, namespace));
+  }
 
-    @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
-      
-      return doContinueListOrNext(callResponse, packet);
+  private void trackPod(V1Pod pod) {
+    if (isOperatorCreated(pod) && PodHelper.isDeleting(pod)) {
+      deletingPods.schedule(getKey(pod), pod, getExpectedDeleteTime(pod));
+    } else {
+      deletingPods.cancel(getKey(pod));
     }
+  }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+  private boolean isOperatorCreated(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(LabelConstants.CREATEDBYOPERATOR_LABEL))
+          .map(Boolean::parseBoolean)
+          .orElse(false);
+  }
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
+  private String getKey(V1Pod pod) {
+    return getNamespace(pod) + "/" + getName(pod);
+  }
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
-    }
+  private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
-    }
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
-    }
+  private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
+  /**
+   * Forcibly deletes the tracked pods whose deletion grace periods have ended, and starts make-right processing
+   * for their namespaces.
+   */
+  void forceDeleteStuckPods() {
+    deletingPods.removeExpired().stream()
+          .collect(Collectors.groupingBy(this::getNamespace))
+          .forEach(this::forceDeletePods);
+  }
+
+  private void forceDeletePods(String namespace, List<V1Pod> stuckPods) {
+    mainDelegate.runSteps(
+          OperatorMain.createPacketWithLoggingContext(namespace), new PodActionsStep(namespace, stuckPods), null);
+  }
+
+  private String getName(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getName();
+  }
+
+  private String getNamespace(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getNamespace();
   }
 
   class PodActionsStep extends Step {
 
     private final String namespace;
+    private final List<V1Pod> stuckPods;
 
-    public PodActionsStep(String namespace) {
+    PodActionsStep(String namespace, List<V1Pod> stuckPods) {
       this.namespace = namespace;
+      this.stuckPods = stuckPods;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      final List<V1Pod> stuckPodList = getStuckPodList(packet);
-      if (stuckPodList.isEmpty()) {
-        return doNext(packet);
-      } else {
-        Collection<StepAndPacket> startDetails = new ArrayList<>();
-
-        for (V1Pod pod : stuckPodList) {
-          startDetails.add(new StepAndPacket(createForcedDeletePodStep(pod), packet.copy()));
-        }
-        return doForkJoin(readExistingNamespaces(), packet, startDetails);
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+
+      for (V1Pod pod : stuckPods) {
+        startDetails.add(new StepAndPacket(createForcedDeletePodStep(pod), packet.copy()));
       }
+      return doForkJoin(readExistingNamespaces(), packet, startDetails);
     }
 
     @Nonnull
@@ -128,14 +196,6 @@ public class StuckPodProcessing {
                   new ForcedDeleteResponseStep(getName(pod), getNamespace(pod), getDomainUid(pod)));
     }
 
-    private String getName(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getName();
-    }
-
-    private String getNamespace(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getNamespace();
-    }
-
     private String getDomainUid(V1Pod pod) {
       return PodHelper.getPodDomainUid(pod);
     }
@@ -155,6 +215,9 @@ public class StuckPodProcessing {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Object> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+        return doNext(packet);  // the pod was already gone
+      }
       try (ThreadLoggingContext ignored =
                ThreadLoggingContext.setThreadContext().namespace(namespace).domainUid(domainUID)) {
         LOGGER.info(POD_FORCE_DELETED, name, namespace);
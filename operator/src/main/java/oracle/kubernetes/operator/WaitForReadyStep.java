@@ -15,6 +15,7 @@ import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -197,7 +198,29 @@ abstract class WaitForReadyStep<T> extends Step {
         .start(
             createReadAndIfReadyCheckStep(callback),
             packet.copy(),
-            null);
+            new RecheckCompletionCallback(callback));
+  }
+
+  // Once the rechecks end, the wait has either resumed or been given up, so the callback is no longer needed.
+  // If they fail, the wait is abandoned, and the waiting fiber terminated with the failure, as nothing would
+  // otherwise recheck the resource if its watch event were missed.
+  private class RecheckCompletionCallback implements CompletionCallback {
+    private final Callback callback;
+
+    RecheckCompletionCallback(Callback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      removeCallback(getResourceName(), callback);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      removeCallback(getResourceName(), callback);
+      callback.abandonWait(throwable);
+    }
   }
 
   Step createReadAndIfReadyCheckStep(Callback callback) {
@@ -302,6 +325,13 @@ abstract class WaitForReadyStep<T> extends Step {
       }
     }
 
+    // The resource can no longer be checked, so terminate the fiber unless it has already resumed.
+    void abandonWait(Throwable throwable) {
+      if (mayResumeFiber()) {
+        fiber.terminate(throwable, packet);
+      }
+    }
+
     // Returns true if it is now time to resume the fiber.
     // This method will return true only the first time it is called.
     private boolean mayResumeFiber() {
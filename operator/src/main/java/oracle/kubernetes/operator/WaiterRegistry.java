@@ -0,0 +1,99 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The callbacks registered by steps waiting for changes to resources, indexed by the condition awaited and the
+ * name of the resource, so that a watch event is offered only to the waiters which it might satisfy. Registration,
+ * removal and notification lock only the entry for a single resource name, and notification iterates the waiters
+ * in place, so that waiters may remove themselves as they are notified.
+ *
+ * <p>Registrations do not expire: some waits recheck their resources without limit. Each waiter is removed by the
+ * step which registered it, when that step resumes, stops waiting or can no longer recheck the resource, or when
+ * a deletion it awaited is reported.
+ *
+ * @param <T> the type of resource awaited
+ */
+class WaiterRegistry<T> {
+
+  /** The conditions for which a step may wait. */
+  enum WaitCondition {
+    /** A resource has been added or modified. */
+    READY,
+    /** A resource has been deleted. */
+    DELETED
+  }
+
+  private final Map<WaitCondition, Map<String, Set<Consumer<T>>>> waiters = new EnumMap<>(WaitCondition.class);
+
+  WaiterRegistry() {
+    for (WaitCondition condition : WaitCondition.values()) {
+      waiters.put(condition, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Registers a waiter for a condition on the named resource.
+   * @param condition the condition awaited
+   * @param name the name of the resource
+   * @param waiter the callback to invoke when the condition may have been met
+   */
+  void add(WaitCondition condition, String name, Consumer<T> waiter) {
+    waiters.get(condition).compute(name, (n, registered) -> {
+      final Set<Consumer<T>> result = Optional.ofNullable(registered).orElseGet(ConcurrentHashMap::newKeySet);
+      result.add(waiter);
+      return result;
+    });
+  }
+
+  /**
+   * Removes a previously registered waiter.
+   * @param condition the condition awaited
+   * @param name the name of the resource
+   * @param waiter the registered callback
+   */
+  void remove(WaitCondition condition, String name, Consumer<T> waiter) {
+    waiters.get(condition).computeIfPresent(name, (n, registered) -> {
+      registered.remove(waiter);
+      return registered.isEmpty() ? null : registered;
+    });
+  }
+
+  /**
+   * Offers a resource to the waiters for a condition on it. The waiters remain registered.
+   * @param condition the condition which may have been met
+   * @param name the name of the resource
+   * @param resource the resource
+   */
+  void notifyWaiters(WaitCondition condition, String name, T resource) {
+    Optional.ofNullable(waiters.get(condition).get(name))
+          .ifPresent(registered -> registered.forEach(waiter -> waiter.accept(resource)));
+  }
+
+  /**
+   * Removes the waiters for a condition on a resource, and offers the resource to them.
+   * @param condition the condition which has been met
+   * @param name the name of the resource
+   * @param resource the resource
+   */
+  void notifyAndRemoveWaiters(WaitCondition condition, String name, T resource) {
+    Optional.ofNullable(waiters.get(condition).remove(name))
+          .ifPresent(registered -> registered.forEach(waiter -> waiter.accept(resource)));
+  }
+
+  /**
+   * Returns the number of waiters registered for a condition.
+   * @param condition the condition awaited
+   */
+  int getWaiterCount(WaitCondition condition) {
+    return waiters.get(condition).values().stream().mapToInt(Set::size).sum();
+  }
+}
@@ -0,0 +1,415 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * Serves the watchers for a single kind of resource in all namespaces from one cluster-scoped watch. Each event
+ * is dispatched to the {@link Watcher} subscribed for the namespace of its object, so the number of watch threads
+ * and API server connections depends on the number of kinds watched, rather than on the number of namespaces.
+ *
+ * @param <T> The type of the object to be watched.
+ */
+class WatchMultiplexer<T> {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final Counter eventsReceived = Counter.build()
+      .name("weblogic_operator_watch_events_total")
+      .help("Number of events received on multiplexed watches.")
+      .labelNames("kind")
+      .register();
+  private static final Histogram dispatchTime = Histogram.build()
+      .name("weblogic_operator_watch_dispatch_seconds")
+      .help("Time from the receipt of a multiplexed watch event until its listener has processed it.")
+      .labelNames("kind")
+      .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1)
+      .register();
+  private static final Gauge lastEventTime = Gauge.build()
+      .name("weblogic_operator_watch_last_event_timestamp_seconds")
+      .help("Time at which the most recent event was received on a multiplexed watch.")
+      .labelNames("kind")
+      .register();
+  private static final Gauge subscribedNamespaces = Gauge.build()
+      .name("weblogic_operator_watch_subscribed_namespaces")
+      .help("Number of namespaces served by a multiplexed watch.")
+      .labelNames("kind")
+      .register();
+
+  private final String kind;
+  private final WatchInitiator<T> initiator;
+  private final BooleanSupplier clusterWatchCheck;
+  private Boolean clusterWatchPermitted;
+  private final Map<String, Watcher<T>> subscribers = new ConcurrentHashMap<>();
+
+  private ThreadFactory threadFactory;
+  private WatchTuning tuning;
+  private final Map<String, CatchUp> catchUps = new ConcurrentHashMap<>();
+
+  private Thread thread;
+  private String resourceVersion;
+  private long lastInitialize = 0;
+
+  /**
+   * Constructs a multiplexer for a kind of resource.
+   *
+   * @param kind the name of the kind of resource watched, used to label metrics
+   * @param resource the kind of resource, which the operator must be allowed to list and watch in all namespaces
+   * @param initiator a function to create a watch on all namespaces
+   */
+  WatchMultiplexer(String kind, Resource resource, WatchInitiator<T> initiator) {
+    this(kind, initiator, () -> canListAndWatchAllNamespaces(resource));
+  }
+
+  WatchMultiplexer(String kind, WatchInitiator<T> initiator, BooleanSupplier clusterWatchCheck) {
+    this.kind = kind;
+    this.initiator = initiator;
+    this.clusterWatchCheck = clusterWatchCheck;
+  }
+
+  private static boolean canListAndWatchAllNamespaces(Resource resource) {
+    final AuthorizationProxy proxy = new AuthorizationProxy();
+    return proxy.checkSelf(Operation.LIST, resource, Scope.CLUSTER, null)
+        && proxy.checkSelf(Operation.WATCH, resource, Scope.CLUSTER, null);
+  }
+
+  /**
+   * Returns true if the operator may run the cluster-scoped watch on which this multiplexer depends. An operator
+   * whose roles are bound only in its domain namespaces may not, and must watch each namespace separately.
+   * The access check is made only once.
+   */
+  synchronized boolean isPermitted() {
+    if (clusterWatchPermitted == null) {
+      clusterWatchPermitted = clusterWatchCheck.getAsBoolean();
+      if (!clusterWatchPermitted) {
+        LOGGER.info(MessageKeys.WATCH_MULTIPLEXING_NOT_PERMITTED, kind);
+      }
+    }
+    return clusterWatchPermitted;
+  }
+
+  /**
+   * Adds a watcher to receive the events for its namespace, starting the shared watch if it is not running.
+   *
+   * @param watcher the watcher to which to dispatch events
+   * @param threadFactory a factory to create the thread which will run the shared watch
+   */
+  synchronized void subscribe(Watcher<T> watcher, ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+    this.tuning = watcher.getTuning();
+    subscribers.put(watcher.getNamespace(), watcher);
+    subscribedNamespaces.labels(kind).set(subscribers.size());
+    resumed(watcher);
+  }
+
+  /**
+   * Removes a watcher from this multiplexer. Its namespace will no longer receive events.
+   *
+   * @param watcher a subscribed watcher
+   */
+  synchronized void unsubscribe(Watcher<T> watcher) {
+    if (subscribers.remove(watcher.getNamespace(), watcher)) {
+      cancelCatchUp(watcher.getNamespace());
+    }
+    subscribedNamespaces.labels(kind).set(subscribers.size());
+  }
+
+  /**
+   * Notifies this multiplexer that a subscribed watcher is ready for events, starting from its resource version.
+   * Resource versions are opaque, so the multiplexer cannot tell whether that version is behind the shared watch.
+   * Unless it is the version from which the shared watch started, the watcher therefore catches up on a watch
+   * of its own namespace, while the shared watch holds back the events for that namespace. Once the two watches
+   * have delivered the same event, the catch-up watch is closed and the held events which it did not deliver
+   * are dispatched; the other subscribers are not affected.
+   *
+   * @param watcher a subscribed watcher
+   */
+  synchronized void resumed(Watcher<T> watcher) {
+    startCatchUp(watcher);
+    if (thread == null) {
+      thread = threadFactory.newThread(this::doWatch);
+      thread.start();
+    }
+  }
+
+  private void startCatchUp(Watcher<T> watcher) {
+    cancelCatchUp(watcher.getNamespace());
+
+    final String version = watcher.getResourceVersion();
+    if (resourceVersion == null) {
+      resourceVersion = version;
+    } else if (needsCatchUp(version)) {
+      final CatchUp catchUp = new CatchUp(watcher, version);
+      catchUps.put(watcher.getNamespace(), catchUp);
+      threadFactory.newThread(catchUp).start();
+    }
+  }
+
+  // A watcher without a version starts from the present, just as its own watch would.
+  private boolean needsCatchUp(String version) {
+    return version != null && !version.isEmpty() && !version.equals(Watcher.IGNORED)
+        && !version.equals(resourceVersion);
+  }
+
+  private void cancelCatchUp(String namespace) {
+    Optional.ofNullable(catchUps.remove(namespace)).ifPresent(CatchUp::cancel);
+  }
+
+  // for test
+  String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  /** Waits for the shared watch thread to exit. For unit testing only. */
+  void waitForExit() {
+    try {
+      Thread watchThread = getThread();
+      if (watchThread != null) {
+        watchThread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized Thread getThread() {
+    return thread;
+  }
+
+  private void doWatch() {
+    while (continueWatching()) {
+      watchForEvents();
+    }
+  }
+
+  // The shared watch stops when every subscribed namespace is stopping, and will be restarted on the next resume.
+  private synchronized boolean continueWatching() {
+    if (subscribers.values().stream().allMatch(Watcher::isStopping)) {
+      thread = null;
+      return false;
+    }
+    return true;
+  }
+
+  private void watchForEvents() {
+    delayIfNeeded();
+    try (Watchable<T> watch = initiateWatch()) {
+      while (hasNext(watch)) {
+        Watch.Response<T> item = watch.next();
+        eventsReceived.labels(kind).inc();
+        lastEventTime.labels(kind).setToCurrentTime();
+
+        if (Watcher.isError(item)) {
+          setResourceVersion(Watcher.getResourceVersionAfterError(item));
+        } else {
+          dispatch(item);
+        }
+      }
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+  }
+
+  private void delayIfNeeded() {
+    long now = System.currentTimeMillis();
+    long delay = (tuning.getWatchMinimumDelay() * 1000L) - (now - lastInitialize);
+    if (lastInitialize != 0 && delay > 0) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException ex) {
+        LOGGER.warning(MessageKeys.EXCEPTION, ex);
+        Thread.currentThread().interrupt();
+      }
+      lastInitialize = System.currentTimeMillis();
+    } else {
+      lastInitialize = now;
+    }
+  }
+
+  private synchronized Watchable<T> initiateWatch() throws ApiException {
+    return initiator.initiateWatch(
+        new WatchBuilder().withResourceVersion(resourceVersion).withTimeoutSeconds(tuning.getWatchLifetime()));
+  }
+
+  private synchronized void setResourceVersion(String resourceVersion) {
+    this.resourceVersion = resourceVersion;
+  }
+
+  private static boolean hasNext(Watchable<?> watch) {
+    try {
+      return watch.hasNext();
+    } catch (Exception ex) {
+      return false;
+    }
+  }
+
+  private void dispatch(Watch.Response<T> item) {
+    final V1ObjectMeta metadata = Watcher.getMetadata(item.object);
+    Optional.ofNullable(metadata).map(V1ObjectMeta::getResourceVersion).ifPresent(this::setResourceVersion);
+
+    final String namespace = Optional.ofNullable(metadata).map(V1ObjectMeta::getNamespace).orElse(null);
+    final Watcher<T> watcher = Optional.ofNullable(namespace).map(subscribers::get).orElse(null);
+    if (watcher != null && !isHeldForCatchUp(namespace, item)) {
+      deliver(watcher, item);
+    }
+  }
+
+  private boolean isHeldForCatchUp(String namespace, Watch.Response<T> item) {
+    return Optional.ofNullable(catchUps.get(namespace)).map(c -> c.hold(item)).orElse(false);
+  }
+
+  private void deliver(Watcher<T> watcher, Watch.Response<T> item) {
+    try (Histogram.Timer ignored = dispatchTime.labels(kind).startTimer()) {
+      watcher.receiveMultiplexedResponse(item);
+    }
+  }
+
+  // Identifies an event by the object it describes and the version of that object which it reports.
+  private static String getEventKey(Watch.Response<?> item) {
+    return Optional.ofNullable(Watcher.getMetadata(item.object))
+        .filter(m -> m.getResourceVersion() != null)
+        .map(m -> item.type + ":" + m.getUid() + ":" + m.getResourceVersion())
+        .orElse(null);
+  }
+
+  /**
+   * Delivers the events for a single namespace, starting from the resource version of its watcher, until they
+   * reach the point at which the shared watch began holding back that namespace's events.
+   */
+  private class CatchUp implements Runnable {
+    private final Watcher<T> watcher;
+    private final String version;
+    private final List<Watch.Response<T>> held = new ArrayList<>();
+    private final Set<String> heldKeys = new HashSet<>();
+    private final Set<String> deliveredKeys = new HashSet<>();
+    private Watchable<T> watch;
+    private boolean done;
+
+    CatchUp(Watcher<T> watcher, String version) {
+      this.watcher = watcher;
+      this.version = version;
+    }
+
+    @Override
+    public void run() {
+      try (Watchable<T> catchUpWatch = initiateWatch()) {
+        while (catchUpWatch != null && !isDone() && hasNext(catchUpWatch)) {
+          Watch.Response<T> item = catchUpWatch.next();
+          if (Watcher.isError(item)) {
+            break;
+          }
+          receive(item);
+        }
+      } catch (Throwable ex) {
+        LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      } finally {
+        join();
+      }
+    }
+
+    private synchronized Watchable<T> initiateWatch() throws ApiException {
+      if (!done) {
+        watch = watcher.initiateWatch(
+            new WatchBuilder().withResourceVersion(version).withTimeoutSeconds(tuning.getWatchLifetime()));
+      }
+      return watch;
+    }
+
+    private synchronized boolean isDone() {
+      return done;
+    }
+
+    /**
+     * Holds an event received by the shared watch for this namespace until the catch-up is done.
+     * @param item an event from the shared watch
+     * @return false if the catch-up is done, and the event should be dispatched at once
+     */
+    synchronized boolean hold(Watch.Response<T> item) {
+      if (done) {
+        return false;
+      }
+      held.add(item);
+      Optional.ofNullable(getEventKey(item)).ifPresent(heldKeys::add);
+      return true;
+    }
+
+    private synchronized void receive(Watch.Response<T> item) {
+      if (done) {
+        return;
+      }
+      final String key = getEventKey(item);
+      deliver(watcher, item);
+      if (key != null) {
+        deliveredKeys.add(key);
+        if (heldKeys.contains(key)) {
+          join();
+        }
+      }
+    }
+
+    // Dispatches the held events which the catch-up watch did not deliver, and hands the namespace back
+    // to the shared watch.
+    private synchronized void join() {
+      if (!done) {
+        done = true;
+        held.stream().filter(item -> !deliveredKeys.contains(getEventKey(item))).forEach(i -> deliver(watcher, i));
+        catchUps.remove(watcher.getNamespace(), this);
+        closeWatch();
+      }
+    }
+
+    synchronized void cancel() {
+      done = true;
+      closeWatch();
+    }
+
+    private void closeWatch() {
+      try {
+        if (watch != null) {
+          watch.close();
+        }
+      } catch (IOException e) {
+        LOGGER.fine(MessageKeys.EXCEPTION, e);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  interface WatchInitiator<T> {
+
+    /**
+     * Initiates a watch on all namespaces.
+     *
+     * @param watchBuilder the watch builder, initialized with the current resource version.
+     * @return Watch object
+     * @throws ApiException if there is an API error.
+     */
+    Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException;
+  }
+}
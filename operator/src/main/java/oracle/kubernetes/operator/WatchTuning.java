@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -15,4 +15,10 @@ public interface WatchTuning {
   int getWatchBackstopRecheckDelay();
 
   int getWatchBackstopRecheckCount();
+
+  /**
+   * Returns true if watchers for the same kind of resource in different namespaces should share a single,
+   * cluster-scoped watch. This requires that the operator have cluster-scoped permissions to watch those resources.
+   */
+  boolean isWatchMultiplexingEnabled();
 }
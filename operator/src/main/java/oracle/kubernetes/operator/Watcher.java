@@ -1,21 +1,25 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.Namespaces.SelectionStrategy;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -26,15 +30,18 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
 
 /**
  * This class handles the Watching interface and drives the watch support for a specific type of
- * object. It runs in a separate thread to drive watching asynchronously to the main thread.
+ * object. It runs in a separate thread to drive watching asynchronously to the main thread, unless
+ * watch multiplexing is enabled, in which case it receives its events from a {@link WatchMultiplexer}
+ * shared by all namespaces.
  *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String IGNORED = "0";
+  static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  private static final ClassValue<MethodHandle> METADATA_GETTERS = new MetadataGetters();
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -46,6 +53,7 @@ abstract class Watcher<T> {
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
+  private WatchMultiplexer<T> multiplexer;
   private long lastInitialize = 0;
 
   /**
@@ -90,11 +98,14 @@ abstract class Watcher<T> {
     }
   }
 
-  // for test
   String getResourceVersion() {
     return resourceVersion;
   }
 
+  WatchTuning getTuning() {
+    return tuning;
+  }
+
   Watcher<T> withResourceVersion(String resourceVersion) {
     this.resourceVersion = resourceVersion;
     return this;
@@ -109,9 +120,39 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing. If multiplexing is enabled and supported for this kind of resource,
+   * this subscribes to the shared watch; otherwise, it runs in a separate thread.
+   */
   void start(ThreadFactory factory) {
-    thread = starter.startWatcher(factory, this::doWatch);
+    multiplexer = isMultiplexingEnabled() ? getPermittedMultiplexer() : null;
+    if (multiplexer != null) {
+      multiplexer.subscribe(this, factory);
+    } else {
+      thread = starter.startWatcher(factory, this::doWatch);
+    }
+  }
+
+  private boolean isMultiplexingEnabled() {
+    return tuning != null && tuning.isWatchMultiplexingEnabled()
+        && Namespaces.getSelectionStrategy() != SelectionStrategy.DEDICATED;
+  }
+
+  private WatchMultiplexer<T> getPermittedMultiplexer() {
+    return Optional.ofNullable(getMultiplexer()).filter(WatchMultiplexer::isPermitted).orElse(null);
+  }
+
+  /**
+   * Returns the multiplexer which can serve this kind of resource in all namespaces, or null if this watcher
+   * must always run its own watch.
+   */
+  WatchMultiplexer<T> getMultiplexer() {
+    return null;
+  }
+
+  /** Stops delivering events from a multiplexed watch to this watcher. */
+  void unsubscribe() {
+    Optional.ofNullable(multiplexer).ifPresent(m -> m.unsubscribe(this));
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -155,6 +196,7 @@ abstract class Watcher<T> {
   // Set the stopping state to false to resume watches.
   protected void resume() {
     this.stopping.set(false);
+    Optional.ofNullable(multiplexer).ifPresent(m -> m.resumed(this));
   }
 
   private void watchForEvents() {
@@ -238,10 +280,24 @@ abstract class Watcher<T> {
    */
   public abstract String getDomainUid(Watch.Response<T> item);
 
-  private boolean isError(Watch.Response<T> item) {
+  static boolean isError(Watch.Response<?> item) {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  /**
+   * Handles an event received from a multiplexed watch for this watcher's namespace.
+   *
+   * @param item the event
+   */
+  void receiveMultiplexedResponse(Watch.Response<T> item) {
+    if (!isStopping()) {
+      try (ThreadLoggingContext ignored =
+               ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+        handleRegularUpdate(item);
+      }
+    }
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.object);
@@ -251,22 +307,31 @@ abstract class Watcher<T> {
   }
 
   private void handleErrorResponse(Watch.Response<T> item) {
+    resourceVersion = getResourceVersionAfterError(item);
+  }
+
+  /**
+   * Returns the resource version from which to restart a watch after an error event.
+   *
+   * @param item an error event
+   */
+  static String getResourceVersionAfterError(Watch.Response<?> item) {
     if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
-      resourceVersion = IGNORED;
+      return IGNORED;
     } else {
-      resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
+      return Optional.of(item.status).map(V1Status::getMessage).map(Watcher::resourceVersion).orElse(IGNORED);
     }
   }
 
-  private String resourceVersion(String message) {
+  private static String resourceVersion(String message) {
     final Matcher matcher = RESOURCE_VERSION_PATTERN.matcher(message);
     return matcher.find() ? matcher.group(1) : null;
   }
 
   /**
    * Track resourceVersion and keep the latest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * extracted from the metadata of the object. If the object provides no metadata, the user will get all
+   * watches repeatedly.
    *
    * @param object the object that is returned
    */
@@ -274,14 +339,47 @@ abstract class Watcher<T> {
     resourceVersion = getResourceVersionFromMetadata(object);
   }
 
-  private String getResourceVersionFromMetadata(Object object) {
+  static String getResourceVersionFromMetadata(Object object) {
+    return Optional.ofNullable(getMetadata(object)).map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+  }
+
+  /**
+   * Returns the metadata of a watched object. Kubernetes objects are read directly; for any other class, a
+   * handle to its getMetadata() method is looked up once and cached.
+   *
+   * @param object a watched object
+   * @return the object's metadata, or null if it has none
+   */
+  static V1ObjectMeta getMetadata(Object object) {
+    if (object instanceof KubernetesObject) {
+      return ((KubernetesObject) object).getMetadata();
+    } else if (object == null) {
+      return null;
+    }
+
     try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
-    } catch (Exception e) {
+      return (V1ObjectMeta) METADATA_GETTERS.get(object.getClass()).invokeExact(object);
+    } catch (Throwable e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
+      return null;
+    }
+  }
+
+  private static class MetadataGetters extends ClassValue<MethodHandle> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(V1ObjectMeta.class, Object.class);
+    private static final MethodHandle NO_METADATA
+        = MethodHandles.dropArguments(MethodHandles.constant(V1ObjectMeta.class, null), 0, Object.class);
+
+    @Override
+    protected MethodHandle computeValue(Class<?> type) {
+      try {
+        return MethodHandles.lookup()
+            .findVirtual(type, "getMetadata", MethodType.methodType(V1ObjectMeta.class))
+            .asType(GETTER_TYPE);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+        return NO_METADATA;
+      }
     }
   }
 }
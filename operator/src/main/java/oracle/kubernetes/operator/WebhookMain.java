@@ -24,6 +24,7 @@ import oracle.kubernetes.operator.steps.InitializeWebhookIdentityStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.webhooks.WebhookRestServer;
+import oracle.kubernetes.operator.webhooks.resource.ConversionWebhookResource;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -147,6 +148,7 @@ public class WebhookMain extends BaseMain {
 
   void completeStop() {
     stopRestServer();
+    ConversionWebhookResource.stopClusterWrites();
     stopMetricsServer();
   }
 
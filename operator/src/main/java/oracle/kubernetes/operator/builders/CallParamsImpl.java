@@ -61,7 +61,7 @@ public class CallParamsImpl implements CallParams {
     return resourceVersion;
   }
 
-  void setResourceVersion(String resourceVersion) {
+  public void setResourceVersion(String resourceVersion) {
     this.resourceVersion = resourceVersion;
   }
 }
@@ -46,7 +46,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -57,7 +57,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pod disruption budgets.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -69,7 +69,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -81,7 +81,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -93,7 +93,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track events.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -105,7 +105,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track changes to WebLogic domains in one namespaces.
    *
-   * @param namespace the namespace in which to track domains
+   * @param namespace the namespace in which to track domains, or null to track domains in all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -114,6 +114,13 @@ public class WatchBuilder {
         callParams, DomainResource.class, new ListDomainsCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track changes to WebLogic clusters in one namespace.
+   *
+   * @param namespace the namespace in which to track clusters, or null to track clusters in all namespaces
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
   public Watchable<ClusterResource> createClusterWatch(String namespace) throws ApiException {
     return factory.createWatch(
         callParams, ClusterResource.class, new ListClustersCall(namespace));
@@ -122,7 +129,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -219,6 +226,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -257,6 +280,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -290,6 +329,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -323,6 +378,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -356,6 +427,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new PolicyV1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -389,6 +476,19 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new WeblogicApi(client)
+              .listClusterCall(
+                  callParams.getPretty(),
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new WeblogicApi(client)
             .listNamespacedClusterCall(
                 namespace,
@@ -419,6 +519,19 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new WeblogicApi(client)
+              .listDomainCall(
+                  callParams.getPretty(),
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new WeblogicApi(client)
             .listNamespacedDomainCall(
                 namespace,
@@ -449,6 +562,22 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  SEND_INITIAL_EVENTS_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  WATCH,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
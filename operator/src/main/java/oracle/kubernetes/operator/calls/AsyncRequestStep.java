@@ -1,8 +1,9 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +26,7 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
@@ -58,6 +60,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private static final int SCALE = 100;
   private static final int MAX = 10000;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String CONTENT_LENGTH = "Content-Length";
 
   private final Pool<ApiClient> helper;
   private final RequestParams requestParams;
@@ -171,6 +174,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
     final ApiClient client;
+    long startNanos;
+    volatile CancellableCall call;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -182,7 +187,9 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
 
     // Create a call to Kubernetes that we can cancel if it doesn't succeed in time.
     private CancellableCall createCall(AsyncFiber fiber) throws ApiException {
-      return factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
+      startNanos = System.nanoTime();
+      call = factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
+      return call;
     }
 
     // The Kubernetes request succeeded. Recycle the client, add the response to the packet, and proceed.
@@ -193,6 +200,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         }
 
         helper.recycle(client);
+        recordApiCall(responseHeaders);
+        ListPaging.recordResponse(requestParams, result, System.nanoTime() - startNanos);
         addResponseComponent(Component.createFor(
             createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
         fiber.resume(packet);
@@ -212,6 +221,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         } else {
           helper.recycle(client);
         }
+        recordApiCall(responseHeaders);
 
         addResponseComponent(Component.createFor(
               RetryStrategy.class, retryStrategy,
@@ -220,6 +230,36 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       }
     }
 
+    // Charges the call to the make-right being traced, if any. The size received is taken from the Content-Length
+    // response header, so chunked responses, which have none, count as zero.
+    private void recordApiCall(Map<String, List<String>> responseHeaders) {
+      MakeRightTrace.fromPacket(packet).ifPresent(trace -> trace.recordApiCall(
+          requestParams.getOperationName(), requestParams.getResourceType(),
+          getRequestBodySize(), getContentLength(responseHeaders)));
+    }
+
+    private long getRequestBodySize() {
+      return Optional.ofNullable(call).map(CancellableCall::getRequestBodySize).orElse(0L);
+    }
+
+    private long getContentLength(Map<String, List<String>> responseHeaders) {
+      return Optional.ofNullable(responseHeaders).orElse(Collections.emptyMap()).entrySet().stream()
+          .filter(header -> CONTENT_LENGTH.equalsIgnoreCase(header.getKey()))
+          .map(Map.Entry::getValue)
+          .flatMap(List::stream)
+          .findFirst()
+          .map(this::parseLength)
+          .orElse(0L);
+    }
+
+    private long parseLength(String value) {
+      try {
+        return Long.parseLong(value.trim());
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
     // If this is the first event after the fiber resumes, it indicates that we did not receive
     // a callback within the timeout. So cancel the call and prepare to try again.
     private void handleTimeout(AsyncFiber fiber, CancellableCall cc) {
@@ -230,6 +270,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
           if (LOGGER.isFinerEnabled()) {
             logTimeout();
           }
+          helper.recycle(client);
+          recordApiCall(Collections.emptyMap());
           addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
           fiber.resume(packet);
         }
@@ -239,6 +281,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // A throwable occurred while attempting to set up the call. So prepare to try again.
     private void resumeAfterThrowable(AsyncFiber fiber) {
       if (firstTimeResumed()) {
+        helper.recycle(client);
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
@@ -1,9 +1,13 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
 
+import java.io.IOException;
+import java.util.Optional;
+
 import okhttp3.Call;
+import okhttp3.RequestBody;
 
 /** A wrapper for an OKHttp call to isolate its own callers. */
 public class CallWrapper implements CancellableCall {
@@ -18,4 +22,18 @@ public class CallWrapper implements CancellableCall {
   public void cancel() {
     underlyingCall.cancel();
   }
+
+  @Override
+  public long getRequestBodySize() {
+    return Optional.ofNullable(underlyingCall.request().body()).map(this::getContentLength).orElse(0L);
+  }
+
+  // A negative length means the size is not known until the body is written.
+  private long getContentLength(RequestBody body) {
+    try {
+      return Math.max(body.contentLength(), 0);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.calls;
@@ -8,4 +8,12 @@ public interface CancellableCall {
 
   /** Cancels the active call. */
   void cancel();
+
+  /**
+   * Returns the size of the request body, or zero if the request has no body or its size is not known.
+   * @return the size in bytes
+   */
+  default long getRequestBodySize() {
+    return 0;
+  }
 }
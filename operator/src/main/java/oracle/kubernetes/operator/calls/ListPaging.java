@@ -0,0 +1,116 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.operator.builders.CallParams;
+
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.accessContinue;
+
+/**
+ * Sizes the pages of list requests read from etcd, and reports the time taken by each list request and the number of
+ * items returned, by resource kind.
+ *
+ * <p>The page size for a kind in a namespace starts at the configured request limit. When the server returns a full
+ * page, with a continue value, the time taken for that page adjusts the size used for the following pages of that
+ * kind in that namespace: a fast page doubles it, up to {@link #MAX_LIMIT_FACTOR} times the request limit, so that
+ * kinds with small objects need fewer round trips; a slow page, typical of large objects, halves it, down to the
+ * request limit. Lists requested with resource version 0 are served from the API server's watch cache, which
+ * ignores the limit, and so do not adjust it.
+ */
+public class ListPaging {
+
+  static final int MAX_LIMIT_FACTOR = 10;
+  static final long FAST_PAGE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+  static final long SLOW_PAGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final String WATCH_CACHE_RESOURCE_VERSION = "0";
+
+  private static final Histogram listTime = Histogram.build()
+      .name("weblogic_operator_list_request_seconds")
+      .help("Time taken by the Kubernetes API server to return each page of a list request.")
+      .labelNames("resource")
+      .buckets(0.005, 0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+      .register();
+  private static final Counter listedItems = Counter.build()
+      .name("weblogic_operator_listed_items_total")
+      .help("Number of items returned by Kubernetes list requests.")
+      .labelNames("resource")
+      .register();
+
+  private static final Map<String, Integer> pageLimits = new ConcurrentHashMap<>();
+
+  private ListPaging() {
+    // no-op
+  }
+
+  /**
+   * Returns the number of items to request in the next page of a list of the specified kind.
+   * @param resourceType the kind of resource being listed
+   * @param namespace the namespace in which the resources are listed, or null if they are not namespaced
+   * @param requestLimit the configured request limit
+   */
+  public static int getPageLimit(String resourceType, String namespace, int requestLimit) {
+    return Optional.ofNullable(pageLimits.get(getKey(resourceType, namespace)))
+          .map(limit -> Math.max(requestLimit, Math.min(limit, requestLimit * MAX_LIMIT_FACTOR)))
+          .orElse(requestLimit);
+  }
+
+  private static String getKey(String resourceType, String namespace) {
+    return resourceType + "/" + Optional.ofNullable(namespace).orElse("");
+  }
+
+  /**
+   * Records a successful response to a request, if it is a list.
+   * @param requestParams the parameters of the request
+   * @param result the response
+   * @param elapsedNanos the time taken to receive the response
+   */
+  static void recordResponse(RequestParams requestParams, Object result, long elapsedNanos) {
+    if (result instanceof KubernetesListObject list) {
+      final String resourceType = requestParams.getResourceType();
+      final int numItems = Optional.ofNullable(list.getItems()).map(List::size).orElse(0);
+
+      listTime.labels(resourceType).observe(elapsedNanos / 1.0E9);
+      listedItems.labels(resourceType).inc(numItems);
+      if (accessContinue(list) != null && !isServedFromWatchCache(requestParams)) {
+        adjustPageLimit(getKey(resourceType, requestParams.namespace), numItems, elapsedNanos);
+      }
+    }
+  }
+
+  private static boolean isServedFromWatchCache(RequestParams requestParams) {
+    return Optional.ofNullable(requestParams.getCallParams())
+          .map(CallParams::getResourceVersion)
+          .map(WATCH_CACHE_RESOURCE_VERSION::equals)
+          .orElse(false);
+  }
+
+  private static void adjustPageLimit(String key, int pageSize, long elapsedNanos) {
+    if (elapsedNanos < FAST_PAGE_NANOS) {
+      pageLimits.put(key, pageSize * 2);
+    } else if (elapsedNanos > SLOW_PAGE_NANOS) {
+      pageLimits.put(key, pageSize / 2);
+    }
+  }
+
+  /**
+   * Discards the page sizes learned for the lists in the specified namespace.
+   * @param namespace the name of a namespace which is no longer managed
+   */
+  public static void clearPageLimits(String namespace) {
+    pageLimits.keySet().removeIf(key -> key.endsWith("/" + namespace));
+  }
+
+  static void clearPageLimits() {
+    pageLimits.clear();
+  }
+}
@@ -1,8 +1,15 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,8 +19,11 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
 
@@ -25,8 +35,14 @@ public class AnnotationHelper {
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
 
+  // SnakeYAML instances are costly to create, since each introspects the model classes anew, and are not
+  // thread-safe; each thread therefore keeps its own. The type given to the client only selects how documents
+  // are loaded, so a single instance dumps objects of any type just as Yaml.dump() does.
+  private static final ThreadLocal<org.yaml.snakeyaml.Yaml> SNAKE_YAML
+      = ThreadLocal.withInitial(() -> Yaml.getSnakeYaml(Object.class));
+
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> hashFunction = AnnotationHelper::sha256Hex;
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -75,6 +91,23 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  /**
+   * Returns the SHA-256 hash of the YAML representation of the specified object, as a hex string. The YAML is
+   * streamed directly into the digest, so the result is the same as that of {@code sha256Hex(Yaml.dump(o))}, without
+   * building the YAML string.
+   * @param objectToHash the object to hash
+   */
+  static String sha256Hex(Object objectToHash) {
+    final MessageDigest digest = DigestUtils.getSha256Digest();
+    final OutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+    try (Writer writer = new OutputStreamWriter(digestStream, UTF_8)) {
+      SNAKE_YAML.get().dump(objectToHash, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
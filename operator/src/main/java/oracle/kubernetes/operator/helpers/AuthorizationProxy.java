@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -8,6 +8,8 @@ import java.util.List;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ResourceAttributes;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
+import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReviewSpec;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReviewSpec;
 import io.kubernetes.client.openapi.models.V1SubjectAccessReview;
@@ -84,6 +86,34 @@ public class AuthorizationProxy {
     return result;
   }
 
+  /**
+   * Check if the operator itself is allowed to perform the specified operation on the specified
+   * kind of resource in the specified scope.
+   *
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, or false if not.
+   */
+  public boolean checkSelf(Operation operation, Resource resource, Scope scope, String namespaceName) {
+    LOGGER.entering();
+    V1SelfSubjectAccessReview review = new V1SelfSubjectAccessReview()
+        .metadata(new V1ObjectMeta())
+        .spec(new V1SelfSubjectAccessReviewSpec()
+            .resourceAttributes(prepareResourceAttributes(operation, resource, null, scope, namespaceName)));
+    try {
+      review = new CallBuilder().createSelfSubjectAccessReview(review);
+    } catch (ApiException e) {
+      LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
+      LOGGER.exiting(Boolean.FALSE);
+      return Boolean.FALSE;
+    }
+    boolean result = review.getStatus() != null && Boolean.TRUE.equals(review.getStatus().getAllowed());
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Prepares an instance of SubjectAccessReview and returns same.
    *
@@ -198,7 +228,9 @@ public class AuthorizationProxy {
 
   public enum Resource {
     CONFIGMAPS("configmaps", ""),
+    CLUSTERS("clusters", "weblogic.oracle"),
     PODS("pods", ""),
+    PODDISRUPTIONBUDGETS("poddisruptionbudgets", "policy"),
     LOGS("pods", "log", ""),
     EXEC("pods", "exec", ""),
     EVENTS("events", ""),
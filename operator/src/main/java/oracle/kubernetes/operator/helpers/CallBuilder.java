@@ -63,6 +63,7 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.ListPaging;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.RetryStrategy;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
@@ -151,6 +152,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (DomainResource) requestParams.body,
                   callback));
+  private final CallFactory<DomainResource> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -259,7 +269,7 @@ public class CallBuilder {
                   callback));
   private final CallFactory<V1PodDisruptionBudgetList> listPodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
-          wrap(listPodDisruptionBudgetAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listPodDisruptionBudgetAsync(usage, requestParams, cont, callback));
   private final CallFactory<V1PodDisruptionBudget> readPodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
           wrap(readPodDisruptionBudgetAsync(usage, requestParams.name, requestParams.namespace, callback));
@@ -355,18 +365,20 @@ public class CallBuilder {
   private final CallParamsImpl callParams = new CallParamsImpl();
 
   private static final String RESOURCE_VERSION = "";
+  private static final String ANY_RESOURCE_VERSION = "0";
+  private boolean cachedListing;
 
   private Integer maxRetryCount = 10;
   private static final Boolean WATCH = null;
   private final CallFactory<ClusterList> listCluster =
       (requestParams, usage, cont, callback) ->
-          wrap(listClusterAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listClusterAsync(usage, requestParams, cont, callback));
   private final CallFactory<DomainList> listDomain =
       (requestParams, usage, cont, callback) ->
-          wrap(listDomainAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listDomainAsync(usage, requestParams, cont, callback));
   private final CallFactory<V1PodList> listPod =
       (requestParams, usage, cont, callback) ->
-          wrap(listPodAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listPodAsync(usage, requestParams, cont, callback));
   private final CallFactory<V1Status> deletecollectionPod =
       (requestParams, usage, cont, callback) ->
           wrap(deleteCollectionPodAsync(usage, requestParams.namespace, cont,
@@ -376,16 +388,16 @@ public class CallBuilder {
           wrap(listSecretsAsync(usage, requestParams.namespace, cont, callback));
   private final CallFactory<V1ServiceList> listService =
       (requestParams, usage, cont, callback) ->
-          wrap(listServiceAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listServiceAsync(usage, requestParams, cont, callback));
   private final CallFactory<CoreV1EventList> listEvent =
       (requestParams, usage, cont, callback) ->
-          wrap(listEventAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listEventAsync(usage, requestParams, cont, callback));
   private final CallFactory<V1NamespaceList> listNamespace =
       (requestParams, usage, cont, callback) ->
           wrap(listNamespaceAsync(usage, cont, callback));
   private final CallFactory<V1ConfigMapList> listConfigMaps =
       (requestParams, usage, cont, callback) ->
-          wrap(listConfigMapsAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listConfigMapsAsync(usage, requestParams, cont, callback));
   private final CallFactory<ClusterResource> readCluster =
       (requestParams, usage, cont, callback) ->
           wrap(readClusterAsync(usage, requestParams.name, requestParams.namespace, callback));
@@ -678,6 +690,31 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Configures list requests for processing which does not need the latest state of the resources. Such lists are
+   * served from the API server's watch cache rather than read from etcd. The watch cache returns the entire list in
+   * a single response, ignoring the limit, so these lists are not paged.
+   * @return this CallBuilder
+   */
+  public CallBuilder withCachedListing() {
+    this.cachedListing = true;
+    this.callParams.setResourceVersion(ANY_RESOURCE_VERSION);
+    return this;
+  }
+
+  // Lists read from etcd are paged in windows sized from the time taken to return earlier pages of the same kind
+  // in the same namespace.
+  private Integer getListLimit(RequestParams requestParams) {
+    return cachedListing
+        ? limit
+        : ListPaging.getPageLimit(requestParams.getResourceType(), requestParams.namespace, limit);
+  }
+
+  // A request which continues a list reads the version recorded in its continue value, and may not specify another.
+  private String getListResourceVersion(String cont) {
+    return cachedListing && cont == null ? ANY_RESOURCE_VERSION : RESOURCE_VERSION;
+  }
+
   private void configureTuning(int limit, int timeoutSeconds, int maxRetryCount) {
     this.limit = limit;
     this.timeoutSeconds = timeoutSeconds;
@@ -789,15 +826,16 @@ public class CallBuilder {
   }
 
   private Call listClusterAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<ClusterList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<ClusterList> callback)
       throws ApiException {
     return new WeblogicApi(client)
         .listNamespacedClusterAsync(
-            namespace,
+            requestParams.namespace,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             timeoutSeconds,
             callback);
   }
@@ -913,17 +951,17 @@ public class CallBuilder {
   }
 
   private Call listDomainAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<DomainList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<DomainList> callback)
       throws ApiException {
     return new WeblogicApi(client)
         .listNamespacedDomainAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             timeoutSeconds,
             WATCH,
             callback);
@@ -1111,6 +1149,30 @@ public class CallBuilder {
         replaceDomainStatus);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<DomainResource> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<DomainResource> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody, name),
+        patchDomainStatus);
+  }
+
   /* CRD's */
 
   private Call readCustomResourceDefinitionAsync(
@@ -1183,18 +1245,18 @@ public class CallBuilder {
   }
 
   private Call listConfigMapsAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<V1ConfigMapList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<V1ConfigMapList> callback)
       throws ApiException {
     return new CoreV1Api(client)
         .listNamespacedConfigMapAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
@@ -1407,18 +1469,18 @@ public class CallBuilder {
   }
 
   private Call listPodAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
     return new CoreV1Api(client)
         .listNamespacedPodAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
@@ -1675,18 +1737,18 @@ public class CallBuilder {
   }
 
   private Call listJobAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<V1JobList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<V1JobList> callback)
       throws ApiException {
     return new BatchV1Api(client)
         .listNamespacedJobAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
@@ -1696,7 +1758,7 @@ public class CallBuilder {
 
   private final CallFactory<V1JobList> listJob =
       (requestParams, usage, cont, callback) ->
-          wrap(listJobAsync(usage, requestParams.namespace, cont, callback));
+          wrap(listJobAsync(usage, requestParams, cont, callback));
 
   /**
    * Asynchronous step for listing jobs.
@@ -1795,18 +1857,18 @@ public class CallBuilder {
   }
 
   private Call listServiceAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<V1ServiceList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<V1ServiceList> callback)
       throws ApiException {
     return new CoreV1Api(client)
         .listNamespacedServiceAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
@@ -1915,18 +1977,18 @@ public class CallBuilder {
   }
 
   private Call listPodDisruptionBudgetAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<V1PodDisruptionBudgetList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<V1PodDisruptionBudgetList> callback)
       throws ApiException {
     return new PolicyV1Api(client)
         .listNamespacedPodDisruptionBudgetAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
@@ -2163,18 +2225,18 @@ public class CallBuilder {
   /* Events */
 
   private Call listEventAsync(
-      ApiClient client, String namespace, String cont, ApiCallback<CoreV1EventList> callback)
+      ApiClient client, RequestParams requestParams, String cont, ApiCallback<CoreV1EventList> callback)
       throws ApiException {
     return new CoreV1Api(client)
         .listNamespacedEventAsync(
-            namespace,
+            requestParams.namespace,
             PRETTY,
             ALLOW_WATCH_BOOKMARKS,
             cont,
             fieldSelector,
             labelSelector,
-            limit,
-            RESOURCE_VERSION,
+            getListLimit(requestParams),
+            getListResourceVersion(cont),
             RESOURCE_VERSION_MATCH_UNSET,
             SEND_INITIAL_EVENTS_UNSET,
             timeoutSeconds,
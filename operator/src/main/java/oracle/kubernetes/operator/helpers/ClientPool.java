@@ -4,26 +4,48 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.monitoring.Monitoring;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.utils.SystemClock;
 
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CLIENT_MAX_AGE_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CLIENT_MAX_REQUESTS_PER_HOST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_CLIENT_POOL_SIZE;
+
+/**
+ * A pool of API clients, each with its own HTTP dispatcher and connections to the Kubernetes API server. Clients are
+ * shared by concurrent requests rather than lent exclusively: each take selects the client with the fewest requests
+ * in progress, so that a burst of requests is spread across the clients instead of queueing behind the request limit
+ * of one. A client is replaced when a request finds it unusable, and optionally once it reaches a maximum age.
+ * By default, the pool holds a single client with the dispatcher's standard request limits.
+ */
 public class ClientPool extends Pool<ApiClient> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
@@ -33,8 +55,30 @@ public class ClientPool extends Pool<ApiClient> {
   private static ThreadFactory threadFactory;
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
 
-  // With OKHttp3, each client has its own connection pool, so instance will be shared
-  private final AtomicReference<ApiClient> instance = new AtomicReference<>();
+  // A queue which never holds an element, since clients are not held idle between requests.
+  private static final Queue<ApiClient> NO_IDLE_CLIENTS = new SynchronousQueue<>();
+
+  private static final Gauge inFlightRequests = Gauge.build()
+      .name("weblogic_operator_api_client_in_flight_requests")
+      .help("Number of requests and watches currently using each pooled API client.")
+      .labelNames("client")
+      .register();
+  private static final Gauge queuedRequests = Gauge.build()
+      .name("weblogic_operator_api_client_queued_requests")
+      .help("Number of asynchronous requests waiting for each pooled API client to reach below its request limit.")
+      .labelNames("client")
+      .register();
+  private static final Counter evictions = Counter.build()
+      .name("weblogic_operator_api_client_evictions_total")
+      .help("Number of pooled API clients replaced, either after a failure indicated that their connections were "
+          + "unusable, or on reaching their maximum age.")
+      .labelNames("reason")
+      .register();
+
+  private volatile PooledClient[] pooledClients;
+
+  // Maps each client created by this pool, including evicted clients which are still in use, to its pool entry.
+  private final Map<ApiClient, PooledClient> owners = Collections.synchronizedMap(new WeakHashMap<>());
 
   public static void initialize(ThreadFactory threadFactory) {
     ClientPool.threadFactory = threadFactory;
@@ -44,19 +88,95 @@ public class ClientPool extends Pool<ApiClient> {
     return singleton;
   }
 
+  @Override
+  protected Queue<ApiClient> getQueue() {
+    return NO_IDLE_CLIENTS;
+  }
+
   @Override
   protected ApiClient create() {
-    // We no longer need this connection pooling because OkHttp 3 now supports
-    // connection pooling within each instance.  Prior to the Kubernetes Java
-    // client, version 7.0.0, the ApiClient held an instance of the OkHttp 2
-    // HTTP client, which was single threaded.
-    // Disable pooling and always return the same instance
-    return instance.updateAndGet(prev -> prev != null ? prev : getApiClient());
+    return selectLeastBusy(getPooledClients()).acquire();
+  }
+
+  private PooledClient selectLeastBusy(PooledClient[] clients) {
+    PooledClient selected = clients[0];
+    for (PooledClient candidate : clients) {
+      if (candidate.getInFlight() < selected.getInFlight()) {
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+  @Override
+  protected ApiClient onRecycle(ApiClient client) {
+    Optional.ofNullable(client).map(owners::get).ifPresent(PooledClient::release);
+    return client;
   }
 
+  /**
+   * Evicts the specified client from the pool, so that a new client will be created in its place. Requests already
+   * using the evicted client may complete.
+   * @param client a client which has proven to be unusable
+   */
   @Override
   public void discard(ApiClient client) {
-    instance.updateAndGet(newClient -> getApiClient());
+    Optional.ofNullable(client).map(owners::get).ifPresent(pooledClient -> pooledClient.evict(client));
+  }
+
+  private PooledClient[] getPooledClients() {
+    PooledClient[] result = pooledClients;
+    if (result == null) {
+      synchronized (this) {
+        if (pooledClients == null) {
+          pooledClients = createPooledClients(getPoolSize());
+        }
+        result = pooledClients;
+      }
+    }
+    return result;
+  }
+
+  private PooledClient[] createPooledClients(int poolSize) {
+    final PooledClient[] result = new PooledClient[poolSize];
+    for (int i = 0; i < poolSize; i++) {
+      result[i] = new PooledClient();
+      installMetrics(String.valueOf(i), result[i]);
+    }
+    return result;
+  }
+
+  private void installMetrics(String label, PooledClient pooledClient) {
+    inFlightRequests.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return pooledClient.getInFlight();
+      }
+    }, label);
+    queuedRequests.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return pooledClient.getQueuedRequests();
+      }
+    }, label);
+  }
+
+  private static int getPoolSize() {
+    return Math.max(1, Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getClientPoolSize)
+        .orElse(DEFAULT_CLIENT_POOL_SIZE));
+  }
+
+  private static int getMaxAgeSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getClientMaxAgeSeconds)
+        .orElse(DEFAULT_CLIENT_MAX_AGE_SECONDS);
+  }
+
+  private static int getMaxRequestsPerHost() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getClientMaxRequestsPerHost)
+        .orElse(DEFAULT_CLIENT_MAX_REQUESTS_PER_HOST);
   }
 
   private ApiClient getApiClient() {
@@ -87,11 +207,82 @@ public class ClientPool extends Pool<ApiClient> {
     return client;
   }
 
+  /**
+   * Restricts this pool to the specified client, which will be used for all requests.
+   * @param apiClient the client to use
+   * @return this pool
+   */
   public ClientPool withApiClient(ApiClient apiClient) {
-    instance.getAndSet(apiClient);
+    final PooledClient pooledClient = new PooledClient();
+    pooledClient.client.set(apiClient);
+    owners.put(apiClient, pooledClient);
+    pooledClients = new PooledClient[] {pooledClient};
     return this;
   }
 
+  private class PooledClient {
+    private final AtomicReference<ApiClient> client = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile OffsetDateTime creationTime;
+
+    ApiClient acquire() {
+      retireIfTooOld();
+      final ApiClient result = Optional.ofNullable(client.get()).orElseGet(this::createIfAbsent);
+      if (result != null) {
+        inFlight.incrementAndGet();
+      }
+      return result;
+    }
+
+    private void retireIfTooOld() {
+      final ApiClient current = client.get();
+      if (current != null && isTooOld() && client.compareAndSet(current, null)) {
+        evictions.labels("age").inc();
+      }
+    }
+
+    // A client supplied with withApiClient has no creation time, and is never retired.
+    private boolean isTooOld() {
+      final int maxAgeSeconds = getMaxAgeSeconds();
+      final OffsetDateTime created = creationTime;
+      return maxAgeSeconds > 0 && created != null
+          && !SystemClock.now().isBefore(created.plusSeconds(maxAgeSeconds));
+    }
+
+    private synchronized ApiClient createIfAbsent() {
+      if (client.get() == null) {
+        final ApiClient newClient = getApiClient();
+        Optional.ofNullable(newClient).ifPresent(c -> owners.put(c, this));
+        creationTime = SystemClock.now();
+        client.set(newClient);
+      }
+      return client.get();
+    }
+
+    void release() {
+      inFlight.updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    void evict(ApiClient evictedClient) {
+      release();
+      if (client.compareAndSet(evictedClient, null)) {
+        evictions.labels("failure").inc();
+      }
+    }
+
+    int getInFlight() {
+      return inFlight.get();
+    }
+
+    int getQueuedRequests() {
+      return Optional.ofNullable(client.get())
+          .map(ApiClient::getHttpClient)
+          .map(OkHttpClient::dispatcher)
+          .map(Dispatcher::queuedCallsCount)
+          .orElse(0);
+    }
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     private final AtomicBoolean first = new AtomicBoolean(true);
 
@@ -135,6 +326,7 @@ public class ClientPool extends Pool<ApiClient> {
           client.setHttpClient(httpClient);
         }
 
+        configureDispatcher(client.getHttpClient().dispatcher());
         Monitoring.installMetrics(client);
 
         return client;
@@ -142,5 +334,11 @@ public class ClientPool extends Pool<ApiClient> {
         throw new RuntimeException(e);
       }
     }
+
+    private static void configureDispatcher(Dispatcher dispatcher) {
+      final int maxRequestsPerHost = getMaxRequestsPerHost();
+      dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+      dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    }
   }
 }
@@ -40,6 +40,7 @@ public class ClusterPresenceInfo extends ResourcePresenceInfo {
 
   public void setCluster(ClusterResource cluster) {
     this.cluster = cluster;
+    recordUpdate();
   }
 
   @Override
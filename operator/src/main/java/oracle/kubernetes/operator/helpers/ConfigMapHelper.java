@@ -3,14 +3,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,12 +15,13 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
-import com.google.gson.Gson;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.prometheus.client.Histogram;
 import jakarta.json.Json;
 import jakarta.json.JsonPatchBuilder;
 import jakarta.json.JsonValue;
@@ -47,7 +44,6 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.yaml.snakeyaml.Yaml;
 
 import static java.lang.System.lineSeparator;
 import static oracle.kubernetes.operator.IntrospectorConfigMapConstants.DOMAINZIP_HASH;
@@ -72,10 +68,19 @@ public class ConfigMapHelper {
 
   private static final String SCRIPT_LOCATION = "/scripts";
   private static final String UPDATEDOMAINRESULT = "UPDATEDOMAINRESULT";
+  private static final String UPDATE_RESULT_TOKEN = ">>>  updatedomainResult=";
+  private static final String FILE_MARKER = ">>>";
+  private static final String FILE_END = "EOF";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparator();
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  private static final Histogram introspectionParseTime = Histogram.build()
+      .name("weblogic_operator_introspection_parse_seconds")
+      .help("Time taken to parse the introspector result, including the domain topology.")
+      .buckets(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+      .register();
+
   private ConfigMapHelper() {
   }
 
@@ -89,52 +94,71 @@ public class ConfigMapHelper {
     return new ScriptConfigMapStep(domainNamespace, productVersion);
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
+  /**
+   * Parses the introspector result in a single pass, extracting each file section, delimited by a line starting
+   * with {@code >>>} and naming the file and a {@code >>>} line ending with {@code EOF}, as a substring of the
+   * result, rather than copying it line by line. A section without an end marker is ignored. Also extracts the
+   * result of an online update, if any.
+   * @param text the introspector result
+   * @return a map of file names to file contents
+   */
+  static Map<String, String> parseIntrospectorResult(String text) {
     Map<String, String> map = new HashMap<>();
-    String updateResultToken = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(updateResultToken)) {
-          int index = line.indexOf(updateResultToken);
-          int beg = index + 1 + updateResultToken.length();
-          map.put(UPDATEDOMAINRESULT, line.substring(beg - 1));
+    String fileName = null;
+    int fileStart = 0;
+    int updateResultIndex = text.indexOf(UPDATE_RESULT_TOKEN);
+    int lineStart = 0;
+    while (lineStart < text.length()) {
+      int newline = text.indexOf('\n', lineStart);
+      int nextLineStart = newline < 0 ? text.length() : newline + 1;
+      int lineEnd = getLineEnd(text, lineStart, newline);
+
+      if (fileName != null) {
+        if (isFileEnd(text, lineStart, lineEnd)) {
+          map.put(fileName, getFileContents(text, fileStart, lineStart));
+          fileName = null;
+        }
+      } else {
+        if (updateResultIndex >= 0 && updateResultIndex < lineStart) {
+          updateResultIndex = text.indexOf(UPDATE_RESULT_TOKEN, lineStart);
+        }
+        if (updateResultIndex >= 0 && updateResultIndex + UPDATE_RESULT_TOKEN.length() <= lineEnd) {
+          map.put(UPDATEDOMAINRESULT, text.substring(updateResultIndex + UPDATE_RESULT_TOKEN.length(), lineEnd));
         }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
+        if (text.startsWith(FILE_MARKER, lineStart) && !isFileEnd(text, lineStart, lineEnd)) {
+          fileName = extractFilename(text.substring(lineStart, lineEnd));
+          fileStart = nextLineStart;
         }
-        line = reader.readLine();
       }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
+      lineStart = nextLineStart;
     }
 
     return map;
   }
 
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
+  // Line terminators within a file are normalized to newlines, as when the result was read line by line.
+  private static String getFileContents(String text, int start, int end) {
+    final String contents = text.substring(start, end).trim();
+    return contents.indexOf('\r') < 0 ? contents : contents.replace("\r\n", "\n").replace('\r', '\n');
+  }
+
+  // Returns the end of the line starting at the specified position, excluding any line terminator.
+  private static int getLineEnd(String text, int lineStart, int newline) {
+    if (newline < 0) {
+      return text.length();
+    } else if (newline > lineStart && text.charAt(newline - 1) == '\r') {
+      return newline - 1;
+    } else {
+      return newline;
     }
   }
 
+  private static boolean isFileEnd(String text, int lineStart, int lineEnd) {
+    return text.startsWith(FILE_MARKER, lineStart)
+        && lineEnd - lineStart >= FILE_MARKER.length() + FILE_END.length()
+        && text.startsWith(FILE_END, lineEnd - FILE_END.length());
+  }
+
   static String extractFilename(String line) {
     int lastSlash = line.lastIndexOf('/');
     return line.substring(lastSlash + 1);
@@ -528,19 +552,23 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
-      Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
-              .map(t -> data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, convertToJson(t)));
-
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      final Histogram.Timer timer = introspectionParseTime.startTimer();
+      try {
+        String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
+        data = ConfigMapHelper.parseIntrospectorResult(result);
+        wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
+              .map(this::parseTopology)
+              .map(DomainTopology::getDomain)
+              .orElse(null);
+      } finally {
+        timer.observeDuration();
+      }
 
-      wlsDomainConfig = Optional.ofNullable(data.get(IntrospectorConfigMapConstants.TOPOLOGY_YAML))
-            .map(this::getDomainTopology)
-            .map(DomainTopology::getDomain)
-            .orElse(null);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
 
       String updateDomainResult = data.get(UPDATEDOMAINRESULT);
       if (updateDomainResult != null) {
@@ -556,8 +584,18 @@ public class ConfigMapHelper {
       }
     }
 
-    public static String convertToJson(String yaml) {
-      return new Gson().toJson(new Yaml().load(yaml), LinkedHashMap.class);
+    // The topology is parsed only once; both its JSON form and the domain configuration are derived from the tree.
+    private DomainTopology parseTopology(String topologyYaml) {
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("topology.yaml: " + topologyYaml);
+      }
+      final JsonNode topologyTree = DomainTopology.readTopologyTree(topologyYaml);
+      if (topologyTree == null) {
+        return null;
+      }
+
+      data.put(IntrospectorConfigMapConstants.TOPOLOGY_JSON, DomainTopology.toJson(topologyTree));
+      return DomainTopology.parseDomainTopology(topologyTree, this::reportValidationErrors);
     }
 
     boolean isTopologyNotValid() {
@@ -641,11 +679,6 @@ public class ConfigMapHelper {
       return wlsDomainConfig;
     }
 
-    private DomainTopology getDomainTopology(String topologyYaml) {
-      LOGGER.fine("topology.yaml: " + topologyYaml);
-      return DomainTopology.parseDomainTopologyYaml(topologyYaml, this::reportValidationErrors);
-    }
-
     private void reportValidationErrors(List<String> validationErrors) {
       packet.put(ProcessingConstants.DOMAIN_VALIDATION_ERRORS, validationErrors);
       if (!validationErrors.isEmpty()) {
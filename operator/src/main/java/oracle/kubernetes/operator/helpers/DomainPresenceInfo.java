@@ -77,6 +77,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, ClusterResource> clusters = new ConcurrentHashMap<>();
+  private final EffectiveSpecCache effectiveSpecs = new EffectiveSpecCache();
   private final ConcurrentMap<String, V1Service> clusterServices = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PodDisruptionBudget> podDisruptionBudgets = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1PersistentVolumeClaim> persistentVolumeClaims = new ConcurrentHashMap<>();
@@ -730,6 +731,8 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    */
   public void setDomain(DomainResource domain) {
     this.domain.set(domain);
+    effectiveSpecs.invalidateAll();
+    recordUpdate();
   }
 
   /**
@@ -949,7 +952,10 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   public void addClusterResource(ClusterResource clusterResource) {
     Optional.ofNullable(clusterResource)
         .map(ClusterResource::getClusterName)
-        .ifPresent(name -> clusters.put(name, clusterResource));
+        .ifPresent(name -> {
+          clusters.put(name, clusterResource);
+          effectiveSpecs.invalidateCluster(name);
+        });
   }
 
   /**
@@ -957,6 +963,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
    * @param clusterName the name of the resource to remove.
    */
   public ClusterResource removeClusterResource(String clusterName) {
+    Optional.ofNullable(clusterName).ifPresent(effectiveSpecs::invalidateCluster);
     return Optional.ofNullable(clusterName).map(clusters::remove).orElse(null);
   }
 
@@ -969,6 +976,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     resources.forEach(cr -> updated.put(cr.getClusterName(), cr));
     clusters.keySet().retainAll(updated.keySet());
     clusters.putAll(updated);
+    effectiveSpecs.invalidateAll();
   }
 
   /**
@@ -1002,14 +1010,17 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   /**
-   * Get the effective configuration of the server, based on Kubernetes resources.
+   * Get the effective configuration of the server, based on Kubernetes resources. The configuration is computed
+   * once for each generation of the domain and cluster resources.
    * @param serverName name of the WLS server.
    * @param clusterName name of the WLS cluster, or null for a non-clustered server.
    * @return the effective server spec.
    */
   public EffectiveServerSpec getServer(@Nonnull String serverName, @Nullable String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getServer(serverName, clusterName, clusterSpec);
+    final ClusterResource clusterResource = getClusterResource(clusterName);
+    final ClusterSpec clusterSpec = Optional.ofNullable(clusterResource).map(ClusterResource::getSpec).orElse(null);
+    return effectiveSpecs.getServerSpec(serverName, clusterName, getDomain(), clusterResource,
+          () -> getDomainApi().getServer(serverName, clusterName, clusterSpec));
   }
 
   private PrivateDomainApi getDomainApi() {
@@ -1017,13 +1028,16 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   /**
-   * Get the effective configuration of the cluster, based on Kubernetes resources.
+   * Get the effective configuration of the cluster, based on Kubernetes resources. The configuration is computed
+   * once for each generation of the domain and cluster resources.
    * @param clusterName name of WLS cluster.
    * @return the effective cluster spec.
    */
   public EffectiveClusterSpec getCluster(@Nonnull String clusterName) {
-    final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
-    return getDomainApi().getCluster(clusterSpec);
+    final ClusterResource clusterResource = getClusterResource(clusterName);
+    final ClusterSpec clusterSpec = Optional.ofNullable(clusterResource).map(ClusterResource::getSpec).orElse(null);
+    return effectiveSpecs.getClusterSpec(clusterName, getDomain(), clusterResource,
+          () -> getDomainApi().getCluster(clusterSpec));
   }
 
   @Nullable
@@ -1045,9 +1059,16 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
     return getDomainApi().getReplicaCount(clusterSpec);
   }
 
+  /**
+   * Sets the desired number of running managed servers in the specified cluster.
+   *
+   * @param clusterName the name of the cluster
+   * @param replicaLimit the number of replicas
+   */
   public void setReplicaCount(@Nonnull String clusterName, int replicaLimit) {
     final ClusterSpec clusterSpec = getClusterSpecFromClusterResource(clusterName);
     getDomainApi().setReplicaCount(clusterName, clusterSpec, replicaLimit);
+    effectiveSpecs.invalidateAll();
   }
 
   /**
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -8,6 +8,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import oracle.kubernetes.common.logging.MessageKeys;
@@ -22,6 +24,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
  */
 public class DomainTopology {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+  private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
 
   private boolean domainValid;
   private WlsDomainConfig domain;
@@ -43,13 +47,7 @@ public class DomainTopology {
    * @return a valid topology or null
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml, Consumer<List<String>> errorReporter) {
-    final DomainTopology domainTopology = parseDomainTopologyYaml(topologyYaml);
-    if (domainTopology == null || domainTopology.getDomainValid()) {
-      return domainTopology;
-    } else {
-      errorReporter.accept(domainTopology.validationErrors);
-      return null;
-    }
+    return parseDomainTopology(readTopologyTree(topologyYaml), errorReporter);
   }
 
   /**
@@ -58,13 +56,64 @@ public class DomainTopology {
    * @return parsed object hierarchy
    */
   public static DomainTopology parseDomainTopologyYaml(String topologyYaml) {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+    return parseDomainTopology(readTopologyTree(topologyYaml));
+  }
+
+  /**
+   * Parses a topology yaml into a tree, from which both its JSON form and the topology itself may be derived
+   * without parsing the YAML again.
+   * @param topologyYaml the YAML to parse
+   * @return the parsed tree, or null if the YAML could not be parsed
+   */
+  public static JsonNode readTopologyTree(String topologyYaml) {
+    try {
+      return YAML_MAPPER.readTree(topologyYaml);
+    } catch (Exception e) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_TOPOLOGY, e);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the compact JSON form of a parsed topology tree.
+   * @param topologyTree a tree returned by {@link #readTopologyTree(String)}
+   * @return a JSON string
+   */
+  public static String toJson(JsonNode topologyTree) {
+    try {
+      return JSON_MAPPER.writeValueAsString(topologyTree);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Converts a parsed topology tree into a topology. If validation errors occur, reports them and returns null.
+   * @param topologyTree a tree returned by {@link #readTopologyTree(String)}, or null
+   * @param errorReporter processing for the validation errors
+   * @return a valid topology or null
+   */
+  public static DomainTopology parseDomainTopology(JsonNode topologyTree, Consumer<List<String>> errorReporter) {
+    final DomainTopology domainTopology = parseDomainTopology(topologyTree);
+    if (domainTopology == null || domainTopology.getDomainValid()) {
+      return domainTopology;
+    } else {
+      errorReporter.accept(domainTopology.validationErrors);
+      return null;
+    }
+  }
+
+  private static DomainTopology parseDomainTopology(JsonNode topologyTree) {
+    if (topologyTree == null) {
+      return null;
+    }
 
     try {
-      DomainTopology domainTopology = mapper.readValue(topologyYaml, DomainTopology.class);
+      DomainTopology domainTopology = YAML_MAPPER.treeToValue(topologyTree, DomainTopology.class);
 
-      LOGGER.fine(
-          ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine(ReflectionToStringBuilder.toString(domainTopology, ToStringStyle.MULTI_LINE_STYLE));
+      }
 
       return domainTopology;
 
@@ -0,0 +1,127 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.prometheus.client.Counter;
+import oracle.kubernetes.operator.processing.EffectiveClusterSpec;
+import oracle.kubernetes.operator.processing.EffectiveServerSpec;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * The effective server and cluster specs computed for a domain. Each spec is merged from the domain and cluster
+ * resources, and is reused for as long as the domain presence holds the same resources at the same generations.
+ * A spec computed from a resource without a generation, which was therefore not read from Kubernetes, is not cached.
+ */
+class EffectiveSpecCache {
+
+  private static final Counter lookups = Counter.build()
+      .name("weblogic_operator_effective_spec_lookups_total")
+      .help("Number of lookups of effective server and cluster specs, by kind and by whether the spec was cached.")
+      .labelNames("kind", "result")
+      .register();
+
+  private final Map<String, Entry<EffectiveServerSpec>> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<String, Entry<EffectiveClusterSpec>> clusterSpecs = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the effective spec of a server, computing it if it is not cached for the specified resources.
+   * @param serverName the name of the server
+   * @param clusterName the name of the cluster containing the server, or null
+   * @param domain the domain resource
+   * @param cluster the cluster resource, or null
+   * @param factory a function to compute the spec
+   */
+  EffectiveServerSpec getServerSpec(String serverName, String clusterName,
+                                    DomainResource domain, ClusterResource cluster,
+                                    Supplier<EffectiveServerSpec> factory) {
+    return lookup("server", serverSpecs, serverName + "/" + clusterName, clusterName, domain, cluster, factory);
+  }
+
+  /**
+   * Returns the effective spec of a cluster, computing it if it is not cached for the specified resources.
+   * @param clusterName the name of the cluster
+   * @param domain the domain resource
+   * @param cluster the cluster resource, or null
+   * @param factory a function to compute the spec
+   */
+  EffectiveClusterSpec getClusterSpec(String clusterName, DomainResource domain, ClusterResource cluster,
+                                      Supplier<EffectiveClusterSpec> factory) {
+    return lookup("cluster", clusterSpecs, clusterName, clusterName, domain, cluster, factory);
+  }
+
+  private <S> S lookup(String kind, Map<String, Entry<S>> specs, String key, String clusterName,
+                       DomainResource domain, ClusterResource cluster, Supplier<S> factory) {
+    final Entry<S> entry = specs.get(key);
+    if (entry != null && entry.isComputedFrom(domain, cluster)) {
+      lookups.labels(kind, "hit").inc();
+      return entry.spec;
+    }
+
+    lookups.labels(kind, "miss").inc();
+    final S spec = factory.get();
+    if (isCacheable(domain) && (cluster == null || isCacheable(cluster))) {
+      specs.put(key, new Entry<>(spec, clusterName, domain, cluster));
+    }
+    return spec;
+  }
+
+  private static boolean isCacheable(KubernetesObject resource) {
+    return getGeneration(resource) != null;
+  }
+
+  private static Long getGeneration(KubernetesObject resource) {
+    return Optional.ofNullable(resource).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getGeneration)
+          .orElse(null);
+  }
+
+  /**
+   * Discards the specs computed from the named cluster.
+   * @param clusterName the name of a cluster
+   */
+  void invalidateCluster(String clusterName) {
+    clusterSpecs.remove(clusterName);
+    serverSpecs.values().removeIf(entry -> Objects.equals(clusterName, entry.clusterName));
+  }
+
+  /**
+   * Discards all cached specs.
+   */
+  void invalidateAll() {
+    serverSpecs.clear();
+    clusterSpecs.clear();
+  }
+
+  private static class Entry<S> {
+    private final S spec;
+    private final String clusterName;
+    private final DomainResource domain;
+    private final Long domainGeneration;
+    private final ClusterResource cluster;
+    private final Long clusterGeneration;
+
+    Entry(S spec, String clusterName, DomainResource domain, ClusterResource cluster) {
+      this.spec = spec;
+      this.clusterName = clusterName;
+      this.domain = domain;
+      this.domainGeneration = getGeneration(domain);
+      this.cluster = cluster;
+      this.clusterGeneration = getGeneration(cluster);
+    }
+
+    // The resources are compared by identity, since a resource is replaced, rather than updated, when it changes.
+    boolean isComputedFrom(DomainResource domain, ClusterResource cluster) {
+      return this.domain == domain && Objects.equals(domainGeneration, getGeneration(domain))
+          && this.cluster == cluster && Objects.equals(clusterGeneration, getGeneration(cluster));
+    }
+  }
+}
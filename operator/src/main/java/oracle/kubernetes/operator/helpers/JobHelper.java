@@ -79,7 +79,6 @@ public class JobHelper {
   private static final int JOB_DELETE_TIMEOUT_SECONDS = 1;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   public static final String INTROSPECTOR_LOG_PREFIX = "Introspector Job Log: ";
-  private static final String EOL_PATTERN = "\\r?\\n";
 
   private JobHelper() {
   }
@@ -593,7 +592,9 @@ public class JobHelper {
       }
 
       private void processIntrospectionResult(Packet packet, String result) {
-        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+        if (LOGGER.isFineEnabled()) {
+          LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+        }
         convertJobLogsToOperatorLogs(result);
         packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
         MakeRightDomainOperation.recordInspection(packet);
@@ -636,18 +637,21 @@ public class JobHelper {
       //  - assumes any lines that don't start with '@[' are part
       //    of the previous log message
       //  - ignores all lines in the log up to the first line that starts with '@['
+      //  - reads the lines lazily, rather than first splitting the whole log into an array of lines
       private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (logMessage.length() > 0) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
-        }
+        jobLogs.lines().forEach(this::addJobLogLine);
         logToOperator();
       }
 
+      private void addJobLogLine(String line) {
+        if (line.startsWith("@[")) {
+          logToOperator();
+          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
+        } else if (logMessage.length() > 0) {
+          logMessage.append(System.lineSeparator()).append(line.trim());
+        }
+      }
+
       private void logToOperator() {
         if (logMessage.length() == 0) {
           return;
@@ -690,7 +694,7 @@ public class JobHelper {
       }
 
       private String getFirstLine(String logMsg) {
-        return logMsg.split(EOL_PATTERN)[0];
+        return logMsg.lines().findFirst().orElse("");
       }
 
       private String onSeparateLines(List<String> lines) {
@@ -4,11 +4,13 @@
 package oracle.kubernetes.operator.helpers;
 
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.work.PacketComponent;
+import oracle.kubernetes.utils.SystemClock;
 
 /**
  * Base class for DomainPresenceInfo and ClusterPresenceInfo.
@@ -17,6 +19,9 @@ public abstract class ResourcePresenceInfo implements PacketComponent {
 
   final String namespace;
 
+  // The time at which the resource was last replaced.
+  private volatile OffsetDateTime lastUpdateTime = SystemClock.now();
+
   /**
    * Create presence for a domain or cluster.
    * @param namespace Namespace
@@ -37,6 +42,17 @@ public abstract class ResourcePresenceInfo implements PacketComponent {
 
   public abstract String getResourceName();
 
+  /**
+   * Returns the time at which the resource held by this presence info was last set.
+   */
+  public OffsetDateTime getLastUpdateTime() {
+    return lastUpdateTime;
+  }
+
+  void recordUpdate() {
+    lastUpdateTime = SystemClock.now();
+  }
+
   Long getGeneration(KubernetesObject resource) {
     return Optional.ofNullable(resource).map(KubernetesObject::getMetadata).map(V1ObjectMeta::getGeneration).orElse(0L);
   }
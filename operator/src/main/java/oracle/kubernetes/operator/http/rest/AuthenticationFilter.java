@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -30,6 +30,9 @@ import org.glassfish.jersey.server.ResourceConfig;
  * RestBackend in as a request property so that the jaxrs resource impls can call the backend to get
  * their work done.
  *
+ * <p>A request whose Cache-Control header includes the no-cache directive directs the backend to read resources
+ * directly from Kubernetes.
+ *
  * <p>The backend impl is responsible for authenticating the token (if it can't then it throws a
  * WebApplicationException) and storing info about the authenticated user so that it can do access
  * checks for this request later.
@@ -42,6 +45,7 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
 
   public static final String REST_BACKEND_PROPERTY = "RestBackend";
   public static final String ACCESS_TOKEN_PREFIX = "Bearer ";
+  public static final String NO_CACHE_DIRECTIVE = "no-cache";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @Context private Application application;
 
@@ -58,6 +62,9 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
       String t = getAccessToken(req);
       RestBackend be = r.getBackend(t);
+      if (isNoCacheRequested(req)) {
+        be.requireLiveReads();
+      }
       req.setProperty(REST_BACKEND_PROPERTY, be);
     } catch (RuntimeException | Error re) {
       authenticationFailure(re);
@@ -66,6 +73,14 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
     LOGGER.exiting();
   }
 
+  // A client which cannot accept data from the operator's watch-maintained copies of resources says so
+  // with the standard HTTP directive.
+  private boolean isNoCacheRequested(ContainerRequestContext req) {
+    return Optional.ofNullable(req.getHeaderString(HttpHeaders.CACHE_CONTROL))
+        .map(h -> h.toLowerCase(Locale.ROOT).contains(NO_CACHE_DIRECTIVE))
+        .orElse(false);
+  }
+
   private String getAccessToken(ContainerRequestContext req) {
     LOGGER.entering();
     String atz = req.getHeaderString(HttpHeaders.AUTHORIZATION);
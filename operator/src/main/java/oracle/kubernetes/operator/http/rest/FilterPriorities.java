@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -22,6 +22,9 @@ public class FilterPriorities {
   public static final int REQUEST_DEBUG_LOGGING_FILTER_PRIORITY =
       CSRF_PROTECTION_FILTER_PRIORITY + 200; // after the CSRF filter
 
+  /** The last modified filter's priority. */
+  public static final int LAST_MODIFIED_FILTER_PRIORITY = Priorities.HEADER_DECORATOR;
+
   /** The response debug logging filter's priority. */
   public static final int RESPONSE_DEBUG_LOGGING_FILTER_PRIORITY =
       ERROR_FILTER_PRIORITY + 200; // after the error filter
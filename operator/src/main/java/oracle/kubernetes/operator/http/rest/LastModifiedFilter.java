@@ -0,0 +1,35 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest;
+
+import java.util.Date;
+import java.util.Optional;
+import javax.annotation.Priority;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+
+/**
+ * LastModifiedFilter reports how current a response is when it was built from the operator's watch-maintained
+ * copies of domain and cluster resources, by adding a Last-Modified header with the time those copies last changed.
+ */
+@Provider
+@Priority(FilterPriorities.LAST_MODIFIED_FILTER_PRIORITY)
+public class LastModifiedFilter implements ContainerResponseFilter {
+
+  public LastModifiedFilter() {
+    // nothing to do
+  }
+
+  @Override
+  public void filter(ContainerRequestContext req, ContainerResponseContext res) {
+    Optional.ofNullable((RestBackend) req.getProperty(AuthenticationFilter.REST_BACKEND_PROPERTY))
+        .map(RestBackend::getLastModified)
+        .ifPresent(time -> res.getHeaders().putSingle(HttpHeaders.LAST_MODIFIED, Date.from(time.toInstant())));
+  }
+}
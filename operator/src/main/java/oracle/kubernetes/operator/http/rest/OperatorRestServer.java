@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -88,6 +88,7 @@ public class OperatorRestServer extends BaseRestServer {
             .register(ExceptionMapper.class)
             .register(CsrfProtectionFilter.class)
             .register(AuthenticationFilter.class)
+            .register(LastModifiedFilter.class)
             .packages(VersionsResource.class.getPackageName());
     rc.setProperties(Map.of(RestConfig.REST_CONFIG_PROPERTY, restConfig));
     return rc;
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.http.rest;
 
+import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -11,6 +13,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,6 +34,7 @@ import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.OperatorMain;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
@@ -44,12 +48,15 @@ import oracle.kubernetes.operator.http.rest.model.DomainAction;
 import oracle.kubernetes.operator.http.rest.model.DomainActionType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.utils.ExpiringCache;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import static oracle.kubernetes.common.logging.MessageKeys.INVALID_DOMAIN_UID;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
@@ -58,6 +65,10 @@ import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorName
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
  * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
  * hold some per-request state.
+ *
+ * <p>Domain and cluster resources are normally read from the copies which the operator maintains from its watches,
+ * so that the cost of a request does not grow with the number of managed namespaces. Requests which change those
+ * resources, and those whose callers ask for it, read them from Kubernetes instead.
  */
 public class RestBackendImpl implements RestBackend {
 
@@ -74,12 +85,26 @@ public class RestBackendImpl implements RestBackend {
         return null;
       };
 
+  // Maps a domain UID to the namespace of the domain, as known to the domain processor; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<String, String> namespaceIndex = DomainProcessorImpl::getDomainNamespace;
+
+  // Holds the results of successful reviews, shared by all requests; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ReviewCache reviewCache = new ReviewCache();
+
+  // Supplies the operator's copies of the domain and cluster resources; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ResourceModel resourceModel = new DomainProcessorResourceModel();
+
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Supplier<Collection<String>> domainNamespaces;
   private V1UserInfo userInfo;
   private final CallBuilder callBuilder;
+  private boolean liveReads;
+  private boolean modelRead;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -103,25 +128,9 @@ public class RestBackendImpl implements RestBackend {
     }
     boolean authorized;
     if (domainUid == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.CLUSTER,
-              null);
+      authorized = isAllowed(operation, null, Scope.CLUSTER, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUid,
-              Scope.NAMESPACE,
-              getNamespace(domainUid));
+      authorized = isAllowed(operation, domainUid, Scope.NAMESPACE, getNamespace(domainUid));
     }
     if (!authorized) {
       WebApplicationException e = createWebApplicationException(Status.FORBIDDEN, null);
@@ -130,15 +139,37 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private String getNamespace(String domainUid) {
-    return getDomain(domainUid).map(DomainResource::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
+  // Only permissions granted are cached, so that a denial caused by a failed review is never reused.
+  private boolean isAllowed(Operation operation, String domainUid, Scope scope, String namespace) {
+    final List<Object> key = Arrays.asList(
+        userInfo.getUsername(), userInfo.getGroups(), operation, Resource.DOMAINS, domainUid, scope, namespace);
+    return Boolean.TRUE.equals(
+        reviewCache.accessReviews.computeIfAbsent(key, k -> reviewAccess(operation, domainUid, scope, namespace)));
+  }
+
+  private Boolean reviewAccess(Operation operation, String domainUid, Scope scope, String namespace) {
+    return atz.check(userInfo.getUsername(), userInfo.getGroups(), operation, Resource.DOMAINS, domainUid,
+        scope, namespace) ? Boolean.TRUE : null;
   }
 
+  // The domain processor knows the namespace of each domain it manages; other domains must be looked up.
+  private String getNamespace(String domainUid) {
+    return Optional.ofNullable(namespaceIndex.apply(domainUid))
+        .filter(ns -> domainNamespaces.get().contains(ns))
+        .orElseGet(() -> getDomain(domainUid)
+            .map(DomainResource::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null));
+  }
 
+  // Only successful reviews are cached, keyed by a hash of the token so that the token itself is not retained.
   private V1UserInfo authenticate(String accessToken) {
     if (!useAuthenticateWithTokenReview()) {
       return null;
     }
+    return reviewCache.tokenReviews.computeIfAbsent(
+        DigestUtils.sha256Hex(Optional.ofNullable(accessToken).orElse("")), k -> reviewToken(accessToken));
+  }
+
+  private V1UserInfo reviewToken(String accessToken) {
     V1TokenReviewStatus status = atn.check(principal, accessToken,
         OperatorMain.isDedicated() ? getOperatorNamespace() : null);
     if (status == null) {
@@ -182,7 +213,33 @@ public class RestBackendImpl implements RestBackend {
     return domainNamespaces.get().stream().map(this::getClusterResources).flatMap(Collection::stream);
   }
 
+  @Override
+  public void requireLiveReads() {
+    liveReads = true;
+  }
+
+  @Override
+  public OffsetDateTime getLastModified() {
+    return modelRead ? resourceModel.getLastUpdateTime() : null;
+  }
+
   private List<DomainResource> getDomains(String ns) {
+    if (liveReads) {
+      return listDomains(ns);
+    }
+    modelRead = true;
+    return resourceModel.getDomains(ns);
+  }
+
+  private List<ClusterResource> getClusterResources(String ns) {
+    if (liveReads) {
+      return listClusterResources(ns);
+    }
+    modelRead = true;
+    return resourceModel.getClusterResources(ns);
+  }
+
+  private List<DomainResource> listDomains(String ns) {
     try {
       return callBuilder.listDomain(ns).getItems();
     } catch (ApiException e) {
@@ -190,7 +247,7 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private List<ClusterResource> getClusterResources(String ns) {
+  private List<ClusterResource> listClusterResources(String ns) {
     try {
       return callBuilder.listCluster(ns).getItems();
     } catch (ApiException e) {
@@ -205,6 +262,7 @@ public class RestBackendImpl implements RestBackend {
 
   @Override
   public void performDomainAction(String domainUid, DomainAction params) {
+    requireLiveReads(); // changes must be based on the current resources
     verifyDomain(domainUid);
     authorize(domainUid, Operation.UPDATE);
 
@@ -313,6 +371,14 @@ public class RestBackendImpl implements RestBackend {
     return wlsClusterConfigs.keySet();
   }
 
+  @Override
+  public List<MakeRightTrace> getMakeRightTraces(String domainUid) {
+    verifyDomain(domainUid);
+    authorize(domainUid, Operation.GET);
+
+    return DomainProcessorImpl.getMakeRightTraces(getNamespace(domainUid), domainUid);
+  }
+
   @Override
   public boolean isCluster(String domainUid, String cluster) {
     authorize(domainUid, Operation.LIST);
@@ -321,6 +387,7 @@ public class RestBackendImpl implements RestBackend {
 
   @Override
   public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+    requireLiveReads(); // changes must be based on the current resources
     if (managedServerCount < 0) {
       throw createWebApplicationException(
           Status.BAD_REQUEST, MessageKeys.INVALID_MANAGE_SERVER_COUNT, managedServerCount);
@@ -555,4 +622,44 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface ResourceModel {
+    List<DomainResource> getDomains(String ns);
+
+    List<ClusterResource> getClusterResources(String ns);
+
+    OffsetDateTime getLastUpdateTime();
+  }
+
+  static class DomainProcessorResourceModel implements ResourceModel {
+    @Override
+    public List<DomainResource> getDomains(String ns) {
+      return DomainProcessorImpl.getDomains(ns);
+    }
+
+    @Override
+    public List<ClusterResource> getClusterResources(String ns) {
+      return DomainProcessorImpl.getClusterResources(ns);
+    }
+
+    @Override
+    public OffsetDateTime getLastUpdateTime() {
+      return DomainProcessorImpl.getLastResourceUpdateTime();
+    }
+  }
+
+  /**
+   * The results of successful TokenReviews and SubjectAccessReviews, each reused for a limited time, so that
+   * repeated requests from the same client do not each require new reviews.
+   */
+  static class ReviewCache {
+    private final ExpiringCache<String, V1UserInfo> tokenReviews = createCache("tokenReview");
+    private final ExpiringCache<List<Object>, Boolean> accessReviews = createCache("subjectAccessReview");
+
+    private static <K, V> ExpiringCache<K, V> createCache(String name) {
+      return new ExpiringCache<>(name,
+          () -> TuningParameters.getInstance().getRestAuthCacheTtlSeconds(),
+          () -> TuningParameters.getInstance().getRestAuthCacheMaxEntries());
+    }
+  }
 }
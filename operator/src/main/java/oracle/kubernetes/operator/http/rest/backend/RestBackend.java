@@ -1,13 +1,16 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest.backend;
 
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import oracle.kubernetes.operator.http.rest.model.DomainAction;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -75,7 +78,35 @@ public interface RestBackend {
    */
   void scaleCluster(String domainUid, String cluster, int managedServerCount);
 
+  /**
+   * Get the recent completed make-right traces of a WebLogic domain, oldest first.
+   *
+   * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator. The caller is responsible for calling isDomainUid first and not
+   *     calling this method if the domain has not been registered.
+   * @return a List of make-right traces.
+   */
+  default List<MakeRightTrace> getMakeRightTraces(String domainUid) {
+    return Collections.emptyList();
+  }
+
   Object createOrReplaceCluster(Map<String, Object> body);
 
   List<Map<String, Object>> listClusters(String namespace);
+
+  /**
+   * Directs this backend to read domain and cluster resources from Kubernetes, rather than from the operator's
+   * own copies of them, which are maintained by watches and so may lag recent changes.
+   */
+  default void requireLiveReads() {
+    // by default, all reads are live
+  }
+
+  /**
+   * Returns the time at which the operator's copies of the domain and cluster resources read by this backend were
+   * last changed, or null if no such copies were read.
+   */
+  default OffsetDateTime getLastModified() {
+    return null;
+  }
 }
@@ -0,0 +1,122 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
+
+/** MakeRightTraceModel describes one completed run of the operator's make-right processing of a domain. */
+public class MakeRightTraceModel extends ItemModel {
+
+  private String startTime;
+  private String result;
+  private Double durationSeconds;
+  private Double gateWaitSeconds;
+  private Map<String, Double> phaseSeconds = new LinkedHashMap<>();
+  private List<ApiCallsModel> apiCalls = new ArrayList<>();
+
+  /** Construct an empty MakeRightTraceModel. */
+  public MakeRightTraceModel() {
+  }
+
+  /**
+   * Construct a MakeRightTraceModel populated from a completed trace.
+   *
+   * @param trace - the trace of a make-right.
+   */
+  public MakeRightTraceModel(MakeRightTrace trace) {
+    startTime = trace.getStartTime().toString();
+    result = trace.getResult();
+    durationSeconds = trace.getDurationSeconds();
+    gateWaitSeconds = trace.getGateWaitSeconds();
+    phaseSeconds = trace.getPhaseSeconds();
+    trace.getApiCalls().forEach(calls -> apiCalls.add(new ApiCallsModel(calls)));
+  }
+
+  /** Get the time at which the make-right was requested. */
+  public String getStartTime() {
+    return startTime;
+  }
+
+  /** Get the outcome of the make-right: success or failure. */
+  public String getResult() {
+    return result;
+  }
+
+  /** Get the time from the request for the make-right until it completed. */
+  public Double getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  /** Get the time the make-right waited for an earlier make-right of the domain before running its first step. */
+  public Double getGateWaitSeconds() {
+    return gateWaitSeconds;
+  }
+
+  /** Get the time spent in each phase of the make-right, including the time suspended within it. */
+  public Map<String, Double> getPhaseSeconds() {
+    return phaseSeconds;
+  }
+
+  /** Get the Kubernetes calls made by the make-right, by verb and resource. */
+  public List<ApiCallsModel> getApiCalls() {
+    return apiCalls;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "startTime=" + getStartTime() + ", result=" + getResult() + ", durationSeconds=" + getDurationSeconds()
+        + ", " + super.propertiesToString();
+  }
+
+  /** ApiCallsModel describes the Kubernetes calls made by a make-right with the same verb and resource. */
+  public static class ApiCallsModel extends BaseModel {
+    private String verb;
+    private String resource;
+    private int count;
+    private long bytesSent;
+    private long bytesReceived;
+
+    /** Construct an empty ApiCallsModel. */
+    public ApiCallsModel() {
+    }
+
+    ApiCallsModel(MakeRightTrace.ApiCalls calls) {
+      verb = calls.getVerb();
+      resource = calls.getResource();
+      count = calls.getCount();
+      bytesSent = calls.getBytesSent();
+      bytesReceived = calls.getBytesReceived();
+    }
+
+    public String getVerb() {
+      return verb;
+    }
+
+    public String getResource() {
+      return resource;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public long getBytesSent() {
+      return bytesSent;
+    }
+
+    public long getBytesReceived() {
+      return bytesReceived;
+    }
+
+    @Override
+    protected String propertiesToString() {
+      return "verb=" + verb + ", resource=" + resource + ", count=" + count;
+    }
+  }
+}
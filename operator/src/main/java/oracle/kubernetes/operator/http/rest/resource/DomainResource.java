@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest.resource;
@@ -45,6 +45,7 @@ public class DomainResource extends BaseResource {
     DomainModel item = new DomainModel(getDomainUid());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
+    addLink(item, "makeRightTraces");
     LOGGER.exiting(item);
     return item;
   }
@@ -73,6 +74,19 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'makeRightTraces' jaxrs child resource.
+   *
+   * @return the make-right traces sub resource.
+   */
+  @Path("makeRightTraces")
+  public MakeRightTracesResource getMakeRightTracesResource() {
+    LOGGER.entering(href());
+    MakeRightTracesResource result = new MakeRightTracesResource(this, "makeRightTraces");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getDomainUid() {
     return getPathSegment();
   }
@@ -0,0 +1,55 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.rest.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.http.rest.model.CollectionModel;
+import oracle.kubernetes.operator.http.rest.model.MakeRightTraceModel;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
+
+/**
+ * MakeRightTracesResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/makeRightTraces path. It can be used to list the
+ * traces of the operator's recent make-right processing of a WebLogic domain.
+ */
+public class MakeRightTracesResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a MakeRightTracesResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public MakeRightTracesResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * List the traces of the recent make-right processing of a WebLogic domain, oldest first.
+   *
+   * @return a collection of MakeRightTraceModels describing the traces.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public CollectionModel<MakeRightTraceModel> get() {
+    LOGGER.entering(href());
+    CollectionModel<MakeRightTraceModel> collection = new CollectionModel<>();
+    for (MakeRightTrace trace : getBackend().getMakeRightTraces(getDomainUid())) {
+      collection.addItem(new MakeRightTraceModel(trace));
+    }
+    addSelfAndParentLinks(collection);
+    LOGGER.exiting(collection);
+    return collection;
+  }
+
+  private String getDomainUid() {
+    return getParent().getPathSegment();
+  }
+}
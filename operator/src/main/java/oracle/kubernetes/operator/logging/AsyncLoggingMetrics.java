@@ -0,0 +1,35 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.logging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import oracle.kubernetes.common.logging.AsyncConsoleHandler;
+
+/** Reports the state of the asynchronous console handlers as metrics. */
+class AsyncLoggingMetrics extends Collector {
+
+  private static final AtomicBoolean registered = new AtomicBoolean();
+
+  static void install() {
+    if (registered.compareAndSet(false, true)) {
+      new AsyncLoggingMetrics().register();
+    }
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    final GaugeMetricFamily queued = new GaugeMetricFamily("weblogic_operator_log_queued_records",
+          "Number of log records waiting to be written to the console.", AsyncConsoleHandler.getQueuedRecordCount());
+    final CounterMetricFamily discarded = new CounterMetricFamily("weblogic_operator_log_records_discarded",
+          "Number of log records discarded because the console buffer was full.", List.of("level"));
+    AsyncConsoleHandler.getDiscardedRecordCounts()
+          .forEach((level, count) -> discarded.addMetric(List.of(level), count));
+    return List.of(queued, discarded);
+  }
+}
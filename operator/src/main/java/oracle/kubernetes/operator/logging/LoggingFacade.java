@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.logging;
@@ -11,6 +11,10 @@ import oracle.kubernetes.common.logging.BaseLoggingFacade;
 /** Centralized logging for the operator. */
 public class LoggingFacade extends BaseLoggingFacade {
 
+  static {
+    AsyncLoggingMetrics.install();
+  }
+
   /**
    * Construct logging facade.
    *
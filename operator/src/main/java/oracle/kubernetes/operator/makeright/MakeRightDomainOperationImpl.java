@@ -204,7 +204,8 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
   @Override
   @Nonnull
   public Packet createPacket() {
-    Packet packet = new Packet().with(delegate).with(liveInfo).with(this);
+    Packet packet = new Packet().with(delegate).with(liveInfo).with(this)
+        .with(new MakeRightTrace(getNamespace(), liveInfo.getDomainUid()));
     packet
         .getComponents()
         .put(
@@ -228,6 +229,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
   public Step createSteps() {
     final List<Step> result = new ArrayList<>();
 
+    result.add(MakeRightTrace.phaseStep(MakeRightTrace.SETUP));
     result.add(new UpdateDomainPresenceInfoStep(liveInfo));
     if (deleting || domainHasDeletionTimestamp()) {
       result.add(new StartPlanStep(liveInfo, createDomainDownPlan()));
@@ -275,6 +277,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
   private Step createDomainDownPlan() {
     return Step.chain(
+        MakeRightTrace.phaseStep(MakeRightTrace.DELETION),
         createEventStep(new EventData(DOMAIN_DELETED)),
         new DeleteDomainStep(),
         new UnregisterStatusUpdaterStep(),
@@ -301,8 +304,10 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
   private Step createDomainUpPlan(DomainPresenceInfo info) {
     Step managedServerStrategy = Step.chain(
+        MakeRightTrace.phaseStep(MakeRightTrace.MANAGED_SERVERS),
         new ManagedServersUpStep(null),
         MonitoringExporterSteps.updateExporterSidecars(),
+        MakeRightTrace.phaseStep(MakeRightTrace.STATUS_UPDATE),
         createLastStatusUpdateStep(new TailStep()));
 
     Step domainUpStrategy =
@@ -310,12 +315,14 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
             ConfigMapHelper.createOrReplaceFluentdConfigMapStep(),
             domainIntrospectionSteps(),
             new DomainStatusStep(),
+            MakeRightTrace.phaseStep(MakeRightTrace.ADMIN_SERVER),
             DomainProcessorImpl.bringAdminServerUp(delegate.getPodAwaiterStepFactory(info.getNamespace())),
             managedServerStrategy);
 
     if (info.getDomain().getInitializeDomainOnPV() != null) {
       domainUpStrategy = Step.chain(initializePvPvcStep(), domainUpStrategy);
     }
+    domainUpStrategy = Step.chain(MakeRightTrace.phaseStep(MakeRightTrace.INTROSPECTION), domainUpStrategy);
 
     Step introspectionAndDomainPresenceSteps = Step.chain(ConfigMapHelper.readExistingIntrospectorConfigMap(),
         DomainPresenceStep.createDomainPresenceStep(domainUpStrategy, managedServerStrategy));
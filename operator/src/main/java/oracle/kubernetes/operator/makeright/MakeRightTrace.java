@@ -0,0 +1,274 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.makeright;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.PacketComponent;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A record of one run of a domain make-right: the time it waited to start, the time spent in each of its phases,
+ * and the Kubernetes calls it made. A phase begins when its marker step runs and ends when the next phase begins,
+ * so that the time the make-right spends suspended, for example waiting for a pod to become ready, is charged
+ * to the phase which was waiting. Phases entered more than once accumulate their time.
+ *
+ * <p>The trace is carried in the make-right packet, and so is shared by any child fibers, which may record calls
+ * concurrently. Once the trace is complete, it ignores any later recording, and so may be read without
+ * further change.
+ */
+public class MakeRightTrace implements PacketComponent {
+
+  public static final String SETUP = "setup";
+  public static final String INTROSPECTION = "introspection";
+  public static final String ADMIN_SERVER = "adminServer";
+  public static final String MANAGED_SERVERS = "managedServers";
+  public static final String STATUS_UPDATE = "statusUpdate";
+  public static final String DELETION = "deletion";
+
+  private static final String COMPONENT_KEY = "makeRightTrace";
+
+  private static final Histogram phaseTime = Histogram.build()
+      .name("weblogic_operator_make_right_phase_seconds")
+      .help("Time spent by domain make-rights in each phase, including the time suspended within it.")
+      .labelNames("phase")
+      .buckets(0.01, 0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600)
+      .register();
+  private static final Counter apiCalls = Counter.build()
+      .name("weblogic_operator_make_right_api_calls_total")
+      .help("Number of Kubernetes calls made by domain make-rights, by verb and resource.")
+      .labelNames("verb", "resource")
+      .register();
+  private static final Counter apiBytes = Counter.build()
+      .name("weblogic_operator_make_right_api_bytes_total")
+      .help("Bytes transferred by the Kubernetes calls made by domain make-rights, by direction.")
+      .labelNames("direction")
+      .register();
+
+  private final String namespace;
+  private final String domainUid;
+  private final OffsetDateTime startTime = SystemClock.now();
+  private OffsetDateTime firstStepTime;
+  private String phase;
+  private OffsetDateTime phaseStartTime;
+  private final Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+  private final Map<String, ApiCalls> calls = new TreeMap<>();
+  private String result;
+  private Duration duration;
+
+  /**
+   * Creates a trace for a make-right of the specified domain, starting now.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public MakeRightTrace(String namespace, String domainUid) {
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+  }
+
+  /**
+   * Returns the trace in the specified packet, if any.
+   * @param packet a packet
+   */
+  public static Optional<MakeRightTrace> fromPacket(Packet packet) {
+    return Optional.ofNullable(packet.getSpi(MakeRightTrace.class));
+  }
+
+  @Override
+  public void addToPacket(Packet packet) {
+    packet.getComponents().put(COMPONENT_KEY, Component.createFor(this));
+  }
+
+  /**
+   * Creates a step which begins the named phase of the make-right traced in its packet, if any.
+   * @param phase the name of the phase
+   */
+  public static Step phaseStep(String phase) {
+    return new PhaseStep(phase);
+  }
+
+  private static class PhaseStep extends Step {
+    private final String phase;
+
+    PhaseStep(String phase) {
+      this.phase = phase;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      fromPacket(packet).ifPresent(trace -> trace.beginPhase(phase));
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Ends the current phase, if any, and begins the named one.
+   * @param name the name of the phase
+   */
+  public synchronized void beginPhase(String name) {
+    if (isComplete()) {
+      return;
+    }
+
+    final OffsetDateTime now = SystemClock.now();
+    if (firstStepTime == null) {
+      firstStepTime = now;
+    }
+    endPhase(now);
+    phase = name;
+    phaseStartTime = now;
+  }
+
+  private void endPhase(OffsetDateTime now) {
+    if (phase != null) {
+      phaseDurations.merge(phase, Duration.between(phaseStartTime, now), Duration::plus);
+    }
+  }
+
+  /**
+   * Records a completed Kubernetes call.
+   * @param verb the operation performed by the call
+   * @param resource the type of resource on which the call operated
+   * @param bytesSent the size of the request body
+   * @param bytesReceived the size of the response body
+   */
+  public synchronized void recordApiCall(String verb, String resource, long bytesSent, long bytesReceived) {
+    if (isComplete()) {
+      return;
+    }
+
+    calls.computeIfAbsent(verb + " " + resource, k -> new ApiCalls(verb, resource)).add(bytesSent, bytesReceived);
+    apiCalls.labels(verb, resource).inc();
+    apiBytes.labels("sent").inc(bytesSent);
+    apiBytes.labels("received").inc(bytesReceived);
+  }
+
+  /**
+   * Completes this trace, ending its current phase.
+   * @param result a description of the outcome of the make-right
+   * @return this trace
+   */
+  public synchronized MakeRightTrace complete(String result) {
+    if (!isComplete()) {
+      final OffsetDateTime now = SystemClock.now();
+      endPhase(now);
+      this.result = result;
+      this.duration = Duration.between(startTime, now);
+      phaseDurations.forEach((name, time) -> phaseTime.labels(name).observe(toSeconds(time)));
+    }
+    return this;
+  }
+
+  private boolean isComplete() {
+    return result != null;
+  }
+
+  private static double toSeconds(Duration duration) {
+    return duration.toNanos() / 1.0E9;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  public OffsetDateTime getStartTime() {
+    return startTime;
+  }
+
+  /** Returns the outcome of the make-right, or null if it has not completed. */
+  public synchronized String getResult() {
+    return result;
+  }
+
+  /** Returns the time from the start of the make-right until it completed, or null if it has not completed. */
+  public synchronized Double getDurationSeconds() {
+    return Optional.ofNullable(duration).map(MakeRightTrace::toSeconds).orElse(null);
+  }
+
+  /** Returns the time the make-right waited to run its first step, or null if it has not run one. */
+  public synchronized Double getGateWaitSeconds() {
+    return Optional.ofNullable(firstStepTime).map(t -> toSeconds(Duration.between(startTime, t))).orElse(null);
+  }
+
+  /** Returns the time spent in each completed phase, in the order in which the phases were first entered. */
+  public synchronized Map<String, Double> getPhaseSeconds() {
+    final Map<String, Double> result = new LinkedHashMap<>();
+    phaseDurations.forEach((name, time) -> result.put(name, toSeconds(time)));
+    return result;
+  }
+
+  /** Returns the Kubernetes calls made, summarized by verb and resource. */
+  public synchronized List<ApiCalls> getApiCalls() {
+    final List<ApiCalls> result = new ArrayList<>();
+    calls.values().forEach(c -> result.add(c.copy()));
+    return result;
+  }
+
+  /**
+   * The Kubernetes calls made by a make-right with the same verb and resource.
+   */
+  public static class ApiCalls {
+    private final String verb;
+    private final String resource;
+    private int count;
+    private long bytesSent;
+    private long bytesReceived;
+
+    ApiCalls(String verb, String resource) {
+      this.verb = verb;
+      this.resource = resource;
+    }
+
+    void add(long bytesSent, long bytesReceived) {
+      this.count++;
+      this.bytesSent += bytesSent;
+      this.bytesReceived += bytesReceived;
+    }
+
+    ApiCalls copy() {
+      final ApiCalls copy = new ApiCalls(verb, resource);
+      copy.count = count;
+      copy.bytesSent = bytesSent;
+      copy.bytesReceived = bytesReceived;
+      return copy;
+    }
+
+    public String getVerb() {
+      return verb;
+    }
+
+    public String getResource() {
+      return resource;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public long getBytesSent() {
+      return bytesSent;
+    }
+
+    public long getBytesReceived() {
+      return bytesReceived;
+    }
+  }
+}
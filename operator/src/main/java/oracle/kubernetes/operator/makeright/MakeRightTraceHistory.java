@@ -0,0 +1,74 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.makeright;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * The most recent completed make-right traces of each domain. The number retained for each domain is set by
+ * a tuning parameter; the oldest trace of a domain is discarded when a new one is added beyond that number.
+ */
+public class MakeRightTraceHistory {
+
+  private final Map<String, Deque<MakeRightTrace>> traces = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a completed trace to the history of its domain.
+   * @param trace the trace to add
+   */
+  public void add(MakeRightTrace trace) {
+    final int limit = TuningParameters.getInstance().getMakeRightTraceCount();
+    if (limit <= 0) {
+      return;
+    }
+
+    final Deque<MakeRightTrace> domainTraces
+        = traces.computeIfAbsent(getKey(trace.getNamespace(), trace.getDomainUid()), k -> new ArrayDeque<>());
+    synchronized (domainTraces) {
+      domainTraces.addLast(trace);
+      while (domainTraces.size() > limit) {
+        domainTraces.removeFirst();
+      }
+    }
+  }
+
+  /**
+   * Returns the retained traces of the specified domain, oldest first.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public List<MakeRightTrace> get(String namespace, String domainUid) {
+    return Optional.ofNullable(traces.get(getKey(namespace, domainUid)))
+        .map(this::copy)
+        .orElse(Collections.emptyList());
+  }
+
+  private List<MakeRightTrace> copy(Deque<MakeRightTrace> domainTraces) {
+    synchronized (domainTraces) {
+      return new ArrayList<>(domainTraces);
+    }
+  }
+
+  /**
+   * Discards the traces of the specified domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public void remove(String namespace, String domainUid) {
+    traces.remove(getKey(namespace, domainUid));
+  }
+
+  private static String getKey(String namespace, String domainUid) {
+    return namespace + "/" + domainUid;
+  }
+}
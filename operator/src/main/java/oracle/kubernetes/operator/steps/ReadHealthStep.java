@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.steps;
@@ -72,6 +72,22 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state of a server instance from its REST interface. If the state
+   * is read, it is recorded in the server state map as returned; otherwise, the map is left unchanged. The last
+   * known status of the server is not updated, so that the caller may select the state to report.
+   * Packet values used:
+   *  SERVER_NAME                       the name of the server
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *
+   * @param timeoutSeconds the maximum time to wait for a response
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadStateStep(long timeoutSeconds, Step next) {
+    return new ReadStateStep(timeoutSeconds, next);
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -126,13 +142,18 @@ public class ReadHealthStep extends Step {
     }
 
     private WlsServerConfig getWlsServerConfig() {
+      final WlsDomainConfig domainConfig = getWlsDomainConfig();
+      if (domainConfig == null) {
+        return null;
+      }
+
       // standalone server that does not belong to any cluster
-      WlsServerConfig serverConfig = getWlsDomainConfig().getServerConfig(getServerName());
+      WlsServerConfig serverConfig = domainConfig.getServerConfig(getServerName());
 
       if (serverConfig == null) {
         // dynamic or configured server in a cluster
         String clusterName = getClusterNameFromServiceLabel();
-        WlsClusterConfig cluster = getWlsDomainConfig().getClusterConfig(clusterName);
+        WlsClusterConfig cluster = domainConfig.getClusterConfig(clusterName);
         serverConfig = findServerConfig(cluster);
       }
       return serverConfig;
@@ -147,6 +168,9 @@ public class ReadHealthStep extends Step {
     }
 
     private WlsServerConfig findServerConfig(WlsClusterConfig wlsClusterConfig) {
+      if (wlsClusterConfig == null) {
+        return null;
+      }
       for (WlsServerConfig serverConfig : wlsClusterConfig.getServerConfigs()) {
         if (Objects.equals(getServerName(), serverConfig.getName())) {
           return serverConfig;
@@ -165,10 +189,122 @@ public class ReadHealthStep extends Step {
           (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
       if (domainConfig == null) {
         Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-        domainConfig = scan.getWlsDomainConfig();
+        domainConfig = Optional.ofNullable(scan).map(Scan::getWlsDomainConfig).orElse(null);
       }
       return domainConfig;
     }
+
+    private HttpRequest createStateRequest() {
+      return createRequestBuilder(getRequestUrl())
+            .POST(HttpRequest.BodyPublishers.ofString(getRetrieveStateSearchPayload()))
+            .build();
+    }
+
+    private static String getRetrieveStateSearchPayload() {
+      return "{ fields: [ 'state' ], links: [] }";
+    }
+  }
+
+  private static class ReadStateStep extends Step {
+    private final long timeoutSeconds;
+
+    ReadStateStep(long timeoutSeconds, Step next) {
+      super(next);
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      V1Service service = info.getServerService(serverName);
+      if (service == null) {
+        return doNext(packet);
+      } else {
+        return doNext(
+            Step.chain(
+                SecretHelper.createAuthorizationSourceStep(),
+                new ReadStateWithHttpStep(service, info.getServerPod(serverName), timeoutSeconds, getNext())),
+            packet);
+      }
+    }
+  }
+
+  /**
+   * Step to send a query to a server to obtain its state.
+   * Packet values used:
+   *  SERVER_NAME                       the name of the server
+   *  DOMAIN_TOPOLOGY                   the topology of the domain
+   */
+  static final class ReadStateWithHttpStep extends Step {
+    @Nonnull
+    private final V1Service service;
+    private final V1Pod pod;
+    private final long timeoutSeconds;
+
+    ReadStateWithHttpStep(@Nonnull V1Service service, V1Pod pod, long timeoutSeconds, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
+      if (processing.getWlsServerConfig() == null) {
+        return doNext(packet);
+      }
+      return doNext(createRequestStep(processing.createStateRequest(), new RecordStateStep(getNext()))
+            .withTimeoutSeconds(timeoutSeconds), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for recording the server state returned by a REST call. Failures are ignored, leaving
+   * the state to be determined by other means.
+   * Packet values used:
+   *  SERVER_NAME                       the name of the server
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  (spi) HttpResponse.class          the response from the server
+   */
+  static final class RecordStateStep extends HttpResponseStep {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    RecordStateStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        Optional.ofNullable(emptyToNull(parseState(response.body())))
+            .ifPresent(state -> recordServerState(packet, state));
+      } catch (IOException e) {
+        LOGGER.fine(MessageKeys.EXCEPTION, e);
+      }
+      return doNext(packet);
+    }
+
+    private static String parseState(String jsonResult) throws IOException {
+      if (jsonResult == null) {
+        return null;
+      }
+
+      JsonNode state = OBJECT_MAPPER.readTree(jsonResult).path("state");
+      return state.isTextual() ? state.asText() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void recordServerState(Packet packet, String state) {
+      String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      ((Map<String, String>) packet.get(SERVER_STATE_MAP)).put(serverName, state);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      return doNext(packet);
+    }
   }
 
   /**
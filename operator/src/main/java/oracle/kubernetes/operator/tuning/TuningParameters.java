@@ -29,6 +29,7 @@ import oracle.kubernetes.operator.WatchTuning;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.EngineMode;
 
 /**
  * A class which provides access to the Helm tuning parameters, defined in a config map that maps to a directory.
@@ -42,6 +43,7 @@ public class TuningParameters {
   public static final String WATCH_MINIMUM_DELAY = "watchMinimumDelay";
   public static final String WATCH_BACKSTOP_RECHECK_COUNT = "watchBackstopRecheckCount";
   public static final String WATCH_BACKSTOP_RECHECK_DELAY_SECONDS = "watchBackstopRecheckDelaySeconds";
+  public static final String WATCH_MULTIPLEXING_ENABLED = "watchMultiplexingEnabled";
 
   public static final String CALL_REQUEST_LIMIT = "callRequestLimit";
   public static final String CALL_MAX_RETRY_COUNT = "callMaxRetryCount";
@@ -79,8 +81,27 @@ public class TuningParameters {
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String ENGINE_MODE = "engineMode";
+  public static final String MAX_STATE_PROBES_PER_NODE = "maxStateProbesPerNode";
+  public static final String CLIENT_POOL_SIZE = "clientPoolSize";
+  public static final String CLIENT_MAX_REQUESTS_PER_HOST = "clientMaxRequestsPerHost";
+  public static final String CLIENT_MAX_AGE_SECONDS = "clientMaxAgeSeconds";
+  public static final String REST_AUTH_CACHE_TTL_SECONDS = "restAuthCacheTtlSeconds";
+  public static final String REST_AUTH_CACHE_MAX_ENTRIES = "restAuthCacheMaxEntries";
+  public static final String CONVERSION_CLUSTER_CACHE_TTL_SECONDS = "conversionClusterCacheTtlSeconds";
+  public static final String ADMISSION_CACHE_TTL_SECONDS = "admissionCacheTtlSeconds";
+  public static final String MAKE_RIGHT_TRACE_COUNT = "makeRightTraceCount";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
+  public static final int DEFAULT_MAX_STATE_PROBES_PER_NODE = 4;
+  public static final int DEFAULT_CLIENT_POOL_SIZE = 1;
+  public static final int DEFAULT_CLIENT_MAX_REQUESTS_PER_HOST = 5;
+  public static final int DEFAULT_CLIENT_MAX_AGE_SECONDS = 0;
+  public static final int DEFAULT_REST_AUTH_CACHE_TTL_SECONDS = 30;
+  public static final int DEFAULT_REST_AUTH_CACHE_MAX_ENTRIES = 1000;
+  public static final int DEFAULT_CONVERSION_CLUSTER_CACHE_TTL_SECONDS = 30;
+  public static final int DEFAULT_ADMISSION_CACHE_TTL_SECONDS = 5;
+  public static final int DEFAULT_MAKE_RIGHT_TRACE_COUNT = 10;
 
   public static final long DEFAULT_ACTIVE_DEADLINE_INCREMENT_SECONDS = 60L;
 
@@ -247,6 +268,86 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the way in which the operator engine runs its fibers: either "platform" (the default), for a fixed pool
+   * of platform threads, or "virtual", to run each fiber on a virtual thread.
+   */
+  public EngineMode getEngineMode() {
+    return EngineMode.fromValue(getParameter(ENGINE_MODE, EngineMode.PLATFORM.getValue()));
+  }
+
+  /**
+   * Returns the maximum number of server state probes, whether over REST or by exec, which may run at once
+   * against pods on a single node.
+   */
+  public int getMaxStateProbesPerNode() {
+    return getParameter(MAX_STATE_PROBES_PER_NODE, DEFAULT_MAX_STATE_PROBES_PER_NODE);
+  }
+
+  /**
+   * Returns the number of API clients, each with its own connections to the Kubernetes API server, across which
+   * the operator spreads its requests.
+   */
+  public int getClientPoolSize() {
+    return getParameter(CLIENT_POOL_SIZE, DEFAULT_CLIENT_POOL_SIZE);
+  }
+
+  /**
+   * Returns the maximum number of requests which each API client may have in progress at once against the
+   * Kubernetes API server. Further requests wait in the client's dispatcher queue.
+   */
+  public int getClientMaxRequestsPerHost() {
+    return getParameter(CLIENT_MAX_REQUESTS_PER_HOST, DEFAULT_CLIENT_MAX_REQUESTS_PER_HOST);
+  }
+
+  /**
+   * Returns the number of seconds after which a pooled API client is replaced by a new one, with new connections
+   * to the Kubernetes API server. Requests already using the old client may complete. Zero means never.
+   */
+  public int getClientMaxAgeSeconds() {
+    return getParameter(CLIENT_MAX_AGE_SECONDS, DEFAULT_CLIENT_MAX_AGE_SECONDS);
+  }
+
+  /**
+   * Returns the number of seconds for which the REST server may reuse the result of a successful TokenReview or
+   * SubjectAccessReview. This bounds the time for which a revoked token or permission may still be honored;
+   * zero disables the reuse.
+   */
+  public int getRestAuthCacheTtlSeconds() {
+    return getParameter(REST_AUTH_CACHE_TTL_SECONDS, DEFAULT_REST_AUTH_CACHE_TTL_SECONDS);
+  }
+
+  /**
+   * Returns the maximum number of TokenReview, and of SubjectAccessReview, results which the REST server retains.
+   */
+  public int getRestAuthCacheMaxEntries() {
+    return getParameter(REST_AUTH_CACHE_MAX_ENTRIES, DEFAULT_REST_AUTH_CACHE_MAX_ENTRIES);
+  }
+
+  /**
+   * Returns the number of seconds for which the conversion webhook may reuse the cluster resources it has listed
+   * in a namespace, rather than list them again for each domain it converts; zero disables the reuse.
+   */
+  public int getConversionClusterCacheTtlSeconds() {
+    return getParameter(CONVERSION_CLUSTER_CACHE_TTL_SECONDS, DEFAULT_CONVERSION_CLUSTER_CACHE_TTL_SECONDS);
+  }
+
+  /**
+   * Returns the number of seconds for which the validating webhook may reuse the cluster resources it has listed
+   * in a namespace, and its verdicts on proposed domain changes; zero disables the reuse. This also bounds how long
+   * the webhook may validate against a cluster which has since been deleted.
+   */
+  public int getAdmissionCacheTtlSeconds() {
+    return getParameter(ADMISSION_CACHE_TTL_SECONDS, DEFAULT_ADMISSION_CACHE_TTL_SECONDS);
+  }
+
+  /**
+   * Returns the number of completed make-right traces retained for each domain; zero disables the retention.
+   */
+  public int getMakeRightTraceCount() {
+    return getParameter(MAKE_RIGHT_TRACE_COUNT, DEFAULT_MAKE_RIGHT_TRACE_COUNT);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -354,6 +455,11 @@ public class TuningParameters {
     public int getWatchBackstopRecheckCount() {
       return getParameter(WATCH_BACKSTOP_RECHECK_COUNT, DEFAULT_RECHECK_COUNT);
     }
+
+    @Override
+    public boolean isWatchMultiplexingEnabled() {
+      return getParameter(WATCH_MULTIPLEXING_ENABLED, false);
+    }
   }
 
   private class CallBuilderTuningImpl implements CallBuilderTuning {
@@ -0,0 +1,140 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A hashed timer wheel which holds values until their deadlines pass. The wheel is divided into slots, each covering
+ * one tick of time; a value is held in the slot for the tick in which its deadline falls, so that scheduling and
+ * canceling take constant time, and collecting the expired values examines only the slots for the ticks which have
+ * passed since the previous collection. A deadline more than one turn of the wheel ahead shares its slot with nearer
+ * deadlines, and is left in place until it passes.
+ *
+ * @param <K> the type of the keys which identify scheduled values
+ * @param <V> the type of the values
+ */
+public class DeadlineWheel<K, V> {
+
+  private final long tickMillis;
+  private final List<Map<K, Entry<V>>> slots = new ArrayList<>();
+  private final Map<K, Integer> slotIndices = new HashMap<>();
+  private long lastCollectedTick = -1;  // the last tick whose slot will not be examined again
+
+  /**
+   * Creates a wheel.
+   * @param numSlots the number of slots in the wheel
+   * @param tickMillis the length of time covered by each slot, in milliseconds
+   */
+  public DeadlineWheel(int numSlots, long tickMillis) {
+    this.tickMillis = tickMillis;
+    for (int i = 0; i < numSlots; i++) {
+      slots.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * Schedules a value to expire at the specified time, replacing any value already scheduled with the same key. A
+   * deadline which has already passed expires at the next collection.
+   * @param key the key which identifies the value
+   * @param value the value
+   * @param deadline the time at which the value expires
+   */
+  public synchronized void schedule(K key, V value, OffsetDateTime deadline) {
+    cancel(key);
+    final long deadlineMillis = deadline.toInstant().toEpochMilli();
+    final int slotIndex = toSlotIndex(Math.max(deadlineMillis / tickMillis, lastCollectedTick + 1));
+    slots.get(slotIndex).put(key, new Entry<>(value, deadlineMillis));
+    slotIndices.put(key, slotIndex);
+  }
+
+  /**
+   * Removes the value scheduled with the specified key, if any.
+   * @param key the key which identifies the value
+   * @return true if a value was removed
+   */
+  public synchronized boolean cancel(K key) {
+    final Integer slotIndex = slotIndices.remove(key);
+    if (slotIndex != null) {
+      slots.get(slotIndex).remove(key);
+    }
+    return slotIndex != null;
+  }
+
+  /**
+   * Removes the values scheduled with keys which satisfy the specified condition.
+   * @param condition a test of the keys which identify scheduled values
+   */
+  public synchronized void cancelIf(Predicate<K> condition) {
+    new ArrayList<>(slotIndices.keySet()).stream().filter(condition).forEach(this::cancel);
+  }
+
+  /**
+   * Returns true if a value is scheduled with the specified key.
+   * @param key the key which identifies the value
+   */
+  public synchronized boolean isScheduled(K key) {
+    return slotIndices.containsKey(key);
+  }
+
+  /**
+   * Returns the number of values scheduled.
+   */
+  public synchronized int size() {
+    return slotIndices.size();
+  }
+
+  /**
+   * Removes and returns the values whose deadlines have passed.
+   */
+  public synchronized List<V> removeExpired() {
+    final long nowMillis = SystemClock.now().toInstant().toEpochMilli();
+    final long nowTick = nowMillis / tickMillis;
+    final List<V> expired = new ArrayList<>();
+    if (lastCollectedTick < 0 || nowTick - lastCollectedTick >= slots.size()) {
+      slots.forEach(slot -> removeExpired(slot, nowMillis, expired));
+    } else {
+      for (long tick = lastCollectedTick + 1; tick <= nowTick; tick++) {
+        removeExpired(slots.get(toSlotIndex(tick)), nowMillis, expired);
+      }
+    }
+    // the current tick has not finished, so its slot must be examined again at the next collection
+    lastCollectedTick = Math.max(lastCollectedTick, nowTick - 1);
+    return expired;
+  }
+
+  private void removeExpired(Map<K, Entry<V>> slot, long nowMillis, List<V> expired) {
+    final Iterator<Map.Entry<K, Entry<V>>> iterator = slot.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<K, Entry<V>> entry = iterator.next();
+      if (entry.getValue().deadlineMillis <= nowMillis) {
+        iterator.remove();
+        slotIndices.remove(entry.getKey());
+        expired.add(entry.getValue().value);
+      }
+    }
+  }
+
+  private int toSlotIndex(long tick) {
+    return (int) (tick % slots.size());
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final long deadlineMillis;
+
+    Entry(V value, long deadlineMillis) {
+      this.value = value;
+      this.deadlineMillis = deadlineMillis;
+    }
+  }
+}
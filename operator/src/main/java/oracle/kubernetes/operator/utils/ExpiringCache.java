@@ -0,0 +1,159 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import io.prometheus.client.Counter;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A bounded cache whose entries expire a fixed time after they are added, so that no value is used for longer than
+ * that time after it was obtained. When the cache is full, adding an entry evicts the oldest. The time to live and
+ * the maximum size are read each time an entry is added, so that changes to them take effect without a restart.
+ *
+ * <p>Lookups are counted by cache name and result, so that the hit rate of each cache may be monitored.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class ExpiringCache<K, V> {
+
+  private static final Counter lookups = Counter.build()
+      .name("weblogic_operator_cache_lookups_total")
+      .help("Number of lookups in operator caches, by cache and by whether the value was found.")
+      .labelNames("cache", "result")
+      .register();
+  private static final Counter evictions = Counter.build()
+      .name("weblogic_operator_cache_evictions_total")
+      .help("Number of entries evicted from operator caches because the cache was full.")
+      .labelNames("cache")
+      .register();
+
+  private final String name;
+  private final IntSupplier ttlSeconds;
+  private final IntSupplier maxEntries;
+  private final Map<K, Entry<V>> entries = new LinkedHashMap<>();
+
+  /**
+   * Creates a cache.
+   * @param name the name by which the cache's metrics are labeled
+   * @param ttlSeconds supplies the number of seconds for which an entry may be used
+   * @param maxEntries supplies the maximum number of entries
+   */
+  public ExpiringCache(String name, IntSupplier ttlSeconds, IntSupplier maxEntries) {
+    this.name = name;
+    this.ttlSeconds = ttlSeconds;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the value cached for the specified key, or null if there is none or it has expired.
+   * @param key the key
+   */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry != null && entry.isExpired(SystemClock.now())) {
+      entries.remove(key);
+      entry = null;
+    }
+    return recordLookup(entry == null ? null : entry.value);
+  }
+
+  private V recordLookup(V value) {
+    lookups.labels(name, value != null ? "hit" : "miss").inc();
+    return value;
+  }
+
+  /**
+   * Returns the value cached for the specified key; if there is none, computes it and, if not null, caches it.
+   * The computation is made without holding the cache lock, so concurrent misses for the same key may each
+   * compute the value.
+   * @param key the key
+   * @param loader a function to compute the value for a key
+   */
+  public V computeIfAbsent(K key, Function<K, V> loader) {
+    V value = get(key);
+    if (value == null) {
+      value = loader.apply(key);
+      if (value != null) {
+        put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Caches a value for the specified key, evicting the oldest entries if the cache is full. Nothing is cached
+   * if the time to live is not positive.
+   * @param key the key
+   * @param value the value
+   */
+  public synchronized void put(K key, V value) {
+    final OffsetDateTime now = SystemClock.now();
+    final int ttl = ttlSeconds.getAsInt();
+    entries.remove(key);
+    if (ttl > 0) {
+      entries.put(key, new Entry<>(value, now.plusSeconds(ttl)));
+      removeExcessEntries(now);
+    }
+  }
+
+  // Entries are kept in the order added, so the eldest entries are also the first to expire.
+  private void removeExcessEntries(OffsetDateTime now) {
+    final Iterator<Entry<V>> it = entries.values().iterator();
+    while (it.hasNext()) {
+      final Entry<V> entry = it.next();
+      if (entry.isExpired(now)) {
+        it.remove();
+      } else if (entries.size() > Math.max(1, maxEntries.getAsInt())) {
+        it.remove();
+        evictions.labels(name).inc();
+      } else {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Removes any value cached for the specified key.
+   * @param key the key
+   */
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Removes all cached values.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of entries in the cache, including any which have expired but not yet been removed.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private final OffsetDateTime expiration;
+
+    Entry(V value, OffsetDateTime expiration) {
+      this.value = value;
+      this.expiration = expiration;
+    }
+
+    boolean isExpired(OffsetDateTime now) {
+      return !now.isBefore(expiration);
+    }
+  }
+}
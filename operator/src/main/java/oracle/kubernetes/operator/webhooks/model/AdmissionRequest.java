@@ -24,6 +24,7 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCALE;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readCluster;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readDomain;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.readScale;
+import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeClusterToMap;
 import static oracle.kubernetes.operator.webhooks.utils.GsonBuilderUtils.writeMap;
 
 /**
@@ -223,6 +224,11 @@ public class AdmissionRequest {
             ? new ClusterCreateAdmissionChecker(proposed)
             : new ClusterUpdateAdmissionChecker(existing, proposed);
       }
+
+      @Override
+      public boolean isClusterChange() {
+        return true;
+      }
     },
     SCALE {
       @Override
@@ -241,6 +247,8 @@ public class AdmissionRequest {
         ClusterResource cluster = getCluster(proposed.getMetadata().getName(),
               proposed.getMetadata().getNamespace());
         if (cluster != null) {
+          // the listed clusters are shared, so the scaled cluster is a copy
+          cluster = readCluster(writeMap(writeClusterToMap(cluster)));
           cluster.getSpec().withReplicas(Integer.valueOf(proposed.getSpec().get("replicas")));
           return new ClusterScaleAdmissionChecker(cluster);
         } else {
@@ -253,6 +261,11 @@ public class AdmissionRequest {
         return clusters.stream().filter(cluster -> clusterName.equals(cluster.getMetadata().getName()))
             .findFirst().orElse(null);
       }
+
+      @Override
+      public boolean isClusterChange() {
+        return true;
+      }
     },
     NOT_SUPPORTED {
       @Override
@@ -280,6 +293,11 @@ public class AdmissionRequest {
       return true;
     }
 
+    /** Returns true if an allowed request of this kind changes a cluster resource. */
+    public boolean isClusterChange() {
+      return false;
+    }
+
     public abstract Object readOldObject(AdmissionRequest request);
 
     public abstract Object readObject(AdmissionRequest request);
@@ -12,6 +12,7 @@ import javax.annotation.Nonnull;
 import io.kubernetes.client.openapi.ApiException;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
+import oracle.kubernetes.operator.webhooks.utils.AdmissionCache;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
@@ -27,6 +28,11 @@ import static java.lang.System.lineSeparator;
  */
 
 public abstract class AdmissionChecker {
+
+  // Holds the cluster resources and verdicts reused by the webhook; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static AdmissionCache admissionCache = new AdmissionCache();
+
   final List<String> messages = new ArrayList<>();
 
   /** Construct a AdmissionChecker. */
@@ -55,9 +61,33 @@ public abstract class AdmissionChecker {
     return failures.isEmpty();
   }
 
+  static AdmissionCache getAdmissionCache() {
+    return admissionCache;
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace, listing them only if not recently listed.
+   * The returned resources may be shared, and must not be modified.
+   * @param namespace the namespace
+   * @throws ApiException if the clusters cannot be listed
+   */
   public static List<ClusterResource> getClusters(String namespace) throws ApiException {
-    return Optional.of(new CallBuilder().listCluster(namespace))
-        .map(ClusterList::getItems).orElse(Collections.emptyList());
+    List<ClusterResource> clusters = admissionCache.getClusters(namespace);
+    if (clusters == null) {
+      clusters = Optional.of(new CallBuilder().listCluster(namespace))
+          .map(ClusterList::getItems).orElse(Collections.emptyList());
+      admissionCache.putClusters(namespace, clusters);
+    }
+    return clusters;
+  }
+
+  /**
+   * Records that a change to a cluster resource in the specified namespace has been allowed, so that clusters
+   * listed before the change are not reused.
+   * @param namespace the namespace of the cluster
+   */
+  public static void clusterChanged(String namespace) {
+    admissionCache.clusterChanged(namespace);
   }
 
   String createMessage() {
@@ -3,11 +3,13 @@
 
 package oracle.kubernetes.operator.webhooks.resource;
 
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.prometheus.client.Histogram;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -34,6 +36,13 @@ public class AdmissionWebhookResource extends BaseResource {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
 
+  private static final Histogram admissionTime = Histogram.build()
+      .name("weblogic_operator_admission_review_seconds")
+      .help("Time to validate the change requested by an admission review, by kind of resource.")
+      .labelNames("kind")
+      .buckets(0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+      .register();
+
   /** Construct a AdmissionWebhookResource. */
   public AdmissionWebhookResource() {
     super(null, "admission");
@@ -56,10 +65,12 @@ public class AdmissionWebhookResource extends BaseResource {
     AdmissionRequest admissionRequest = null;
     AdmissionResponse admissionResponse;
 
+    final long startNanos = System.nanoTime();
     try {
       admissionReview = readAdmissionReview(body);
       admissionRequest = getAdmissionRequest(admissionReview);
       admissionResponse = createAdmissionResponse(admissionRequest);
+      recordAdmissionTime(admissionRequest, startNanos);
     } catch (Exception e) {
       LOGGER.severe(VALIDATION_FAILED, e.getMessage(), getAdmissionRequestAsString(admissionReview));
       admissionResponse = createResponseWithException(admissionRequest, e);
@@ -68,6 +79,12 @@ public class AdmissionWebhookResource extends BaseResource {
     return writeAdmissionReview(createResponseAdmissionReview(admissionReview, admissionResponse));
   }
 
+  private void recordAdmissionTime(AdmissionRequest request, long startNanos) {
+    final String kind = Optional.ofNullable(request).map(AdmissionRequest::getRequestKind)
+        .map(k -> k.name().toLowerCase()).orElse("none");
+    admissionTime.labels(kind).observe((System.nanoTime() - startNanos) / 1.0E9);
+  }
+
   private AdmissionResponse createResponseWithException(AdmissionRequest admissionRequest, Exception e) {
     return new AdmissionResponse()
         .uid(getUid(admissionRequest))
@@ -121,7 +138,18 @@ public class AdmissionWebhookResource extends BaseResource {
     LOGGER.fine("Validating " +  request.getObject() + " against " + request.getOldObject()
         + " Kind = " + request.getKind() + " uid = " + request.getUid() + " resource = " + request.getResource()
         + " subResource = " + request.getSubResource());
-    return getAdmissionChecker(request).validate().uid(getUid(request));
+    final AdmissionResponse response = getAdmissionChecker(request).validate().uid(getUid(request));
+    if (response.isAllowed() && request.getRequestKind().isClusterChange()) {
+      AdmissionChecker.clusterChanged(getNamespace(request));
+    }
+    return response;
+  }
+
+  @SuppressWarnings("unchecked")
+  private String getNamespace(@Nonnull AdmissionRequest request) {
+    return Optional.ofNullable((Map<String, Object>) request.getObject().get("metadata"))
+        .map(metadata -> (String) metadata.get("namespace"))
+        .orElse(null);
   }
 
   @Nonnull
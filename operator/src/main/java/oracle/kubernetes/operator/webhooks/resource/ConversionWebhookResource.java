@@ -1,14 +1,16 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import io.prometheus.client.Histogram;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -26,6 +28,7 @@ import oracle.kubernetes.operator.webhooks.model.ConversionRequest;
 import oracle.kubernetes.operator.webhooks.model.ConversionResponse;
 import oracle.kubernetes.operator.webhooks.model.ConversionReviewModel;
 import oracle.kubernetes.operator.webhooks.model.Result;
+import oracle.kubernetes.operator.webhooks.utils.ConversionClusterCache;
 import org.glassfish.jersey.server.ResourceConfig;
 
 import static oracle.kubernetes.common.logging.MessageKeys.DOMAIN_CONVERSION_FAILED;
@@ -46,6 +49,16 @@ public class ConversionWebhookResource extends BaseResource {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
   public static final String FAILED_STATUS = "Failed";
 
+  private static final Histogram conversionTime = Histogram.build()
+      .name("weblogic_operator_conversion_review_seconds")
+      .help("Time to convert the domain resources in a conversion review.")
+      .buckets(0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+      .register();
+
+  // Holds the cluster resources listed and extracted by conversions; tests may replace this value.
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ConversionClusterCache clusterCache = new ConversionClusterCache();
+
   @Context
   private Application application;
 
@@ -54,6 +67,13 @@ public class ConversionWebhookResource extends BaseResource {
     super(null, "webhook");
   }
 
+  /**
+   * Stops writing the cluster resources extracted by conversions, once those already queued have been written.
+   */
+  public static void stopClusterWrites() {
+    clusterCache.shutdown();
+  }
+
   /**
    * Convert the request in ConversionReview to the desired version.
    *
@@ -78,7 +98,9 @@ public class ConversionWebhookResource extends BaseResource {
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
       RestBackend be = r.getBackend(null);
 
-      conversionResponse = createConversionResponse(conversionReview.getRequest(), be);
+      try (Histogram.Timer ignored = conversionTime.startTimer()) {
+        conversionResponse = createConversionResponse(conversionReview.getRequest(), be);
+      }
     } catch (Exception e) {
       LOGGER.severe(DOMAIN_CONVERSION_FAILED, e.getMessage(), getConversionRequest(conversionReview));
       conversionResponse = new ConversionResponse()
@@ -114,7 +136,8 @@ public class ConversionWebhookResource extends BaseResource {
   }
 
   /**
-   * Create the conversion review response.
+   * Create the conversion review response. The clusters in each namespace are looked up at most once per review,
+   * and the clusters extracted from the domains are written after the response is sent.
    * @param conversionRequest The request to be converted.
    * @param be REST backend
    * @return ConversionResponse The response to the conversion request.
@@ -123,19 +146,20 @@ public class ConversionWebhookResource extends BaseResource {
   private ConversionResponse createConversionResponse(ConversionRequest conversionRequest,
                                                       RestBackend be) {
     SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils(conversionRequest.getDesiredAPIVersion());
+    Map<String, List<Map<String, Object>>> namespaceClusters = new HashMap<>();
 
     List<SchemaConversionUtils.Resources> convertedResources = conversionRequest.getDomains().stream()
           .map(d -> schemaConversionUtils.convertDomainSchema(d, () -> {
             String namespace = Optional.ofNullable((Map<String, Object>) d.get("metadata"))
                 .map(m -> (String) m.get("namespace")).orElse("default");
-            return be.listClusters(namespace);
+            return namespaceClusters.computeIfAbsent(namespace, ns -> clusterCache.listClusters(be, ns));
           }))
           .collect(Collectors.toList());
 
     List<Object> convertedDomains = new ArrayList<>();
     for (SchemaConversionUtils.Resources cr : convertedResources) {
       convertedDomains.add(cr.domain);
-      cr.clusters.forEach(be::createOrReplaceCluster);
+      cr.clusters.forEach(c -> clusterCache.createOrReplaceCluster(be, c));
     }
 
     return new ConversionResponse()
@@ -69,7 +69,24 @@ public class DomainUpdateAdmissionChecker extends AdmissionChecker {
   AdmissionResponse validate() {
     LOGGER.fine("Validating DomainResource " + proposedDomain + " against " + existingDomain);
 
-    AdmissionResponse response = new AdmissionResponse().allowed(isProposedChangeAllowed());
+    if (isSpecUnchanged()) {
+      return new AdmissionResponse().allowed(true);
+    }
+
+    return Optional.ofNullable(getAdmissionCache().getVerdict(existingDomain, proposedDomain))
+        .orElseGet(this::validateChanges);
+  }
+
+  private AdmissionResponse validateChanges() {
+    final AdmissionResponse response = createResponse();
+    if (!hasException()) {
+      getAdmissionCache().putVerdict(existingDomain, proposedDomain, response);
+    }
+    return response;
+  }
+
+  private AdmissionResponse createResponse() {
+    AdmissionResponse response = new AdmissionResponse().allowed(areChangesAllowed());
     if (!response.isAllowed()) {
       return response.status(new AdmissionResponseStatus().message(createMessage()));
     } else if (!warnings.isEmpty()) {
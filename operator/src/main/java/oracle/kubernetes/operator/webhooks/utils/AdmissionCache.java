@@ -0,0 +1,132 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.utils.ExpiringCache;
+import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * The results reused by the validating webhook. Clusters listed in a namespace are reused for a limited time, so that
+ * validating many changes does not list the same clusters for each one. The verdict on a proposed domain change is
+ * reused for the same time, for a later request which proposes the same change to the same domain: that is, with
+ * the same existing and proposed specs, the same domain identity, and the same maximum replicas reported for its
+ * clusters. Changes to status conditions and to metadata other than the domain identity do not affect the verdict.
+ *
+ * <p>Both the listed clusters and the verdicts are discarded when a change to a cluster resource is allowed, since
+ * the verdicts depend on the replicas specified by the clusters. That is only a shortcut: the change is not yet
+ * persisted when it is admitted, so a list made just afterward may still return the old cluster, and deletions do not
+ * reach the webhook at all. The webhook runs without watches which could report those changes, so the time-to-live
+ * is what bounds the staleness, and it is kept short: a few seconds still covers the burst of requests from a
+ * single apply or upgrade, which is when the reuse pays off.
+ */
+public class AdmissionCache {
+
+  private static final int MAX_CACHED_NAMESPACES = 1000;
+  private static final int MAX_CACHED_VERDICTS = 1000;
+
+  private final ExpiringCache<String, List<ClusterResource>> clusters = new ExpiringCache<>("admissionClusters",
+      () -> TuningParameters.getInstance().getAdmissionCacheTtlSeconds(), () -> MAX_CACHED_NAMESPACES);
+  private final ExpiringCache<String, Verdict> verdicts = new ExpiringCache<>("admissionVerdicts",
+      () -> TuningParameters.getInstance().getAdmissionCacheTtlSeconds(), () -> MAX_CACHED_VERDICTS);
+
+  /**
+   * Returns the clusters recently listed in the specified namespace, or null if there are none.
+   * @param namespace the namespace
+   */
+  public List<ClusterResource> getClusters(String namespace) {
+    return clusters.get(namespace);
+  }
+
+  /**
+   * Records the clusters listed in the specified namespace.
+   * @param namespace the namespace
+   * @param listed the clusters listed
+   */
+  public void putClusters(String namespace, List<ClusterResource> listed) {
+    clusters.put(namespace, Collections.unmodifiableList(listed));
+  }
+
+  /**
+   * Discards the clusters listed in the specified namespace, and all verdicts, after a change to a cluster.
+   * @param namespace the namespace of the changed cluster
+   */
+  public void clusterChanged(String namespace) {
+    clusters.remove(namespace);
+    verdicts.clear();
+  }
+
+  /**
+   * Returns a copy of the response to an earlier request which proposed the same change to the same domain,
+   * or null if there was none.
+   * @param existing the existing domain
+   * @param proposed the proposed domain
+   */
+  public AdmissionResponse getVerdict(@Nonnull DomainResource existing, @Nonnull DomainResource proposed) {
+    final List<Object> fingerprint = getFingerprint(existing, proposed);
+    return Optional.ofNullable(verdicts.get(getKey(proposed, fingerprint)))
+        .filter(verdict -> verdict.fingerprint.equals(fingerprint))
+        .map(verdict -> copy(verdict.response))
+        .orElse(null);
+  }
+
+  /**
+   * Records the response to a request which proposed a change to a domain.
+   * @param existing the existing domain
+   * @param proposed the proposed domain
+   * @param response the response
+   */
+  public void putVerdict(@Nonnull DomainResource existing, @Nonnull DomainResource proposed,
+                         AdmissionResponse response) {
+    final List<Object> fingerprint = getFingerprint(existing, proposed);
+    verdicts.put(getKey(proposed, fingerprint), new Verdict(fingerprint, copy(response)));
+  }
+
+  // The key distinguishes the domain by uid, and the change by the hash of its fingerprint; the fingerprint itself
+  // is compared on lookup, so that a hash collision cannot return the verdict on a different change.
+  private static String getKey(DomainResource proposed, List<Object> fingerprint) {
+    return proposed.getMetadata().getUid() + "/" + fingerprint.hashCode();
+  }
+
+  private static List<Object> getFingerprint(DomainResource existing, DomainResource proposed) {
+    return Arrays.asList(proposed.getNamespace(), proposed.getDomainUid(),
+        existing.getSpec(), proposed.getSpec(), getMaximumReplicas(proposed));
+  }
+
+  private static Map<String, Integer> getMaximumReplicas(DomainResource domain) {
+    final Map<String, Integer> result = new HashMap<>();
+    Optional.ofNullable(domain.getStatus()).map(DomainStatus::getClusters).orElse(Collections.emptyList())
+        .forEach(status -> result.put(status.getClusterName(), status.getMaximumReplicas()));
+    return result;
+  }
+
+  // Responses are copied in and out of the cache, since the webhook sets the request uid on the response it returns.
+  private static AdmissionResponse copy(AdmissionResponse response) {
+    return new AdmissionResponse()
+        .allowed(response.isAllowed())
+        .warnings(response.getWarnings())
+        .status(response.getStatus());
+  }
+
+  private static class Verdict {
+    private final List<Object> fingerprint;
+    private final AdmissionResponse response;
+
+    Verdict(List<Object> fingerprint, AdmissionResponse response) {
+      this.fingerprint = fingerprint;
+      this.response = response;
+    }
+  }
+}
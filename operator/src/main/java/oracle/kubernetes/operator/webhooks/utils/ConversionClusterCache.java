@@ -0,0 +1,161 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.utils.ExpiringCache;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+import static oracle.kubernetes.common.logging.MessageKeys.CONVERTED_CLUSTER_WRITE_FAILED;
+
+/**
+ * The cluster resources used and produced by the conversion webhook. Clusters listed in a namespace are reused for a
+ * limited time, so that converting many domains does not list the same clusters for each one. Clusters extracted from
+ * converted domains are written by a single background thread, so that a conversion never waits on them; a write
+ * which is still pending when the same cluster is extracted again is replaced by the later one.
+ *
+ * <p>Each cluster queued for writing also replaces any copy of it among the listed clusters, so that later
+ * conversions see the cluster as it will be, rather than as it was listed.
+ */
+public class ConversionClusterCache {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
+  private static final int MAX_CACHED_NAMESPACES = 1000;
+
+  private static final Histogram clusterWriteTime = Histogram.build()
+      .name("weblogic_operator_conversion_cluster_write_seconds")
+      .help("Time to create or replace a cluster resource extracted from a converted domain resource.")
+      .buckets(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10)
+      .register();
+  private static final Counter coalescedWrites = Counter.build()
+      .name("weblogic_operator_conversion_cluster_writes_coalesced_total")
+      .help("Number of pending cluster resource writes replaced by a later write of the same cluster.")
+      .register();
+
+  private final ExpiringCache<String, List<Map<String, Object>>> clusters = new ExpiringCache<>("conversionClusters",
+      () -> TuningParameters.getInstance().getConversionClusterCacheTtlSeconds(), () -> MAX_CACHED_NAMESPACES);
+  private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+  private final Executor writer;
+
+  /**
+   * Creates a cache whose writes are made by a single daemon thread, which is stopped by {@link #shutdown()}.
+   */
+  public ConversionClusterCache() {
+    this(Executors.newSingleThreadExecutor(ThreadFactorySingleton.getInstance()));
+  }
+
+  /**
+   * Creates a cache whose writes are made by the specified executor.
+   * @param writer the executor which writes clusters
+   */
+  public ConversionClusterCache(Executor writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Stops the writer once any writes already queued have been made, if it is an executor service. Clusters queued
+   * after this call are not written.
+   */
+  public void shutdown() {
+    if (writer instanceof ExecutorService) {
+      ((ExecutorService) writer).shutdown();
+    }
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace, listing them only if not recently listed.
+   * @param backend the backend with which to list the clusters
+   * @param namespace the namespace
+   */
+  public List<Map<String, Object>> listClusters(RestBackend backend, String namespace) {
+    return clusters.computeIfAbsent(namespace, backend::listClusters);
+  }
+
+  /**
+   * Queues the specified cluster resource to be created or replaced, replacing any write of it still pending.
+   * @param backend the backend with which to write the cluster
+   * @param cluster the cluster resource
+   */
+  public void createOrReplaceCluster(RestBackend backend, Map<String, Object> cluster) {
+    final String namespace = getNamespace(cluster);
+    final String name = getName(cluster);
+    updateListedClusters(namespace, name, cluster);
+
+    final String key = namespace + "/" + name;
+    if (pendingWrites.put(key, new PendingWrite(backend, cluster)) == null) {
+      queueWrite(key);
+    } else {
+      coalescedWrites.inc();
+    }
+  }
+
+  private void queueWrite(String key) {
+    try {
+      writer.execute(() -> write(key));
+    } catch (RejectedExecutionException e) {
+      pendingWrites.remove(key);
+    }
+  }
+
+  private void updateListedClusters(String namespace, String name, Map<String, Object> cluster) {
+    Optional.ofNullable(clusters.get(namespace)).ifPresent(listed -> {
+      final List<Map<String, Object>> updated = new ArrayList<>();
+      listed.stream().filter(c -> !Objects.equals(name, getName(c))).forEach(updated::add);
+      updated.add(cluster);
+      clusters.put(namespace, updated);
+    });
+  }
+
+  private void write(String key) {
+    final PendingWrite pendingWrite = pendingWrites.remove(key);
+    if (pendingWrite != null) {
+      try (Histogram.Timer ignored = clusterWriteTime.startTimer()) {
+        pendingWrite.backend.createOrReplaceCluster(pendingWrite.cluster);
+      } catch (RuntimeException e) {
+        clusters.remove(getNamespace(pendingWrite.cluster));
+        LOGGER.warning(CONVERTED_CLUSTER_WRITE_FAILED,
+            getName(pendingWrite.cluster), getNamespace(pendingWrite.cluster), e.getMessage());
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getMetadata(Map<String, Object> resource) {
+    return Optional.ofNullable((Map<String, Object>) resource.get("metadata")).orElse(Map.of());
+  }
+
+  private static String getNamespace(Map<String, Object> resource) {
+    return (String) getMetadata(resource).getOrDefault("namespace", "default");
+  }
+
+  private static String getName(Map<String, Object> resource) {
+    return (String) getMetadata(resource).get("name");
+  }
+
+  private static class PendingWrite {
+    private final RestBackend backend;
+    private final Map<String, Object> cluster;
+
+    PendingWrite(RestBackend backend, Map<String, Object> cluster) {
+      this.backend = backend;
+      this.cluster = cluster;
+    }
+  }
+}
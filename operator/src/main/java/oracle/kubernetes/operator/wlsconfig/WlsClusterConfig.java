@@ -58,7 +58,7 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return containsServer(serverName);
   }
 
   /**
@@ -70,6 +70,7 @@ public class WlsClusterConfig {
    */
   public synchronized WlsClusterConfig addServerConfig(WlsServerConfig wlsServerConfig) {
     servers.add(wlsServerConfig);
+    Optional.ofNullable(wlsDomainConfig).ifPresent(WlsDomainConfig::discardIndex);
     return this;
   }
 
@@ -204,6 +205,10 @@ public class WlsClusterConfig {
    * @return True if the cluster contains a server with the given server name
    */
   boolean containsServer(@Nonnull String serverName) {
+    final WlsDomainIndex index = Optional.ofNullable(wlsDomainConfig).map(WlsDomainConfig::getFrozenIndex).orElse(null);
+    if (index != null && index.getClusters().get(name) == this) {
+      return name.equals(index.getClusterName(serverName));
+    }
     return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
   }
 
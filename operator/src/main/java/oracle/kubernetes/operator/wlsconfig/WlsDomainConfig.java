@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -38,6 +39,10 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured server templates in the WLS domain
   private List<WlsServerConfig> serverTemplates = new ArrayList<>();
 
+  // The index of this configuration, built when the dynamic clusters are processed, and discarded on any change.
+  @JsonIgnore
+  private transient volatile WlsDomainIndex index;
+
   public WlsDomainConfig() {
   }
 
@@ -84,11 +89,22 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
-        .map(WlsClusterConfig::getClusterName)
-        .orElse(null);
+    return getIndex().getClusterName(serverName);
+  }
+
+  // Returns the index built when the dynamic clusters were processed, if the configuration has not changed since;
+  // otherwise, indexes the current configuration.
+  private WlsDomainIndex getIndex() {
+    return Optional.ofNullable(index).orElseGet(() -> new WlsDomainIndex(this));
+  }
+
+  // Returns the index built when the dynamic clusters were processed, or null if the configuration has changed since.
+  WlsDomainIndex getFrozenIndex() {
+    return index;
+  }
+
+  void discardIndex() {
+    index = null;
   }
 
   /**
@@ -119,12 +135,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return getIndex().getClusters();
   }
 
   public List<WlsClusterConfig> getConfiguredClusters() {
@@ -137,12 +149,8 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server statically configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return getIndex().getServers();
   }
 
   /**
@@ -180,21 +188,11 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
-    WlsClusterConfig result = null;
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
-    }
-    if (result == null) {
-      // create an empty WlsClusterConfig, but do not add to configuredClusters
-      result = new WlsClusterConfig(clusterName);
-    }
-    return result;
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    return Optional.ofNullable(clusterName)
+        .map(getIndex().getClusters()::get)
+        // create an empty WlsClusterConfig, but do not add to configuredClusters
+        .orElseGet(() -> new WlsClusterConfig(clusterName));
   }
 
   /**
@@ -205,17 +203,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
-    }
-    return result;
+  public WlsServerConfig getServerConfig(String serverName) {
+    return Optional.ofNullable(serverName).map(getIndex().getServers()::get).orElse(null);
   }
 
   /**
@@ -224,16 +213,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @param clusterName cluster name to be checked
    * @return True if the WebLogic domain contains a cluster with the given cluster name
    */
-  public synchronized boolean containsCluster(String clusterName) {
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  public boolean containsCluster(String clusterName) {
+    return clusterName != null && getIndex().getClusters().containsKey(clusterName);
   }
 
   /**
@@ -243,12 +224,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @param serverName server name to be checked
    * @return True if the WebLogic domain contains a server with the given server name
    */
-  public synchronized boolean containsServer(String serverName) {
-    if (!isNullOrEmpty(serverName)) {
-      return getServers().stream().anyMatch(s -> serverName.equals(s.getName()))
-          || getConfiguredClusters().stream().anyMatch(c -> c.containsServer(serverName));
-    }
-    return false;
+  public boolean containsServer(String serverName) {
+    return !isNullOrEmpty(serverName) && getIndex().containsServer(serverName);
   }
 
   @JsonIgnore
@@ -259,11 +236,7 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getClusterSize();
+    return Optional.ofNullable(getClusterConfigs().get(clusterName)).map(WlsClusterConfig::getClusterSize).orElse(0);
   }
 
   /**
@@ -290,16 +263,31 @@ public class WlsDomainConfig implements WlsDomain {
       setAdminServerName(server.getName());
     }
     getServers().add(server);
+    discardIndex();
     return this;
   }
 
+  /**
+   * Build the domain config with a WLS server which is not in a cluster.
+   * @param name the name of the server
+   * @param listenAddress listen address
+   * @param port port
+   * @return domain config
+   */
   public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
     getServers().add(new WlsServerConfig(name, listenAddress, port));
+    discardIndex();
     return this;
   }
 
+  /**
+   * Build the domain config with a WLS cluster.
+   * @param clusterConfig WLS cluster configuration
+   * @return domain config
+   */
   public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
     configuredClusters.add(clusterConfig);
+    discardIndex();
     return this;
   }
 
@@ -392,9 +380,14 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   /**
-   * Process dynamic clusters.
+   * Process dynamic clusters, generating the configurations of their servers, and index the resulting configuration.
+   * Does nothing if the configuration has not changed since it was last processed.
    */
   public void processDynamicClusters() {
+    if (index != null) {
+      return;
+    }
+
     for (WlsClusterConfig wlsClusterConfig : configuredClusters) {
       wlsClusterConfig.setWlsDomainConfig(this);
       if (wlsClusterConfig.hasDynamicServers()) {
@@ -413,14 +406,18 @@ public class WlsDomainConfig implements WlsDomain {
         }
       }
     }
+    index = new WlsDomainIndex(this);
   }
 
+  // Templates are looked up while the dynamic clusters are processed, before the configuration is indexed.
   WlsServerConfig getServerTemplate(String serverTemplateName) {
-    for (WlsServerConfig serverTemplate : serverTemplates) {
-      if (serverTemplate.getName().equals(serverTemplateName)) {
-        return serverTemplate;
-      }
+    final WlsDomainIndex frozenIndex = index;
+    if (frozenIndex != null) {
+      return frozenIndex.getServerTemplate(serverTemplateName);
     }
-    return null;
+    return Optional.ofNullable(serverTemplates).orElse(List.of()).stream()
+        .filter(template -> template.getName().equals(serverTemplateName))
+        .findFirst()
+        .orElse(null);
   }
 }
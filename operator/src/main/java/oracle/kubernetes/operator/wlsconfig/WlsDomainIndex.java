@@ -0,0 +1,79 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.wlsconfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable index of a WebLogic domain configuration, by server, cluster and server template name. Where names
+ * are duplicated, the first configuration found is indexed, as a search of the configuration would find it.
+ */
+final class WlsDomainIndex {
+
+  private final Map<String, WlsServerConfig> servers;
+  private final Map<String, WlsClusterConfig> clusters;
+  private final Map<String, String> clusterNamesByServerName;
+  private final Map<String, WlsServerConfig> serverTemplates;
+
+  WlsDomainIndex(WlsDomainConfig domainConfig) {
+    servers = indexServers(domainConfig.getServers());
+    serverTemplates = indexServers(domainConfig.getServerTemplates());
+
+    final Map<String, WlsClusterConfig> clusterMap = new HashMap<>();
+    final Map<String, String> clusterNameMap = new HashMap<>();
+    for (WlsClusterConfig cluster : domainConfig.getConfiguredClusters()) {
+      clusterMap.putIfAbsent(cluster.getClusterName(), cluster);
+      for (WlsServerConfig server : cluster.getServerConfigs()) {
+        clusterNameMap.putIfAbsent(server.getName(), cluster.getClusterName());
+      }
+    }
+    clusters = Collections.unmodifiableMap(clusterMap);
+    clusterNamesByServerName = Collections.unmodifiableMap(clusterNameMap);
+  }
+
+  private static Map<String, WlsServerConfig> indexServers(List<WlsServerConfig> serverList) {
+    final Map<String, WlsServerConfig> result = new HashMap<>();
+    Optional.ofNullable(serverList).ifPresent(list -> list.forEach(s -> result.putIfAbsent(s.getName(), s)));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /** Returns the servers which are not in clusters, by name. */
+  Map<String, WlsServerConfig> getServers() {
+    return servers;
+  }
+
+  /** Returns the clusters, by name. */
+  Map<String, WlsClusterConfig> getClusters() {
+    return clusters;
+  }
+
+  /**
+   * Returns the name of the cluster containing the named server, configured or dynamic, or null if it is not in a
+   * cluster.
+   * @param serverName the name of a server
+   */
+  String getClusterName(String serverName) {
+    return clusterNamesByServerName.get(serverName);
+  }
+
+  /**
+   * Returns true if the domain contains the named server, whether in a cluster or not.
+   * @param serverName the name of a server
+   */
+  boolean containsServer(String serverName) {
+    return servers.containsKey(serverName) || clusterNamesByServerName.containsKey(serverName);
+  }
+
+  /**
+   * Returns the named server template, or null if there is none.
+   * @param templateName the name of a server template
+   */
+  WlsServerConfig getServerTemplate(String templateName) {
+    return serverTemplates.get(templateName);
+  }
+}
@@ -1,30 +1,107 @@
-// Copyright (c) 2018, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
 
+import java.util.concurrent.Delayed;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nonnull;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ *
+ * <p>In {@link EngineMode#PLATFORM} mode, fibers run on the threads of the scheduled executor. In
+ * {@link EngineMode#VIRTUAL} mode, each dispatch of a fiber runs on a new virtual thread, so that steps which block
+ * do not tie up the small pool of platform threads; the scheduled executor is then only used to run
+ * timed actions, such as those requested via {@link Fiber#scheduleOnce}.
  */
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
+
+  private static final Counter fibersDispatched = Counter.build()
+      .name("weblogic_operator_engine_fiber_dispatches_total")
+      .help("Number of times a fiber was handed to an engine executor to run.")
+      .labelNames("mode")
+      .register();
+  private static final Gauge fibersRunning = Gauge.build()
+      .name("weblogic_operator_engine_fibers_running")
+      .help("Number of fibers currently running on an engine thread.")
+      .labelNames("mode")
+      .register();
+  private static final Histogram dispatchWait = Histogram.build()
+      .name("weblogic_operator_engine_dispatch_wait_seconds")
+      .help("Time from the dispatch of a fiber until an engine thread begins to run it.")
+      .labelNames("mode")
+      .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+      .register();
+  private static final Gauge executorQueuedTasks = Gauge.build()
+      .name("weblogic_operator_engine_executor_queued_tasks")
+      .help("Number of tasks which are ready to run, waiting for a thread of an engine executor.")
+      .labelNames("engine")
+      .register();
+  private static final Gauge executorActiveThreads = Gauge.build()
+      .name("weblogic_operator_engine_executor_active_threads")
+      .help("Number of threads of an engine executor which are running tasks.")
+      .labelNames("engine")
+      .register();
+
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
+  private final EngineMode mode;
+  private final Executor fiberExecutor;
 
   /**
-   * Creates engine with the specified executor.
+   * Creates engine with the specified executor, which will run its fibers on platform threads.
    *
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, EngineMode.PLATFORM);
+  }
+
+  /**
+   * Creates engine with the specified executor and mode.
+   *
+   * @param threadPool Executor used to run scheduled actions and, in platform mode, fibers
+   * @param mode the way in which the engine will run its fibers
+   */
+  public Engine(ScheduledExecutorService threadPool, EngineMode mode) {
     this.threadPool.set(threadPool);
+    this.mode = mode;
+    this.fiberExecutor = mode == EngineMode.VIRTUAL ? createVirtualThreadExecutor() : this::executeOnThreadPool;
+  }
+
+  private void executeOnThreadPool(Runnable runnable) {
+    getExecutor().execute(runnable);
+  }
+
+  // Virtual threads do not inherit the container of the dispatching thread, so it is passed along explicitly.
+  private static Executor createVirtualThreadExecutor() {
+    ExecutorService virtualThreads
+        = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("engine-virtual-thread-", 1).factory());
+    return runnable -> virtualThreads.execute(inContainer(ContainerResolver.getDefault().getContainer(), runnable));
+  }
+
+  private static Runnable inContainer(Container container, Runnable runnable) {
+    return () -> {
+      Container old = ContainerResolver.getDefault().enterContainer(container);
+      try {
+        runnable.run();
+      } finally {
+        ContainerResolver.getDefault().exitContainer(old);
+      }
+    };
   }
 
   /**
@@ -46,9 +123,37 @@ public class Engine {
     ScheduledThreadPoolExecutor threadPool =
         new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
+    registerExecutorMetrics(id, threadPool);
     return wrap(container, threadPool);
   }
 
+  // The metrics are computed when they are collected, so that they add nothing to the dispatch of a fiber.
+  static void registerExecutorMetrics(String id, ScheduledThreadPoolExecutor threadPool) {
+    executorQueuedTasks.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return countReadyTasks(threadPool);
+      }
+    }, id);
+    executorActiveThreads.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return threadPool.getActiveCount();
+      }
+    }, id);
+  }
+
+  // The queue of a scheduled executor also holds the tasks scheduled for later, which are not waiting for a thread.
+  private static int countReadyTasks(ScheduledThreadPoolExecutor threadPool) {
+    int count = 0;
+    for (Runnable task : threadPool.getQueue()) {
+      if (!(task instanceof Delayed) || ((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
@@ -62,8 +167,39 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Returns the way in which this engine runs its fibers.
+   *
+   * @return mode
+   */
+  public EngineMode getMode() {
+    return mode;
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    fibersDispatched.labels(mode.getValue()).inc();
+    fiberExecutor.execute(new MeteredRunnable(fiber));
+  }
+
+  private class MeteredRunnable implements Runnable {
+    private final Runnable runnable;
+    private final long dispatchTime = System.nanoTime();
+
+    MeteredRunnable(Runnable runnable) {
+      this.runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      dispatchWait.labels(mode.getValue()).observe((System.nanoTime() - dispatchTime) / 1.0E9);
+      Gauge.Child running = fibersRunning.labels(mode.getValue());
+      running.inc();
+      try {
+        runnable.run();
+      } finally {
+        running.dec();
+      }
+    }
   }
 
   /**
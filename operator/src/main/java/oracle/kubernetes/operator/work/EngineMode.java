@@ -0,0 +1,42 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Arrays;
+
+/**
+ * The ways in which an {@link Engine} may run its fibers.
+ */
+public enum EngineMode {
+  /** Fibers are run on the engine's fixed pool of platform threads. */
+  PLATFORM("platform"),
+  /** Fibers are run on virtual threads; the engine's pool is used only for scheduled actions. */
+  VIRTUAL("virtual");
+
+  private final String value;
+
+  EngineMode(String value) {
+    this.value = value;
+  }
+
+  /**
+   * Returns the mode matching the specified value, ignoring case. If no match is found, returns the default mode.
+   * @param value the name of a mode
+   */
+  public static EngineMode fromValue(String value) {
+    return Arrays.stream(values())
+        .filter(mode -> mode.value.equalsIgnoreCase(value))
+        .findFirst()
+        .orElse(PLATFORM);
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
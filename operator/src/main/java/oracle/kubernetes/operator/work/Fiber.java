@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -18,6 +19,8 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -69,6 +72,36 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private static final AtomicInteger iotaGen = new AtomicInteger();
   @SuppressWarnings("FieldMayBeFinal")
   private static BiConsumer<NextAction, String> preApplyReport = Fiber::reportPreApplyState;
+  /** One in this many step applications is timed. Tests may replace this value. */
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static int stepSampleInterval = 16;
+
+  private static final Counter suspensions = Counter.build()
+      .name("weblogic_operator_fiber_suspensions_total")
+      .help("Number of times a step suspended its fiber.")
+      .register();
+  private static final Counter resumptions = Counter.build()
+      .name("weblogic_operator_fiber_resumptions_total")
+      .help("Number of times a suspended fiber was resumed.")
+      .register();
+  private static final Histogram fiberLifetime = Histogram.build()
+      .name("weblogic_operator_fiber_lifetime_seconds")
+      .help("Time from the start of a fiber until it completes, by whether it is a root or a child fiber.")
+      .labelNames("kind")
+      .buckets(0.001, 0.01, 0.1, 0.5, 1, 5, 10, 30, 60, 300, 900)
+      .register();
+  private static final Histogram stepApplyTime = Histogram.build()
+      .name("weblogic_operator_step_apply_seconds")
+      .help("Time taken by the apply method of a step, by step class. Only a sample of the applications is timed.")
+      .labelNames("step")
+      .buckets(0.00001, 0.0001, 0.001, 0.01, 0.1, 1)
+      .register();
+  private static final ClassValue<Histogram.Child> stepApplyTimeByClass = new ClassValue<>() {
+    @Override
+    protected Histogram.Child computeValue(Class<?> type) {
+      return stepApplyTime.labels(type.getName().substring(type.getName().lastIndexOf('.') + 1));
+    }
+  };
 
   public final Engine owner;
   private final Fiber parent;
@@ -92,6 +125,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private Collection<Fiber> children = null;
   // Will only be populated if log level is at least FINE
   private List<BreadCrumbFactory> breadCrumbs = null;
+  private long startTime;
 
   // for unit test only
   public Fiber() {
@@ -150,6 +184,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     if (status.get() == NOT_COMPLETE) {
       LOGGER.finer("{0} started", getName());
       breadCrumbs = new ArrayList<>();
+      startTime = System.nanoTime();
 
       owner.addRunnable(this);
     }
@@ -198,6 +233,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         lock.unlock();
 
         if (doAddRunnable) {
+          resumptions.inc();
           owner.addRunnable(this);
         }
       }
@@ -384,7 +420,9 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         } catch (Throwable t) {
           LOGGER.fine(MessageKeys.EXCEPTION, t);
         } finally {
-          status.compareAndSet(NOT_COMPLETE, DONE);
+          if (status.compareAndSet(NOT_COMPLETE, DONE)) {
+            recordLifetime();
+          }
           condition.signalAll();
         }
       }
@@ -483,7 +521,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
 
       NextAction result;
       try {
-        result = na.getNext().apply(na.getPacket());
+        result = applyNextStep();
       } catch (Exception t) {
         Packet p = na.getPacket();
         na = new NextAction();
@@ -509,6 +547,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         case INVOKE:
           break;
         case SUSPEND:
+          suspensions.inc();
           addBreadCrumb(result);
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
@@ -528,6 +567,29 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return false;
   }
 
+  // Timing every step would add two clock reads to the innermost loop of the operator, so only a random sample
+  // of the step applications is timed. The sample is random, rather than every nth, so that it is not biased
+  // toward steps which occupy a particular position in their chains.
+  private NextAction applyNextStep() {
+    final Step step = na.getNext();
+    if (ThreadLocalRandom.current().nextInt(stepSampleInterval) != 0) {
+      return step.apply(na.getPacket());
+    }
+
+    final long applyStart = System.nanoTime();
+    try {
+      return step.apply(na.getPacket());
+    } finally {
+      stepApplyTimeByClass.get(step.getClass()).observe((System.nanoTime() - applyStart) / 1.0E9);
+    }
+  }
+
+  private void recordLifetime() {
+    if (startTime != 0) {
+      fiberLifetime.labels(parent == null ? "root" : "child").observe((System.nanoTime() - startTime) / 1.0E9);
+    }
+  }
+
   private static void reportPreApplyState(NextAction na, String fiberName) {
     LOGGER.finer(CURRENT_STEPS, na.getNext());
 
@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -8,8 +8,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.utils.SystemClock;
 
@@ -18,13 +22,35 @@ import oracle.kubernetes.utils.SystemClock;
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
  * in-flight.
+ *
+ * <p>Requests which need not interrupt the current Fiber may instead be coalesced: at most one such request is
+ * held for each key while a Fiber runs, each later request replacing the one held, and the held request is started
+ * once the running Fiber completes, unless it no longer applies by then. The gate takes no locks; each request is
+ * resolved by an atomic update of the entry for its key, so that requests for different keys never contend.
  */
 public class FiberGate {
+  private static final Counter coalescedRequests = Counter.build()
+      .name("weblogic_operator_fiber_gate_coalesced_requests_total")
+      .help("Number of fiber requests superseded by a later request before they could start.")
+      .register();
+  private static final Counter droppedRequests = Counter.build()
+      .name("weblogic_operator_fiber_gate_dropped_requests_total")
+      .help("Number of held fiber requests discarded because they no longer applied when they could start.")
+      .register();
+  private static final Histogram gateWait = Histogram.build()
+      .name("weblogic_operator_fiber_gate_wait_seconds")
+      .help("Time from a fiber request until its steps begin to run.")
+      .buckets(0.0001, 0.001, 0.01, 0.1, 1, 5, 10, 30, 60, 300)
+      .register();
+
   private final Engine engine;
 
   /** A map of domain UIDs to the fiber charged with running processing on that domain. **/
   private final Map<String, Fiber> gateMap = new ConcurrentHashMap<>();
 
+  /** A map of domain UIDs to the request to run once the current fiber for that domain completes. **/
+  private final Map<String, FiberRequest> pendingMap = new ConcurrentHashMap<>();
+
   private final Fiber placeholder;
 
   /**
@@ -59,6 +85,9 @@ public class FiberGate {
    * @param callback Completion callback
    */
   public void startFiber(String domainUid, Step strategy, Packet packet, CompletionCallback callback) {
+    if (pendingMap.remove(domainUid) != null) {
+      coalescedRequests.inc();
+    }
     requestNewFiberStart(domainUid, null, strategy, packet, callback);
   }
 
@@ -76,6 +105,62 @@ public class FiberGate {
     requestNewFiberStart(domainUid, placeholder, strategy, packet, callback);
   }
 
+  /**
+   * Starts Fiber if there is no running Fiber with the same key; otherwise, holds the request to be started once
+   * the running Fiber completes. A held request is replaced by any later one for the same key, since the later
+   * request will complete or correct its work; it is discarded if a Fiber is started with {@link #startFiber}.
+   *
+   * @param domainUid the UID for which a fiber should be started
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   */
+  public void startFiberOrCoalesce(String domainUid, Step strategy, Packet packet, CompletionCallback callback) {
+    startFiberOrCoalesce(domainUid, strategy, packet, callback, () -> true);
+  }
+
+  /**
+   * Starts Fiber if there is no running Fiber with the same key; otherwise, holds the request as described
+   * in {@link #startFiberOrCoalesce(String, Step, Packet, CompletionCallback)}. When the running Fiber completes,
+   * the held request is started only if the specified check still passes; otherwise, it is discarded.
+   *
+   * @param domainUid the UID for which a fiber should be started
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @param stillApplies a check whether a held request should still be started
+   */
+  public void startFiberOrCoalesce(
+      String domainUid, Step strategy, Packet packet, CompletionCallback callback, BooleanSupplier stillApplies) {
+    FiberRequest request = new FiberRequest(domainUid, placeholder, strategy, packet, callback);
+    request.stillApplies = stillApplies;
+    if (!request.invoke()) {
+      holdPendingRequest(request);
+    }
+  }
+
+  private void holdPendingRequest(FiberRequest request) {
+    if (pendingMap.put(request.domainUid, request) != null) {
+      coalescedRequests.inc();
+    }
+
+    // the running fiber may have completed before the request was held, and so will not have seen it
+    if (!gateMap.containsKey(request.domainUid)) {
+      startPendingRequest(request.domainUid);
+    }
+  }
+
+  private void startPendingRequest(String domainUid) {
+    FiberRequest request = pendingMap.remove(domainUid);
+    if (request == null) {
+      return;
+    } else if (!request.stillApplies.getAsBoolean()) {
+      droppedRequests.inc();
+    } else if (!request.invoke()) {
+      holdPendingRequest(request);
+    }
+  }
+
   /**
    * Starts a new fiber only if the current running fiber is associated with the specified domain UID.
    * @param domainUid  the UID for which a fiber should be started
@@ -97,7 +182,7 @@ public class FiberGate {
    * @param packet Packet
    * @param callback Completion callback
    */
-  private synchronized void requestNewFiberStart(
+  private void requestNewFiberStart(
       String domainUid, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
     new FiberRequest(domainUid, old, strategy, packet, callback).invoke();
   }
@@ -110,6 +195,8 @@ public class FiberGate {
     private Fiber old;
     private final Step steps;
     private final Packet packet;
+    private final long requestNanos = System.nanoTime();
+    private BooleanSupplier stillApplies = () -> true;
 
     FiberRequest(String domainUid, Fiber old, Step steps, Packet packet, CompletionCallback callback) {
       this.domainUid = domainUid;
@@ -121,10 +208,13 @@ public class FiberGate {
       gateCallback = new FiberGateCompletionCallback(callback, domainUid, fiber);
     }
 
-    void invoke() {
-      if (isAllowed()) {
-        fiber.start(new WaitForOldFiberStep(old, steps), packet, gateCallback);
+    boolean invoke() {
+      if (!isAllowed()) {
+        return false;
       }
+      Fiber toCancel = old == placeholder ? null : old;
+      fiber.start(new WaitForOldFiberStep(toCancel, requestNanos, steps), packet, gateCallback);
+      return true;
     }
 
     private boolean isAllowed() {
@@ -139,42 +229,45 @@ public class FiberGate {
     }
   }
 
+  // Cancels the fiber replaced by a new request, if any, and proceeds once that fiber has exited.
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
-    private final AtomicReference<WaitForOldFiberStep> current;
+    private final long requestNanos;
 
-    public WaitForOldFiberStep(Fiber old, Step next) {
+    public WaitForOldFiberStep(Fiber old, long requestNanos, Step next) {
       super(next);
       this.old = new AtomicReference<>(old);
-      current = new AtomicReference<>(this);
+      this.requestNanos = requestNanos;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      WaitForOldFiberStep c = current.get();
-      Fiber o = c != null ? c.old.getAndSet(null) : null;
+      Fiber o = old.getAndSet(null);
       if (o == null) {
+        recordGateWait();
         return doNext(packet).withDebugComment(this::getProceedTime);
       }
 
       return doSuspend(
-          this,
+          getNext(),
           fiber -> {
-            boolean isWillCall =
-                o.cancelAndExitCallback(
-                    true,
-                    () -> {
-                      current.set(o.getSpi(WaitForOldFiberStep.class));
-                      fiber.resume(packet);
-                    });
+            boolean isWillCall = o.cancelAndExitCallback(true, () -> resume(fiber, packet));
 
             if (!isWillCall) {
-              current.set(o.getSpi(WaitForOldFiberStep.class));
-              fiber.resume(packet);
+              resume(fiber, packet);
             }
           });
     }
 
+    private void resume(AsyncFiber fiber, Packet packet) {
+      recordGateWait();
+      fiber.resume(packet);
+    }
+
+    private void recordGateWait() {
+      gateWait.observe((double) (System.nanoTime() - requestNanos) / TimeUnit.SECONDS.toNanos(1));
+    }
+
     private String getProceedTime() {
       return "starting fiber at " + SystemClock.now().format(DateTimeFormatter.ISO_LOCAL_TIME);
     }
@@ -197,7 +290,7 @@ public class FiberGate {
       try {
         callback.onCompletion(packet);
       } finally {
-        gateMap.remove(domainUid, fiber);
+        releaseGate();
       }
     }
 
@@ -206,7 +299,14 @@ public class FiberGate {
       try {
         callback.onThrowable(packet, throwable);
       } finally {
-        gateMap.remove(domainUid, fiber);
+        releaseGate();
+      }
+    }
+
+    private void releaseGate() {
+      gateMap.remove(domainUid, fiber);
+      if (pendingMap.containsKey(domainUid)) {
+        startPendingRequest(domainUid);
       }
     }
   }
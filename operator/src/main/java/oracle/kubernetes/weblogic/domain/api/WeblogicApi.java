@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.weblogic.domain.api;
@@ -57,7 +57,7 @@ public class WeblogicApi extends CustomObjectsApi {
       Integer limit,
       String resourceVersion,
       Integer timeoutSeconds,
-      boolean watch,
+      Boolean watch,
       ApiCallback<ClusterList> callback)
       throws ApiException {
     return listNamespacedCustomObjectCall(DOMAIN_GROUP, CLUSTER_VERSION, namespace, CLUSTER_PLURAL,
@@ -65,6 +65,37 @@ public class WeblogicApi extends CustomObjectsApi {
         timeoutSeconds, watch, wrapForClusterList(callback));
   }
 
+  /**
+   * Generate call to list clusters in all namespaces.
+   *
+   * @param pretty          pretty flag
+   * @param cont            continuation
+   * @param fieldSelector   field selector
+   * @param labelSelector   label selector
+   * @param limit           limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds  timeout
+   * @param watch           if watch
+   * @param callback        callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listClusterCall(
+      String pretty,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback<ClusterList> callback)
+      throws ApiException {
+    return listClusterCustomObjectCall(DOMAIN_GROUP, CLUSTER_VERSION, CLUSTER_PLURAL,
+        pretty, null, cont, fieldSelector, labelSelector, limit, resourceVersion, null,
+        timeoutSeconds, watch, wrapForClusterList(callback));
+  }
+
   /**
    * Asynchronously read cluster.
    *
@@ -128,6 +159,37 @@ public class WeblogicApi extends CustomObjectsApi {
         timeoutSeconds, watch, wrapForDomainList(callback));
   }
 
+  /**
+   * Generate call to list domains in all namespaces.
+   *
+   * @param pretty          pretty flag
+   * @param cont            continuation
+   * @param fieldSelector   field selector
+   * @param labelSelector   label selector
+   * @param limit           limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds  timeout
+   * @param watch           if watch
+   * @param callback        callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listDomainCall(
+      String pretty,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback<DomainList> callback)
+      throws ApiException {
+    return listClusterCustomObjectCall(DOMAIN_GROUP, DOMAIN_VERSION, DOMAIN_PLURAL,
+        pretty, null, cont, fieldSelector, labelSelector, limit, resourceVersion, null,
+        timeoutSeconds, watch, wrapForDomainList(callback));
+  }
+
   /**
    * List clusters.
    *
@@ -242,6 +304,7 @@ public class WeblogicApi extends CustomObjectsApi {
    * @param fieldSelector   field selector
    * @param labelSelector   label selector
    * @param limit           limit
+   * @param resourceVersion resource version
    * @param timeoutSeconds  timeout
    * @param callback        callback
    * @return call
@@ -253,11 +316,12 @@ public class WeblogicApi extends CustomObjectsApi {
       String fieldSelector,
       String labelSelector,
       Integer limit,
+      String resourceVersion,
       Integer timeoutSeconds,
       ApiCallback<ClusterList> callback)
       throws ApiException {
     return listNamespacedCustomObjectAsync(DOMAIN_GROUP, CLUSTER_VERSION, namespace, CLUSTER_PLURAL,
-        null, null, cont, fieldSelector, labelSelector, limit, "", null,
+        null, null, cont, fieldSelector, labelSelector, limit, resourceVersion, null,
         timeoutSeconds, null, wrapForClusterList(callback));
   }
 
@@ -480,6 +544,23 @@ public class WeblogicApi extends CustomObjectsApi {
         name, body, null, null, wrapForDomain(callback));
   }
 
+  /**
+   * Asynchronously patch domain status.
+   *
+   * @param name      name
+   * @param namespace namespace
+   * @param body      patch
+   * @param callback  callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call patchNamespacedDomainStatusAsync(
+      String name, String namespace, V1Patch body, ApiCallback<DomainResource> callback)
+      throws ApiException {
+    return patchNamespacedCustomObjectStatusAsync(DOMAIN_GROUP, DOMAIN_VERSION, namespace, DOMAIN_PLURAL,
+        name, body, null, null, null, wrapForDomain(callback));
+  }
+
   private ApiCallback<Object> wrapForCluster(ApiCallback<ClusterResource> inner) {
     return Optional.ofNullable(inner).map(ClusterApiCallbackWrapper::new).orElse(null);
   }
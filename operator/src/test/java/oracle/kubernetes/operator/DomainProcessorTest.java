@@ -56,6 +56,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.util.Watch.Response;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
@@ -75,6 +76,7 @@ import oracle.kubernetes.operator.http.rest.Scan;
 import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.http.rest.ScanCacheStub;
 import oracle.kubernetes.operator.introspection.IntrospectionTestUtils;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
@@ -84,6 +86,7 @@ import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.utils.OperatorUtils;
 import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
@@ -175,11 +178,13 @@ import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.DOMAIN
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
 import static oracle.kubernetes.weblogic.domain.model.DomainStatusNoConditionMatcher.hasNoCondition;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -948,6 +953,18 @@ class DomainProcessorTest {
     assertThat(getRunningPDBs(), empty());
   }
 
+  @Test
+  void whenRecheckHeldBehindDomainDeletion_dontRegisterDomainAgain() {
+    defineServerResources(ADMIN_NAME);
+    processor.registerDomainPresenceInfo(originalInfo);
+    testSupport.doAfterCall(SERVICE, "deleteService",
+        () -> processor.createMakeRightOperation(newInfo).withExplicitRecheck().execute());
+
+    processor.createMakeRightOperation(originalInfo).interrupt().forDeletion().withExplicitRecheck().execute();
+
+    assertThat(processor.getExistingDomainPresenceInfo(NS, UID), nullValue());
+  }
+
   @Test
   void whenDomainMarkedForDeletion_removeAllPodsServicesAndPodDisruptionBudgets() {
     defineServerResources(ADMIN_NAME);
@@ -1042,6 +1059,45 @@ class DomainProcessorTest {
     assertThat(originalInfo.getPodDisruptionBudget(CLUSTER), notNullValue());
   }
 
+  @Test
+  void whenMakeRightCompletes_recordItsDuration() {
+    final double before = getMakeRightCount("success");
+
+    processor.createMakeRightOperation(originalInfo).interrupt().withExplicitRecheck().execute();
+
+    assertThat(getMakeRightCount("success"), closeTo(before + 1, 0.1));
+  }
+
+  @Test
+  void whenMakeRightCompletes_retainItsTrace() {
+    processor.registerDomainPresenceInfo(originalInfo);
+
+    processor.createMakeRightOperation(originalInfo).interrupt().withExplicitRecheck().execute();
+
+    final List<MakeRightTrace> traces = DomainProcessorImpl.getMakeRightTraces(NS, UID);
+    assertThat(traces, hasSize(1));
+    assertThat(traces.get(0).getResult(), equalTo("success"));
+    assertThat(traces.get(0).getPhaseSeconds().keySet(),
+        contains(MakeRightTrace.SETUP, MakeRightTrace.INTROSPECTION, MakeRightTrace.ADMIN_SERVER,
+            MakeRightTrace.MANAGED_SERVERS, MakeRightTrace.STATUS_UPDATE));
+  }
+
+  @Test
+  void afterDomainDeleted_discardItsTraces() {
+    processor.registerDomainPresenceInfo(originalInfo);
+    processor.createMakeRightOperation(originalInfo).interrupt().withExplicitRecheck().execute();
+
+    processor.createMakeRightOperation(originalInfo).interrupt().forDeletion().withExplicitRecheck().execute();
+
+    assertThat(DomainProcessorImpl.getMakeRightTraces(NS, UID), empty());
+  }
+
+  private double getMakeRightCount(String result) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+          "weblogic_operator_make_right_seconds_count",
+          new String[] {"namespace", "domain", "result"}, new String[] {NS, UID, result})).orElse(0.0);
+  }
+
   @Test
   void whenNewClusterAddedWithoutStatus_generateClusterCreatedEvent() {
     processor.getClusterPresenceInfoMap().values().clear();
@@ -1471,6 +1527,66 @@ class DomainProcessorTest {
     assertThat(testSupport, hasEvent(CLUSTER_DELETED_EVENT));
   }
 
+  @Test
+  void registeredClusterResources_areReturnedForTheirNamespace() {
+    ClusterResource cluster = createClusterAlone(CLUSTER4, NS);
+    ClusterPresenceInfo info = getInfo(cluster);
+    processor.registerClusterPresenceInfo(info);
+
+    List<ClusterResource> clusterResources = DomainProcessorImpl.getClusterResources(NS);
+    processor.unregisterClusterPresenceInfo(info);
+
+    assertThat(clusterResources, contains(cluster));
+  }
+
+  @Test
+  void whenClusterRegistered_recordLastResourceUpdateTime() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    ClusterPresenceInfo info = getInfo(createClusterAlone(CLUSTER4, NS));
+    SystemClockTestSupport.increment();
+
+    processor.registerClusterPresenceInfo(info);
+    processor.unregisterClusterPresenceInfo(info);
+
+    assertThat(DomainProcessorImpl.getLastResourceUpdateTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  void whenDomainRegistered_recordLastResourceUpdateTime() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    SystemClockTestSupport.increment();
+
+    processor.registerDomainPresenceInfo(new DomainPresenceInfo(newDomain));
+
+    assertThat(DomainProcessorImpl.getLastResourceUpdateTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  void whenRegisteredDomainUpdated_recordLastResourceUpdateTime() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    processor.registerDomainPresenceInfo(info);
+    SystemClockTestSupport.increment();
+
+    info.setDomain(newDomain);
+
+    assertThat(DomainProcessorImpl.getLastResourceUpdateTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  void whenRegisteredClusterUpdated_recordLastResourceUpdateTime() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    ClusterPresenceInfo info = getInfo(createClusterAlone(CLUSTER4, NS));
+    processor.registerClusterPresenceInfo(info);
+    SystemClockTestSupport.increment();
+
+    info.setCluster(createClusterAlone(CLUSTER4, NS));
+    OffsetDateTime updateTime = DomainProcessorImpl.getLastResourceUpdateTime();
+    processor.unregisterClusterPresenceInfo(info);
+
+    assertThat(updateTime, equalTo(SystemClock.now()));
+  }
+
   @NotNull
   private ClusterPresenceInfo getInfo(ClusterResource cluster) {
     return new ClusterPresenceInfo(cluster);
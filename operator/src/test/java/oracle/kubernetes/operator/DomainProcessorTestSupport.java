@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -11,6 +11,7 @@ import java.util.Map;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.makeright.MakeRightTraceHistory;
 
 /**
  * Test support to preserve the static maps in DomainProcessorImpl so that tests do not affect one another.
@@ -26,6 +27,10 @@ class DomainProcessorTestSupport implements Memento {
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "namespaceEventK8SObjects", new HashMap<>()));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightFiberGates", new HashMap<>()));
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusFiberGates", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "statusUpdateScheduler",
+          new StatusUpdateScheduler()));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightTraces",
+          new MakeRightTraceHistory()));
     return this;
   }
 
@@ -18,8 +18,12 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ContainerState;
@@ -30,6 +34,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -78,12 +83,14 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainStatusUpdateTestBase.ClusterStatusMatcher.hasStatusForCluster;
 import static oracle.kubernetes.operator.DomainStatusUpdateTestBase.EventMatcher.eventWithReason;
 import static oracle.kubernetes.operator.DomainStatusUpdateTestBase.ServerStatusMatcher.hasStatusForServer;
+import static oracle.kubernetes.operator.DomainStatusUpdater.MAX_STATUS_PATCH_RETRIES;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_AVAILABLE_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_COMPLETED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_COMPLETED_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION;
@@ -132,6 +139,12 @@ abstract class DomainStatusUpdateTestBase {
   private List<String> liveServers;
   private final RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
 
+  // Changes the domain spec as Kubernetes would, by incrementing its generation.
+  private void setMaxReadyWaitTimeSeconds(long maxReadyWaitTimeSeconds) {
+    domain.getSpec().setMaxReadyWaitTimeSeconds(maxReadyWaitTimeSeconds);
+    domain.getMetadata().setGeneration(Optional.ofNullable(domain.getMetadata().getGeneration()).orElse(0L) + 1);
+  }
+
   @BeforeEach
   void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
@@ -215,6 +228,37 @@ abstract class DomainStatusUpdateTestBase {
                 .withHealth(overallHealth("health2"))));
   }
 
+  @Test
+  void whenRecordedServerOrderDiffersFromCachedStatus_updateTheChangedServer() {
+    updateDomainStatus();
+    info.setDomain(copyOf(getRecordedDomain()));
+    getRecordedDomain().setStatus(withReversedServers(getRecordedDomain().getStatus()));
+    defineScenario().withServers("server1", "server2").withServersReachingState(SHUTDOWN_STATE, "server2").build();
+
+    updateDomainStatus();
+
+    assertThat(getServerStatus(getRecordedDomain(), "server1").getState(), equalTo(RUNNING_STATE));
+    assertThat(getServerStatus(getRecordedDomain(), "server2").getState(), equalTo(SHUTDOWN_STATE));
+  }
+
+  private DomainResource copyOf(DomainResource domain) {
+    final JSON json = new JSON();
+    return json.deserialize(json.serialize(domain), DomainResource.class);
+  }
+
+  // The status setters keep servers sorted, so build the status from json to get a different order.
+  private DomainStatus withReversedServers(DomainStatus status) {
+    final JSON json = new JSON();
+    final JsonObject statusObject = JsonParser.parseString(json.serialize(status)).getAsJsonObject();
+    final JsonArray reversed = new JsonArray();
+    final JsonArray servers = statusObject.getAsJsonArray("servers");
+    for (int i = servers.size() - 1; i >= 0; i--) {
+      reversed.add(servers.get(i));
+    }
+    statusObject.add("servers", reversed);
+    return json.deserialize(statusObject.toString(), DomainStatus.class);
+  }
+
   private void updateDomainStatus() {
     testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
   }
@@ -883,7 +927,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     SystemClockTestSupport.increment();
@@ -894,7 +938,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -906,7 +950,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     markPodRunningPhaseFalse("server2");
 
     SystemClockTestSupport.increment();
@@ -917,7 +961,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_phaseRunningFalse_createFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     markPodRunningPhaseFalse("server2");
@@ -929,7 +973,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -938,7 +982,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_dontCreateFailedCondition() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -948,7 +992,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodNotReadyInTime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -959,7 +1003,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOneReadyPodBecomeUnreadyForSometime_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
     updateDomainStatus();
 
     unreadyPod("server2");
@@ -972,7 +1016,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAllPodsReadyInTime_serverStatusPodReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(0L);
+    setMaxReadyWaitTimeSeconds(0L);
 
     updateDomainStatus();
 
@@ -984,7 +1028,7 @@ abstract class DomainStatusUpdateTestBase {
 
   @Test
   void whenAtLeastOnePodWaitingForReady_serverStatusPodNotReady() {
-    domain.getSpec().setMaxReadyWaitTimeSeconds(2L);
+    setMaxReadyWaitTimeSeconds(2L);
     unreadyPod("server2");
 
     updateDomainStatus();
@@ -1854,7 +1898,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
     testSupport.returnEmptyResultOnRead(DOMAIN, info.getDomainUid(), info.getNamespace());
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
@@ -1868,7 +1912,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE);
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
     updateDomainStatusInEndOfProcessing();
@@ -1881,7 +1925,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_NOT_FOUND);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_NOT_FOUND);
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
     updateDomainStatusInEndOfProcessing();
@@ -1889,6 +1933,70 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain().getStatus().getObservedGeneration(), not(equalTo(2L)));
   }
 
+  @Test
+  void whenStatusPatchRejectedAsUnprocessable_recomputePatchAndUpdateObservedGeneration() {
+    testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
+
+    info.getDomain().getMetadata().setGeneration(2L);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNPROCESSABLE_ENTITY);
+    updateDomainStatusInEndOfProcessing();
+
+    assertThat(getRecordedDomain().getStatus().getObservedGeneration(), equalTo(2L));
+  }
+
+  @Test
+  void whenStatusPatchRejectedAsUnprocessable_dontRetainRetryMarker() {
+    testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
+
+    info.getDomain().getMetadata().setGeneration(2L);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNPROCESSABLE_ENTITY);
+    updateDomainStatusInEndOfProcessing();
+
+    assertThat(testSupport.getPacket().containsKey("statusPatchRetry"), is(false));
+  }
+
+  @Test
+  void whenStatusPatchRepeatedlyRejectedAsUnprocessable_keepRecomputingPatch() {
+    testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
+
+    info.getDomain().getMetadata().setGeneration(2L);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNPROCESSABLE_ENTITY,
+        MAX_STATUS_PATCH_RETRIES);
+    updateDomainStatusInEndOfProcessing();
+
+    assertThat(getRecordedDomain().getStatus().getObservedGeneration(), equalTo(2L));
+    assertThat(getRecordedDomain(), not(hasCondition(FAILED)));
+  }
+
+  @Test
+  void whenStatusPatchRejectedAsUnprocessableTooOften_reportUnrecoverableFailure() {
+    testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
+
+    info.getDomain().getMetadata().setGeneration(2L);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNPROCESSABLE_ENTITY,
+        MAX_STATUS_PATCH_RETRIES + 1);
+    updateDomainStatusInEndOfProcessing();
+
+    testSupport.verifyCompletionThrowable(UnrecoverableCallException.class);
+    assertThat(testSupport.getPacket().containsKey("statusPatchRetry"), is(false));
+  }
+
+  @Test
+  void whenStatusPatchFailsAfterUnprocessableRejection_dontRetainRetryMarker() {
+    testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
+
+    info.getDomain().getMetadata().setGeneration(2L);
+    testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNPROCESSABLE_ENTITY);
+    testSupport.doAfterCall(DOMAIN, "readDomain", () ->
+        testSupport.failOnPatchStatus(DOMAIN_STATUS, info.getDomainUid(), info.getNamespace(), HTTP_UNAVAILABLE));
+    retryStrategy.setNumRetriesLeft(0);
+    testSupport.addRetryStrategy(retryStrategy);
+    updateDomainStatusInEndOfProcessing();
+
+    testSupport.verifyCompletionThrowable(UnrecoverableCallException.class);
+    assertThat(testSupport.getPacket().containsKey("statusPatchRetry"), is(false));
+  }
+
   @Nullable
   private MakeRightOperation<DomainPresenceInfo> createDummyMakeRightOperation() {
     return new MakeRightDomainOperation() {
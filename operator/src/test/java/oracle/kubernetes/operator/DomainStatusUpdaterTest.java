@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator;
 
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -11,9 +12,17 @@ import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonValue;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
@@ -27,6 +36,7 @@ import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +56,8 @@ import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.FATAL_INTROSPECTOR_ERROR;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.weblogic.domain.model.DomainCondition.TRUE;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
@@ -58,6 +70,7 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Tests for most methods in the DomainStatusUpdater class. The #createStatusUpdateStep method is
@@ -269,6 +282,112 @@ class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain().getOrCreateStatus().getFailedIntrospectionUid(), equalTo(JOB_UID));
   }
 
+  @Test
+  void whenOldStatusIsNull_statusPatchAddsEntireStatus() {
+    JsonArray patch = createPatch(null, new DomainStatus().withMessage(message));
+
+    assertThat(patch.size(), equalTo(1));
+    assertThat(patch.getJsonObject(0).getString("op"), equalTo("add"));
+    assertThat(patch.getJsonObject(0).getString("path"), equalTo("/status"));
+  }
+
+  @Test
+  void whenOnlyMessageChanged_statusPatchReplacesOnlyMessage() {
+    DomainStatus oldStatus = new DomainStatus().withMessage("old message")
+        .addCondition(new DomainCondition(FAILED).withReason(KUBERNETES).withMessage("failure"));
+    DomainStatus newStatus = new DomainStatus(oldStatus).withMessage(message);
+
+    JsonArray patch = createPatch(oldStatus, newStatus);
+
+    assertThat(patch.size(), equalTo(2));
+    assertThat(patch.getJsonObject(1).getString("op"), equalTo("replace"));
+    assertThat(patch.getJsonObject(1).getString("path"), equalTo("/status/message"));
+    assertThat(patch.getJsonObject(1).getString("value"), equalTo(message));
+  }
+
+  @Test
+  void whenValueReplaced_statusPatchFirstTestsItsOldValue() {
+    DomainStatus oldStatus = new DomainStatus().withMessage("old message");
+    DomainStatus newStatus = new DomainStatus(oldStatus).withMessage(message);
+
+    JsonArray patch = createPatch(oldStatus, newStatus);
+
+    assertThat(patch.getJsonObject(0).getString("op"), equalTo("test"));
+    assertThat(patch.getJsonObject(0).getString("path"), equalTo("/status/message"));
+    assertThat(patch.getJsonObject(0).getString("value"), equalTo("old message"));
+  }
+
+  @Test
+  void whenArrayElementChanged_statusPatchTestsEntireElement() {
+    DomainStatus oldStatus = new DomainStatus()
+        .addServer(new ServerStatus().withServerName("ms1").withState(RUNNING_STATE))
+        .addServer(new ServerStatus().withServerName("ms2").withState(RUNNING_STATE));
+    DomainStatus newStatus = new DomainStatus(oldStatus)
+        .addServer(new ServerStatus().withServerName("ms2").withState(SHUTDOWN_STATE));
+
+    JsonArray patch = createPatch(oldStatus, newStatus);
+
+    assertThat(patch.getJsonObject(0).getString("op"), equalTo("test"));
+    assertThat(patch.getJsonObject(0).getString("path"), equalTo("/status/servers/1"));
+    assertThat(patch.getJsonObject(0).getJsonObject("value").getString("serverName"), equalTo("ms2"));
+  }
+
+  @Test
+  void whenServerOrderOnServerDiffers_statusPatchIsRejected() {
+    DomainStatus oldStatus = new DomainStatus()
+        .addServer(new ServerStatus().withServerName("ms1").withState(RUNNING_STATE))
+        .addServer(new ServerStatus().withServerName("ms2").withState(RUNNING_STATE));
+    DomainStatus newStatus = new DomainStatus(oldStatus)
+        .addServer(new ServerStatus().withServerName("ms2").withState(SHUTDOWN_STATE));
+    JsonObject serverObject = withReversedServers(toDomainObject(oldStatus));
+
+    JsonPatch patch = Json.createPatch(createPatch(oldStatus, newStatus));
+
+    assertThrows(JsonException.class, () -> patch.apply(serverObject));
+  }
+
+  private JsonObject withReversedServers(JsonObject domainObject) {
+    final JsonArrayBuilder servers = Json.createArrayBuilder();
+    final JsonArray oldServers = domainObject.getJsonObject("status").getJsonArray("servers");
+    for (int i = oldServers.size() - 1; i >= 0; i--) {
+      servers.add(oldServers.get(i));
+    }
+    return Json.createObjectBuilder()
+        .add("status", Json.createObjectBuilder(domainObject.getJsonObject("status")).add("servers", servers))
+        .build();
+  }
+
+  @Test
+  void whenStatusUnchanged_statusPatchIsEmpty() {
+    DomainStatus status = new DomainStatus().withMessage(message);
+
+    assertThat(createPatch(status, new DomainStatus(status)).isEmpty(), is(true));
+  }
+
+  @Test
+  void whenStatusPatchAppliedToOldStatus_resultMatchesNewStatus() {
+    DomainStatus oldStatus = new DomainStatus().withMessage("old message")
+        .addCondition(new DomainCondition(FAILED).withReason(KUBERNETES).withMessage("failure"));
+    DomainStatus newStatus = new DomainStatus().addCondition(new DomainCondition(ROLLING));
+    newStatus.setObservedGeneration(2L);
+
+    JsonObject patched = Json.createPatch(createPatch(oldStatus, newStatus)).apply(toDomainObject(oldStatus));
+
+    assertThat(patched, equalTo(toDomainObject(newStatus)));
+  }
+
+  private JsonArray createPatch(DomainStatus oldStatus, DomainStatus newStatus) {
+    return readJson(DomainStatusUpdater.createStatusPatch(oldStatus, newStatus)).asJsonArray();
+  }
+
+  private JsonObject toDomainObject(DomainStatus status) {
+    return Json.createObjectBuilder().add("status", readJson(new JSON().serialize(status))).build();
+  }
+
+  private JsonValue readJson(String json) {
+    return Json.createReader(new StringReader(json)).readValue();
+  }
+
   @SuppressWarnings("SameParameterValue")
   private V1Job createIntrospectorJob(String uid) {
     return new V1Job().metadata(createJobMetadata(uid)).status(new V1JobStatus());
@@ -1,11 +1,14 @@
-// Copyright (c) 2021, Oracle and/or its affiliates.
+// Copyright (c) 2021, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -22,10 +25,33 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 class KubernetesExecFactoryFake implements KubernetesExecFactory {
   private final Map<String, String> responses = new HashMap<>();
   private final Map<String, Integer> exitCodes = new HashMap<>();
+  private final List<ServerStatusReaderTest.ProcessStub> processes = new ArrayList<>();
 
+  /**
+   * Installs this fake as the source of exec calls, and runs state probes synchronously.
+   * @return a memento to revert the installation
+   * @throws NoSuchFieldException if StaticStubSupport fails to install.
+   */
   @Nonnull
   public Memento install() throws NoSuchFieldException {
-    return StaticStubSupport.install(ServerStatusReader.class, "execFactory", this);
+    final Memento factoryMemento = StaticStubSupport.install(ServerStatusReader.class, "execFactory", this);
+    final Memento throttleMemento = StaticStubSupport.install(
+          ServerStatusReader.class, "probeThrottle", new StateProbeThrottle());
+    final Memento executorMemento = StaticStubSupport.install(
+          ServerStatusReader.class, "execProbeExecutor", (Executor) Runnable::run);
+    return new Memento() {
+      @Override
+      public void revert() {
+        executorMemento.revert();
+        throttleMemento.revert();
+        factoryMemento.revert();
+      }
+
+      @Override
+      public <T> T getOriginalValue() {
+        return factoryMemento.getOriginalValue();
+      }
+    };
   }
 
   void defineResponse(String serverName, String response) {
@@ -37,13 +63,19 @@ class KubernetesExecFactoryFake implements KubernetesExecFactory {
     exitCodes.put(LegalNames.toPodName(UID, serverName), exitCode);
   }
 
+  List<ServerStatusReaderTest.ProcessStub> getProcesses() {
+    return processes;
+  }
+
   @Override
   public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
     return new KubernetesExec() {
       @Override
       public Process exec(String... command) {
-        return createStub(ServerStatusReaderTest.ProcessStub.class, getResponse(pod.getMetadata().getName()),
-            getExitCode(pod.getMetadata().getName()));
+        final ServerStatusReaderTest.ProcessStub process = createStub(ServerStatusReaderTest.ProcessStub.class,
+            getResponse(pod.getMetadata().getName()), getExitCode(pod.getMetadata().getName()));
+        processes.add(process);
+        return process;
       }
 
       private String getResponse(String name) {
@@ -17,11 +17,13 @@ import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
@@ -33,9 +35,11 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.common.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DOMAIN;
 import static oracle.kubernetes.common.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.common.utils.LogMatcher.containsFine;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.READY;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SUSPENDING_STATE;
 import static oracle.kubernetes.operator.helpers.LegalNames.DEFAULT_INTROSPECTOR_JOB_NAME_SUFFIX;
@@ -43,6 +47,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionMatcher.has
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -72,6 +77,7 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
   public void setUp() throws Exception {
     super.setUp();
     addMemento(testSupport.install());
+    addMemento(SystemClockTestSupport.installClock());
   }
 
   private String[] getMessageKeys() {
@@ -198,6 +204,24 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     }
   }
 
+  @Test
+  void whenPodReadyRecheckFails_removeWaiterAndTerminateFiber() {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+
+    testSupport.defineResources(createPod());
+    testSupport.failOnRead(KubernetesTestSupport.POD, NAME, NS, HTTP_FORBIDDEN);
+
+    try {
+      testSupport.runSteps(watcher.waitForReady(createPod(), terminalStep));
+
+      assertThat(watcher.getWaiterCount(READY), equalTo(0));
+      testSupport.verifyCompletionThrowable(UnrecoverableCallException.class);
+    } finally {
+      stopping.set(true);
+    }
+  }
+
   @Test
   void whenPodReadyOnFirstRead_runNextStep() {
     startWaitForReadyThenReadPod(this::markPodReady);
@@ -418,6 +442,27 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     }
   }
 
+  @Test
+  void whenPodDeleteWaitOutlastsBackstopRechecks_runNextStepOnDeleteEvent() {
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    final TerminalStep laterTerminalStep = new TerminalStep();
+
+    testSupport.defineResources(createPod());
+
+    try {
+      testSupport.runSteps(watcher.waitForDelete(createPod(), terminalStep));
+      testSupport.setTime(10, TimeUnit.MINUTES);
+      SystemClockTestSupport.increment(TimeUnit.MINUTES.toSeconds(10));
+      testSupport.runSteps(watcher.waitForDelete(createPod(), laterTerminalStep));
+      watcher.receivedResponse(new Watch.Response<>("DELETED", createPod()));
+
+      assertThat(terminalStep.wasRun(), is(true));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
   @Test
   void whenPodNotFound_waitForDeleteDoesNotRecordKubernetesFailure() {
     final DomainResource domain = DomainProcessorTestSetup.createTestDomain();
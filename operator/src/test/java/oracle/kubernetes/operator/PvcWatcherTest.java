@@ -14,6 +14,7 @@ import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.SystemClock;
@@ -51,6 +52,7 @@ class PvcWatcherTest {
   @BeforeEach
   public void setUp() throws Exception {
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     testSupport.addDomainPresenceInfo(domainPresenceInfo);
   }
 
@@ -158,6 +160,7 @@ class PvcWatcherTest {
   private void startWaitForReady(Function<V1PersistentVolumeClaim,V1PersistentVolumeClaim> pvcFunction) {
     PvcWatcher watcher = createWatcher();
     V1PersistentVolumeClaim cachedPvc = pvcFunction.apply(createPvc());
+    testSupport.defineResources(createDomain(), cachedPvc);
 
     testSupport.runSteps(watcher.waitForReady(cachedPvc, terminalStep));
   }
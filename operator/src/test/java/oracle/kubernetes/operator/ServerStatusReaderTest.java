@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator;
@@ -8,9 +8,13 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.meterware.pseudoserver.HttpUserAgentTest;
@@ -20,6 +24,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
@@ -28,6 +33,7 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
@@ -42,8 +48,12 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_STATE_PROBES_PER_NODE;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -52,6 +62,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadServerStateStepFactoryFake stateStepFactory = new ReadServerStateStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainResource domain =
@@ -63,8 +74,10 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(execFactory.install());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stepFactory", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "readStateStepFactory", stateStepFactory));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
 
     testSupport.addDomainPresenceInfo(info);
   }
@@ -138,7 +151,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   }
 
   @SuppressWarnings("unchecked")
-  private Map<String, String> getServerStates(Packet packet) {
+  private static Map<String, String> getServerStates(Packet packet) {
     return (Map<String, String>) packet.get(SERVER_STATE_MAP);
   }
 
@@ -232,6 +245,129 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenServerHasNoService_doNotTryRestProbe() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stateStepFactory.serverNames, empty());
+  }
+
+  @Test
+  void whenRestProbeReadsState_recordItInStateMap() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    stateStepFactory.defineState("server1", "ADMIN");
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  void whenRestProbeReadsState_recordItAsLastKnownStatus() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    stateStepFactory.defineState("server1", "ADMIN");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(info.getLastKnownServerStatus("server1").getStatus(), is("ADMIN"));
+  }
+
+  @Test
+  void whenRestProbeAndExecReadSameState_recordSameState() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    info.setServerService("server1", new V1Service());
+    stateStepFactory.defineState("server1", " RUNNING\n");
+    execFactory.defineResponse("server2", " RUNNING\n");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+    assertThat(getServerStates(packet), hasEntry("server2", "RUNNING"));
+  }
+
+  @Test
+  void whenRestProbeCannotReadState_fallBackToExec() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stateStepFactory.serverNames, contains("server1"));
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+  }
+
+  @Test
+  void whileRestProbeRunning_doNotStartMoreProbesThanPermittedOnNode() {
+    TuningParametersStub.setParameter(MAX_STATE_PROBES_PER_NODE, "1");
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    info.setServerService("server1", new V1Service());
+    info.setServerService("server2", new V1Service());
+    stateStepFactory.leaveUnanswered("server1");
+    stateStepFactory.leaveUnanswered("server2");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 5, endStep));
+
+    assertThat(stateStepFactory.serverNames, hasSize(1));
+  }
+
+  @Test
+  void whenRestProbeCannotReadState_limitExecFallbackToRemainingTime() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    stateStepFactory.secondsPerProbe = 3;
+    execFactory.defineResponse("server1", "server1 status");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 5, endStep));
+
+    assertThat(execFactory.getProcesses().get(0).getWaitMillis(), equalTo(2000L));
+  }
+
+  static class ReadServerStateStepFactoryFake implements BiFunction<Long, Step, Step> {
+    final List<String> serverNames = new ArrayList<>();
+    final Map<String, String> states = new HashMap<>();
+    final List<String> unansweredServers = new ArrayList<>();
+    long secondsPerProbe;
+
+    void defineState(String serverName, String state) {
+      states.put(serverName, state);
+    }
+
+    void leaveUnanswered(String serverName) {
+      unansweredServers.add(serverName);
+    }
+
+    @Override
+    public Step apply(Long timeoutSeconds, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          final String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+          serverNames.add(serverName);
+          if (unansweredServers.contains(serverName)) {
+            return doSuspend(fiber -> { });
+          }
+
+          SystemClockTestSupport.increment(secondsPerProbe);
+          Optional.ofNullable(states.get(serverName))
+              .ifPresent(state -> getServerStates(packet).put(serverName, state));
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
@@ -250,12 +386,23 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   abstract static class ProcessStub extends Process {
     private final String response;
     private final Integer exitCode;
+    private long waitMillis;
 
     public ProcessStub(String response, Integer exitCode) {
       this.response = response;
       this.exitCode = exitCode;
     }
 
+    long getWaitMillis() {
+      return waitMillis;
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) {
+      waitMillis = unit.toMillis(timeout);
+      return true;
+    }
+
     @Override
     public InputStream getInputStream() {
       return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,150 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAX_STATE_PROBES_PER_NODE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class StateProbeThrottleTest {
+
+  private static final String NODE1 = "node1";
+  private static final String NODE2 = "node2";
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<StateProbeThrottle.Slot> runningSlots = new ArrayList<>();
+  private final List<String> probesRun = new ArrayList<>();
+  private final StateProbeThrottle throttle = new StateProbeThrottle();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(MAX_STATE_PROBES_PER_NODE, "2");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenProbesWithinLimit_startThemAll() {
+    submitProbes(NODE1, "probe1", "probe2");
+
+    assertThat(probesRun, contains("probe1", "probe2"));
+    assertThat(throttle.getNumWaiting(NODE1), equalTo(0));
+  }
+
+  @Test
+  void whenProbesExceedLimit_queueExcessProbes() {
+    submitProbes(NODE1, "probe1", "probe2", "probe3");
+
+    assertThat(probesRun, contains("probe1", "probe2"));
+    assertThat(throttle.getNumWaiting(NODE1), equalTo(1));
+  }
+
+  @Test
+  void limitAppliesSeparatelyToEachNode() {
+    submitProbes(NODE1, "probe1", "probe2");
+    submitProbes(NODE2, "probe3");
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3"));
+  }
+
+  @Test
+  void whenProbeReleasesSlot_startNextWaitingProbe() {
+    submitProbes(NODE1, "probe1", "probe2", "probe3");
+
+    releaseFirstSlot();
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3"));
+    assertThat(throttle.getNumWaiting(NODE1), equalTo(0));
+  }
+
+  @Test
+  void whenSlotReleasedTwice_startOnlyOneWaitingProbe() {
+    submitProbes(NODE1, "probe1", "probe2", "probe3", "probe4");
+
+    final StateProbeThrottle.Slot slot = runningSlots.get(0);
+    slot.release();
+    slot.release();
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3"));
+  }
+
+  @Test
+  void whenProbeCompletesWhileStarting_startNextWaitingProbe() {
+    throttle.submit(NODE1, TIMEOUT_SECONDS, slot -> {
+      probesRun.add("probe1");
+      slot.release();
+    });
+    submitProbes(NODE1, "probe2", "probe3");
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3"));
+  }
+
+  @Test
+  void whenSlotNotReleasedByDeadline_reclaimItForNextProbe() {
+    submitProbes(NODE1, "probe1", "probe2", "probe3");
+
+    SystemClockTestSupport.increment(TIMEOUT_SECONDS);
+    submitProbes(NODE1, "probe4");
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3", "probe4"));
+  }
+
+  @Test
+  void whenSlotReleasedAfterBeingReclaimed_doNotStartExtraProbe() {
+    submitProbes(NODE1, "probe1", "probe2", "probe3", "probe4");
+    SystemClockTestSupport.increment(TIMEOUT_SECONDS);
+    submitProbes(NODE1, "probe5");
+
+    releaseFirstSlot();
+
+    assertThat(probesRun, contains("probe1", "probe2", "probe3", "probe4"));
+  }
+
+  @Test
+  void slotReportsTimeLeftBeforeDeadline() {
+    submitProbes(NODE1, "probe1");
+
+    SystemClockTestSupport.increment(4);
+
+    assertThat(runningSlots.get(0).getRemainingTime(), equalTo(Duration.ofSeconds(6)));
+  }
+
+  @Test
+  void unscheduledPodsShareALimit() {
+    submitProbes(null, "probe1", "probe2", "probe3");
+
+    assertThat(probesRun, contains("probe1", "probe2"));
+  }
+
+  private void submitProbes(String nodeName, String... probeNames) {
+    for (String probeName : probeNames) {
+      throttle.submit(nodeName, TIMEOUT_SECONDS, slot -> {
+        probesRun.add(probeName);
+        runningSlots.add(slot);
+      });
+    }
+  }
+
+  private void releaseFirstSlot() {
+    runningSlots.remove(0).release();
+  }
+}
@@ -0,0 +1,228 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.StatusUpdateScheduler.Bucket;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.Step;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_UPDATE_EVENTUAL_LONG_DELAY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_UPDATE_INITIAL_SHORT_DELAY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.UNCHANGED_COUNT_TO_DELAY_STATUS_RECHECK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class StatusUpdateSchedulerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final String UID2 = "domain2";
+  private static final String SERVER_NAME = "ms1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final DomainProcessorDelegateStub delegate
+      = createStrictStub(DomainProcessorDelegateStub.class, testSupport);
+  private final List<Integer> updateTimes = new ArrayList<>();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
+  private int maxJitterApplied;
+  private StatusUpdateScheduler scheduler = new StatusUpdateScheduler(max -> 0);
+  private int currentTime;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(STATUS_UPDATE_INITIAL_SHORT_DELAY, "5");
+    TuningParametersStub.setParameter(STATUS_UPDATE_EVENTUAL_LONG_DELAY, "30");
+    TuningParametersStub.setParameter(UNCHANGED_COUNT_TO_DELAY_STATUS_RECHECK, "2");
+
+    info.setServerPod(SERVER_NAME, new V1Pod().metadata(new V1ObjectMeta().name(UID + "-" + SERVER_NAME)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenDomainScheduled_firstUpdateRunsAfterShortDelay() {
+    scheduleDomain();
+
+    advanceTo(4);
+    assertThat(updateTimes, empty());
+
+    advanceTo(5);
+    assertThat(updateTimes, contains(5));
+  }
+
+  @Test
+  void whileServersChangingState_updateAfterEachShortDelay() {
+    setServerActive();
+    scheduleDomain();
+
+    advanceTo(20);
+
+    assertThat(updateTimes, contains(5, 10, 15, 20));
+    assertThat(scheduler.getBucket(NS, UID), equalTo(Bucket.ACTIVE));
+  }
+
+  @Test
+  void whenServersSettled_doubleDelayUntilReachingLongDelay() {
+    setServerSettled();
+    scheduleDomain();
+
+    advanceTo(100);
+
+    assertThat(updateTimes, contains(5, 15, 35, 65, 95));
+  }
+
+  @Test
+  void whileDelayGrowing_domainIsSettling() {
+    setServerSettled();
+    scheduleDomain();
+
+    advanceTo(15);
+
+    assertThat(scheduler.getBucket(NS, UID), equalTo(Bucket.SETTLING));
+  }
+
+  @Test
+  void afterReachingLongDelay_domainIsSteady() {
+    setServerSettled();
+    scheduleDomain();
+
+    advanceTo(35);
+
+    assertThat(scheduler.getBucket(NS, UID), equalTo(Bucket.STEADY));
+  }
+
+  @Test
+  void whenSteadyDomainServerChangesState_returnToShortDelay() {
+    setServerSettled();
+    scheduleDomain();
+    advanceTo(35);
+
+    setServerActive();
+    advanceTo(75);
+
+    assertThat(updateTimes, contains(5, 15, 35, 65, 70, 75));
+    assertThat(scheduler.getBucket(NS, UID), equalTo(Bucket.ACTIVE));
+  }
+
+  @Test
+  void whenServersToRoll_domainIsActive() {
+    setServerSettled();
+    info.setServersToRoll(Map.of(SERVER_NAME, new Step.StepAndPacket(null, null)));
+    scheduleDomain();
+
+    advanceTo(10);
+
+    assertThat(updateTimes, contains(5, 10));
+    assertThat(scheduler.getBucket(NS, UID), equalTo(Bucket.ACTIVE));
+  }
+
+  @Test
+  void whenSteadyDomainRescheduled_restartAtShortDelay() {
+    setServerSettled();
+    scheduleDomain();
+    advanceTo(35);
+
+    scheduleDomain();
+    advanceTo(40);
+
+    assertThat(updateTimes, contains(5, 15, 35, 40));
+  }
+
+  @Test
+  void whenDomainCancelled_stopUpdates() {
+    setServerActive();
+    scheduleDomain();
+    advanceTo(5);
+
+    scheduler.cancel(NS, UID);
+    advanceTo(20);
+
+    assertThat(updateTimes, contains(5));
+  }
+
+  @Test
+  void whenNamespaceCancelled_stopUpdates() {
+    setServerActive();
+    scheduleDomain();
+    advanceTo(5);
+
+    scheduler.cancelNamespace(NS);
+    advanceTo(20);
+
+    assertThat(updateTimes, contains(5));
+  }
+
+  @Test
+  void whenJitterApplied_shortenDelayByUpToOneFifth() {
+    scheduler = new StatusUpdateScheduler(this::applyMaximumJitter);
+    setServerActive();
+    scheduleDomain();
+
+    advanceTo(10);
+
+    assertThat(maxJitterApplied, equalTo(1));
+    assertThat(updateTimes, contains(4, 8));
+  }
+
+  @Test
+  void eachDomainIsScheduledIndependently() {
+    setServerActive();
+    scheduleDomain();
+    advanceTo(2);
+    scheduler.schedule(delegate, NS, UID2, () -> { }, () -> null);
+
+    advanceTo(7);
+
+    assertThat(updateTimes, contains(5));
+  }
+
+  private int applyMaximumJitter(int maxJitter) {
+    maxJitterApplied = Math.max(maxJitterApplied, maxJitter);
+    return maxJitter;
+  }
+
+  private void scheduleDomain() {
+    scheduler.schedule(delegate, NS, UID, () -> updateTimes.add(currentTime), () -> info);
+  }
+
+  private void setServerActive() {
+    info.updateLastKnownServerStatus(SERVER_NAME, STARTING_STATE);
+  }
+
+  private void setServerSettled() {
+    for (int i = 0; i < 3; i++) {
+      info.updateLastKnownServerStatus(SERVER_NAME, RUNNING_STATE);
+    }
+  }
+
+  // Advances the simulated time one second at a time, so that updates may record the time at which they ran.
+  private void advanceTo(int seconds) {
+    while (currentTime < seconds) {
+      testSupport.setTime(++currentTime, TimeUnit.SECONDS);
+    }
+  }
+}
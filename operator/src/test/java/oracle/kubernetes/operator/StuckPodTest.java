@@ -13,8 +13,11 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -38,6 +41,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
 import static oracle.kubernetes.operator.ProcessingConstants.DELEGATE_COMPONENT_NAME;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -81,9 +85,10 @@ class StuckPodTest {
 
   @Test
   void whenServerPodNotDeleted_ignoreIt() {
+    processing.onPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
   }
@@ -93,7 +98,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS - 1);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
   }
@@ -103,7 +108,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(getSelectedPod(SERVER_POD_1), nullValue());
   }
@@ -115,7 +120,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_1));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(logMessages, containsInfo(POD_FORCE_DELETED).withParams(SERVER_POD_1, NS));
   }
@@ -126,11 +131,114 @@ class StuckPodTest {
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
     testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(gracePeriodSeconds, equalTo(0));
   }
 
+  @Test
+  void whenDeletingServerPodRemovedBeforeGracePeriodEnds_dontForceDeleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.onPodWatch(WatchEvent.createDeletedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(gracePeriodSeconds, nullValue());
+  }
+
+  @Test
+  void whenStuckServerPodFoundInList_deleteIt() {
+    Objects.requireNonNull(getSelectedPod(SERVER_POD_1).getMetadata())
+          .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
+          .deletionTimestamp(SystemClock.now());
+    processing.trackPods(NS, new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_1)));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenDeletingServerPodMissingFromList_dontForceDeleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.trackPods(NS, new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_2)));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(gracePeriodSeconds, nullValue());
+  }
+
+  @Test
+  void whenDeletingServerPodMissingFromPartialList_forceDeleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.trackPods(NS, new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_2))
+          .metadata(new V1ListMeta()._continue("next")));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenNamespaceStopped_dontForceDeleteItsPods() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.stopNamespace(NS);
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(gracePeriodSeconds, nullValue());
+  }
+
+  @Test
+  void whenStuckServerPodAlreadyGone_dontLogForcedDeletion() {
+    final List<LogRecord> logMessages = new ArrayList<>();
+    consoleMemento.collectLogMessages(logMessages, POD_FORCE_DELETED).withLogLevel(Level.INFO);
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    testSupport.deleteResources(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(logMessages, empty());
+  }
+
+  @Test
+  void whenNamespaceResourcesRead_trackDeletingServerPods() {
+    final DomainNamespaces domainNamespaces = mainDelegate.getDomainNamespaces();
+    domainNamespaces.setStuckPodProcessing(processing);
+    Objects.requireNonNull(getSelectedPod(SERVER_POD_1).getMetadata())
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+          .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
+          .deletionTimestamp(SystemClock.now());
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, mainDelegate.getDomainProcessor()));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.forceDeleteStuckPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void afterStuckServerPodDeleted_dontDeleteItAgain() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    processing.forceDeleteStuckPods();
+    testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
+
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    processing.forceDeleteStuckPods();
+
+    assertThat(gracePeriodSeconds, nullValue());
+  }
+
   private void recordGracePeriodSeconds(Integer gracePeriodSeconds) {
     this.gracePeriodSeconds = gracePeriodSeconds;
   }
@@ -140,7 +248,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(SERVER_POD_2));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(mainDelegate.makeRightInvoked(domain), is(true));
   }
@@ -150,7 +258,7 @@ class StuckPodTest {
     markAsDelete(getSelectedPod(FOREIGN_POD));
     SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
 
-    processing.checkStuckPods(NS);
+    processing.forceDeleteStuckPods();
 
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
@@ -185,6 +293,7 @@ class StuckPodTest {
     Objects.requireNonNull(pod.getMetadata())
           .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
           .deletionTimestamp(SystemClock.now());
+    processing.onPodWatch(WatchEvent.createModifiedEvent(pod).toWatchResponse());
   }
 
   abstract static class MainDelegateStub implements MainDelegate {
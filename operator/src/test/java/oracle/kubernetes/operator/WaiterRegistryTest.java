@@ -0,0 +1,92 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.DELETED;
+import static oracle.kubernetes.operator.WaiterRegistry.WaitCondition.READY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class WaiterRegistryTest {
+
+  private final WaiterRegistry<String> registry = new WaiterRegistry<>();
+  private final List<String> notifications = new ArrayList<>();
+
+  private Consumer<String> createWaiter(String id) {
+    return resource -> notifications.add(id + ":" + resource);
+  }
+
+  @Test
+  void whenResourceNotified_invokeWaitersForNameAndCondition() {
+    registry.add(READY, "pod1", createWaiter("a"));
+    registry.add(DELETED, "pod1", createWaiter("b"));
+    registry.add(READY, "pod2", createWaiter("c"));
+
+    registry.notifyWaiters(READY, "pod1", "v1");
+
+    assertThat(notifications, contains("a:v1"));
+  }
+
+  @Test
+  void afterNotification_waitersRemainRegistered() {
+    registry.add(READY, "pod1", createWaiter("a"));
+
+    registry.notifyWaiters(READY, "pod1", "v1");
+    registry.notifyWaiters(READY, "pod1", "v2");
+
+    assertThat(notifications, contains("a:v1", "a:v2"));
+  }
+
+  @Test
+  void whenWaitersNotifiedAndRemoved_dontNotifyThemAgain() {
+    registry.add(DELETED, "pod1", createWaiter("a"));
+
+    registry.notifyAndRemoveWaiters(DELETED, "pod1", "v1");
+    registry.notifyAndRemoveWaiters(DELETED, "pod1", "v2");
+
+    assertThat(notifications, contains("a:v1"));
+    assertThat(registry.getWaiterCount(DELETED), equalTo(0));
+  }
+
+  @Test
+  void afterWaiterRemoved_dontNotifyIt() {
+    final Consumer<String> waiter = createWaiter("a");
+    registry.add(READY, "pod1", waiter);
+
+    registry.remove(READY, "pod1", waiter);
+    registry.notifyWaiters(READY, "pod1", "v1");
+
+    assertThat(notifications, empty());
+    assertThat(registry.getWaiterCount(READY), equalTo(0));
+  }
+
+  @Test
+  void whenWaiterRemovesItselfDuringNotification_notifyRemainingWaiters() {
+    final List<Consumer<String>> selfRemoving = new ArrayList<>();
+    for (String id : List.of("a", "b", "c")) {
+      final Consumer<String> waiter = new Consumer<>() {
+        @Override
+        public void accept(String resource) {
+          registry.remove(READY, "pod1", this);
+          notifications.add(id + ":" + resource);
+        }
+      };
+      selfRemoving.add(waiter);
+      registry.add(READY, "pod1", waiter);
+    }
+
+    registry.notifyWaiters(READY, "pod1", "v1");
+
+    assertThat(notifications.size(), equalTo(selfRemoving.size()));
+    assertThat(registry.getWaiterCount(READY), equalTo(0));
+  }
+}
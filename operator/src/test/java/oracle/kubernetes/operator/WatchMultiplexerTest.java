@@ -0,0 +1,309 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.tuning.FakeWatchTuning;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.Namespaces.SELECTION_STRATEGY_KEY;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+
+class WatchMultiplexerTest implements AllWatchesClosedListener {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UNWATCHED_NS = "ns3";
+  private static final String INITIAL_RESOURCE_VERSION = "100";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final AtomicBoolean stopping = new AtomicBoolean();
+  private final DeferredThreadFactory threadFactory = new DeferredThreadFactory();
+  private final WatchTuning tuning = new FakeWatchTuning().withWatchMultiplexingEnabled();
+  private final WatchMultiplexer<V1Pod> multiplexer
+      = new WatchMultiplexer<>("pod", this::createSharedWatch, this::isClusterWatchPermitted);
+  private final List<String> ns1Pods = new ArrayList<>();
+  private final List<String> ns2Pods = new ArrayList<>();
+  private Watchable<V1Pod> scriptedSharedWatch;
+  private int numSharedWatches;
+  private boolean clusterWatchPermitted = true;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+
+    StubWatchFactory.setListener(this);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  private boolean isClusterWatchPermitted() {
+    return clusterWatchPermitted;
+  }
+
+  private Watchable<V1Pod> createSharedWatch(WatchBuilder watchBuilder) throws ApiException {
+    numSharedWatches++;
+    return scriptedSharedWatch != null ? scriptedSharedWatch : watchBuilder.createPodWatch(null);
+  }
+
+  @Test
+  void whenMultiplexingEnabled_eventsAreDispatchedToWatcherForTheirNamespace() {
+    StubWatchFactory.addCallResponses(
+        createAddResponse("pod1", NS1, "101"),
+        createAddResponse("pod2", NS2, "102"),
+        createAddResponse("pod3", NS1, "103"));
+
+    createWatchers();
+    threadFactory.runAll();
+
+    assertThat(ns1Pods, contains("pod1", "pod3"));
+    assertThat(ns2Pods, contains("pod2"));
+  }
+
+  @Test
+  void whenMultiplexingEnabled_onlyOneWatchIsCreated() {
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", NS1, "101"));
+
+    createWatchers();
+    threadFactory.runAll();
+
+    assertThat(threadFactory.runnables, hasSize(1));
+    assertThat(StubWatchFactory.getRequestParameters(), hasSize(1));
+  }
+
+  @Test
+  void multiplexedWatch_startsFromWatcherResourceVersion() {
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", NS1, "101"));
+
+    createWatchers();
+    threadFactory.runAll();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION));
+  }
+
+  @Test
+  void afterEvents_multiplexerTracksLatestResourceVersion() {
+    StubWatchFactory.addCallResponses(
+        createAddResponse("pod1", NS1, "101"),
+        createAddResponse("pod2", NS2, "102"));
+
+    createWatchers();
+    threadFactory.runAll();
+
+    assertThat(multiplexer.getResourceVersion(), equalTo("102"));
+  }
+
+  @Test
+  void eventsForUnsubscribedNamespaces_areIgnored() {
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", UNWATCHED_NS, "101"));
+
+    createWatchers();
+    threadFactory.runAll();
+
+    assertThat(ns1Pods, empty());
+    assertThat(ns2Pods, empty());
+  }
+
+  @Test
+  void afterUnsubscribe_namespaceNoLongerReceivesEvents() {
+    StubWatchFactory.addCallResponses(
+        createAddResponse("pod1", NS1, "101"),
+        createAddResponse("pod2", NS2, "102"));
+
+    createWatcher(NS1, ns1Pods).unsubscribe();
+    createWatcher(NS2, ns2Pods);
+    threadFactory.runAll();
+
+    assertThat(ns1Pods, empty());
+    assertThat(ns2Pods, not(empty()));
+  }
+
+  @Test
+  void whenNamespaceJoinsRunningWatch_existingSubscribersReceiveNoDuplicates() {
+    runNamespaceJoinScenario();
+
+    assertThat(ns1Pods, contains("pod1", "pod3"));
+  }
+
+  @Test
+  void whenNamespaceJoinsRunningWatch_itReceivesEachEventOnceInOrder() {
+    runNamespaceJoinScenario();
+
+    assertThat(ns2Pods, contains("pod2", "pod4"));
+  }
+
+  @Test
+  void whenNamespaceJoinsRunningWatch_sharedWatchIsNotRestarted() {
+    runNamespaceJoinScenario();
+
+    assertThat(numSharedWatches, equalTo(1));
+  }
+
+  // The ns2 watcher subscribes after the shared watch has passed its resource version. It catches up on its own
+  // watch, while the shared watch holds back its events until the two have delivered the same event.
+  private void runNamespaceJoinScenario() {
+    StubWatchFactory.setListener(null);
+    StubWatchFactory.addCallResponses(createAddResponse("pod2", NS2, "102"), createAddResponse("pod4", NS2, "104"));
+    scriptedSharedWatch = new ScriptedWatch(
+        createAddResponse("pod1", NS1, "101"),
+        (Runnable) () -> createWatcher(NS2, ns2Pods),
+        createAddResponse("pod2", NS2, "102"),
+        createAddResponse("pod3", NS1, "103"),
+        (Runnable) () -> threadFactory.run(1),
+        createAddResponse("pod4", NS2, "104"));
+
+    createWatcher(NS1, ns1Pods);
+    threadFactory.run(0);
+  }
+
+  @Test
+  void whenNamespaceJoinsWithoutResourceVersion_noCatchUpWatchIsCreated() {
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", NS1, "101"));
+
+    createWatcher(NS1, ns1Pods);
+    createWatcher(NS2, ns2Pods, "0");
+
+    assertThat(threadFactory.runnables, hasSize(1));
+  }
+
+  @Test
+  void whenDedicatedStrategySelected_watchersDoNotUseMultiplexer() {
+    TuningParametersStub.setParameter(SELECTION_STRATEGY_KEY, "Dedicated");
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", NS1, "101"));
+
+    createWatchers();
+
+    assertThat(threadFactory.runnables, hasSize(2));
+  }
+
+  @Test
+  void whenClusterWatchNotPermitted_watchersDoNotUseMultiplexer() {
+    clusterWatchPermitted = false;
+    StubWatchFactory.addCallResponses(createAddResponse("pod1", NS1, "101"));
+
+    createWatchers();
+
+    assertThat(threadFactory.runnables, hasSize(2));
+  }
+
+  private void createWatchers() {
+    createWatcher(NS1, ns1Pods);
+    createWatcher(NS2, ns2Pods);
+  }
+
+  private PodWatcher createWatcher(String namespace, List<String> podNames) {
+    return createWatcher(namespace, podNames, INITIAL_RESOURCE_VERSION);
+  }
+
+  private PodWatcher createWatcher(String namespace, List<String> podNames, String resourceVersion) {
+    return PodWatcher.createWithMultiplexer(threadFactory, namespace, resourceVersion, tuning,
+        response -> podNames.add(response.object.getMetadata().getName()), stopping, multiplexer);
+  }
+
+  private Watch.Response<V1Pod> createAddResponse(String name, String namespace, String resourceVersion) {
+    return WatchEvent.createAddedEvent(
+        new V1Pod().metadata(new V1ObjectMeta().name(name).namespace(namespace).resourceVersion(resourceVersion)))
+        .toWatchResponse();
+  }
+
+  // Collects the runnables for the watch threads, so that a test can run them after all watchers are created
+  private static class DeferredThreadFactory implements ThreadFactory {
+    private final List<Runnable> runnables = new ArrayList<>();
+
+    @Override
+    public Thread newThread(@Nonnull Runnable r) {
+      runnables.add(r);
+      return new Thread(() -> { });
+    }
+
+    void runAll() {
+      runnables.forEach(Runnable::run);
+    }
+
+    void run(int index) {
+      runnables.get(index).run();
+    }
+  }
+
+  // A shared watch which returns its events in order, running any actions placed between them as it reaches them.
+  // Closing it pauses the watchers, so that the shared watch ends.
+  private class ScriptedWatch implements Watchable<V1Pod> {
+    private final Iterator<Object> script;
+    private Object next;
+
+    ScriptedWatch(Object... script) {
+      this.script = Arrays.asList(script).iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && script.hasNext()) {
+        Object step = script.next();
+        if (step instanceof Runnable) {
+          ((Runnable) step).run();
+        } else {
+          next = step;
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Watch.Response<V1Pod> next() {
+      hasNext();
+      final Watch.Response<V1Pod> result = (Watch.Response<V1Pod>) next;
+      next = null;
+      return result;
+    }
+
+    @Override
+    public @Nonnull Iterator<Watch.Response<V1Pod>> iterator() {
+      return this;
+    }
+
+    @Override
+    public void close() {
+      stopping.set(true);
+    }
+  }
+}
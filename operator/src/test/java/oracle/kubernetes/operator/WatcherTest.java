@@ -0,0 +1,81 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class WatcherTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final V1ObjectMeta metadata = new V1ObjectMeta().name("test").resourceVersion("123");
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(NoSuchMethodException.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void forKubernetesObject_returnItsMetadata() {
+    assertThat(Watcher.getMetadata(new V1Pod().metadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  void forOtherObjectWithMetadataGetter_returnItsMetadata() {
+    assertThat(Watcher.getMetadata(new ObjectWithMetadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  void whenGetterUsedRepeatedly_returnMetadataOfEachObject() {
+    V1ObjectMeta otherMetadata = new V1ObjectMeta().resourceVersion("456");
+    Watcher.getMetadata(new ObjectWithMetadata(metadata));
+
+    assertThat(Watcher.getMetadata(new ObjectWithMetadata(otherMetadata)), sameInstance(otherMetadata));
+  }
+
+  @Test
+  void forObjectWithoutMetadataGetter_returnNull() {
+    assertThat(Watcher.getMetadata("no metadata"), nullValue());
+  }
+
+  @Test
+  void forObjectWithMetadata_returnResourceVersion() {
+    assertThat(Watcher.getResourceVersionFromMetadata(new V1Pod().metadata(metadata)), equalTo("123"));
+  }
+
+  @Test
+  void forObjectWithoutMetadata_returnIgnoredResourceVersion() {
+    assertThat(Watcher.getResourceVersionFromMetadata(new V1Pod()), equalTo("0"));
+  }
+
+  public static class ObjectWithMetadata {
+    private final V1ObjectMeta metadata;
+
+    ObjectWithMetadata(V1ObjectMeta metadata) {
+      this.metadata = metadata;
+    }
+
+    public V1ObjectMeta getMetadata() {
+      return metadata;
+    }
+  }
+}
@@ -7,6 +7,8 @@ import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
@@ -15,12 +17,14 @@ import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.operator.ClientFactoryStub;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.builders.CallParams;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -141,6 +145,48 @@ class AsyncRequestStepTest {
     assertThat(nextStep.nextAction.getNext(), instanceOf(AsyncRequestStep.class));
   }
 
+  @Test
+  void afterSuccessfulListCallback_countListedItems() {
+    final double initialCount = getListedItemCount();
+
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(getListedItemCount() - initialCount, equalTo(5.0));
+  }
+
+  private double getListedItemCount() {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+          "weblogic_operator_listed_items_total", new String[] {"resource"}, new String[] {"Zork"})).orElse(0.0);
+  }
+
+  @Test
+  void whenMakeRightTraced_afterSuccessfulCallback_recordCallAndBytesTransferred() {
+    final MakeRightTrace trace = new MakeRightTrace(NS, "uid1");
+    testSupport.getPacket().with(trace);
+
+    callFactory.setRequestBodySize(10);
+    callFactory.sendSuccessfulCallback(smallList, Map.of("content-length", List.of("250")));
+
+    assertThat(describeCalls(trace), equalTo(List.of("read Zork 1 10 250")));
+  }
+
+  @Test
+  void whenMakeRightTraced_afterFailedCallback_recordCall() {
+    final MakeRightTrace trace = new MakeRightTrace(NS, "uid1");
+    testSupport.getPacket().with(trace);
+
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertThat(describeCalls(trace), equalTo(List.of("read Zork 1 0 0")));
+  }
+
+  private List<String> describeCalls(MakeRightTrace trace) {
+    final List<String> result = new ArrayList<>();
+    trace.getApiCalls().forEach(c -> result.add(String.join(" ", c.getVerb(), c.getResource(),
+        String.valueOf(c.getCount()), String.valueOf(c.getBytesSent()), String.valueOf(c.getBytesReceived()))));
+    return result;
+  }
+
   @Test
   void afterSuccessfulCallback_packetDoesNotContainsResponse() {
     testSupport.schedule(() -> callFactory.sendSuccessfulCallback(smallList));
@@ -280,6 +326,7 @@ class AsyncRequestStepTest {
   @SuppressWarnings("SameParameterValue")
   static class CallFactoryStub implements CallFactory<DomainList> {
 
+    private final CancellableCallStub call = new CancellableCallStub();
     private RequestParams requestParams;
     private ApiCallback<DomainList> callback;
 
@@ -291,8 +338,16 @@ class AsyncRequestStepTest {
       return requestParams == this.requestParams;
     }
 
+    void setRequestBodySize(long requestBodySize) {
+      call.requestBodySize = requestBodySize;
+    }
+
     void sendSuccessfulCallback(DomainList callbackValue) {
-      callback.onSuccess(callbackValue, HttpURLConnection.HTTP_OK, Collections.emptyMap());
+      sendSuccessfulCallback(callbackValue, Collections.emptyMap());
+    }
+
+    void sendSuccessfulCallback(DomainList callbackValue, Map<String, List<String>> responseHeaders) {
+      callback.onSuccess(callbackValue, HttpURLConnection.HTTP_OK, responseHeaders);
     }
 
     void sendFailedCallback(ApiException exception, int statusCode) {
@@ -305,15 +360,21 @@ class AsyncRequestStepTest {
       this.requestParams = requestParams;
       this.callback = callback;
 
-      return new CancellableCallStub();
+      return call;
     }
   }
 
   static class CancellableCallStub implements CancellableCall {
+    private long requestBodySize;
 
     @Override
     public void cancel() {
     }
+
+    @Override
+    public long getRequestBodySize() {
+      return requestBodySize;
+    }
   }
 
   static class CallParamsStub implements CallParams {
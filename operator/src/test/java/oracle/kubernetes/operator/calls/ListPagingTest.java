@@ -0,0 +1,141 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.builders.CallParamsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.ListPaging.FAST_PAGE_NANOS;
+import static oracle.kubernetes.operator.calls.ListPaging.MAX_LIMIT_FACTOR;
+import static oracle.kubernetes.operator.calls.ListPaging.SLOW_PAGE_NANOS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class ListPagingTest {
+
+  private static final int REQUEST_LIMIT = 50;
+  private static final RequestParams LIST_PODS = new RequestParams("listPod", "ns", null, null, "uid");
+  private static final RequestParams LIST_SERVICES = new RequestParams("listService", "ns", null, null, "uid");
+  private static final long MODERATE_PAGE_NANOS = (FAST_PAGE_NANOS + SLOW_PAGE_NANOS) / 2;
+
+  @AfterEach
+  void tearDown() {
+    ListPaging.clearPageLimits();
+  }
+
+  private static V1PodList createPodPage(int numPods, String cont) {
+    List<V1Pod> pods = new ArrayList<>();
+    for (int i = 0; i < numPods; i++) {
+      pods.add(new V1Pod());
+    }
+    return new V1PodList().items(pods).metadata(new V1ListMeta()._continue(cont));
+  }
+
+  private static int getPodPageLimit() {
+    return ListPaging.getPageLimit("Pod", "ns", REQUEST_LIMIT);
+  }
+
+  @Test
+  void whenNoPagesRecorded_useRequestLimit() {
+    assertThat(getPodPageLimit(), equalTo(REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenFullPageReturnedQuickly_doublePageLimit() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+
+    assertThat(getPodPageLimit(), equalTo(2 * REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenFullPageReturnedSlowly_halvePageLimit() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(4 * REQUEST_LIMIT, "next"), 2 * SLOW_PAGE_NANOS);
+
+    assertThat(getPodPageLimit(), equalTo(2 * REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenFullPageReturnedInModerateTime_keepPageLimit() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(2 * REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+    ListPaging.recordResponse(LIST_PODS, createPodPage(getPodPageLimit(), "next"), MODERATE_PAGE_NANOS);
+
+    assertThat(getPodPageLimit(), equalTo(4 * REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenLastPageReturnedQuickly_keepPageLimit() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(REQUEST_LIMIT, null), FAST_PAGE_NANOS / 2);
+
+    assertThat(getPodPageLimit(), equalTo(REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenPagesRepeatedlyReturnedQuickly_limitPageLimitToMaximum() {
+    for (int i = 0; i < 10; i++) {
+      ListPaging.recordResponse(LIST_PODS, createPodPage(getPodPageLimit(), "next"), FAST_PAGE_NANOS / 2);
+    }
+
+    assertThat(getPodPageLimit(), equalTo(MAX_LIMIT_FACTOR * REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenPagesRepeatedlyReturnedSlowly_useAtLeastRequestLimit() {
+    for (int i = 0; i < 3; i++) {
+      ListPaging.recordResponse(LIST_PODS, createPodPage(getPodPageLimit(), "next"), 2 * SLOW_PAGE_NANOS);
+    }
+
+    assertThat(getPodPageLimit(), equalTo(REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenNamespaceCleared_discardItsPageLimitsOnly() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+    ListPaging.recordResponse(new RequestParams("listPod", "ns2", null, null, "uid"),
+          createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+
+    ListPaging.clearPageLimits("ns");
+
+    assertThat(getPodPageLimit(), equalTo(REQUEST_LIMIT));
+    assertThat(ListPaging.getPageLimit("Pod", "ns2", REQUEST_LIMIT), equalTo(2 * REQUEST_LIMIT));
+  }
+
+  @Test
+  void pageLimitsAreSizedPerResourceKind() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+    ListPaging.recordResponse(LIST_SERVICES,
+          new V1ServiceList().addItemsItem(new V1Service()).metadata(new V1ListMeta()._continue("next")),
+          TimeUnit.SECONDS.toNanos(5));
+
+    assertThat(getPodPageLimit(), equalTo(2 * REQUEST_LIMIT));
+    assertThat(ListPaging.getPageLimit("Service", "ns", REQUEST_LIMIT), equalTo(REQUEST_LIMIT));
+  }
+
+  @Test
+  void pageLimitsAreSizedPerNamespace() {
+    ListPaging.recordResponse(LIST_PODS, createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+
+    assertThat(ListPaging.getPageLimit("Pod", "ns2", REQUEST_LIMIT), equalTo(REQUEST_LIMIT));
+  }
+
+  @Test
+  void whenListServedFromWatchCache_keepPageLimit() {
+    final CallParamsImpl callParams = new CallParamsImpl();
+    callParams.setResourceVersion("0");
+    final RequestParams cachedListPods = new RequestParams("listPod", "ns", null, null, callParams);
+
+    ListPaging.recordResponse(cachedListPods, createPodPage(REQUEST_LIMIT, "next"), FAST_PAGE_NANOS / 2);
+
+    assertThat(getPodPageLimit(), equalTo(REQUEST_LIMIT));
+  }
+}
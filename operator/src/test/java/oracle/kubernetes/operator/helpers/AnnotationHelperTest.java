@@ -0,0 +1,155 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetSpec;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1Toleration;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+class AnnotationHelperTest {
+
+  @Test
+  void hashOfPod_matchesHashOfYamlDump() {
+    V1Pod pod = createPod("managed-server1");
+
+    assertThat(AnnotationHelper.sha256Hex(pod), equalTo(hashOfYamlDump(pod)));
+  }
+
+  @Test
+  void hashOfService_matchesHashOfYamlDump() {
+    V1Service service = new V1Service()
+        .metadata(new V1ObjectMeta().name("domain1-cluster-1").namespace("ns")
+            .putLabelsItem("weblogic.domainUID", "d1"))
+        .spec(new V1ServiceSpec()
+            .type("ClusterIP")
+            .putSelectorItem("weblogic.clusterName", "cluster-1")
+            .publishNotReadyAddresses(true)
+            .addPortsItem(new V1ServicePort().name("default").port(7001).targetPort(new IntOrString("default"))));
+
+    assertThat(AnnotationHelper.sha256Hex(service), equalTo(hashOfYamlDump(service)));
+  }
+
+  @Test
+  void hashOfPodDisruptionBudget_matchesHashOfYamlDump() {
+    V1PodDisruptionBudget budget = new V1PodDisruptionBudget()
+        .metadata(new V1ObjectMeta().name("domain1-cluster-1").namespace("ns"))
+        .spec(new V1PodDisruptionBudgetSpec()
+            .minAvailable(new IntOrString(2))
+            .selector(new V1LabelSelector().putMatchLabelsItem("weblogic.clusterName", "cluster-1")));
+
+    assertThat(AnnotationHelper.sha256Hex(budget), equalTo(hashOfYamlDump(budget)));
+  }
+
+  @Test
+  void hashOfObjectWithBinaryDataAndNonAsciiText_matchesHashOfYamlDump() {
+    V1Secret secret = new V1Secret()
+        .metadata(new V1ObjectMeta().name("secret").putAnnotationsItem("description", "Zugriffsschlüssel für 日本"))
+        .data(Map.of("password", "s3cr3té".getBytes(UTF_8)));
+
+    assertThat(AnnotationHelper.sha256Hex(secret), equalTo(hashOfYamlDump(secret)));
+  }
+
+  @Test
+  void whenHashComputedRepeatedly_resultIsUnchanged() {
+    V1Pod pod = createPod("managed-server1");
+    String firstHash = AnnotationHelper.sha256Hex(pod);
+    AnnotationHelper.sha256Hex(createPod("managed-server2"));
+
+    assertThat(AnnotationHelper.sha256Hex(pod), equalTo(firstHash));
+  }
+
+  @Test
+  void whenPodsDiffer_hashesDiffer() {
+    assertThat(AnnotationHelper.sha256Hex(createPod("managed-server1")),
+        not(equalTo(AnnotationHelper.sha256Hex(createPod("managed-server2")))));
+  }
+
+  @Test
+  void whenHashesComputedConcurrently_eachMatchesHashOfYamlDump() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<Boolean>> tasks = IntStream.range(0, 40)
+          .mapToObj(i -> createPod("managed-server" + i))
+          .<Callable<Boolean>>map(pod -> () -> AnnotationHelper.sha256Hex(pod).equals(hashOfYamlDump(pod)))
+          .toList();
+
+      for (Future<Boolean> result : executor.invokeAll(tasks)) {
+        assertThat(result.get(), equalTo(true));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private String hashOfYamlDump(Object object) {
+    return DigestUtils.sha256Hex(Yaml.dump(object));
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .name("domain1-" + serverName)
+            .namespace("ns")
+            .creationTimestamp(OffsetDateTime.of(2023, 4, 1, 12, 30, 0, 0, ZoneOffset.UTC))
+            .putLabelsItem("weblogic.domainUID", "domain1")
+            .putLabelsItem("weblogic.serverName", serverName)
+            .putAnnotationsItem("prometheus.io/port", "8001"))
+        .spec(new V1PodSpec()
+            .nodeSelector(Map.of("zone", "a"))
+            .addTolerationsItem(new V1Toleration().key("dedicated").operator("Equal").value("wls").effect("NoSchedule"))
+            .addVolumesItem(new V1Volume().name("weblogic-scripts-cm-volume"))
+            .addContainersItem(new V1Container()
+                .name("weblogic-server")
+                .image("container-registry.oracle.com/middleware/weblogic:14.1.1.0")
+                .command(List.of("/weblogic-operator/scripts/startServer.sh"))
+                .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+                .addEnvItem(new V1EnvVar().name("SERVER_NAME").value(serverName))
+                .addEnvItem(new V1EnvVar().name("USER_MEM_ARGS")
+                    .value("-Xms64m -Djava.security.egd=file:/dev/./urandom"))
+                .resources(new V1ResourceRequirements()
+                    .putLimitsItem("memory", Quantity.fromString("2Gi"))
+                    .putRequestsItem("cpu", Quantity.fromString("500m")))
+                .readinessProbe(new V1Probe()
+                    .initialDelaySeconds(30)
+                    .httpGet(new V1HTTPGetAction().path("/weblogic/ready").port(new IntOrString(8001))))
+                .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                    .mountPath("/weblogic-operator/scripts").readOnly(true))));
+  }
+}
@@ -720,6 +720,38 @@ class CallBuilderTest {
     assertThat(received, equalTo(list));
   }
 
+  @Test
+  @ResourceLock(value = "server")
+  void listPodsWithCachedListing_readFromWatchCache() throws InterruptedException {
+    V1PodList list = new V1PodList()
+        .items(Arrays.asList(new V1Pod(), new V1Pod()));
+    defineHttpGetResponse(POD_RESOURCE, list).expectingParameter("resourceVersion", "0");
+
+    KubernetesTestSupportTest.TestResponseStep<V1PodList> responseStep
+        = new KubernetesTestSupportTest.TestResponseStep<>();
+    testSupport.runSteps(new CallBuilder().withCachedListing()
+        .listPodAsync(NAMESPACE, responseStep));
+
+    V1PodList received = responseStep.waitForAndGetCallResponse().getResult();
+
+    assertThat(received, equalTo(list));
+  }
+
+  @Test
+  @ResourceLock(value = "server")
+  void listClustersWithCachedListing_readFromWatchCache() throws InterruptedException {
+    ClusterList list = new ClusterList().withItems(Arrays.asList(new ClusterResource(), new ClusterResource()));
+    defineHttpGetResponse(CLUSTER_RESOURCE, list).expectingParameter("resourceVersion", "0");
+
+    KubernetesTestSupportTest.TestResponseStep<ClusterList> responseStep
+        = new KubernetesTestSupportTest.TestResponseStep<>();
+    testSupport.runSteps(new CallBuilder().withCachedListing().listClusterAsync(NAMESPACE, responseStep));
+
+    ClusterList received = responseStep.waitForAndGetCallResponse().getResult();
+
+    assertThat(received.getItems(), hasSize(2));
+  }
+
   @Test
   @ResourceLock(value = "server")
   void readPod_returnsResource() throws InterruptedException {
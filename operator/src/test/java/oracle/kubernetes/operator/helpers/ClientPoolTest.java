@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -9,12 +9,17 @@ import java.util.List;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiClient;
 import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.tuning.TuningParameters.CLIENT_MAX_AGE_SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CLIENT_POOL_SIZE;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
@@ -27,6 +32,9 @@ class ClientPoolTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    TuningParametersStub.setParameter(CLIENT_POOL_SIZE, "2");
   }
 
   @AfterEach
@@ -54,4 +62,105 @@ class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), not(sameInstance(apiClient)));
   }
+
+  @Test
+  void whilePoolNotFullyUsed_concurrentTakesReturnDifferentClients() {
+    ClientPool pool = new ClientPool();
+
+    assertThat(pool.take(), not(sameInstance(pool.take())));
+  }
+
+  @Test
+  void whenAllClientsInUse_takeReturnsExistingClient() {
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    ApiClient client2 = pool.take();
+
+    assertThat(pool.take(), anyOf(sameInstance(client1), sameInstance(client2)));
+  }
+
+  @Test
+  void takeReturnsLeastBusyClient() {
+    ClientPool pool = new ClientPool();
+    pool.take();
+    ApiClient client2 = pool.take();
+    pool.take();
+    pool.take();
+    pool.recycle(client2);
+
+    assertThat(pool.take(), sameInstance(client2));
+  }
+
+  @Test
+  void afterDiscard_otherClientsRemainInPool() {
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    ApiClient client2 = pool.take();
+    pool.discard(client1);
+
+    ApiClient replacement = pool.take();
+    pool.recycle(replacement);
+
+    assertThat(replacement, not(sameInstance(client1)));
+    assertThat(pool.take(), anyOf(sameInstance(client2), sameInstance(replacement)));
+  }
+
+  @Test
+  void whenDiscardedClientRecycledLater_dontReturnItToPool() {
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    ApiClient client2 = pool.take();
+    pool.discard(client1);
+    pool.recycle(client1);
+
+    assertThat(pool.take(), not(sameInstance(client1)));
+    assertThat(pool.take(), not(sameInstance(client1)));
+    assertThat(pool.take(), not(sameInstance(client1)));
+  }
+
+  @Test
+  void whenMaxAgeNotConfigured_keepUsingClient() {
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    pool.recycle(client1);
+
+    SystemClockTestSupport.increment(100_000);
+
+    assertThat(pool.take(), sameInstance(client1));
+  }
+
+  @Test
+  void whenClientReachesMaxAge_replaceIt() {
+    TuningParametersStub.setParameter(CLIENT_POOL_SIZE, "1");
+    TuningParametersStub.setParameter(CLIENT_MAX_AGE_SECONDS, "60");
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    pool.recycle(client1);
+
+    SystemClockTestSupport.increment(60);
+
+    assertThat(pool.take(), not(sameInstance(client1)));
+  }
+
+  @Test
+  void beforeClientReachesMaxAge_keepUsingIt() {
+    TuningParametersStub.setParameter(CLIENT_POOL_SIZE, "1");
+    TuningParametersStub.setParameter(CLIENT_MAX_AGE_SECONDS, "60");
+    ClientPool pool = new ClientPool();
+    ApiClient client1 = pool.take();
+    pool.recycle(client1);
+
+    SystemClockTestSupport.increment(59);
+
+    assertThat(pool.take(), sameInstance(client1));
+  }
+
+  @Test
+  void whenPoolCreatedWithApiClient_takeAlwaysReturnsIt() {
+    ApiClient apiClient = new ApiClient();
+    ClientPool pool = new ClientPool().withApiClient(apiClient);
+
+    assertThat(pool.take(), sameInstance(apiClient));
+    assertThat(pool.take(), sameInstance(apiClient));
+  }
 }
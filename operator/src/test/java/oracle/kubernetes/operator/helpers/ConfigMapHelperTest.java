@@ -1,4 +1,4 @@
-// Copyright (c) 2018, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2018, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -32,6 +32,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -143,4 +144,55 @@ class ConfigMapHelperTest {
     });
   }
 
+  @Test
+  void parseIntrospectorResult_extractsEachFileSection() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(String.join("\n",
+        "@[2023-01-01T00:00:00.000][introspectDomain.py:1][INFO] starting",
+        ">>>  /u01/introspect/domain1/topology.yaml",
+        "domainValid: true",
+        "domain:",
+        "  name: \"base_domain\"",
+        ">>> EOF",
+        ">>>  /u01/introspect/domain1/userConfigNodeManager.secure",
+        "secret",
+        ">>> EOF",
+        "@[2023-01-01T00:00:01.000][introspectDomain.py:2][INFO] done"));
+
+    assertThat(result, hasEntry("topology.yaml", "domainValid: true\ndomain:\n  name: \"base_domain\""));
+    assertThat(result, hasEntry("userConfigNodeManager.secure", "secret"));
+  }
+
+  @Test
+  void parseIntrospectorResult_ignoresCarriageReturnsAtEndOfMarkers() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        ">>>  /u01/introspect/domain1/file.txt\r\ncontents\r\n>>> EOF\r\n");
+
+    assertThat(result, hasEntry("file.txt", "contents"));
+  }
+
+  @Test
+  void parseIntrospectorResult_stripsCarriageReturnsWithinFiles() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        ">>>  /u01/introspect/domain1/file.txt\r\nline1\r\nline2\r\n>>> EOF\r\n");
+
+    assertThat(result, hasEntry("file.txt", "line1\nline2"));
+  }
+
+  @Test
+  void parseIntrospectorResult_extractsUpdateResult() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(String.join("\n",
+        "@[2023-01-01T00:00:00.000][introspectDomain.py:1][INFO] starting",
+        ">>>  updatedomainResult=103",
+        "@[2023-01-01T00:00:01.000][introspectDomain.py:2][INFO] done"));
+
+    assertThat(result, hasEntry("UPDATEDOMAINRESULT", "103"));
+  }
+
+  @Test
+  void parseIntrospectorResult_ignoresSectionWithoutEndMarker() {
+    Map<String, String> result = ConfigMapHelper.parseIntrospectorResult(
+        ">>>  /u01/introspect/domain1/file.txt\ncontents\n");
+
+    assertThat(result.containsKey("file.txt"), is(false));
+  }
 }
@@ -39,6 +39,7 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class DomainPresenceInfoTest {
@@ -363,4 +364,83 @@ class DomainPresenceInfoTest {
     assertThat(labels.get(labelKey), equalTo(labelValue));
   }
 
+
+  @Test
+  void whenDomainHasGeneration_reuseEffectiveServerSpec() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomainWithGeneration(1L));
+
+    assertThat(dpi.getServer("ms1", null), sameInstance(dpi.getServer("ms1", null)));
+  }
+
+  @Test
+  void whenDomainHasNoGeneration_computeEffectiveServerSpecOnEachCall() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomain(NAMESPACE, DOMAIN_UID));
+
+    assertThat(dpi.getServer("ms1", null), not(sameInstance(dpi.getServer("ms1", null))));
+  }
+
+  @Test
+  void whenDomainGenerationChanges_recomputeEffectiveServerSpec() {
+    DomainResource domain = createDomainWithGeneration(1L);
+    DomainPresenceInfo dpi = createDomainPresenceInfo(domain);
+    EffectiveServerSpec spec = dpi.getServer("ms1", null);
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(dpi.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void afterDomainReplaced_recomputeEffectiveServerSpec() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomainWithGeneration(1L));
+    EffectiveServerSpec spec = dpi.getServer("ms1", null);
+
+    dpi.setDomain(createDomainWithGeneration(1L));
+
+    assertThat(dpi.getServer("ms1", null), not(sameInstance(spec)));
+  }
+
+  @Test
+  void whenClusterResourceUnchanged_reuseEffectiveClusteredServerAndClusterSpecs() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomainWithGeneration(1L));
+    dpi.addClusterResource(createClusterResourceWithGeneration(CLUSTER_1, 1L));
+
+    assertThat(dpi.getServer("ms1", CLUSTER_1), sameInstance(dpi.getServer("ms1", CLUSTER_1)));
+    assertThat(dpi.getCluster(CLUSTER_1), sameInstance(dpi.getCluster(CLUSTER_1)));
+  }
+
+  @Test
+  void afterClusterResourceReplaced_recomputeEffectiveClusteredServerAndClusterSpecs() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomainWithGeneration(1L));
+    dpi.addClusterResource(createClusterResourceWithGeneration(CLUSTER_1, 1L));
+    EffectiveServerSpec serverSpec = dpi.getServer("ms1", CLUSTER_1);
+    EffectiveClusterSpec clusterSpec = dpi.getCluster(CLUSTER_1);
+
+    dpi.addClusterResource(createClusterResourceWithGeneration(CLUSTER_1, 2L).spec(
+          createClusterSpec(CLUSTER_1).withReplicas(3)));
+
+    assertThat(dpi.getServer("ms1", CLUSTER_1), not(sameInstance(serverSpec)));
+    assertThat(dpi.getCluster(CLUSTER_1), not(sameInstance(clusterSpec)));
+  }
+
+  @Test
+  void afterReplicaCountSet_recomputeEffectiveClusteredServerSpec() {
+    DomainPresenceInfo dpi = createDomainPresenceInfo(createDomainWithGeneration(1L));
+    dpi.addClusterResource(createClusterResourceWithGeneration(CLUSTER_1, 1L));
+    EffectiveServerSpec serverSpec = dpi.getServer("ms1", CLUSTER_1);
+
+    dpi.setReplicaCount(CLUSTER_1, 4);
+
+    assertThat(dpi.getServer("ms1", CLUSTER_1), not(sameInstance(serverSpec)));
+  }
+
+  private DomainResource createDomainWithGeneration(long generation) {
+    DomainResource domain = createDomain(NAMESPACE, DOMAIN_UID);
+    domain.getMetadata().setGeneration(generation);
+    return domain;
+  }
+
+  private ClusterResource createClusterResourceWithGeneration(String clusterName, long generation) {
+    return createClusterResource(clusterName).withMetadata(new V1ObjectMeta().name(clusterName).generation(generation));
+  }
 }
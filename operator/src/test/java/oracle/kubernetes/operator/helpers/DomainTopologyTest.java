@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DomainTopologyTest {
@@ -328,4 +330,27 @@ class DomainTopologyTest {
     assertFalse(domainTopology.getValidationErrors().isEmpty());
     assertFalse(domainTopology.getDomainValid());
   }
-}
\ No newline at end of file
+
+  @Test
+  void topologyParsedFromTree_matchesTopologyParsedFromYaml() {
+    JsonNode tree = DomainTopology.readTopologyTree(DOMAIN_TOPOLOGY);
+
+    DomainTopology domainTopology = DomainTopology.parseDomainTopology(tree, errors -> { });
+
+    assertEquals(
+        DomainTopology.parseDomainTopologyYaml(DOMAIN_TOPOLOGY).getDomain(),
+        Objects.requireNonNull(domainTopology).getDomain());
+  }
+
+  @Test
+  void jsonFormOfTopologyTree_containsTopology() {
+    String json = DomainTopology.toJson(DomainTopology.readTopologyTree(DOMAIN_TOPOLOGY));
+
+    assertTrue(json.startsWith("{\"domainValid\":true,\"domain\":{\"name\":\"base_domain\""));
+  }
+
+  @Test
+  void whenTopologyYamlUnparseable_treeIsNull() {
+    assertNull(DomainTopology.readTopologyTree("domain: [unclosed"));
+  }
+}
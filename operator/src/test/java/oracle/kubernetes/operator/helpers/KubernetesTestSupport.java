@@ -94,6 +94,7 @@ import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.CONTINUE;
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
 
@@ -442,6 +443,34 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replaceStatus, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a status patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patchStatus, resourceType, name, namespace, httpStatus);
+  }
+
+  /**
+   * Specifies that the next status patch operations should fail if they match the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   * @param numFailures the number of matching operations which should fail
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus, int numFailures) {
+    failure = new Failure(Operation.patchStatus, resourceType, name, namespace, httpStatus);
+    failure.numFailuresLeft = numFailures;
+  }
+
   /**
    * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -503,7 +532,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   }
 
   /**
-   * Specifies that status replacement operation should respond with a null result if it matches the specified
+   * Specifies that a status patch operation should respond with a null result if it matches the specified
    * conditions. Applies to domain resources.
    *
    * @param resourceType the type of resource
@@ -511,7 +540,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
    * @param namespace the namespace containing the resource
    */
   public void returnEmptyResult(String resourceType, String name, String namespace) {
-    emptyResponse = new EmptyResponse(Operation.replaceStatus, resourceType, name, namespace);
+    emptyResponse = new EmptyResponse(Operation.patchStatus, resourceType, name, namespace);
   }
 
   /**
@@ -600,6 +629,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -626,6 +661,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private final String namespace;
     private final ApiException apiException;
     private Operation operation;
+    private int numFailuresLeft = 1;
 
     public Failure(String resourceType, String name, String namespace, int httpStatus) {
       this(resourceType, name, namespace, new ApiException(httpStatus, "failure reported in test"));
@@ -1069,6 +1105,31 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      T current = data.get(name);
+      if (current == null) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      copyResourceStatus(applyStatusPatch(current, body), current);
+      incrementResourceVersion(getMetadata(current));
+      onUpdateActions.forEach(a -> a.accept(current));
+      if (emptyResponse != null && emptyResponse.matches(Operation.patchStatus, name)) {
+        cancelEmptyResponse();
+        return null;
+      }
+      return current;
+    }
+
+    // Like the API server, reports a patch which cannot be applied as an unprocessable entity.
+    private T applyStatusPatch(T current, V1Patch body) {
+      try {
+        return fromJsonStructure(Json.createPatch(fromV1Patch(body)).apply(toJsonStructure(current)));
+      } catch (JsonException e) {
+        throw new HttpErrorException(new ApiException(HTTP_UNPROCESSABLE_ENTITY, e.getMessage()));
+      }
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1220,6 +1281,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
@@ -1302,7 +1368,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
           try {
             throw failure.getException();
           } finally {
-            failure = null;
+            if (--failure.numFailuresLeft <= 0) {
+              failure = null;
+            }
           }
         }
 
@@ -1340,6 +1408,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
           requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
     }
 
+    private <T> T patchResourceStatus(DataRepository<T> dataRepository) {
+      return dataRepository.patchResourceStatus(
+          requestParams.name, requestParams.namespace, (V1Patch) requestParams.body);
+    }
+
     private <T> Object listResources(Integer limit, String cont, DataRepository<T> dataRepository) {
       return dataRepository.listResources(requestParams.namespace, limit, cont, fieldSelector, labelSelector);
     }
@@ -39,8 +39,6 @@ public class HttpAsyncTestSupport {
           + "    \"state\": \"RUNNING\",\n"
           + "    \"activationTime\": 1556759105378\n"
           + "}";
-  private static final HttpResponseStub NOT_FOUND = createStub(HttpResponseStub.class, HTTP_NOT_FOUND);
-  private static final RequestHandler NO_SUCH_HANDLER = new RequestHandler(null, NOT_FOUND);
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private HttpAsyncRequestStep.FutureFactory futureFactory = this::getFuture;
@@ -111,7 +109,7 @@ public class HttpAsyncTestSupport {
   RequestHandler getHandler(HttpRequest request) {
     final RequestHandler requestHandler = Optional.ofNullable(cannedResponses.get(request.uri()))
           .map(l -> getMatchingRequest(l, request))
-          .orElse(NO_SUCH_HANDLER);
+          .orElseGet(() -> createNotFoundHandler(request));
     requestHandler.ifMatched(r -> recordRequestHandled(request));
     return requestHandler;
   }
@@ -121,6 +119,11 @@ public class HttpAsyncTestSupport {
     callbacks.forEach(callback -> callback.accept(request));
   }
 
+  // A handler for a request with no defined response. It returns a response to the request, but is not recorded.
+  private static RequestHandler createNotFoundHandler(HttpRequest request) {
+    return new RequestHandler(null, createStub(HttpResponseStub.class, HTTP_NOT_FOUND).withRequest(request));
+  }
+
   private RequestHandler getMatchingRequest(List<RequestHandler> handlers, HttpRequest request) {
     return handlers.stream().filter(h -> h.matches(request)).findFirst().orElse(null);
   }
@@ -138,7 +141,7 @@ public class HttpAsyncTestSupport {
       this.request = request;
       this.future = new CompletableFuture<>();
       this.future.complete(response);
-      this.response = response.withRequest(request);
+      this.response = Optional.ofNullable(request).map(response::withRequest).orElse(response);
     }
 
     HttpResponse<String> getResponse() {
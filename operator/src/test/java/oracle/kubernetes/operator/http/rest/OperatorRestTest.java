@@ -1,10 +1,13 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
 
 import java.net.HttpURLConnection;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,22 +17,28 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import io.kubernetes.client.openapi.models.V1ScaleSpec;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
 import oracle.kubernetes.operator.http.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.makeright.MakeRightTrace;
 import org.junit.jupiter.api.Test;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.http.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.http.rest.RestTestBase.JsonArrayMatcher.withValues;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -46,6 +55,7 @@ class OperatorRestTest extends RestTestBase {
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
+  private static final String DOMAIN1_TRACES_HREF = DOMAIN1_HREF + "/makeRightTraces";
   private static final String ACCESS_TOKEN = "dummy token";
 
   final RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
@@ -62,8 +72,9 @@ class OperatorRestTest extends RestTestBase {
     return restBackend;
   }
 
-  Map getJsonResponse(String href) {
-    return new Gson().fromJson(createRequest(href).get(String.class), Map.class);
+  Map<String, Object> getJsonResponse(String href) {
+    return new Gson().fromJson(
+        createRequest(href).get(String.class), new TypeToken<Map<String, Object>>() {}.getType());
   }
 
   @Test
@@ -89,7 +100,7 @@ class OperatorRestTest extends RestTestBase {
 
   @Test
   void operatorEndPoint_returnsVersion() {
-    Map result = getJsonResponse(OPERATOR_HREF);
+    Map<String, Object> result = getJsonResponse(OPERATOR_HREF);
 
     assertThat(result, hasJsonPath("$.items[0].version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.items[0].latest", equalTo(true)));
@@ -99,7 +110,7 @@ class OperatorRestTest extends RestTestBase {
 
   @Test
   void v1EndPoint_returnsVersionAndLinks() {
-    Map result = getJsonResponse(V1_HREF);
+    Map<String, Object> result = getJsonResponse(V1_HREF);
 
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
@@ -110,7 +121,7 @@ class OperatorRestTest extends RestTestBase {
 
   @Test
   void latestVersionEndPoint_returnsVersionAndLinks() {
-    Map result = getJsonResponse(LATEST_HREF);
+    Map<String, Object> result = getJsonResponse(LATEST_HREF);
 
     assertThat(result, hasJsonPath("$.version", equalTo("v1")));
     assertThat(result, hasJsonPath("$.latest", equalTo(true)));
@@ -125,7 +136,7 @@ class OperatorRestTest extends RestTestBase {
 
   @Test
   void swaggerEndPoint_returnsSwaggerFile() {
-    Map result = getJsonResponse(SWAGGER_HREF);
+    Map<String, Object> result = getJsonResponse(SWAGGER_HREF);
 
     assertThat(result, hasJsonPath("$.swagger", equalTo("2.0")));
     assertThat(result, hasJsonPath("$.info.version", equalTo("v1")));
@@ -136,7 +147,7 @@ class OperatorRestTest extends RestTestBase {
   void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
 
-    Map result = getJsonResponse(DOMAINS_HREF);
+    Map<String, Object> result = getJsonResponse(DOMAINS_HREF);
 
     assertThat(result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAINS_HREF)));
     assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(LATEST_HREF)));
@@ -153,7 +164,7 @@ class OperatorRestTest extends RestTestBase {
   void existingDomainEndPoint_returnsDomainsUidAndClusterLink() {
     defineDomains("uid1", "uid2");
 
-    Map result = getJsonResponse(DOMAINS_HREF + "/uid1");
+    Map<String, Object> result = getJsonResponse(DOMAINS_HREF + "/uid1");
 
     assertThat(result, hasJsonPath("$.domainUID", equalTo("uid1")));
     assertThat(
@@ -164,6 +175,70 @@ class OperatorRestTest extends RestTestBase {
         hasJsonPath("$.links[?(@.rel=='clusters')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
   }
 
+  @Test
+  void makeRightTracesEndPoint_returnsListOfTracesAndLinks() {
+    defineDomains("uid1", "uid2");
+    restBackend.makeRightTraces.add(new MakeRightTrace("ns", "uid1").complete("success"));
+    restBackend.makeRightTraces.add(new MakeRightTrace("ns", "uid1").complete("failure"));
+
+    Map<String, Object> result = getJsonResponse(DOMAIN1_TRACES_HREF);
+
+    assertThat(
+        result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAIN1_TRACES_HREF)));
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='parent')].href", withValues(DOMAIN1_HREF)));
+    assertThat(result, hasJsonPath("$.items[*].result", withValues("success", "failure")));
+  }
+
+  @Test
+  void whenNoCacheRequested_backendRequiresLiveReads() {
+    defineDomains("uid1", "uid2");
+
+    createRequest(DOMAINS_HREF).header(HttpHeaders.CACHE_CONTROL, "no-cache").get();
+
+    assertThat(restBackend.liveReadsRequired, is(true));
+  }
+
+  @Test
+  void whenNoCacheNotRequested_backendDoesNotRequireLiveReads() {
+    defineDomains("uid1", "uid2");
+
+    createRequest(DOMAINS_HREF).get();
+
+    assertThat(restBackend.liveReadsRequired, is(false));
+  }
+
+  @Test
+  void whenBackendReportsLastModifiedTime_responseHasLastModifiedHeader() {
+    defineDomains("uid1", "uid2");
+    restBackend.lastModified = OffsetDateTime.parse("2023-01-01T10:00:00Z");
+
+    Response response = createRequest(DOMAINS_HREF).get();
+
+    assertThat(response.getLastModified(), equalTo(Date.from(restBackend.lastModified.toInstant())));
+  }
+
+  @Test
+  void whenDomainUpdatedSinceClientRead_responseIsOkWithNewLastModifiedHeader() {
+    defineDomains("uid1", "uid2");
+    restBackend.lastModified = OffsetDateTime.parse("2023-01-01T10:00:00Z");
+    Date firstModified = createRequest(DOMAINS_HREF).get().getLastModified();
+    restBackend.lastModified = OffsetDateTime.parse("2023-01-01T10:05:00Z");
+
+    Response response = createRequest(DOMAINS_HREF).header(HttpHeaders.IF_MODIFIED_SINCE, firstModified).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_OK));
+    assertThat(response.getLastModified(), equalTo(Date.from(restBackend.lastModified.toInstant())));
+  }
+
+  @Test
+  void whenBackendDoesNotReportLastModifiedTime_responseHasNoLastModifiedHeader() {
+    defineDomains("uid1", "uid2");
+
+    Response response = createRequest(DOMAINS_HREF).get();
+
+    assertThat(response.getLastModified(), nullValue());
+  }
+
   @Test
   void nonexistingDomainEndPoint_fails() {
     defineDomains("uid1", "uid2");
@@ -175,7 +250,7 @@ class OperatorRestTest extends RestTestBase {
   void clustersEndPoint_returnsListOfClustersAndLinks() {
     defineClusters("uid1", "cluster1", "cluster2");
 
-    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
+    Map<String, Object> result = getJsonResponse(DOMAIN1_CLUSTERS_HREF);
 
     assertThat(
         result, hasJsonPath("$.links[?(@.rel=='self')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
@@ -197,7 +272,7 @@ class OperatorRestTest extends RestTestBase {
   void existingClusterEndPoint_returnsClusterNameAndScalingLink() {
     defineClusters("uid1", "cluster1", "cluster2");
 
-    Map result = getJsonResponse(DOMAIN1_CLUSTERS_HREF + "/cluster1");
+    Map<String, Object> result = getJsonResponse(DOMAIN1_CLUSTERS_HREF + "/cluster1");
 
     assertThat(result, hasJsonPath("$.cluster", equalTo("cluster1")));
     assertThat(
@@ -312,6 +387,9 @@ class OperatorRestTest extends RestTestBase {
 
   abstract static class RestBackendStub implements RestBackend {
     private final Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private boolean liveReadsRequired;
+    private OffsetDateTime lastModified;
+    private final List<MakeRightTrace> makeRightTraces = new ArrayList<>();
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -352,6 +430,21 @@ class OperatorRestTest extends RestTestBase {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public void requireLiveReads() {
+      liveReadsRequired = true;
+    }
+
+    @Override
+    public OffsetDateTime getLastModified() {
+      return lastModified;
+    }
+
+    @Override
+    public List<MakeRightTrace> getMakeRightTraces(String domainUid) {
+      return makeRightTraces;
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
       return domainClusters.get(domainUid).stream().filter(cs -> cs.hasClusterName(cluster));
     }
@@ -3,11 +3,16 @@
 
 package oracle.kubernetes.operator.http.rest;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
@@ -33,6 +38,7 @@ import oracle.kubernetes.operator.http.rest.model.DomainActionType;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -45,13 +51,16 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -84,6 +93,9 @@ class RestBackendImplTest {
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private final Map<String, String> namespaceIndex = new HashMap<>();
+  private int numTokenReviews;
+  private final ResourceModelStub resourceModel = new ResourceModelStub();
 
   private static V1Namespace createNamespace(String name) {
     return new V1Namespace().metadata(new V1ObjectMeta().name(name));
@@ -102,6 +114,9 @@ class RestBackendImplTest {
     mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "instance", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "reviewCache", new RestBackendImpl.ReviewCache()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "namespaceIndex", getIndexFunction()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "resourceModel", resourceModel));
 
     testSupport.defineResources(namespace, domain1, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
@@ -116,11 +131,16 @@ class RestBackendImplTest {
     setupScanCache();
   }
 
+  private Function<String, String> getIndexFunction() {
+    return namespaceIndex::get;
+  }
+
   Collection<String> getDomainNamespaces() {
     return namespaces;
   }
 
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
@@ -162,6 +182,59 @@ class RestBackendImplTest {
     assertThat(restBackend.isDomainUid("no_such_uid"), is(false));
   }
 
+  @Test
+  void whenDomainsRead_dontListThem() {
+    testSupport.failOnList(DOMAIN, NS, HTTP_INTERNAL_ERROR);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenDomainsRead_returnDomainsKnownToOperator() {
+    resourceModel.domains = List.of(domain1);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1));
+  }
+
+  @Test
+  void whenLiveReadsRequired_returnDomainsFromKubernetes() {
+    resourceModel.domains = List.of(domain1);
+
+    restBackend.requireLiveReads();
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenDomainsReadFromModel_reportLastUpdateTime() {
+    restBackend.getDomainUids();
+
+    assertThat(restBackend.getLastModified(), equalTo(resourceModel.lastUpdateTime));
+  }
+
+  @Test
+  void whenNoResourcesRead_dontReportLastUpdateTime() {
+    assertThat(restBackend.getLastModified(), nullValue());
+  }
+
+  @Test
+  void whenLiveReadsRequired_dontReportLastUpdateTime() {
+    restBackend.requireLiveReads();
+
+    restBackend.getDomainUids();
+
+    assertThat(restBackend.getLastModified(), nullValue());
+  }
+
+  @Test
+  void whenDomainNotYetKnownToOperator_performDomainActionOnLiveDomain() {
+    resourceModel.domains = Collections.emptyList();
+
+    restBackend.performDomainAction(DOMAIN1, new DomainAction(DomainActionType.INTROSPECT));
+
+    assertThat(getUpdatedDomain().getIntrospectVersion(), equalTo(INITIAL_VERSION));
+  }
+
   @Test
   void whenUnknownDomain_throwException() {
     assertThrows(WebApplicationException.class,
@@ -488,6 +561,91 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  @Test
+  void whenTokenRecentlyReviewed_dontReviewAgain() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  void afterTokenReviewExpires_reviewAgain() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    TuningParametersStub.setParameter("restAuthCacheTtlSeconds", "0");
+
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  void whenDifferentTokensUsed_reviewEach() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+
+    new RestBackendImpl("", "token1", this::getDomainNamespaces);
+    new RestBackendImpl("", "token2", this::getDomainNamespaces);
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  void whenAccessRecentlyReviewed_dontReviewAgain() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+    final int numChecks = authorizationProxyStub.numChecks;
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(numChecks));
+  }
+
+  @Test
+  void whenAccessDenied_dontReuseDecision() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+    authorizationProxyStub.allowed = false;
+    RestBackendImpl restBackend = new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub);
+    assertThrows(WebApplicationException.class, restBackend::getDomainUids);
+
+    assertThrows(WebApplicationException.class, restBackend::getDomainUids);
+
+    assertThat(authorizationProxyStub.numChecks, equalTo(2));
+  }
+
+  @Test
+  void whenDomainNamespaceIndexed_authorizeInIndexedNamespace() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    namespaces.add(NS2);
+    namespaceIndex.put(DOMAIN1, NS2);
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.namespaces, hasItem(NS2));
+  }
+
+  @Test
+  void whenIndexedNamespaceNotManaged_authorizeInNamespaceOfDomain() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    namespaceIndex.put(DOMAIN1, NS2);
+    AuthorizationProxyStub authorizationProxyStub = new AuthorizationProxyStub();
+
+    new RestBackendImpl("", "", this::getDomainNamespaces)
+        .withAuthorizationProxy(authorizationProxyStub).getClusters(DOMAIN1);
+
+    assertThat(authorizationProxyStub.namespaces, not(hasItem(NS2)));
+    assertThat(authorizationProxyStub.namespaces, hasItem(NS));
+  }
+
   @Test
   void whenUsingAccessToken_configureApiClient() {
     RestBackendImpl restBackend = new RestBackendImpl("", "1234", this::getDomainNamespaces);
@@ -525,8 +683,36 @@ class RestBackendImplTest {
     }
   }
 
+  // Returns the resources defined in Kubernetes unless the test specifies the operator's copies of them.
+  private class ResourceModelStub implements RestBackendImpl.ResourceModel {
+    private final OffsetDateTime lastUpdateTime = SystemClock.now();
+    private List<DomainResource> domains;
+
+    @Override
+    public List<DomainResource> getDomains(String ns) {
+      return Optional.ofNullable(domains).orElse(testSupport.getResources(DOMAIN)).stream()
+          .filter(d -> ns.equals(d.getNamespace()))
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ClusterResource> getClusterResources(String ns) {
+      return testSupport.<ClusterResource>getResources(CLUSTER).stream()
+          .filter(c -> ns.equals(c.getNamespace()))
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public OffsetDateTime getLastUpdateTime() {
+      return lastUpdateTime;
+    }
+  }
+
   private static class AuthorizationProxyStub extends AuthorizationProxy {
     boolean atzCheck = false;
+    boolean allowed = true;
+    int numChecks;
+    final List<String> namespaces = new ArrayList<>();
 
     /**
      * Check if the specified principal is allowed to perform the specified operation on the specified
@@ -551,7 +737,9 @@ class RestBackendImplTest {
         Scope scope,
         String namespaceName) {
       atzCheck = true;
-      return atzCheck;
+      numChecks++;
+      Optional.ofNullable(namespaceName).ifPresent(namespaces::add);
+      return allowed;
     }
   }
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.logging;
@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.logging;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.common.logging.AsyncConsoleHandler;
 import oracle.kubernetes.common.logging.LoggingFilter;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.common.logging.MockLoggingFilter;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
 class LoggingFacadeTest {
@@ -26,6 +29,12 @@ class LoggingFacadeTest {
     loggingFacade = new LoggingFacade(mockLogger);
   }
 
+  @Test
+  void reportQueuedConsoleRecordsAsMetric() {
+    assertThat(CollectorRegistry.defaultRegistry.getSampleValue("weblogic_operator_log_queued_records"),
+          equalTo((double) AsyncConsoleHandler.getQueuedRecordCount()));
+  }
+
   @Test
   void verifyInfoMessageLoggedIfLoggingFilterIsNull() {
     loggingFacade.info((LoggingFilter) null, "msg");
@@ -1,9 +1,10 @@
-// Copyright (c) 2020, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.logging;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -77,6 +78,19 @@ class OperatorLoggingFormatterTest {
     assertThat(getFormattedMessage(), allOf(hasEntry("code", "420"), hasEntry("body", "a response")));
   }
 
+  @Test
+  void whenApiExceptionHasResponseHeaders_includeThem() throws JsonProcessingException {
+    logRecord.setThrown(new ApiException(404, Map.of("Content-Type", List.of("application/json")), "not found"));
+
+    assertThat(getFormattedMessageObject().get("headers"),
+        equalTo(Map.of("Content-Type", List.of("application/json"))));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getFormattedMessageObject() throws JsonProcessingException {
+    return new ObjectMapper().readValue(formatter.format(logRecord), Map.class);
+  }
+
   @Test
   void whenPacketLacksDomainPresence_domainUidIsEmpty() {
     assertThat(getFormattedMessageInFiber().get("domainUID"), equalTo(""));
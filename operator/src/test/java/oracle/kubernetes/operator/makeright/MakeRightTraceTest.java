@@ -0,0 +1,204 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.makeright;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.meterware.simplestub.Memento;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.makeright.MakeRightTrace.ADMIN_SERVER;
+import static oracle.kubernetes.operator.makeright.MakeRightTrace.INTROSPECTION;
+import static oracle.kubernetes.operator.makeright.MakeRightTrace.SETUP;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_TRACE_COUNT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class MakeRightTraceTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private MakeRightTrace trace;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(TuningParametersStub.install());
+    trace = new MakeRightTrace(NS, UID);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenAddedToPacket_retrieveFromPacket() {
+    final Packet packet = new Packet().with(trace);
+
+    assertThat(MakeRightTrace.fromPacket(packet).orElse(null), sameInstance(trace));
+  }
+
+  @Test
+  void whenPhaseStepsRun_recordTimeInEachPhase() {
+    final FiberTestSupport testSupport = new FiberTestSupport();
+    testSupport.getPacket().with(trace);
+
+    testSupport.runSteps(Step.chain(MakeRightTrace.phaseStep(SETUP), new ClockStep(2),
+        MakeRightTrace.phaseStep(INTROSPECTION), new ClockStep(5)));
+    trace.complete("success");
+
+    assertThat(trace.getPhaseSeconds(), hasEntry(SETUP, 2.0));
+    assertThat(trace.getPhaseSeconds(), hasEntry(INTROSPECTION, 5.0));
+  }
+
+  @Test
+  void whenPhaseReentered_accumulateItsTime() {
+    trace.beginPhase(SETUP);
+    SystemClockTestSupport.increment(1);
+    trace.beginPhase(ADMIN_SERVER);
+    SystemClockTestSupport.increment(3);
+    trace.beginPhase(SETUP);
+    SystemClockTestSupport.increment(2);
+    trace.complete("success");
+
+    assertThat(trace.getPhaseSeconds().keySet(), contains(SETUP, ADMIN_SERVER));
+    assertThat(trace.getPhaseSeconds(), hasEntry(SETUP, 3.0));
+  }
+
+  @Test
+  void recordTimeFromStartUntilFirstPhase() {
+    SystemClockTestSupport.increment(4);
+    trace.beginPhase(SETUP);
+
+    assertThat(trace.getGateWaitSeconds(), equalTo(4.0));
+  }
+
+  @Test
+  void whenNoPhaseBegun_gateWaitIsNull() {
+    assertThat(trace.getGateWaitSeconds(), nullValue());
+  }
+
+  @Test
+  void whenComplete_recordResultAndDuration() {
+    SystemClockTestSupport.increment(7);
+    trace.complete("failure");
+
+    assertThat(trace.getResult(), equalTo("failure"));
+    assertThat(trace.getDurationSeconds(), equalTo(7.0));
+  }
+
+  @Test
+  void summarizeCallsByVerbAndResource() {
+    trace.recordApiCall("read", "Domain", 0, 100);
+    trace.recordApiCall("create", "Pod", 300, 400);
+    trace.recordApiCall("read", "Domain", 0, 50);
+
+    assertThat(describeCalls(), contains("create Pod 1 300 400", "read Domain 2 0 150"));
+  }
+
+  @Test
+  void countCallsInMetrics() {
+    final double before = getCallCount();
+
+    trace.recordApiCall("list", "Zork", 0, 10);
+
+    assertThat(getCallCount(), closeTo(before + 1, 0.1));
+  }
+
+  private double getCallCount() {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+        "weblogic_operator_make_right_api_calls_total",
+        new String[] {"verb", "resource"}, new String[] {"list", "Zork"})).orElse(0.0);
+  }
+
+  @Test
+  void afterComplete_ignoreFurtherRecording() {
+    trace.beginPhase(SETUP);
+    trace.complete("success");
+
+    trace.recordApiCall("read", "Domain", 0, 100);
+    trace.beginPhase(ADMIN_SERVER);
+    trace.complete("failure");
+
+    assertThat(trace.getApiCalls(), empty());
+    assertThat(trace.getPhaseSeconds().keySet(), contains(SETUP));
+    assertThat(trace.getResult(), equalTo("success"));
+  }
+
+  @Test
+  void historyRetainsConfiguredNumberOfTracesPerDomain() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_TRACE_COUNT, "2");
+    final MakeRightTraceHistory history = new MakeRightTraceHistory();
+    final MakeRightTrace trace2 = new MakeRightTrace(NS, UID);
+    final MakeRightTrace trace3 = new MakeRightTrace(NS, UID);
+
+    history.add(trace);
+    history.add(trace2);
+    history.add(trace3);
+    history.add(new MakeRightTrace(NS, "domain2"));
+
+    assertThat(history.get(NS, UID), equalTo(List.of(trace2, trace3)));
+  }
+
+  @Test
+  void whenTraceCountIsZero_historyRetainsNoTraces() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_TRACE_COUNT, "0");
+    final MakeRightTraceHistory history = new MakeRightTraceHistory();
+
+    history.add(trace);
+
+    assertThat(history.get(NS, UID), empty());
+  }
+
+  @Test
+  void afterDomainRemoved_historyHasNoTraces() {
+    final MakeRightTraceHistory history = new MakeRightTraceHistory();
+    history.add(trace);
+
+    history.remove(NS, UID);
+
+    assertThat(history.get(NS, UID), empty());
+  }
+
+  private List<String> describeCalls() {
+    final List<String> result = new ArrayList<>();
+    trace.getApiCalls().forEach(c -> result.add(String.join(" ", c.getVerb(), c.getResource(),
+        String.valueOf(c.getCount()), String.valueOf(c.getBytesSent()), String.valueOf(c.getBytesReceived()))));
+    return result;
+  }
+
+  private static class ClockStep extends Step {
+    private final int seconds;
+
+    ClockStep(int seconds) {
+      this.seconds = seconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      SystemClockTestSupport.increment(seconds);
+      return doNext(packet);
+    }
+  }
+}
@@ -188,6 +188,36 @@ class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
   }
 
+  @Test
+  void whenReadStateStepReceivesState_recordIt() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadStateStep(5, terminalStep));
+
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+  }
+
+  @Test
+  void whenReadStateStepFails_leaveStateUnrecorded() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(500, "", "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadStateStep(5, terminalStep));
+
+    assertThat(getServerStateMap(packet).containsKey(MANAGED_SERVER1), is(false));
+    assertThat(getServerHealthMap(packet).containsKey(MANAGED_SERVER1), is(false));
+  }
+
+  @Test
+  void whenReadStateStepFindsNoService_leaveStateUnrecorded() {
+    testSupport.addToPacket(SERVER_NAME, MANAGED_SERVER1);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadStateStep(5, terminalStep));
+
+    assertThat(getServerStateMap(packet).containsKey(MANAGED_SERVER1), is(false));
+  }
+
   private Map<String, ServerHealth> getServerHealthMap(Packet packet) {
     return packet.getValue(SERVER_HEALTH_MAP);
   }
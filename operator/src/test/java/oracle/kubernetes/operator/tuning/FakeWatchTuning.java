@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -7,6 +7,13 @@ import oracle.kubernetes.operator.WatchTuning;
 
 public class FakeWatchTuning implements WatchTuning {
 
+  private boolean watchMultiplexingEnabled;
+
+  public FakeWatchTuning withWatchMultiplexingEnabled() {
+    watchMultiplexingEnabled = true;
+    return this;
+  }
+
   @Override
   public int getWatchLifetime() {
     return 30;
@@ -26,4 +33,9 @@ public class FakeWatchTuning implements WatchTuning {
   public int getWatchBackstopRecheckCount() {
     return 24;
   }
+
+  @Override
+  public boolean isWatchMultiplexingEnabled() {
+    return watchMultiplexingEnabled;
+  }
 }
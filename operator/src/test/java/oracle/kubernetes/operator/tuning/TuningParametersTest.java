@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.tuning;
@@ -13,6 +13,7 @@ import java.util.function.Function;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
+import oracle.kubernetes.operator.work.EngineMode;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +63,7 @@ class TuningParametersTest {
   void whenNoTuningParametersConfigured_facadesReturnDefaultValues() {
     assertThat(getTuningParameters().getNamespaceRecheckIntervalSeconds(), equalTo(DEFAULT_NAMESPACE_RECHECK_SECONDS));
     assertThat(getTuningParameters().isRestartEvictedPods(), is(true));
+    assertThat(getTuningParameters().getEngineMode(), equalTo(EngineMode.PLATFORM));
   }
 
   @Test
@@ -73,6 +75,60 @@ class TuningParametersTest {
     assertThat(getTuningParameters().isRestartEvictedPods(), is(false));
   }
 
+  @Test
+  void whenEngineModeConfigured_returnConfiguredMode() {
+    configureParameter("engineMode", "virtual");
+
+    assertThat(getTuningParameters().getEngineMode(), equalTo(EngineMode.VIRTUAL));
+  }
+
+  @Test
+  void whenClientPoolSizeConfigured_returnConfiguredSize() {
+    configureParameter("clientPoolSize", "4");
+
+    assertThat(getTuningParameters().getClientPoolSize(), equalTo(4));
+  }
+
+  @Test
+  void whenClientPoolNotConfigured_useSingleClientWithDispatcherDefaults() {
+    assertThat(getTuningParameters().getClientPoolSize(), equalTo(1));
+    assertThat(getTuningParameters().getClientMaxRequestsPerHost(), equalTo(5));
+    assertThat(getTuningParameters().getClientMaxAgeSeconds(), equalTo(0));
+  }
+
+  @Test
+  void whenRestAuthCacheTtlConfigured_returnConfiguredTtl() {
+    configureParameter("restAuthCacheTtlSeconds", "5");
+
+    assertThat(getTuningParameters().getRestAuthCacheTtlSeconds(), equalTo(5));
+  }
+
+  @Test
+  void whenConversionClusterCacheTtlConfigured_returnConfiguredTtl() {
+    configureParameter("conversionClusterCacheTtlSeconds", "0");
+
+    assertThat(getTuningParameters().getConversionClusterCacheTtlSeconds(), equalTo(0));
+  }
+
+  @Test
+  void whenAdmissionCacheTtlNotConfigured_reuseForFiveSeconds() {
+    assertThat(getTuningParameters().getAdmissionCacheTtlSeconds(), equalTo(5));
+  }
+
+  @Test
+  void whenAdmissionCacheTtlConfigured_returnConfiguredTtl() {
+    configureParameter("admissionCacheTtlSeconds", "20");
+
+    assertThat(getTuningParameters().getAdmissionCacheTtlSeconds(), equalTo(20));
+  }
+
+  @Test
+  void whenMakeRightTraceCountConfigured_returnConfiguredCount() {
+    configureParameter("makeRightTraceCount", "3");
+
+    assertThat(getTuningParameters().getMakeRightTraceCount(), equalTo(3));
+  }
+
   private void configureParameter(String name, String value) {
     inMemoryFileSystem.defineFile(new File(mountPointDir, name), value);
   }
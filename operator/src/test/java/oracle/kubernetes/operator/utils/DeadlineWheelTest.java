@@ -0,0 +1,142 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class DeadlineWheelTest {
+
+  private static final int NUM_SLOTS = 8;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DeadlineWheel<String, String> wheel = new DeadlineWheel<>(NUM_SLOTS, 1000);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void scheduleAfter(String key, long seconds) {
+    wheel.schedule(key, key, SystemClock.now().plusSeconds(seconds));
+  }
+
+  @Test
+  void beforeDeadline_valueNotExpired() {
+    scheduleAfter("a", 5);
+
+    SystemClockTestSupport.increment(4);
+
+    assertThat(wheel.removeExpired(), empty());
+    assertThat(wheel.isScheduled("a"), equalTo(true));
+  }
+
+  @Test
+  void afterDeadline_valueExpired() {
+    scheduleAfter("a", 5);
+
+    SystemClockTestSupport.increment(5);
+
+    assertThat(wheel.removeExpired(), contains("a"));
+    assertThat(wheel.isScheduled("a"), equalTo(false));
+  }
+
+  @Test
+  void expiredValue_returnedOnlyOnce() {
+    scheduleAfter("a", 1);
+    SystemClockTestSupport.increment(2);
+    wheel.removeExpired();
+
+    assertThat(wheel.removeExpired(), empty());
+  }
+
+  @Test
+  void whenCollectedRepeatedly_expireEachValueAtItsDeadline() {
+    scheduleAfter("a", 2);
+    scheduleAfter("b", 4);
+    scheduleAfter("c", 6);
+
+    SystemClockTestSupport.increment(1);
+    assertThat(wheel.removeExpired(), empty());
+    SystemClockTestSupport.increment(3);
+    assertThat(wheel.removeExpired(), containsInAnyOrder("a", "b"));
+    SystemClockTestSupport.increment(2);
+    assertThat(wheel.removeExpired(), contains("c"));
+  }
+
+  @Test
+  void whenDeadlineAlreadyPassed_expireAtNextCollection() {
+    wheel.removeExpired();
+    SystemClockTestSupport.increment(3);
+    wheel.removeExpired();
+
+    wheel.schedule("a", "a", SystemClock.now().minusSeconds(10));
+
+    assertThat(wheel.removeExpired(), contains("a"));
+  }
+
+  @Test
+  void whenDeadlineBeyondOneTurn_dontExpireEarly() {
+    wheel.removeExpired();
+    scheduleAfter("a", NUM_SLOTS + 2);
+
+    SystemClockTestSupport.increment(2);
+    assertThat(wheel.removeExpired(), empty());
+    SystemClockTestSupport.increment(NUM_SLOTS - 1);
+    assertThat(wheel.removeExpired(), empty());
+    SystemClockTestSupport.increment(1);
+    assertThat(wheel.removeExpired(), contains("a"));
+  }
+
+  @Test
+  void whenCollectionsFarApart_expireAllPassedDeadlines() {
+    wheel.removeExpired();
+    scheduleAfter("a", 1);
+    scheduleAfter("b", NUM_SLOTS - 1);
+
+    SystemClockTestSupport.increment(NUM_SLOTS * 3);
+
+    assertThat(wheel.removeExpired(), containsInAnyOrder("a", "b"));
+  }
+
+  @Test
+  void afterCancel_valueNotExpired() {
+    scheduleAfter("a", 1);
+
+    assertThat(wheel.cancel("a"), equalTo(true));
+    SystemClockTestSupport.increment(2);
+
+    assertThat(wheel.removeExpired(), empty());
+  }
+
+  @Test
+  void whenRescheduled_useNewDeadline() {
+    scheduleAfter("a", 1);
+    scheduleAfter("a", 5);
+
+    SystemClockTestSupport.increment(2);
+    assertThat(wheel.removeExpired(), empty());
+    SystemClockTestSupport.increment(3);
+    assertThat(wheel.removeExpired(), contains("a"));
+    assertThat(wheel.size(), equalTo(0));
+  }
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class ExpiringCacheTest {
+
+  private static final int TTL_SECONDS = 30;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private int maxEntries = 3;
+  private int ttlSeconds = TTL_SECONDS;
+  private final ExpiringCache<String, String> cache = new ExpiringCache<>("test", () -> ttlSeconds, () -> maxEntries);
+  private final AtomicInteger numLoads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenValueNotCached_returnNull() {
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  void whenValueCached_returnIt() {
+    cache.put("key", "value");
+
+    assertThat(cache.get("key"), equalTo("value"));
+  }
+
+  @Test
+  void beforeTimeToLiveElapses_returnCachedValue() {
+    cache.put("key", "value");
+
+    SystemClockTestSupport.increment(TTL_SECONDS - 1);
+
+    assertThat(cache.get("key"), equalTo("value"));
+  }
+
+  @Test
+  void afterTimeToLiveElapses_returnNull() {
+    cache.put("key", "value");
+
+    SystemClockTestSupport.increment(TTL_SECONDS);
+
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  void whenTimeToLiveNotPositive_dontCacheValue() {
+    ttlSeconds = 0;
+
+    cache.put("key", "value");
+
+    assertThat(cache.get("key"), nullValue());
+  }
+
+  @Test
+  void whenCacheFull_evictOldestEntry() {
+    cache.put("key1", "value1");
+    cache.put("key2", "value2");
+    cache.put("key3", "value3");
+
+    cache.put("key4", "value4");
+
+    assertThat(cache.size(), equalTo(3));
+    assertThat(cache.get("key1"), nullValue());
+    assertThat(cache.get("key4"), equalTo("value4"));
+  }
+
+  @Test
+  void whenAddingEntry_removeExpiredEntries() {
+    cache.put("key1", "value1");
+    SystemClockTestSupport.increment(TTL_SECONDS);
+
+    cache.put("key2", "value2");
+
+    assertThat(cache.size(), equalTo(1));
+  }
+
+  @Test
+  void whenValueNotCached_computeAndCacheIt() {
+    cache.computeIfAbsent("key", this::load);
+
+    assertThat(cache.computeIfAbsent("key", this::load), equalTo("loaded-key"));
+    assertThat(numLoads.get(), equalTo(1));
+  }
+
+  @Test
+  void whenComputedValueIsNull_dontCacheIt() {
+    cache.computeIfAbsent("key", k -> null);
+
+    assertThat(cache.size(), equalTo(0));
+  }
+
+  private String load(String key) {
+    numLoads.incrementAndGet();
+    return "loaded-" + key;
+  }
+}
@@ -8,8 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.webhooks.resource.AdmissionChecker;
+import oracle.kubernetes.operator.webhooks.utils.AdmissionCache;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.junit.jupiter.api.AfterEach;
@@ -48,6 +51,8 @@ abstract class AdmissionCheckerTestBase {
   @BeforeEach
   public void setUp() throws NoSuchFieldException, IOException {
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(AdmissionChecker.class, "admissionCache", new AdmissionCache()));
     setupCheckers();
   }
 
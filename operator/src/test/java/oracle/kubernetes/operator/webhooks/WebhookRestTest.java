@@ -17,6 +17,9 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import jakarta.ws.rs.client.Entity;
@@ -27,6 +30,7 @@ import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.http.rest.RestConfig;
 import oracle.kubernetes.operator.http.rest.RestTestBase;
 import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.webhooks.model.AdmissionRequest;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponseStatus;
@@ -36,9 +40,15 @@ import oracle.kubernetes.operator.webhooks.model.ConversionResponse;
 import oracle.kubernetes.operator.webhooks.model.ConversionReviewModel;
 import oracle.kubernetes.operator.webhooks.model.Result;
 import oracle.kubernetes.operator.webhooks.model.Scale;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionChecker;
+import oracle.kubernetes.operator.webhooks.resource.ConversionWebhookResource;
+import oracle.kubernetes.operator.webhooks.utils.AdmissionCache;
+import oracle.kubernetes.operator.webhooks.utils.ConversionClusterCache;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -83,6 +93,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -210,6 +221,30 @@ class WebhookRestTest extends RestTestBase {
   }
 
   final RestBackendStub restBackend = createStrictStub(RestBackendStub.class, this);
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Runnable> deferredClusterWrites = new ArrayList<>();
+  private boolean deferClusterWrites;
+
+  @BeforeEach
+  void setUpConversion() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(
+        ConversionWebhookResource.class, "clusterCache", new ConversionClusterCache(this::writeCluster)));
+    mementos.add(StaticStubSupport.install(AdmissionChecker.class, "admissionCache", new AdmissionCache()));
+  }
+
+  @AfterEach
+  void tearDownConversion() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void writeCluster(Runnable write) {
+    if (deferClusterWrites) {
+      deferredClusterWrites.add(write);
+    } else {
+      write.run();
+    }
+  }
 
   @Override
   protected Application configure() {
@@ -237,6 +272,24 @@ class WebhookRestTest extends RestTestBase {
     assertThat(clusterResource,  notNullValue());
   }
 
+  @Test
+  void whenConversionWebhookRequestSent_createClustersAfterResponse() {
+    deferClusterWrites = true;
+    String conversionReview = getAsString(CONVERSION_REVIEW_REQUEST);
+    String responseString = sendConversionWebhookRequestAsString(conversionReview);
+
+    assertThat(responseString, equalTo(getAsString(CONVERSION_REVIEW_RESPONSE)));
+    assertThat(getConvertedCluster(), nullValue());
+
+    deferredClusterWrites.forEach(Runnable::run);
+
+    assertThat(getConvertedCluster(), notNullValue());
+  }
+
+  private ClusterResource getConvertedCluster() {
+    return testSupport.getResourceWithName(KubernetesTestSupport.CLUSTER, "sample-domain1-cluster-1");
+  }
+
   @Test
   void whenConversionWebhookRequestSent_hasExpectedResponseResult() {
     Result result = new Result().message("").status("Success");
@@ -504,6 +557,53 @@ class WebhookRestTest extends RestTestBase {
         equalTo(getRejectMessageForDomainResource(proposedDomain, proposedCluster)));
   }
 
+  @Test
+  void whenSameDomainChangeValidatedAgain_reuseVerdict() {
+    defineDomainWithInvalidReplicasAndClustersWithoutReplicas();
+    sendValidatingRequestAsAdmissionReview(domainReview);
+
+    proposedCluster.getSpec().withReplicas(GOOD_REPLICAS);
+    proposedCluster2.getSpec().withReplicas(GOOD_REPLICAS);
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(domainReview);
+
+    assertThat(isAllowed(responseReview), equalTo(false));
+    assertThat(responseReview.getResponse().getUid(), equalTo(RESPONSE_UID));
+  }
+
+  @Test
+  void afterClusterScaleAllowed_validateSameDomainChangeAgain() {
+    defineDomainWithInvalidReplicasAndClustersWithoutReplicas();
+    sendValidatingRequestAsAdmissionReview(domainReview);
+
+    proposedCluster.getSpec().withReplicas(GOOD_REPLICAS);
+    proposedCluster2.getSpec().withReplicas(GOOD_REPLICAS);
+    testSupport.defineResources(validScale);
+    setProposedScale(validScale);
+    sendValidatingRequestAsAdmissionReview(scaleReview);
+    AdmissionReview responseReview = sendValidatingRequestAsAdmissionReview(domainReview);
+
+    assertThat(isAllowed(responseReview), equalTo(true));
+  }
+
+  @Test
+  void whenClusterScaleValidated_dontChangeListedCluster() throws ApiException {
+    testSupport.defineResources(invalidScale, proposedCluster);
+    setProposedScale(invalidScale);
+
+    sendValidatingRequestAsAdmissionReview(scaleReview);
+
+    assertThat(AdmissionChecker.getClusters(NS).get(0).getSpec().getReplicas(), nullValue());
+  }
+
+  private void defineDomainWithInvalidReplicasAndClustersWithoutReplicas() {
+    testSupport.defineResources(proposedDomain, proposedCluster, proposedCluster2);
+    proposedDomain.getSpec().withReplicas(BAD_REPLICAS);
+    proposedCluster.getSpec().withReplicas(null);
+    proposedCluster2.getSpec().withReplicas(null);
+    setExistingDomain(existingDomain);
+    setProposedDomain(proposedDomain);
+  }
+
   @Test
   void whenDomainWithInvalidReplicasReferencesWithNoCluster_acceptIt() {
     testSupport.defineResources(proposedDomain2);
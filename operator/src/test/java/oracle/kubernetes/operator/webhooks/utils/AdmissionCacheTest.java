@@ -0,0 +1,117 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
+import oracle.kubernetes.weblogic.domain.model.DomainCondition;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.ADMISSION_CACHE_TTL_SECONDS;
+import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.AVAILABLE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class AdmissionCacheTest {
+
+  private static final String NS = "ns1";
+  private static final String UID = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final AdmissionCache cache = new AdmissionCache();
+  private final DomainResource existing = createDomain(2, 4);
+  private final DomainResource proposed = createDomain(3, 4);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private DomainResource createDomain(int replicas, int maximumReplicas) {
+    return new DomainResource()
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(UID).uid("1234"))
+        .withSpec(new DomainSpec().withDomainUid(UID).withReplicas(replicas))
+        .withStatus(new DomainStatus()
+            .addCluster(new ClusterStatus().withClusterName("cluster1").withMaximumReplicas(maximumReplicas)));
+  }
+
+  @Test
+  void whenSameChangeProposed_returnRecordedVerdict() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(false));
+
+    assertThat(cache.getVerdict(createDomain(2, 4), createDomain(3, 4)).isAllowed(), equalTo(false));
+  }
+
+  @Test
+  void whenDifferentSpecProposed_dontReturnVerdict() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(false));
+
+    assertThat(cache.getVerdict(existing, createDomain(1, 4)), nullValue());
+  }
+
+  @Test
+  void whenMaximumReplicasChanged_dontReturnVerdict() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(false));
+
+    assertThat(cache.getVerdict(existing, createDomain(3, 5)), nullValue());
+  }
+
+  @Test
+  void whenOnlyStatusConditionsChanged_returnRecordedVerdict() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(true));
+    proposed.getStatus().addCondition(new DomainCondition(AVAILABLE));
+
+    assertThat(cache.getVerdict(existing, proposed), notNullValue());
+  }
+
+  @Test
+  void afterTimeToLiveElapses_dontReturnVerdict() {
+    TuningParametersStub.setParameter(ADMISSION_CACHE_TTL_SECONDS, "10");
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(true));
+
+    SystemClockTestSupport.increment(10);
+
+    assertThat(cache.getVerdict(existing, proposed), nullValue());
+  }
+
+  @Test
+  void afterClusterChanged_dontReturnVerdictOrClusters() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(true));
+    cache.putClusters(NS, new ArrayList<>());
+
+    cache.clusterChanged(NS);
+
+    assertThat(cache.getVerdict(existing, proposed), nullValue());
+    assertThat(cache.getClusters(NS), nullValue());
+  }
+
+  @Test
+  void whenReturnedVerdictModified_dontChangeRecordedVerdict() {
+    cache.putVerdict(existing, proposed, new AdmissionResponse().allowed(true));
+
+    cache.getVerdict(existing, proposed).uid("request1");
+
+    assertThat(cache.getVerdict(existing, proposed).getUid(), nullValue());
+  }
+}
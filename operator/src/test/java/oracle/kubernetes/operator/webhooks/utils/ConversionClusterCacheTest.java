@@ -0,0 +1,171 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CONVERSION_CLUSTER_CACHE_TTL_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class ConversionClusterCacheTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Runnable> pendingWrites = new ArrayList<>();
+  private final BackendStub backend = createStrictStub(BackendStub.class);
+  private final ConversionClusterCache cache = new ConversionClusterCache(pendingWrites::add);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenClustersListedTwice_listThemOnce() {
+    cache.listClusters(backend, NS1);
+    cache.listClusters(backend, NS1);
+
+    assertThat(backend.numLists, equalTo(1));
+  }
+
+  @Test
+  void whenClustersListedInDifferentNamespaces_listEach() {
+    cache.listClusters(backend, NS1);
+    cache.listClusters(backend, NS2);
+
+    assertThat(backend.numLists, equalTo(2));
+  }
+
+  @Test
+  void afterTimeToLiveElapses_listClustersAgain() {
+    TuningParametersStub.setParameter(CONVERSION_CLUSTER_CACHE_TTL_SECONDS, "10");
+    cache.listClusters(backend, NS1);
+
+    SystemClockTestSupport.increment(10);
+    cache.listClusters(backend, NS1);
+
+    assertThat(backend.numLists, equalTo(2));
+  }
+
+  @Test
+  void whenClusterQueued_dontWriteItUntilWriterRuns() {
+    cache.createOrReplaceCluster(backend, createCluster(NS1, "cluster1", 1));
+
+    assertThat(backend.written, empty());
+  }
+
+  @Test
+  void whenWriterRuns_writeQueuedCluster() {
+    final Map<String, Object> cluster = createCluster(NS1, "cluster1", 1);
+    cache.createOrReplaceCluster(backend, cluster);
+
+    runPendingWrites();
+
+    assertThat(backend.written, equalTo(List.of(cluster)));
+  }
+
+  @Test
+  void whenSameClusterQueuedTwiceBeforeWriterRuns_writeOnlyLatest() {
+    final Map<String, Object> latest = createCluster(NS1, "cluster1", 2);
+    cache.createOrReplaceCluster(backend, createCluster(NS1, "cluster1", 1));
+    cache.createOrReplaceCluster(backend, latest);
+
+    runPendingWrites();
+
+    assertThat(backend.written, equalTo(List.of(latest)));
+  }
+
+  @Test
+  void whenClusterQueued_includeItInListedClusters() {
+    final Map<String, Object> listed = createCluster(NS1, "cluster1", 1);
+    final Map<String, Object> queued = createCluster(NS1, "cluster1", 3);
+    backend.clusters.add(listed);
+    cache.listClusters(backend, NS1);
+
+    cache.createOrReplaceCluster(backend, queued);
+
+    assertThat(cache.listClusters(backend, NS1), equalTo(List.of(queued)));
+  }
+
+  @Test
+  void whenWriteFails_listClustersAgain() {
+    cache.listClusters(backend, NS1);
+    cache.createOrReplaceCluster(backend, createCluster(NS1, "cluster1", 1));
+    backend.failWrites = true;
+
+    runPendingWrites();
+    cache.listClusters(backend, NS1);
+
+    assertThat(backend.numLists, equalTo(2));
+  }
+
+  @Test
+  void whenShutDown_stopTheWriterThread() {
+    final ExecutorService writer = Executors.newSingleThreadExecutor();
+    final ConversionClusterCache cache = new ConversionClusterCache(writer);
+
+    cache.shutdown();
+
+    assertThat(writer.isShutdown(), is(true));
+  }
+
+  private void runPendingWrites() {
+    new ArrayList<>(pendingWrites).forEach(Runnable::run);
+    pendingWrites.clear();
+  }
+
+  private Map<String, Object> createCluster(String namespace, String name, int replicas) {
+    final Map<String, Object> metadata = new HashMap<>(Map.of("namespace", namespace, "name", name));
+    return new HashMap<>(Map.of("metadata", metadata, "spec", Map.of("replicas", replicas)));
+  }
+
+  abstract static class BackendStub implements RestBackend {
+    private final List<Map<String, Object>> clusters = new ArrayList<>();
+    private final List<Map<String, Object>> written = new ArrayList<>();
+    private int numLists;
+    private boolean failWrites;
+
+    @Override
+    public List<Map<String, Object>> listClusters(String namespace) {
+      numLists++;
+      return new ArrayList<>(clusters);
+    }
+
+    @Override
+    public Object createOrReplaceCluster(Map<String, Object> body) {
+      if (failWrites) {
+        throw new IllegalStateException("write failed");
+      }
+      written.add(body);
+      return body;
+    }
+  }
+}
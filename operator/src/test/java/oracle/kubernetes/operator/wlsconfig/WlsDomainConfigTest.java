@@ -30,6 +30,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -255,6 +257,69 @@ class WlsDomainConfigTest {
     assertThat(wlsDomainConfig.containsCluster(null), equalTo(false));
   }
 
+  @Test
+  void afterDynamicClustersProcessed_findClusterOfEachServer() {
+    support.addWlsCluster("cluster-1", "ms1", "ms2");
+    support.addDynamicWlsCluster("dynamic-cluster", "dyn1", "dyn2");
+    support.addWlsServer("standalone");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+
+    domainConfig.processDynamicClusters();
+
+    assertThat(domainConfig.getClusterName("ms2"), equalTo("cluster-1"));
+    assertThat(domainConfig.getClusterName("dyn1"), equalTo("dynamic-cluster"));
+    assertThat(domainConfig.getClusterName("standalone"), nullValue());
+    assertThat(domainConfig.getClusterConfig("dynamic-cluster").hasNamedServer("dyn2"), equalTo(true));
+    assertThat(domainConfig.getClusterConfig("cluster-1").hasNamedServer("dyn2"), equalTo(false));
+  }
+
+  @Test
+  void whenDynamicClustersProcessedAgainWithoutChange_reuseIndex() {
+    support.addWlsCluster("cluster-1", "ms1");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+
+    domainConfig.processDynamicClusters();
+    Map<String, WlsClusterConfig> clusterConfigs = domainConfig.getClusterConfigs();
+    domainConfig.processDynamicClusters();
+
+    assertThat(domainConfig.getClusterConfigs(), sameInstance(clusterConfigs));
+  }
+
+  @Test
+  void afterDynamicClustersProcessed_addedServerIsFound() {
+    support.addWlsServer("standalone");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+    domainConfig.processDynamicClusters();
+
+    domainConfig.addWlsServer("added", "host1", 8001);
+
+    assertThat(domainConfig.containsServer("added"), equalTo(true));
+    assertThat(domainConfig.getServerConfigs().keySet(), containsInAnyOrder("standalone", "added"));
+  }
+
+  @Test
+  void afterDynamicClustersProcessed_serverAddedToClusterIsFound() {
+    support.addWlsCluster("cluster-1", "ms1");
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+    domainConfig.processDynamicClusters();
+
+    domainConfig.getClusterConfig("cluster-1").addServerConfig(new WlsServerConfig("ms2", "host2", 8001));
+
+    assertThat(domainConfig.getClusterName("ms2"), equalTo("cluster-1"));
+    assertThat(domainConfig.getClusterConfig("cluster-1").hasNamedServer("ms2"), equalTo(true));
+  }
+
+  @Test
+  void afterDynamicClustersProcessed_addedClusterIsFound() {
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+    domainConfig.processDynamicClusters();
+
+    domainConfig.withCluster(new WlsClusterConfig("cluster-2").addWlsServer("ms3", "host3", 8001));
+
+    assertThat(domainConfig.containsCluster("cluster-2"), equalTo(true));
+    assertThat(domainConfig.getClusterName("ms3"), equalTo("cluster-2"));
+  }
+
   @SuppressWarnings("unused")
   static class WlsServerConfigMatcher
       extends org.hamcrest.TypeSafeDiagnosingMatcher<
@@ -0,0 +1,125 @@
+// Copyright (c) 2023, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class EngineTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final ThreadRecordingStep recordingStep = new ThreadRecordingStep();
+  private final CountDownLatch completed = new CountDownLatch(1);
+
+  @Test
+  void byDefault_engineUsesPlatformMode() {
+    assertThat(testSupport.getEngine().getMode(), equalTo(EngineMode.PLATFORM));
+  }
+
+  @Test
+  void inPlatformMode_fibersRunOnSchedulerThreads() {
+    testSupport.getEngine().createFiber().start(recordingStep, new Packet(), new LatchCompletionCallback());
+
+    assertThat(recordingStep.ranOnVirtualThread.get(), is(false));
+    assertThat(testSupport.getNumItemsRun(), equalTo(1));
+  }
+
+  @Test
+  void inVirtualMode_fibersRunOnVirtualThreads() throws InterruptedException {
+    Engine engine = new Engine(testSupport.getScheduledExecutorService(), EngineMode.VIRTUAL);
+
+    engine.createFiber().start(recordingStep, new Packet(), new LatchCompletionCallback());
+
+    assertThat(completed.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(recordingStep.ranOnVirtualThread.get(), is(true));
+    assertThat(testSupport.getNumItemsRun(), equalTo(0));
+  }
+
+  @Test
+  void inVirtualMode_scheduledActionsUseScheduler() {
+    Engine engine = new Engine(testSupport.getScheduledExecutorService(), EngineMode.VIRTUAL);
+    AtomicBoolean scheduledActionRun = new AtomicBoolean();
+
+    engine.createFiber().scheduleOnce(10, TimeUnit.SECONDS, () -> scheduledActionRun.set(true));
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(scheduledActionRun.get(), is(true));
+  }
+
+  @Test
+  void whenModeNameUnknown_usePlatformMode() {
+    assertThat(EngineMode.fromValue("green"), equalTo(EngineMode.PLATFORM));
+  }
+
+  @Test
+  void whenModeNameDiffersInCase_findMatchingMode() {
+    assertThat(EngineMode.fromValue("Virtual"), equalTo(EngineMode.VIRTUAL));
+  }
+
+  @Test
+  void executorMetrics_countReadyTasksAndActiveThreads() throws InterruptedException {
+    final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    try {
+      Engine.registerExecutorMetrics("metricsTest", pool);
+      pool.execute(() -> awaitRelease(started, release));
+      pool.execute(() -> { });
+      pool.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+      assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+      assertThat(getExecutorMetric("weblogic_operator_engine_executor_queued_tasks"), equalTo(1.0));
+      assertThat(getExecutorMetric("weblogic_operator_engine_executor_active_threads"), equalTo(1.0));
+    } finally {
+      release.countDown();
+      pool.shutdownNow();
+    }
+  }
+
+  private static void awaitRelease(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Double getExecutorMetric(String name) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+          name, new String[] {"engine"}, new String[] {"metricsTest"});
+  }
+
+  private static class ThreadRecordingStep extends Step {
+    private final AtomicBoolean ranOnVirtualThread = new AtomicBoolean();
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ranOnVirtualThread.set(Thread.currentThread().isVirtual());
+      return doNext(packet);
+    }
+  }
+
+  private class LatchCompletionCallback implements Fiber.CompletionCallback {
+
+    @Override
+    public void onCompletion(Packet packet) {
+      completed.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      completed.countDown();
+    }
+  }
+}
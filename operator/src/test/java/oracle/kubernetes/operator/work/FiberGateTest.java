@@ -1,4 +1,4 @@
-// Copyright (c) 2022, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.work;
@@ -18,6 +18,7 @@ class FiberGateTest {
   private final FiberGate fiberGate = new FiberGate(testSupport.getEngine());
   private final TerminalStep terminalStep = new TerminalStep();
   private final Step noopStep = new NoopStep();
+  private final SuspendingStep suspendingStep = new SuspendingStep();
   private final Packet packet = new Packet();
   private final TestCompletionCallback completionCallback = new TestCompletionCallback();
 
@@ -65,6 +66,88 @@ class FiberGateTest {
     assertThat(terminalStep.wasRun(), is(false));
   }
 
+  @Test
+  void whenNoFiberRunning_coalescingRequestStartsImmediately() {
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whileFiberRunning_coalescingRequestIsHeld() {
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  void whenRunningFiberCompletes_startHeldRequest() {
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+
+    suspendingStep.resume();
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenRunningFiberCompletes_dontStartHeldRequestWhichNoLongerApplies() {
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback, () -> false);
+
+    suspendingStep.resume();
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  void afterHeldRequestDropped_nextCoalescingRequestStartsImmediately() {
+    final TerminalStep laterStep = new TerminalStep();
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback, () -> false);
+    suspendingStep.resume();
+
+    fiberGate.startFiberOrCoalesce(UID1, laterStep, packet, completionCallback);
+
+    assertThat(laterStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whileFiberRunning_laterCoalescingRequestReplacesHeldRequest() {
+    final TerminalStep laterStep = new TerminalStep();
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, laterStep, packet, completionCallback);
+
+    suspendingStep.resume();
+
+    assertThat(terminalStep.wasRun(), is(false));
+    assertThat(laterStep.getExecutionCount(), equalTo(1));
+  }
+
+  @Test
+  void whileFiberRunningForOtherUid_coalescingRequestStartsImmediately() {
+    fiberGate.startFiber(UID2, suspendingStep, packet, completionCallback);
+
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  void whenInterruptingFiberStarted_discardHeldRequest() {
+    final TerminalStep interruptingStep = new TerminalStep();
+    fiberGate.startFiber(UID1, suspendingStep, packet, completionCallback);
+    fiberGate.startFiberOrCoalesce(UID1, terminalStep, packet, completionCallback);
+
+    fiberGate.startFiber(UID1, interruptingStep, packet, completionCallback);
+
+    assertThat(interruptingStep.wasRun(), is(true));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
   private static class NoopStep extends Step {
 
     @Override
@@ -73,6 +156,23 @@ class FiberGateTest {
     }
   }
 
+  private static class SuspendingStep extends Step {
+    private AsyncFiber suspendedFiber;
+    private Packet suspendedPacket;
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> {
+        suspendedFiber = fiber;
+        suspendedPacket = packet;
+      });
+    }
+
+    void resume() {
+      suspendedFiber.resume(suspendedPacket);
+    }
+  }
+
   private class RunFiberStep extends Step {
     private final String subStepUid;
 
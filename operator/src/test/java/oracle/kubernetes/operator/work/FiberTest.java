@@ -18,6 +18,7 @@ import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.prometheus.client.CollectorRegistry;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
 import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.containsString;
@@ -165,6 +167,80 @@ class FiberTest {
     assertThat(stepList, contains(step1, suspend, step3));
   }
 
+  @Test
+  void whenStepRequestsSuspend_countSuspension() {
+    final double before = getMetric("weblogic_operator_fiber_suspensions_total");
+
+    runSteps(step1, suspend, step3);
+
+    assertThat(getMetric("weblogic_operator_fiber_suspensions_total"), closeTo(before + 1, 0.1));
+  }
+
+  @Test
+  void whenSuspendedFiberResumed_countResumption() {
+    final double before = getMetric("weblogic_operator_fiber_resumptions_total");
+
+    runSteps(step1, suspend, step3);
+    fiber.resume(packet);
+
+    assertThat(getMetric("weblogic_operator_fiber_resumptions_total"), closeTo(before + 1, 0.1));
+  }
+
+  @Test
+  void whenFiberNotSuspended_dontCountResumption() {
+    final double before = getMetric("weblogic_operator_fiber_resumptions_total");
+
+    runSteps(step1, step2);
+    fiber.resume(packet);
+
+    assertThat(getMetric("weblogic_operator_fiber_resumptions_total"), closeTo(before, 0.1));
+  }
+
+  @Test
+  void whenFiberCompletes_recordLifetime() {
+    final double before = getLifetimeCount("root");
+
+    runSteps(step1, step2, step3);
+
+    assertThat(getLifetimeCount("root"), closeTo(before + 1, 0.1));
+  }
+
+  @Test
+  void whenChildFibersComplete_recordTheirLifetimes() {
+    final double before = getLifetimeCount("child");
+
+    runSteps(childFiberStep);
+
+    assertThat(getLifetimeCount("child"), closeTo(before + 2, 0.1));
+  }
+
+  @Test
+  void whenEveryStepSampled_recordApplyTimeByStepClass() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Fiber.class, "stepSampleInterval", 1));
+    final double before = getStepApplyCount("FiberTest$BasicStep");
+
+    runSteps(step1, step2, step3);
+
+    assertThat(getStepApplyCount("FiberTest$BasicStep"), closeTo(before + 3, 0.1));
+  }
+
+  private double getLifetimeCount(String kind) {
+    return getMetric("weblogic_operator_fiber_lifetime_seconds_count", "kind", kind);
+  }
+
+  private double getStepApplyCount(String stepName) {
+    return getMetric("weblogic_operator_step_apply_seconds_count", "step", stepName);
+  }
+
+  private double getMetric(String name) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(name)).orElse(0.0);
+  }
+
+  private double getMetric(String name, String labelName, String labelValue) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+          name, new String[] {labelName}, new String[] {labelValue})).orElse(0.0);
+  }
+
   @Test
   void whenChildFibersCreated_runAllSteps() {
     runSteps(childFiberStep);